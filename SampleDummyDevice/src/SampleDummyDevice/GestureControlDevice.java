@@ -162,14 +162,16 @@ public class GestureControlDevice extends JposDevice {
 
         @Override
         public void stopControl(int outputID) throws JposException{
-            synchronized (Device.AsyncProcessorRunning) {
-                if (CurrentCommand != null && CurrentCommand.Props == this && CurrentCommand.OutputID == outputID)
-                    CurrentCommand.abortCommand(true);
-                else {
-                    for (JposOutputRequest req : PendingCommands) {
-                        if (req.Props == this && req.OutputID == outputID) {
-                            PendingCommands.remove(req);
-                            break;
+            synchronized (RequestSync) {
+                synchronized (Device.AsyncProcessorRunning) {
+                    if (CurrentCommand != null && CurrentCommand.Props == this && CurrentCommand.OutputID == outputID)
+                        CurrentCommand.abortCommand(true);
+                    else {
+                        for (JposOutputRequest req : PendingCommands) {
+                            if (req.Props == this && req.OutputID == outputID) {
+                                PendingCommands.remove(req);
+                                break;
+                            }
                         }
                     }
                 }
@@ -126,6 +126,11 @@ public class GraphicDisplayDevice extends JposDevice {
         return request instanceof PlayVideo;
     }
 
+    @Override
+    public boolean isLongRunningRequest(JposOutputRequest request) {
+        return request instanceof PlayVideo || super.isLongRunningRequest(request);
+    }
+
     @Override
     public GraphicDisplayProperties getGraphicDisplayProperties(int index) {
         return new SampleProperties();
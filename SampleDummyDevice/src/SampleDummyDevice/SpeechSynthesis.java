@@ -163,9 +163,11 @@ public class SpeechSynthesis extends JposDevice {
 
         @Override
         public void stopCurrentSpeaking() throws JposException {
-            synchronized (AsyncProcessorRunning) {
-                if (CurrentCommand != null && CurrentCommand instanceof Speak) {
-                    CurrentCommand.abortCommand(true);
+            synchronized (RequestSync) {
+                synchronized (AsyncProcessorRunning) {
+                    if (CurrentCommand != null && CurrentCommand instanceof Speak) {
+                        CurrentCommand.abortCommand(true);
+                    }
                 }
             }
         }
@@ -173,14 +175,16 @@ public class SpeechSynthesis extends JposDevice {
         @Override
         public void stopSpeaking(int outputID) throws JposException {
             Speak request = null;
-            synchronized (AsyncProcessorRunning) {
-                if (CurrentCommand != null && CurrentCommand.OutputID == outputID)
-                    CurrentCommand.abortCommand(true);
-                else {
-                    for (JposOutputRequest req : PendingCommands) {
-                        if (req instanceof Speak && req.OutputID == outputID) {
-                            PendingCommands.remove(request = (Speak) req);
-                            break;
+            synchronized (RequestSync) {
+                synchronized (AsyncProcessorRunning) {
+                    if (CurrentCommand != null && CurrentCommand.OutputID == outputID)
+                        CurrentCommand.abortCommand(true);
+                    else {
+                        for (JposOutputRequest req : PendingCommands) {
+                            if (req instanceof Speak && req.OutputID == outputID) {
+                                PendingCommands.remove(request = (Speak) req);
+                                break;
+                            }
                         }
                     }
                 }
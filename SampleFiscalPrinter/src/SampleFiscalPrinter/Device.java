@@ -361,6 +361,8 @@ public class Device extends JposDevice implements Runnable {
     private int Parity = PARITY_NONE;
 
     private UniqueIOProcessor Stream = null;
+    private FrameReader Reader = null;
+    private TcpClientIOProcessor TcpStream = null;  // Kept between connections for reconnect delay and statistics
     private ThreadHandler StateWatcher = null;
 
     private boolean InIOError = false;
@@ -808,11 +810,14 @@ public class Device extends JposDevice implements Runnable {
                 ser.setParameters(Baudrate, Databits, Stopbits, Parity);
             }
             else {
-                TcpClientIOProcessor tcp;
-                Stream = tcp = new TcpClientIOProcessor(this, ID);
-                tcp.setParam(OwnPort);
+                if (TcpStream == null) {
+                    TcpStream = new TcpClientIOProcessor(this, ID);
+                    TcpStream.setParam(OwnPort);
+                }
+                Stream = TcpStream;
             }
             Stream.open(InIOError);
+            Reader = new FrameReader.Delimited(Stream, -1, ETX, 0, new FrameReader.Sum());
             InIOError = false;
         } catch (JposException e) {
             Stream = null;
@@ -849,23 +854,18 @@ public class Device extends JposDevice implements Runnable {
     private String[] sendFrameRetrieveResponse(String[] args) throws JposException, UnsupportedEncodingException {
         for (int sendretry = 0; sendretry < MaxRetry; sendretry++) {
             Stream.flush();
+            Reader.clear();
             Stream.write(getFrame(args));
             if (retrieveAcknowledge())
                 continue;   // On timeout or NAK, response must be sent again.
-            byte[] acknowledge;
-            byte[] response = new byte[0];
-            Stream.setTimeout(RequestTimeout);
-            while ((acknowledge = Stream.read(1)).length == 1) {
-                response = retrieveResponse(acknowledge, response);
-                if (response[response.length - 1] == ETX && response[response.length - 3] == ETB && getChecksum(response) % 96 == 31) {
-                    // The frame is valid: Truncate ETB SUM ETX from frame, convert to string, split at ETB
-                    return new String(Arrays.copyOf(response, response.length - 3), StandardCharsets.UTF_8).split(new String(new char[]{ETB}), -1);
-                }
-                Stream.setTimeout(CharacterTimeout);
+            byte[] response = Reader.readFrame(RequestTimeout, CharacterTimeout);
+            if (response != null && response.length >= 3 && response[response.length - 3] == ETB && Reader.getChecksum().getValue() % 96 == 31) {
+                // The frame is valid: Truncate ETB SUM ETX from frame, split at ETB
+                return FrameReader.split(response, response.length - 3, ETB, StandardCharsets.UTF_8);
             }
-            // Invalid frame: Don't retry original frame, retrieve last response instead.
+            // Timeout or invalid frame: Don't retry original frame, retrieve last response instead.
             args = new String[]{"lastResponse"};
-            checkPortPresent(acknowledge);
+            checkPortPresent(new byte[0]);
         }
         return null;
     }
@@ -874,20 +874,6 @@ public class Device extends JposDevice implements Runnable {
         check(!TcpType && acknowledge.length == 0 && !((SerialIOProcessor)Stream).exists(), JPOS_E_FAILURE, "Port missing");
     }
 
-    private byte[] retrieveResponse(byte[] acknowledge, byte[] response) throws JposException {
-        int partlen = Stream.available();
-        int resplen = response.length;
-        byte[] part = null;
-        if (partlen > 0) {
-            partlen = (part = Stream.read(partlen)).length;
-        }
-        response = Arrays.copyOf(response, resplen + 1 + partlen);
-        response[resplen] = acknowledge[0];
-        if (partlen > 0)
-            System.arraycopy(part, 0, response, resplen + 1, partlen);
-        return response;
-    }
-
     private boolean retrieveAcknowledge() throws JposException {
         Stream.setTimeout(AckTimeout);
         byte[] acknowledge = Stream.read(1);
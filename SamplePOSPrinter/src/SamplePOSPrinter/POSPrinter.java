@@ -21,6 +21,7 @@ import de.gmxhome.conrad.jpos.jpos_base.*;
 import de.gmxhome.conrad.jpos.jpos_base.posprinter.*;
 import jpos.*;
 
+import java.io.*;
 import java.nio.*;
 import java.nio.charset.*;
 import java.util.*;
@@ -122,6 +123,20 @@ public class POSPrinter extends POSPrinterProperties {
         int Cartridge = ((POSPrinterProperties)Dev.getClaimingInstance(Dev.ClaimedPOSPrinter, 0)).RecCurrentCartridge;
         int CharsetIndex = Dev.CurrentFontIndex;
         int CodeIndex = CurrentCodePageIndex;
+
+        // Print requests of a transaction can be merged if their printer states are equal.
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof PrinterState))
+                return false;
+            PrinterState state = (PrinterState) obj;
+            return Cartridge == state.Cartridge && CharsetIndex == state.CharsetIndex && CodeIndex == state.CodeIndex;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(Cartridge, CharsetIndex, CodeIndex);
+        }
     }
 
     @Override
@@ -353,9 +368,15 @@ public class POSPrinter extends POSPrinterProperties {
 
     @Override
     public void cutPaper(CutPaper request) throws JposException {
-        checkInError();
+        byte[] binarydata = getCutPaperBytes(request);
         new SyncObject().suspend(request.EndSync == null ? Dev.AsyncProcessingCommandDelay : 0);      // for testing
-        Dev.sendCommand(CmdCut);
+        Dev.sendCommand(binarydata);
+    }
+
+    // Returns the command bytes for a CutPaper request, used by cutPaper and transactionPrintBatch.
+    private byte[] getCutPaperBytes(CutPaper request) throws JposException {
+        checkInError();
+        return CmdCut;
     }
 
     @Override
@@ -376,29 +397,38 @@ public class POSPrinter extends POSPrinterProperties {
     public void printNormal(PrintNormal request) throws JposException {
         new SyncObject().suspend(request.EndSync == null ? Dev.AsyncProcessingCommandDelay : 0);      // for testing
         checkInError();
-        List<POSPrinterService.PrintDataPart> dataparts = request.getData();
+        byte[] binarydata = getPrintNormalBytes(request);
+        if (binarydata.length > 0) {
+            Dev.sendCommand(binarydata);
+            if (request.getSynchronousPrinting())
+                checkStatusAfterPrint();
+        }
+    }
+
+    // Returns the bytes to be sent for a PrintNormal request, used by printNormal and transactionPrintBatch.
+    private byte[] getPrintNormalBytes(PrintNormal request) throws JposException {
         boolean[] complete = {true};
         PrinterState printerstate = (PrinterState)request.AdditionalData;
-        byte[] binarydata = getBytes(dataparts, printerstate, complete);
+        byte[] binarydata = getBytes(request.getData(), printerstate, complete);
         check(request.getSynchronousPrinting() && !complete[0], JPOS_E_ILLEGAL, "Completing printer output impossible");
-        if (binarydata.length > 0) {
-            byte[] cmdnormalize = Dev.getCmdNormalize(printerstate.Cartridge);
-            if (Arrays.equals(cmdnormalize, Arrays.copyOf(binarydata, cmdnormalize.length)) || binarydata[0] == LineFeed) {
-                Dev.sendCommand(binarydata);
-            }
-            else {
-                byte[] tobesent = Arrays.copyOf(cmdnormalize, cmdnormalize.length + binarydata.length);
-                System.arraycopy(binarydata, 0, tobesent, cmdnormalize.length, binarydata.length);
-                Dev.sendCommand(tobesent);
-            }
-            if (request.getSynchronousPrinting()) {
-                // In synchronous print mode, we must throw an exception if printer is in error state afterwards.
-                SyncObject obj = Dev.StartWaiter = new SyncObject();
-                Dev.PollWaiter.signal();
-                obj.suspend(INFINITE);
-                checkInError();
-            }
-        }
+        return binarydata.length > 0 ? getNormalizedBytes(binarydata, printerstate) : binarydata;
+    }
+
+    // In synchronous print mode, we must throw an exception if printer is in error state after printing.
+    private void checkStatusAfterPrint() throws JposException {
+        SyncObject obj = Dev.StartWaiter = new SyncObject();
+        Dev.PollWaiter.signal();
+        obj.suspend(INFINITE);
+        checkInError();
+    }
+
+    private byte[] getNormalizedBytes(byte[] binarydata, PrinterState printerstate) {
+        byte[] cmdnormalize = Dev.getCmdNormalize(printerstate.Cartridge);
+        if (Arrays.equals(cmdnormalize, Arrays.copyOf(binarydata, cmdnormalize.length)) || binarydata[0] == LineFeed)
+            return binarydata;
+        byte[] tobesent = Arrays.copyOf(cmdnormalize, cmdnormalize.length + binarydata.length);
+        System.arraycopy(binarydata, 0, tobesent, cmdnormalize.length, binarydata.length);
+        return tobesent;
     }
 
     private byte[] getBytes(List<POSPrinterService.PrintDataPart> dataparts, PrinterState statusData, boolean[] complete) throws JposException {
@@ -607,4 +637,38 @@ public class POSPrinter extends POSPrinterProperties {
             checkext(Dev.PaperState == PaperEnd, JPOS_EPTR_REC_EMPTY, "Cover open");
         }
     }
+
+    @Override
+    public boolean transactionPrintBatch(TransactionPrint request) throws JposException {
+        new SyncObject().suspend(request.EndSync == null ? Dev.AsyncProcessingCommandDelay : 0);      // for testing
+        checkInError();
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        for (OutputRequest command : request.getBatchCommands()) {
+            check(request.Abort != null, JPOS_E_FAILURE, "Transaction interrupted");
+            if (command instanceof PrintNormal) {
+                PrintNormal print = (PrintNormal) command;
+                byte[] binarydata = getPrintNormalBytes(print);
+                buffer.write(binarydata, 0, binarydata.length);
+                if (binarydata.length > 0 && print.getSynchronousPrinting()) {
+                    Dev.sendCommand(buffer.toByteArray());
+                    buffer.reset();
+                    checkStatusAfterPrint();
+                }
+            }
+            else if (command instanceof CutPaper) {
+                byte[] binarydata = getCutPaperBytes((CutPaper) command);
+                buffer.write(binarydata, 0, binarydata.length);
+            }
+            else {
+                // Other commands will be sent separately, after all data buffered so far.
+                if (buffer.size() > 0)
+                    Dev.sendCommand(buffer.toByteArray());
+                buffer.reset();
+                command.invoke();
+            }
+        }
+        if (buffer.size() > 0)
+            Dev.sendCommand(buffer.toByteArray());
+        return true;
+    }
 }
@@ -0,0 +1,238 @@
+/*
+ * Copyright 2026 Martin Conrad
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package SamplePOSPrinter;
+
+import de.gmxhome.conrad.jpos.jpos_base.*;
+import de.gmxhome.conrad.jpos.jpos_base.posprinter.Factory;
+import de.gmxhome.conrad.jpos.jpos_base.posprinter.POSPrinterProperties;
+import de.gmxhome.conrad.jpos.jpos_base.posprinter.POSPrinterService;
+import de.gmxhome.conrad.jpos.jpos_base.posprinter.TransactionPrint;
+import jpos.JposException;
+import jpos.config.JposEntry;
+import jpos.services.EventCallbacks;
+
+import java.io.*;
+import java.lang.reflect.Proxy;
+import java.net.*;
+import java.util.*;
+
+import static de.gmxhome.conrad.jpos.jpos_base.Checker.check;
+import static jpos.POSPrinterConst.*;
+
+/**
+ * Benchmark for batch processing of transactions by the sample printer. The sample printer service will be connected
+ * via TCP to a local stand-in of the printer simulator that answers status requests and collects the printed text.
+ * Receipts of 200 printNormal lines will be printed as transactions, once with the batch method transactionPrintBatch,
+ * which sends each transaction in one write operation, and once with the requests invoked one by one, as before the
+ * batch method had been introduced. Each mode will be warmed up, then measured in several rounds. The benchmark
+ * prints the median wall time per transaction and checks that both modes print the same text.<br>
+ * Needs the framework, the framework test classes, the sample printer classes and the JavaPOS jars in the class path.
+ * Can be started via its main method, see Checker.
+ */
+public class TransactionPrintBenchmark {
+    private static final int Lines = 200;
+    private static final int Transactions = 50;
+    private static final int Rounds = 5;
+
+    /**
+     * Stand-in of SamplePrinterSimulator.tcl: Sends the status "operational" after connect and as response to each
+     * status request. Other commands will be skipped, all other bytes will be collected as printed text.
+     */
+    private static class Printer extends Thread {
+        final ServerSocket Server;
+        private final ByteArrayOutputStream Text = new ByteArrayOutputStream();
+
+        Printer() throws IOException {
+            Server = new ServerSocket(0, 1, InetAddress.getLoopbackAddress());
+            setDaemon(true);
+            start();
+        }
+
+        @Override
+        public void run() {
+            try {
+                while (true) {
+                    try (Socket sock = Server.accept()) {
+                        InputStream in = new BufferedInputStream(sock.getInputStream());
+                        OutputStream out = sock.getOutputStream();
+                        out.write('0');
+                        int value;
+                        while ((value = in.read()) >= 0) {
+                            if (value == '\33') {
+                                int command = in.read();
+                                if (command == 's')
+                                    out.write('0');
+                                else if (command != 'd')
+                                    in.read();      // Parameter of b, c, f, o, p, u
+                            } else {
+                                synchronized (Text) {
+                                    Text.write(value);
+                                    Text.notifyAll();
+                                }
+                            }
+                        }
+                    }
+                }
+            } catch (IOException ignored) {}
+        }
+
+        String take(int count, long timeout) throws InterruptedException {
+            long end = System.currentTimeMillis() + timeout;
+            synchronized (Text) {
+                long wait;
+                while (Text.size() < count && (wait = end - System.currentTimeMillis()) > 0)
+                    Text.wait(wait);
+                String text = Text.toString();
+                Text.reset();
+                return text;
+            }
+        }
+    }
+
+    /**
+     * Sample printer property set whose batch processing can be switched off.
+     */
+    private static class BenchmarkPOSPrinter extends POSPrinter {
+        boolean Batch = true;
+
+        BenchmarkPOSPrinter(Device dev) {
+            super(dev);
+        }
+
+        @Override
+        public boolean transactionPrintBatch(TransactionPrint request) throws JposException {
+            return Batch && super.transactionPrintBatch(request);
+        }
+    }
+
+    private static class BenchmarkDevice extends Device {
+        BenchmarkPOSPrinter Printer;
+
+        BenchmarkDevice(String port) throws JposException {
+            super(port);
+        }
+
+        @Override
+        public POSPrinterProperties getPOSPrinterProperties(int index) {
+            return Printer = new BenchmarkPOSPrinter(this);
+        }
+    }
+
+    // Configuration as read from jpos.xml: Only getPropertyValue and hasPropertyWithName will be used.
+    private static JposEntry entry(Map<String, Object> properties) {
+        return (JposEntry) Proxy.newProxyInstance(JposEntry.class.getClassLoader(), new Class<?>[]{JposEntry.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("getPropertyValue"))
+                        return properties.get(args[0].toString());
+                    if (method.getName().equals("hasPropertyWithName"))
+                        return properties.containsKey(args[0].toString());
+                    return method.getReturnType() == boolean.class ? false : null;
+                });
+    }
+
+    // Events will not be processed.
+    private static EventCallbacks callbacks() {
+        return (EventCallbacks) Proxy.newProxyInstance(EventCallbacks.class.getClassLoader(),
+                new Class<?>[]{EventCallbacks.class}, (proxy, method, args) -> null);
+    }
+
+    private static List<String> receipt() {
+        List<String> lines = new ArrayList<>();
+        lines.add("\33|cA\33|bCSample Store\n");
+        for (int i = 1; i < Lines - 2; i++)
+            lines.add(String.format(Locale.ROOT, "Article %4d        %2d x %8.2f\n", i, i % 5 + 1, i * 0.75));
+        lines.add("\33|uCTotal                      123.45\n");
+        lines.add("\33|rAThank you\n");
+        return lines;
+    }
+
+    // Printed text of the receipt: The lines without escape sequences.
+    private static String text(List<String> receipt) {
+        StringBuilder text = new StringBuilder();
+        for (String line : receipt)
+            text.append(line.replaceAll("\33\\|[a-z]*[A-Z]", ""));
+        return text.toString();
+    }
+
+    private static double round(POSPrinterService srv, List<String> receipt) throws JposException {
+        long start = System.nanoTime();
+        for (int i = 0; i < Transactions; i++) {
+            srv.transactionPrint(PTR_S_RECEIPT, PTR_TP_TRANSACTION);
+            for (String line : receipt)
+                srv.printNormal(PTR_S_RECEIPT, line);
+            srv.transactionPrint(PTR_S_RECEIPT, PTR_TP_NORMAL);
+        }
+        return (System.nanoTime() - start) / 1000.0 / Transactions;
+    }
+
+    private static double measure(POSPrinterService srv, Printer printer, BenchmarkPOSPrinter props, boolean batch) throws Exception {
+        List<String> receipt = receipt();
+        String expected = text(receipt);
+        props.Batch = batch;
+        round(srv, receipt);
+        String first = printer.take(expected.length() * Transactions, 10000);
+        check(first.equals(String.join("", Collections.nCopies(Transactions, expected))), (batch ? "Batch" : "Single requests") + ": Receipt text printed");
+        double[] times = new double[Rounds];
+        for (int i = 0; i < Rounds; i++) {
+            times[i] = round(srv, receipt);
+            printer.take(expected.length() * Transactions, 10000);
+        }
+        Arrays.sort(times);
+        System.out.printf("%s: %.1f us per transaction of %d lines%n", batch ? "Batch" : "Single requests", times[Rounds / 2], Lines);
+        return times[Rounds / 2];
+    }
+
+    /**
+     * Runs the benchmark.
+     * @throws Exception If the benchmark cannot be performed.
+     */
+    public static void run() throws Exception {
+        Printer printer = new Printer();
+        String port = "127.0.0.1:" + printer.Server.getLocalPort();
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("deviceCategory", "POSPrinter");
+        properties.put("Port", port);
+        properties.put("LogLevel", "off");
+        JposEntry entry = entry(properties);
+        BenchmarkDevice dev = new BenchmarkDevice(port);
+        dev.checkProperties(entry);
+        POSPrinterService srv = new Factory().addDevice(0, dev, entry);
+        JposDeviceFactory.putDevice(port, dev);
+        srv.open("TransactionPrintBenchmark", callbacks());
+        srv.claim(5000);
+        srv.setDeviceEnabled(true);
+        double single = measure(srv, printer, dev.Printer, false);
+        double batch = measure(srv, printer, dev.Printer, true);
+        srv.setDeviceEnabled(false);
+        srv.release();
+        srv.close();
+        srv.deleteInstance();
+        printer.Server.close();
+        check(batch < single, "Batch processing faster than single requests");
+    }
+
+    /**
+     * Runs the benchmark and exits, see Checker.
+     * @param args Not used.
+     * @throws Exception If the benchmark cannot be performed.
+     */
+    public static void main(String[] args) throws Exception {
+        run();
+        Checker.exit();
+    }
+}
@@ -25,6 +25,10 @@ import static net.bplaced.conrad.log4jpos.Level.*;
  *     <li>CharacterTimeout: Positive integer value, specifying the maximum delay between bytes that belong to the same
  *     frame. Default value: 20 milliseconds.</li>
  *     <li>DefaultTara: Default tare value. Default: 2. If the scale shall use any other default, you can set it here.</li>
+ *     <li>IdlePollDelay: Maximum time between status requests while the online state does not change, in
+ *     milliseconds. Starting with PollDelay, the time between status requests will be doubled after each status
+ *     request without change until IdlePollDelay has been reached. Must not be less than PollDelay. Default: 2000 or
+ *     PollDelay, whatever is greater.</li>
  *     <li>MaximumWeight: Maximum weight supported by the scale. Default: 5000. Any higher weight results in an
  *     overweight condition.</li>
  *     <li>MaxRetry: Specifies the maximum number of retries. Should be &gt; 0 only for RS232 (real COM ports)
@@ -33,7 +37,7 @@ import static net.bplaced.conrad.log4jpos.Level.*;
  *     simulator. Default: 0 (for random port number selected by operating system).
  *     <br>This property may only be set if the communication with the device shall be made via TCP.</li>
  *     <li>PollDelay: Minimum time between status requests, in milliseconds. Status requests will be used to monitor the
- *     device state. Default: 500.</li>
+ *     device state. Must be greater than zero. Default: 500.</li>
  *     <li>RequestTimeout: Maximum time, in milliseconds, between sending a command to the simulator and getting the
  *     first byte of its response. Default: 2000.</li>
  *     <li>Target: Operating system specific name of the serial communication port (e.g. RS232, Usb2Serial,
@@ -42,7 +46,7 @@ import static net.bplaced.conrad.log4jpos.Level.*;
  *     case of TCP, names are of the form IPv4:port, where IPv4 is the IP address of the device and port its TCP port.</li>
  * </ul>
  */
-public class Device extends JposDevice implements Runnable {
+public class Device extends JposDevice {
     /**
      * IO processor to be used for communication with scale.
      */
@@ -89,6 +93,11 @@ public class Device extends JposDevice implements Runnable {
      */
     int PollDelay = 500;
 
+    /**
+     * Maximum delay between unforced status requests while the operational state of the scale does not change.
+     */
+    int IdlePollDelay = 2000;
+
     /**
      * Maximum weight supported by the scale. Any higher weight results in an overweight condition.
      */
@@ -141,8 +150,15 @@ public class Device extends JposDevice implements Runnable {
                 MaxRetry = Integer.parseInt(o.toString());
             }
             if ((o = entry.getPropertyValue("PollDelay")) != null) {
-                PollDelay = Integer.parseInt(o.toString());
+                if ((PollDelay = Integer.parseInt(o.toString())) <= 0)
+                    throw new JposException(JPOS_E_ILLEGAL, "Invalid poll delay: " + PollDelay);
             }
+            if ((o = entry.getPropertyValue("IdlePollDelay")) != null) {
+                if ((IdlePollDelay = Integer.parseInt(o.toString())) < PollDelay)
+                    throw new JposException(JPOS_E_ILLEGAL, "Invalid idle poll delay: " + IdlePollDelay);
+            }
+            else
+                IdlePollDelay = Math.max(IdlePollDelay, PollDelay);
             if ((o = entry.getPropertyValue("MaximumWeight")) != null) {
                 MaximumWeight = (int) Double.parseDouble(o.toString()) * 1000;
             }
@@ -171,44 +187,41 @@ public class Device extends JposDevice implements Runnable {
         props.DeviceServiceDescription = "Scales service for Scales Dialog 02/04 simulator";
     }
 
-    private ThreadHandler CommandProcessor;
+    private PollScheduler Poller;
+    private PollScheduler.Task CommandProcessor;
+    private volatile boolean ToBeFinished = true;
     private SyncObject SignalStatusUpdated = null;
-    private final SyncObject WaitCommand = new SyncObject();
+    private final Object StatusLock = new Object();
     private int Offline = JPOS_PS_UNKNOWN;
+    private int ReportedOffline = JPOS_PS_UNKNOWN;
+
     /**
-     * Thread main, used for status check loop while device is enabled.
+     * Status check, called periodically by the poll scheduler of the device while device is enabled.
+     * @return true if the operational state of the scale changed.
      */
-    @Override
-    @SuppressWarnings("SynchronizeOnNonFinalField")
-    public void run() {
-        Target = null;
-        int offline = Offline;
-        while (!CommandProcessor.ToBeFinished) {
-            long timeval = System.currentTimeMillis();
-            sendCommand("\2" + "08\3", (MaxRetry + 1) * (RequestTimeout + CharacterTimeout) + 70);
-            JposCommonProperties props = getClaimingInstance(ClaimedScale, 0);
-            if (!CommandProcessor.ToBeFinished && offline != Offline && Offline == JPOS_PS_ONLINE) {
-                try {
-                    handleEvent(new JposStatusUpdateEvent(props.EventSource, JPOS_SUE_POWER_ONLINE));
-                } catch (JposException ignored) {}
-                offline = Offline;
-            }
-            synchronized(CommandProcessor) {
-                if (SignalStatusUpdated != null) {
-                    SignalStatusUpdated.signal();
-                    SignalStatusUpdated = null;
-                }
-            }
-            if (!CommandProcessor.ToBeFinished && offline != Offline) {
-                try {
-                    handleEvent(new JposStatusUpdateEvent(props.EventSource, JPOS_SUE_POWER_OFF_OFFLINE));
-                } catch (JposException ignored) {}
-                offline = Offline;
+    private boolean poll() {
+        int offline = ReportedOffline;
+        sendCommand("\2" + "08\3", (MaxRetry + 1) * (RequestTimeout + CharacterTimeout) + 70);
+        JposCommonProperties props = getClaimingInstance(ClaimedScale, 0);
+        if (!ToBeFinished && ReportedOffline != Offline && Offline == JPOS_PS_ONLINE) {
+            try {
+                handleEvent(new JposStatusUpdateEvent(props.EventSource, JPOS_SUE_POWER_ONLINE));
+            } catch (JposException ignored) {}
+            ReportedOffline = Offline;
+        }
+        synchronized(StatusLock) {
+            if (SignalStatusUpdated != null) {
+                SignalStatusUpdated.signal();
+                SignalStatusUpdated = null;
             }
-            timeval = System.currentTimeMillis() - timeval;
-            if (timeval < PollDelay)
-                WaitCommand.suspend(PollDelay - timeval);
         }
+        if (!ToBeFinished && ReportedOffline != Offline) {
+            try {
+                handleEvent(new JposStatusUpdateEvent(props.EventSource, JPOS_SUE_POWER_OFF_OFFLINE));
+            } catch (JposException ignored) {}
+            ReportedOffline = Offline;
+        }
+        return offline != ReportedOffline;
     }
 
     @Override
@@ -234,13 +247,20 @@ public class Device extends JposDevice implements Runnable {
             if (enable) {
                 int timeout = (MaxRetry + 2) * RequestTimeout;
                 SyncObject waiter = SignalStatusUpdated = new SyncObject();
-                (CommandProcessor = new ThreadHandler(LogicalName +".StatusHandler", Device.this)).start();
+                Target = null;
+                ReportedOffline = Offline;
+                ToBeFinished = false;
+                // A status poll blocks for several seconds while the scale is offline, therefore a scheduler of its own
+                Poller = new PollScheduler(LogicalName + ".StatusHandler", 1);
+                (CommandProcessor = Poller.register(Device.this, LogicalName + ".StatusHandler", Device.this::poll, PollDelay, IdlePollDelay)).trigger();
                 waiter.suspend(timeout);
             }
             else {
-                CommandProcessor.ToBeFinished = true;
-                WaitCommand.signal();
-                CommandProcessor.waitFinished();
+                ToBeFinished = true;
+                CommandProcessor.cancel();
+                CommandProcessor = null;
+                Poller.shutdown();
+                Poller = null;
                 closePort(true);
                 Offline = JPOS_PS_UNKNOWN;
                 InIOError = false;
@@ -490,7 +510,7 @@ public class Device extends JposDevice implements Runnable {
             }
         }
         try {
-            for (int retry = 0; !CommandProcessor.ToBeFinished && System.currentTimeMillis() - starttime <= timeout && retry <= MaxRetry; retry++) {
+            for (int retry = 0; !ToBeFinished && System.currentTimeMillis() - starttime <= timeout && retry <= MaxRetry; retry++) {
                 byte[] request = ("\4" + command).getBytes(AsciiCoder);
                 Target.flush();
                 Target.write(request);
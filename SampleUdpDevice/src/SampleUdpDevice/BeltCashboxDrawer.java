@@ -296,7 +296,7 @@ public class BeltCashboxDrawer extends Device {
             attachWaiter();
             String state = sendResp("DRAWER:Open");
             if (!DrawerOpened && !Offline) {
-                PollWaiter.signal();
+                triggerPolling();
                 waitWaiter((long)RequestTimeout * MaxRetry);
             }
             releaseWaiter();
@@ -569,7 +569,7 @@ public class BeltCashboxDrawer extends Device {
             char[] prevState = BeltState;
             sendResp(cmd[speed - 1]);
             if ((prevState[BeltSpeed] == BeltFast) != (speed == CapSpeedStepsForward)) {
-                PollWaiter.signal();
+                triggerPolling();
                 waitWaiter((long)RequestTimeout * MaxRetry);
             }
             releaseWaiter();
@@ -585,7 +585,7 @@ public class BeltCashboxDrawer extends Device {
             char[] prevState = BeltState;
             sendResp("BELT:Speed0");
             if (prevState[BeltSpeed] != BeltOff) {
-                PollWaiter.signal();
+                triggerPolling();
                 waitWaiter((long)RequestTimeout * MaxRetry);
             }
             releaseWaiter();
@@ -601,7 +601,7 @@ public class BeltCashboxDrawer extends Device {
             char[] prevState = BeltState;
             sendResp("BELT:Speed0");
             if (prevState[BeltSpeed] != BeltOff) {
-                PollWaiter.signal();
+                triggerPolling();
                 waitWaiter((long)RequestTimeout * MaxRetry);
             }
             releaseWaiter();
@@ -1272,7 +1272,7 @@ public class BeltCashboxDrawer extends Device {
             }
             props.attachWaiter();
             sendResp("CASHBOX:CancelInput");
-            PollWaiter.signal();
+            triggerPolling();
             props.waitWaiter((long)RequestTimeout * MaxRetry);
             props.releaseWaiter();
             synchronized(CashSlots) {
@@ -1429,7 +1429,7 @@ public class BeltCashboxDrawer extends Device {
             String[] result = sendResp(new String[]{"CASHBOX:StartInput2", "CASHBOX:GetSlots"});
             Object[] deposit;
             if (result != null) {
-                PollWaiter.signal();
+                triggerPolling();
                 waitWaiter((long)RequestTimeout * MaxRetry);
             }
             releaseWaiter();
@@ -1451,7 +1451,7 @@ public class BeltCashboxDrawer extends Device {
             attachWaiter();
             String depositstr = sendResp("CASHBOX:StopInput");
             check(depositstr == null, JPOS_E_FAILURE, "Cannot stop cash input");
-            PollWaiter.signal();
+            triggerPolling();
             waitWaiter((long)RequestTimeout * MaxRetry);
             releaseWaiter();
             Object[] deposit;
@@ -1507,7 +1507,7 @@ public class BeltCashboxDrawer extends Device {
         public void readCashCounts(String[] cashCounts, boolean[] discrepancy) throws JposException {
             check(Offline, JPOS_E_OFFLINE, "Device is offline");
             attachWaiter();
-            PollWaiter.signal();
+            triggerPolling();
             waitWaiter((long)RequestTimeout * MaxRetry);
             releaseWaiter();
             check(Offline, JPOS_E_OFFLINE, "Device is offline");
@@ -1653,7 +1653,7 @@ public class BeltCashboxDrawer extends Device {
             String[] result = sendResp(new String[]{"CASHBOX:StartInput1", "CASHBOX:GetSlots"});
             Object[] deposit;
             if (result != null) {
-                PollWaiter.signal();
+                triggerPolling();
                 waitWaiter((long)RequestTimeout * MaxRetry);
             }
             releaseWaiter();
@@ -1676,7 +1676,7 @@ public class BeltCashboxDrawer extends Device {
             attachWaiter();
             String depositstr = sendResp("CASHBOX:StopInput");
             check(depositstr == null, JPOS_E_FAILURE, "Cannot stop cash input");
-            PollWaiter.signal();
+            triggerPolling();
             waitWaiter((long)RequestTimeout * MaxRetry);
             releaseWaiter();
             Object[] deposit;
@@ -1732,7 +1732,7 @@ public class BeltCashboxDrawer extends Device {
         public void readCashCounts(String[] cashCounts, boolean[] discrepancy) throws JposException {
             check(Offline, JPOS_E_OFFLINE, "Device is offline");
             attachWaiter();
-            PollWaiter.signal();
+            triggerPolling();
             waitWaiter((long)RequestTimeout * MaxRetry);
             releaseWaiter();
             check(Offline, JPOS_E_OFFLINE, "Device is offline");
@@ -1916,7 +1916,7 @@ public class BeltCashboxDrawer extends Device {
         public void readCashCounts(String[] cashCounts, boolean[] discrepancy) throws JposException {
             check(Offline, JPOS_E_OFFLINE, "Device is offline");
             attachWaiter();
-            PollWaiter.signal();
+            triggerPolling();
             waitWaiter((long)RequestTimeout * MaxRetry);
             releaseWaiter();
             check(Offline, JPOS_E_OFFLINE, "Device is offline");
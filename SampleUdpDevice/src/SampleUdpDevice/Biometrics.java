@@ -405,7 +405,7 @@ public class Biometrics extends Device {
             attachWaiter();
             String data = sendResp(command);
             if(data != null && data.matches("1")) {
-                PollWaiter.signal();
+                triggerPolling();
                 waitWaiter((long)RequestTimeout * MaxRetry);
             } else if (throwException){
                 releaseWaiter();
@@ -21,6 +21,8 @@ import de.gmxhome.conrad.jpos.jpos_base.*;
 import jpos.*;
 import jpos.config.JposEntry;
 
+import java.util.Arrays;
+
 import static jpos.JposConst.*;
 import static net.bplaced.conrad.log4jpos.Level.*;
 
@@ -35,11 +37,16 @@ import static net.bplaced.conrad.log4jpos.Level.*;
  * be sent in one frame, separated by comma as well.<p>
  * Here a full list of all device specific properties that can be changed via jpos.xml:
  * <ul>
+ *     <li>IdlePollDelay: Maximum time between status requests while the device status does not change, in
+ *     milliseconds. Starting with PollDelay, the time between status requests will be doubled after each status
+ *     request without status change until IdlePollDelay has been reached. Must not be less than PollDelay. Default:
+ *     1000 or PollDelay, whatever is greater.</li>
  *     <li>MaxRetry: Specifies the maximum number of retries. Default: 2.</li>
  *     <li>OwnPort: Integer value between 0 and 65535 specifying the UDP port used for communication with the device
  *     simulator. Default: 0 (for random port number selected by operating system).</li>
  *     <li>PollDelay: Minimum time between status requests, in milliseconds. Status requests will be used to monitor the
- *     device state. Default: 200.</li>
+ *     device state. This delay will be used after a status change and after commands that change the device state.
+ *     Default: 200.</li>
  *     <li>Port: Operating system specific name of the UDP address to be used for
  *     communication with the device simulator. Names are of the form IPv4:port, where IPv4 is the IP address of the
  *     device and port its UDP port.</li>
@@ -49,26 +56,24 @@ import static net.bplaced.conrad.log4jpos.Level.*;
  *     true, UdpClientIOProcessor will be used, otherwise UdpIOProcessor. Default: true.</li>
  * </ul>
  */
-public class Device extends JposDevice implements Runnable {
+public class Device extends JposDevice {
     // General purpose objects
     private int OwnPort = 0;
     private int PollDelay = 200;
+    private int IdlePollDelay = 1000;
     private boolean UseClientIO = true;
     private UniqueIOProcessor Target = null;
     private final int[] OpenCount = { 0 };
     private JposCommonProperties StartPollingWaiter = null;
-    private ThreadHandler StateWatcher;
+    private PollScheduler Poller;
+    private PollScheduler.Task StateWatcher;
+    private String[] LastStatus = null;
 
     /**
      * Offline flag, simple boolean that shows whether the last request has been responded correctly (false) or not (true).
      */
     boolean Offline = true;
 
-    /**
-     * Synchronization object for internal thread synchronization.
-     */
-    SyncObject PollWaiter = new SyncObject();
-
     /**
      * Timeout in milliseconds for a response from the device. Default 500 milliseconds.
      */
@@ -104,6 +109,12 @@ public class Device extends JposDevice implements Runnable {
                 if ((PollDelay = Integer.parseInt(o.toString())) <= 0)
                     throw new JposException(JPOS_E_ILLEGAL, "Invalid poll delay: " + PollDelay);
             }
+            if ((o = entry.getPropertyValue("IdlePollDelay")) != null) {
+                if ((IdlePollDelay = Integer.parseInt(o.toString())) < PollDelay)
+                    throw new JposException(JPOS_E_ILLEGAL, "Invalid idle poll delay: " + IdlePollDelay);
+            }
+            else
+                IdlePollDelay = Math.max(IdlePollDelay, PollDelay);
             if ((o = entry.getPropertyValue("RequestTimeout")) != null) {
                 if ((RequestTimeout = Integer.parseInt(o.toString())) <= 0)
                     throw new JposException(JPOS_E_ILLEGAL, "Invalid request timeout: " + RequestTimeout);
@@ -339,29 +350,34 @@ public class Device extends JposDevice implements Runnable {
         return null;
     }
 
-    @Override
-    public void run() {
-        try {
-            while (!StateWatcher.ToBeFinished) {
-                String[][] commands = {new String[0]};
-                for (CommonSubDeviceToolset set : Toolsets) {
-                    set.saveCurrentStatusInformation(commands);
-                }
-                String[] resps = sendResp(commands[0]);
-                for (CommonSubDeviceToolset set : Toolsets) {
-                    if (resps != null)
-                        set.setNewStatusInformation(resps);
-                    set.statusUpdateEventProcessing();
-                }
-                if (StartPollingWaiter != null) {
-                    StartPollingWaiter.signalWaiter();
-                    StartPollingWaiter = null;
-                }
-                PollWaiter.suspend(PollDelay);
-            }
-        } catch (Throwable e) {
-            e.printStackTrace();
+    private boolean poll() {
+        String[][] commands = {new String[0]};
+        for (CommonSubDeviceToolset set : Toolsets) {
+            set.saveCurrentStatusInformation(commands);
+        }
+        String[] resps = sendResp(commands[0]);
+        for (CommonSubDeviceToolset set : Toolsets) {
+            if (resps != null)
+                set.setNewStatusInformation(resps);
+            set.statusUpdateEventProcessing();
+        }
+        if (StartPollingWaiter != null) {
+            StartPollingWaiter.signalWaiter();
+            StartPollingWaiter = null;
         }
+        boolean changed = !Arrays.equals(resps, LastStatus);
+        LastStatus = resps;
+        return changed;
+    }
+
+    /**
+     * Requests a status update as soon as possible, e.g. after a command that changes the device state. Subsequent
+     * status requests will be sent with the minimum delay until the status does not change anymore.
+     */
+    void triggerPolling() {
+        PollScheduler.Task watcher = StateWatcher;
+        if (watcher != null)
+            watcher.trigger();
     }
 
     /**
@@ -373,9 +389,11 @@ public class Device extends JposDevice implements Runnable {
     int startPolling(JposCommonProperties props) {
         synchronized (OpenCount) {
             if (OpenCount[0] == 0) {
-                PollWaiter = new SyncObject();
+                LastStatus = null;
                 (StartPollingWaiter = props).attachWaiter();
-                (StateWatcher = new ThreadHandler(ID + "/StatusUpdater", this)).start();
+                // A status poll blocks until timeout while the device is offline, therefore a scheduler of its own
+                Poller = new PollScheduler(ID + "/StatusUpdater", 1);
+                (StateWatcher = Poller.register(this, ID + "/StatusUpdater", this::poll, PollDelay, IdlePollDelay)).trigger();
                 OpenCount[0] = 1;
                 props.waitWaiter((long)MaxRetry * RequestTimeout * 3);
                 props.releaseWaiter();
@@ -394,9 +412,10 @@ public class Device extends JposDevice implements Runnable {
     int stopPolling() {
         synchronized(OpenCount) {
             if (OpenCount[0] == 1) {
-                StateWatcher.ToBeFinished = true;
-                PollWaiter.signal();
-                StateWatcher.waitFinished();
+                StateWatcher.cancel();
+                StateWatcher = null;
+                Poller.shutdown();
+                Poller = null;
                 StartPollingWaiter = null;
                 closePort();
             }
@@ -147,7 +147,7 @@ class SampleUdpDeviceBillDispenserProperties extends BillDispenserProperties {
     public void readCashCounts(String[] cashCounts, boolean[] discrepancy) throws JposException {
         check(Dev.Offline, JPOS_E_OFFLINE, "Device is offline");
         attachWaiter();
-        Dev.PollWaiter.signal();
+        Dev.triggerPolling();
         waitWaiter((long)Dev.RequestTimeout * Dev.MaxRetry);
         releaseWaiter();
         check(Dev.Offline, JPOS_E_OFFLINE, "Device is offline");
@@ -191,7 +191,7 @@ class SampleUdpDeviceCashChangerProperties extends CashChangerProperties {
         attachWaiter();
         String[] result = Dev.sendResp(new String[]{"CASHBOX:StartInput3", "CASHBOX:GetSlots"});
         if (result != null) {
-            Dev.PollWaiter.signal();
+            Dev.triggerPolling();
             waitWaiter((long)Dev.RequestTimeout * Dev.MaxRetry);
         }
         releaseWaiter();
@@ -218,7 +218,7 @@ class SampleUdpDeviceCashChangerProperties extends CashChangerProperties {
         attachWaiter();
         String depositstr = Dev.sendResp("CASHBOX:StopInput");
         check(depositstr == null, JPOS_E_FAILURE, "Cannot stop cash input");
-        Dev.PollWaiter.signal();
+        Dev.triggerPolling();
         waitWaiter((long)Dev.RequestTimeout * Dev.MaxRetry);
         releaseWaiter();
         Object[] depositcoins;
@@ -283,7 +283,7 @@ class SampleUdpDeviceCashChangerProperties extends CashChangerProperties {
     public void readCashCounts(String[] cashCounts, boolean[] discrepancy) throws JposException {
         check(Dev.Offline, JPOS_E_OFFLINE, "Device is offline");
         attachWaiter();
-        Dev.PollWaiter.signal();
+        Dev.triggerPolling();
         waitWaiter((long)Dev.RequestTimeout * Dev.MaxRetry);
         releaseWaiter();
         check(Dev.Offline, JPOS_E_OFFLINE, "Device is offline");
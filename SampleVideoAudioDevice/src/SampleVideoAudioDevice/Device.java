@@ -304,6 +304,11 @@ public class Device extends JposDevice {
         return request instanceof PlaySound ? true : null;
     }
 
+    @Override
+    public boolean isLongRunningRequest(JposOutputRequest request) {
+        return request instanceof PlaySound || super.isLongRunningRequest(request);
+    }
+
     private class MySoundPlayerProperties extends SoundPlayerProperties {
         protected MySoundPlayerProperties() {
             super(0);
@@ -252,9 +252,11 @@ public class ESpeakDevice extends JposDevice {
 
         @Override
         public void stopCurrentSpeaking() throws JposException {
-            synchronized (AsyncProcessorRunning) {
-                if (CurrentCommand != null && CurrentCommand instanceof Speak) {
-                    CurrentCommand.abortCommand(true);
+            synchronized (RequestSync) {
+                synchronized (AsyncProcessorRunning) {
+                    if (CurrentCommand != null && CurrentCommand instanceof Speak) {
+                        CurrentCommand.abortCommand(true);
+                    }
                 }
             }
         }
@@ -262,14 +264,16 @@ public class ESpeakDevice extends JposDevice {
         @Override
         public void stopSpeaking(int outputID) throws JposException {
             Speak request = null;
-            synchronized (AsyncProcessorRunning) {
-                if (CurrentCommand instanceof Speak && CurrentCommand.OutputID == outputID)
-                    CurrentCommand.abortCommand(true);
-                else {
-                    for (JposOutputRequest req : PendingCommands) {
-                        if (req instanceof Speak && req.OutputID == outputID) {
-                            PendingCommands.remove(request = (Speak) req);
-                            break;
+            synchronized (RequestSync) {
+                synchronized (AsyncProcessorRunning) {
+                    if (CurrentCommand instanceof Speak && CurrentCommand.OutputID == outputID)
+                        CurrentCommand.abortCommand(true);
+                    else {
+                        for (JposOutputRequest req : PendingCommands) {
+                            if (req instanceof Speak && req.OutputID == outputID) {
+                                PendingCommands.remove(request = (Speak) req);
+                                break;
+                            }
                         }
                     }
                 }
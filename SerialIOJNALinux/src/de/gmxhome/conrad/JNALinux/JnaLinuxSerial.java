@@ -22,7 +22,9 @@ import com.sun.jna.Native;
 import com.sun.jna.platform.linux.*;
 
 import java.io.*;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Properties;
 
 /**
@@ -139,8 +141,8 @@ public class JnaLinuxSerial implements SerialIOAdapter {
             public short events;
 
             /**
-             * Output field, contains a bitwise combination of POLLIN, POLLOUT, POLLERR, POLLNVAL and perhaps other less
-             * relevant values. Specifies the condition that is fulfilled by the corresponding file descriptor.
+             * Output field, contains a bitwise combination of POLLIN, POLLOUT, POLLERR, POLLHUP, POLLNVAL and perhaps
+             * other less relevant values. Specifies the condition that is fulfilled by the corresponding file descriptor.
              */
             public short revents;
         }
@@ -165,6 +167,13 @@ public class JnaLinuxSerial implements SerialIOAdapter {
          */
         short POLLERR = 8;
 
+        /**
+         * Bit value for poll request to signal a hang up on the specified file descriptor. Whenever set in pollfd
+         * property revents, the device has been disconnected. Subsequent reads return only data that have been
+         * received before.
+         */
+        short POLLHUP = 16;
+
         /**
          * Bit value for poll request to signal that the specified file descriptor is invalid. Whenever set in
          * pollfd property revents, the corresponding file descriptor has been closed in the meantime (or has not been
@@ -216,6 +225,7 @@ public class JnaLinuxSerial implements SerialIOAdapter {
     @Override
     public void close() throws IOException {
         int fd = checkOpened(true);
+        setDataListener(null);
         IOException e = null;
         if (LibCLib.close(fd) < 0)
             e = new IOException("Close error");
@@ -246,19 +256,26 @@ public class JnaLinuxSerial implements SerialIOAdapter {
     private int    BufferCount = 0;
     private int    CurrentBuffer;
     private final byte[][] InputBuffers = { new byte[1000], new byte[1000] };
+    private final byte[] AvailableBuffer = new byte[1000];
+    private final LibCExt.pollfd[] AvailablePoll = { new LibCExt.pollfd() };
+
+    // Structures for poll in read, one per thread: Read polls without lock, and JNA structures allocate native memory.
+    private static final ThreadLocal<LibCExt.pollfd[]> ReadPoll =
+            ThreadLocal.withInitial(() -> new LibCExt.pollfd[]{ new LibCExt.pollfd() });
 
     @Override
     synchronized public int available() throws IOException {
         int fd = checkOpened(true);
         if (BufferCount == Buffer.length)
             return Buffer.length;
-        LibCExt.pollfd[] fds = { new LibCExt.pollfd() };
+        LibCExt.pollfd[] fds = AvailablePoll;
         fds[0].fd = fd;
         fds[0].events = LibCExt.POLLIN;
+        fds[0].revents = 0;
         int ret = LibCLib.poll(fds, fds.length, 0);
         if (ret > 0 && (fds[0].revents & LibCExt.POLLIN) != 0) {
-            byte[] buffer = new byte[Buffer.length - BufferCount];
-            ret = LibCLib.read(fd, buffer, buffer.length);
+            byte[] buffer = AvailableBuffer;
+            ret = LibCLib.read(fd, buffer, Buffer.length - BufferCount);
             if (ret > 0) {
                 System.arraycopy(buffer, 0, Buffer, BufferCount, ret);
                 BufferCount += ret;
@@ -277,35 +294,153 @@ public class JnaLinuxSerial implements SerialIOAdapter {
     public byte[] read(int count, int timeout) throws IOException {
         if (count < 0)
             throw new IOException("Invalid read count: " + count);
-        int fd;
-        synchronized (this) {
-            if (available() > 0) {
-                byte[] ret = Arrays.copyOf(Buffer, Math.min(count, BufferCount));
-                if (ret.length < BufferCount) {
-                    CurrentBuffer = 1 - CurrentBuffer;
-                    System.arraycopy(Buffer, ret.length, InputBuffers[CurrentBuffer], 0, BufferCount -= ret.length);
-                    Buffer = InputBuffers[CurrentBuffer];
-                } else
-                    BufferCount = 0;
-                return ret;
+        byte[] buffer = new byte[count];
+        int len = read(buffer, 0, count, timeout);
+        return len == count ? buffer : Arrays.copyOf(buffer, len);
+    }
+
+    @Override
+    public int read(byte[] buffer, int offset, int count, int timeout) throws IOException {
+        if (count < 0 || offset < 0 || offset + count > buffer.length)
+            throw new IOException("Invalid read count: " + count);
+        long end = System.currentTimeMillis() + timeout;
+        LibCExt.pollfd[] fds = ReadPoll.get();
+        short revents = 0;
+        while (true) {
+            int fd;
+            // Data will be read from the port only under lock (via available), the same lock the watcher thread
+            // uses. Otherwise, the watcher could move the data into the input buffer between poll and read, and read
+            // would block without timeout.
+            synchronized (this) {
+                if (available() > 0) {
+                    int len = Math.min(count, BufferCount);
+                    System.arraycopy(Buffer, 0, buffer, offset, len);
+                    if (len < BufferCount) {
+                        CurrentBuffer = 1 - CurrentBuffer;
+                        System.arraycopy(Buffer, len, InputBuffers[CurrentBuffer], 0, BufferCount -= len);
+                        Buffer = InputBuffers[CurrentBuffer];
+                    } else
+                        BufferCount = 0;
+                    return len;
+                }
+                if ((revents & (LibCExt.POLLHUP | LibCExt.POLLERR | LibCExt.POLLNVAL)) != 0)
+                    throw new IOException("Poll (read) error");
+                if (revents != 0)
+                    return 0;   // Data have been consumed by another thread
+                fd = Filedesc;
             }
-            fd = Filedesc;
+            fds[0].fd = fd;
+            fds[0].events = LibCExt.POLLIN;
+            fds[0].revents = 0;
+            int ret = LibCLib.poll(fds, fds.length, (int) Math.max(0, end - System.currentTimeMillis()));
+            if (ret < 0)
+                throw new IOException("Poll (read) error");
+            if (ret == 0)
+                return 0;
+            revents = fds[0].revents;
         }
-        byte[] buffer = new byte[count];
-        LibCExt.pollfd[] fds = { new LibCExt.pollfd() };
-        fds[0].fd = fd;
-        fds[0].events = LibCExt.POLLIN;
-        int ret = LibCLib.poll(fds, fds.length, timeout);
-        if (ret > 0 && (fds[0].revents & LibCExt.POLLIN) != 0) {
-            ret = LibCLib.read(fd, buffer, buffer.length);
-            if (ret > 0)
-                return ret == buffer.length ? buffer : Arrays.copyOf(buffer, ret);
-            else if (ret < 0)
-                throw new IOException("Read error");
+    }
+
+    private DataListener Listener = null;
+
+    /**
+     * Sets a listener that will be notified whenever new data have been received. One thread watches all ports with
+     * a listener via one poll call. It moves incoming data into the input buffer of the port before the listener will
+     * be notified. Ports with a full input buffer will not be watched until data have been read.
+     * @param listener Listener to be notified, null to remove the current listener.
+     * @return true.
+     * @throws IOException If the port is not open.
+     */
+    @Override
+    public boolean setDataListener(DataListener listener) throws IOException {
+        checkOpened(true);
+        synchronized (Watched) {
+            Listener = listener;
+            Watched.remove(this);
+            if (listener != null) {
+                Watched.add(this);
+                if (Watcher == null) {
+                    Watcher = new Thread(JnaLinuxSerial::watch, "JnaLinuxSerialWatcher");
+                    Watcher.setDaemon(true);
+                    Watcher.start();
+                }
+            }
+        }
+        return true;
+    }
+
+    private static final List<JnaLinuxSerial> Watched = new ArrayList<>();
+    private static Thread Watcher = null;
+    private static final int WatchInterval = 50;  // Maximum delay until changes of Watched will be recognized.
+
+    // Input watcher. Waits for incoming data on all watched ports, moves the data into the input buffer of the port
+    // and notifies the listener. Finishes when no port is watched anymore.
+    private static void watch() {
+        List<JnaLinuxSerial> ports = new ArrayList<>();
+        LibCExt.pollfd[] fds = null;
+        while (true) {
+            synchronized (Watched) {
+                if (Watched.isEmpty()) {
+                    Watcher = null;
+                    return;
+                }
+                ports.clear();
+                for (JnaLinuxSerial port : Watched) {
+                    synchronized (port) {
+                        if (port.Filedesc >= 0 && port.BufferCount < port.Buffer.length)
+                            ports.add(port);
+                    }
+                }
+            }
+            if (ports.isEmpty()) {
+                try {
+                    Thread.sleep(WatchInterval);
+                } catch (InterruptedException ignored) {}
+                continue;
+            }
+            if (fds == null || fds.length != ports.size())
+                fds = (LibCExt.pollfd[]) new LibCExt.pollfd().toArray(ports.size());
+            for (int i = 0; i < fds.length; i++) {
+                fds[i].fd = ports.get(i).Filedesc;
+                fds[i].events = LibCExt.POLLIN;
+                fds[i].revents = 0;
+            }
+            if (LibCLib.poll(fds, fds.length, WatchInterval) > 0) {
+                for (int i = 0; i < fds.length; i++) {
+                    if (fds[i].revents != 0)
+                        ports.get(i).notifyListener(fds[i].fd, fds[i].revents);
+                }
+            }
+        }
+    }
+
+    // Moves available data into the input buffer and notifies the listener. After an error, the listener will be
+    // notified once and removed to avoid a notification loop. The listener will get the error when reading. Since
+    // poll returns immediately as long as a hang up or error condition persists, POLLHUP, POLLERR or POLLNVAL will be
+    // handled like an error if no data could be read, even if POLLIN is set as well (e.g. after unplugging a USB
+    // device, where read returns end of file).
+    private void notifyListener(int fd, short revents) {
+        DataListener listener;
+        try {
+            synchronized (this) {
+                if (Filedesc != fd)
+                    return;
+                int count = BufferCount;
+                if (available() == count && (revents & (LibCExt.POLLHUP | LibCExt.POLLERR | LibCExt.POLLNVAL)) != 0)
+                    throw new IOException("Port hung up or failed");
+                if (BufferCount == 0)
+                    return;
+                listener = Listener;
+            }
+        } catch (IOException e) {
+            synchronized (Watched) {
+                listener = Listener;
+                Listener = null;
+                Watched.remove(this);
+            }
         }
-        else if (ret < 0 || (fds[0].revents & LibCExt.POLLERR) != 0)
-            throw new IOException("Poll (read) error");
-        return new byte[0];
+        if (listener != null)
+            listener.dataAvailable(this);
     }
 
     @Override
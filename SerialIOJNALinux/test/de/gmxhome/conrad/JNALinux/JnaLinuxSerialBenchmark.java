@@ -0,0 +1,119 @@
+/*
+ * Copyright 2026 Martin Conrad
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package de.gmxhome.conrad.JNALinux;
+
+import de.gmxhome.conrad.jpos.jpos_base.AllocationCounter;
+import de.gmxhome.conrad.jpos.jpos_base.Checker;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+import static de.gmxhome.conrad.jpos.jpos_base.Checker.check;
+
+/**
+ * Benchmark for the read path of JnaLinuxSerial. Writes blocks of 64 bytes to the master side of a pseudo terminal and
+ * reads them from the slave side via read into the start of a buffer, read into a buffer at offset 100, as
+ * SerialIOProcessor and UniqueIOProcessor do when they append to data already received, and read returning a new
+ * array. Each variant will be warmed up, then measured in five rounds of 200 milliseconds. The benchmark prints the
+ * median number of blocks per second and the bytes allocated per read call, counted around the read calls only.<br>
+ * Needs the same environment as JnaLinuxSerialTest. Can be started via its main method, see Checker.
+ */
+public class JnaLinuxSerialBenchmark {
+    private static final int BlockSize = 64;
+    private static final int Rounds = 5;
+    private static final long RoundTime = 200000000L;
+
+    private interface Operation {
+        // Reads up to count bytes, returns the number of bytes read.
+        int read(int count) throws Exception;
+    }
+
+    private static long Allocated;
+    private static long Reads;
+
+    // Writes one block and reads it via operation. Counts the reads and the bytes allocated during the reads.
+    private static void transfer(JnaLinuxSerialTest.Pty pty, byte[] block, Operation operation) throws Exception {
+        pty.write(block);
+        for (int remaining = block.length; remaining > 0; Reads++) {
+            long before = AllocationCounter.allocatedBytes();
+            int len = operation.read(remaining);
+            Allocated += AllocationCounter.allocatedBytes() - before;
+            if (len <= 0)
+                throw new IOException("Timeout before complete block received");
+            remaining -= len;
+        }
+    }
+
+    // Transfers blocks in rounds of RoundTime nanoseconds and returns the median number of blocks per second.
+    private static double measure(JnaLinuxSerialTest.Pty pty, byte[] block, Operation operation) throws Exception {
+        for (long end = System.nanoTime() + RoundTime; System.nanoTime() < end; )
+            transfer(pty, block, operation);
+        Allocated = Reads = 0;
+        double[] rates = new double[Rounds];
+        for (int i = 0; i < Rounds; i++) {
+            int count = 0;
+            long start = System.nanoTime();
+            long now;
+            do {
+                transfer(pty, block, operation);
+                count++;
+            } while ((now = System.nanoTime()) - start < RoundTime);
+            rates[i] = count * 1e9 / (now - start);
+        }
+        Arrays.sort(rates);
+        return rates[Rounds / 2];
+    }
+
+    private static void benchmark(String variant, JnaLinuxSerial port, JnaLinuxSerialTest.Pty pty, byte[] block,
+                                  Operation operation) throws Exception {
+        double rate = measure(pty, block, operation);
+        check(port.available() == 0, variant + ": All blocks read");
+        System.out.printf("%s: %.0f blocks/s, %d bytes allocated per read%n", variant, rate, Allocated / Reads);
+    }
+
+    /**
+     * Runs the benchmark.
+     * @throws Exception If the benchmark cannot be performed.
+     */
+    public static void run() throws Exception {
+        byte[] block = new byte[BlockSize];
+        for (int i = 0; i < block.length; i++)
+            block[i] = (byte) ('0' + i % 64);
+        byte[] buffer = new byte[100 + BlockSize];
+        try (JnaLinuxSerialTest.Pty pty = new JnaLinuxSerialTest.Pty()) {
+            JnaLinuxSerial port = new JnaLinuxSerial();
+            port.open(pty.Slave);
+            benchmark("read(buffer, 0, count, timeout)", port, pty, block,
+                    count -> port.read(buffer, 0, count, 500));
+            benchmark("read(buffer, 100, count, timeout)", port, pty, block,
+                    count -> port.read(buffer, 100, count, 500));
+            benchmark("read(count, timeout)", port, pty, block, count -> port.read(count, 500).length);
+            port.close();
+        }
+    }
+
+    /**
+     * Runs the benchmark and exits, see Checker.
+     * @param args Not used.
+     * @throws Exception If the benchmark cannot be performed.
+     */
+    public static void main(String[] args) throws Exception {
+        run();
+        Checker.exit();
+    }
+}
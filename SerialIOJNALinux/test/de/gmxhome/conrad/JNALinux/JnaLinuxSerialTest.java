@@ -0,0 +1,194 @@
+/*
+ * Copyright 2026 Martin Conrad
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package de.gmxhome.conrad.JNALinux;
+
+import com.sun.jna.Library;
+import com.sun.jna.Native;
+import de.gmxhome.conrad.jpos.jpos_base.Checker;
+import de.gmxhome.conrad.jpos.jpos_base.SerialIOAdapter;
+
+import java.io.IOException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import static de.gmxhome.conrad.jpos.jpos_base.Checker.check;
+
+/**
+ * Test for the input watcher of JnaLinuxSerial. Instead of a serial port, the adapter opens the slave side of a
+ * pseudo terminal in raw mode, the test writes to and closes the master side. The test checks that listeners will be
+ * notified about incoming data, that the watcher thread finishes when the last listener has been removed, and that a
+ * hang up of the master side (POLLHUP) notifies the listener once and removes it. POLLERR and POLLNVAL cannot be
+ * provoked via pseudo terminals, JnaLinuxSerial handles them the same way as POLLHUP.<br>
+ * Needs Linux, the command stty, the framework, the framework test classes and the JNA jars in the class path.
+ * Can be started via its main method, see Checker.
+ */
+public class JnaLinuxSerialTest {
+    private interface PtyLib extends Library {
+        int O_RDWR = 2;
+        int O_NOCTTY = 0400;
+
+        int posix_openpt(int flags);
+        int grantpt(int fd);
+        int unlockpt(int fd);
+        String ptsname(int fd);
+        int write(int fd, byte[] buffer, int count);
+        int close(int fd);
+    }
+
+    private static final PtyLib Lib = Native.load("c", PtyLib.class);
+    private static final String WatcherName = "JnaLinuxSerialWatcher";
+
+    /**
+     * Master side of a pseudo terminal. The slave side is in raw mode without echo.
+     */
+    static class Pty implements AutoCloseable {
+        int Master;
+        final String Slave;
+
+        Pty() throws Exception {
+            Master = Lib.posix_openpt(PtyLib.O_RDWR | PtyLib.O_NOCTTY);
+            if (Master < 0 || Lib.grantpt(Master) != 0 || Lib.unlockpt(Master) != 0)
+                throw new IOException("Cannot create pseudo terminal");
+            Slave = Lib.ptsname(Master);
+            Process stty = new ProcessBuilder("sh", "-c", "stty raw -echo < " + Slave).inheritIO().start();
+            if (stty.waitFor() != 0)
+                throw new IOException("Cannot set raw mode for " + Slave);
+        }
+
+        void write(String data) {
+            write(data.getBytes());
+        }
+
+        void write(byte[] data) {
+            Lib.write(Master, data, data.length);
+        }
+
+        @Override
+        public void close() {
+            if (Master >= 0)
+                Lib.close(Master);
+            Master = -1;
+        }
+    }
+
+    /**
+     * Listener that counts its notifications.
+     */
+    private static class Listener implements SerialIOAdapter.DataListener {
+        final Semaphore Notifications = new Semaphore(0);
+
+        @Override
+        public void dataAvailable(SerialIOAdapter adapter) {
+            Notifications.release();
+        }
+
+        boolean await(long timeout) throws InterruptedException {
+            return Notifications.tryAcquire(timeout, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private static boolean watcherRunning() {
+        for (Thread thread : Thread.getAllStackTraces().keySet()) {
+            if (thread.getName().equals(WatcherName) && thread.isAlive())
+                return true;
+        }
+        return false;
+    }
+
+    // Waits until the watcher thread finished, at most timeout milliseconds.
+    private static boolean watcherFinished(long timeout) throws InterruptedException {
+        for (long end = System.currentTimeMillis() + timeout; watcherRunning(); Thread.sleep(10)) {
+            if (System.currentTimeMillis() > end)
+                return false;
+        }
+        return true;
+    }
+
+    private static String read(JnaLinuxSerial port, int count) throws IOException {
+        return new String(port.read(count, 500));
+    }
+
+    private static void notification() throws Exception {
+        try (Pty pty1 = new Pty(); Pty pty2 = new Pty()) {
+            JnaLinuxSerial port1 = new JnaLinuxSerial(), port2 = new JnaLinuxSerial();
+            port1.open(pty1.Slave);
+            port2.open(pty2.Slave);
+            Listener listener1 = new Listener(), listener2 = new Listener();
+            check(port1.setDataListener(listener1) && port2.setDataListener(listener2) && watcherRunning(),
+                    "Watcher thread started with first listener");
+            pty1.write("Hello");
+            check(listener1.await(1000) && read(port1, 5).equals("Hello"), "Listener of first port notified");
+            pty2.write("World");
+            check(listener2.await(1000) && read(port2, 5).equals("World"), "Listener of second port notified");
+            check(listener1.Notifications.availablePermits() == 0, "Listener of other port not notified");
+            port1.setDataListener(null);
+            pty1.write("Ignored");
+            check(!listener1.await(300) && read(port1, 7).equals("Ignored"),
+                    "Removed listener not notified, data can be read");
+            check(watcherRunning(), "Watcher thread still running for remaining listener");
+            port2.setDataListener(null);
+            check(watcherFinished(1000), "Watcher thread finished after last listener has been removed");
+            port2.setDataListener(listener2);
+            pty2.write("Again");
+            check(listener2.await(1000) && read(port2, 5).equals("Again"), "Watcher thread restarted for new listener");
+            port1.close();
+            port2.close();
+            check(watcherFinished(1000), "Watcher thread finished after close");
+        }
+    }
+
+    private static void hangUp() throws Exception {
+        JnaLinuxSerial port = new JnaLinuxSerial();
+        Listener listener = new Listener();
+        try (Pty pty = new Pty()) {
+            port.open(pty.Slave);
+            port.setDataListener(listener);
+            pty.write("Data");
+            check(listener.await(1000) && read(port, 4).equals("Data"), "Data received before hang up");
+        }
+        check(listener.await(1000), "Listener notified about hang up");
+        check(!listener.await(300), "Listener notified only once after hang up");
+        check(watcherFinished(1000), "Listener removed after hang up, watcher thread finished");
+        try {
+            port.read(1, 100);
+            check(false, "Read after hang up fails");
+        } catch (IOException e) {
+            check(true, "Read after hang up fails");
+        }
+        port.close();
+    }
+
+    /**
+     * Runs all tests of this class.
+     * @throws Exception If a test cannot be performed.
+     */
+    public static void run() throws Exception {
+        notification();
+        hangUp();
+    }
+
+    /**
+     * Runs all tests of this class and exits, see Checker.
+     * @param args Not used.
+     * @throws Exception If a test cannot be performed.
+     */
+    public static void main(String[] args) throws Exception {
+        run();
+        Checker.exit();
+    }
+}
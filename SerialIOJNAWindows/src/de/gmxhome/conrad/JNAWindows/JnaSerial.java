@@ -27,6 +27,7 @@ import de.gmxhome.conrad.jpos.jpos_base.SerialIOAdapter;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.util.Arrays;
 
 /**
  * Implementation of SerialIOAdapter using native Win32 OS calls via JNA.
@@ -76,6 +77,7 @@ public class JnaSerial implements SerialIOAdapter {
 
     private String Port;
     private WinNT.HANDLE DeviceHandle;
+    private Memory ReadMemory = null;   // Reused by read, grows as needed. Read will not be called concurrently.
 
     /**
      * Constructor. Creates communication adapter.
@@ -150,9 +152,18 @@ public class JnaSerial implements SerialIOAdapter {
 
     @Override
     public byte[] read(int count, int timeout) throws IOException {
+        byte[] result = new byte[count];
+        int len = read(result, 0, count, timeout);
+        return len == count ? result : Arrays.copyOf(result, len);
+    }
+
+    @Override
+    public int read(byte[] buffer, int offset, int count, int timeout) throws IOException {
         WinNT.HANDLE hd = checkOpened(true);
         IntByReference receicedBytes = new IntByReference(-1);
-        Memory received = new Memory(count);
+        if (ReadMemory == null || ReadMemory.size() < count)
+            ReadMemory = new Memory(Math.max(count, 256));
+        Memory received = ReadMemory;
         setTimeouts(timeout);
         WinBase.OVERLAPPED ov = new WinBase.OVERLAPPED();
         ov.writeField("hEvent", Kernel32Lib.CreateEvent(null, true, false, null));
@@ -171,7 +182,8 @@ public class JnaSerial implements SerialIOAdapter {
         }
         if (receicedBytes.getValue() < 0 )
             throw new IOException("GetOverlappedResult returned invalid count " + receicedBytes.getValue());
-        return received.getByteArray(0, receicedBytes.getValue());
+        received.read(0, buffer, offset, receicedBytes.getValue());
+        return receicedBytes.getValue();
     }
 
     @Override
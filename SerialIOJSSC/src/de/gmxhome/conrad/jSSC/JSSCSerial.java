@@ -64,6 +64,25 @@ public class JSSCSerial implements SerialIOAdapter {
         }
     }
 
+    @Override
+    public boolean setDataListener(DataListener listener) throws IOException {
+        checkOpened(true);
+        try {
+            SerialIOExecutor.removeEventListener();
+        } catch (SerialPortException ignored) {}    // No listener set
+        if (listener != null) {
+            try {
+                SerialIOExecutor.addEventListener(event -> {
+                    if (event.isRXCHAR() && event.getEventValue() > 0)
+                        listener.dataAvailable(this);
+                }, MASK_RXCHAR);
+            } catch (SerialPortException e) {
+                throw new IOException(e.getMessage(), e);
+            }
+        }
+        return true;
+    }
+
     @Override
     public void close() throws IOException {
         checkOpened(true);
@@ -99,24 +118,34 @@ public class JSSCSerial implements SerialIOAdapter {
 
     @Override
     public byte[] read(int count, int timeout) throws IOException {
+        byte[] result = new byte[count];
+        int len = read(result, 0, count, timeout);
+        return len == count ? result : Arrays.copyOf(result, len);
+    }
+
+    @Override
+    public int read(byte[] buffer, int offset, int count, int timeout) throws IOException {
         checkOpened(true);
-        byte[] result;
-        int len = 0;
+        if (count == 0)
+            return 0;
         try {
-            len = SerialIOExecutor.getInputBufferBytesCount();
-            if (len > 0)
-                result = SerialIOExecutor.readBytes(Math.min(len, count));
-            else {
-                result = SerialIOExecutor.readBytes(1, timeout);
-                if (result.length == 1 && count > 1 && (len = SerialIOExecutor.getInputBufferBytesCount()) > 0) {
-                    byte[] part = SerialIOExecutor.readBytes(len < count ? len : count - 1);
-                    result = Arrays.copyOf(result, len + 1);
-                    System.arraycopy(part, 0, result, 1, part.length);
-                }
+            byte[] part;
+            int len = SerialIOExecutor.getInputBufferBytesCount();
+            if (len > 0) {
+                part = SerialIOExecutor.readBytes(Math.min(len, count));
+                System.arraycopy(part, 0, buffer, offset, part.length);
+                return part.length;
+            }
+            part = SerialIOExecutor.readBytes(1, timeout);
+            System.arraycopy(part, 0, buffer, offset, len = part.length);
+            if (len == 1 && count > 1 && (len = SerialIOExecutor.getInputBufferBytesCount()) > 0) {
+                part = SerialIOExecutor.readBytes(Math.min(len, count - 1));
+                System.arraycopy(part, 0, buffer, offset + 1, part.length);
+                return part.length + 1;
             }
-            return result;
+            return part.length;
         } catch (SerialPortTimeoutException e) {
-            return new byte[0];
+            return 0;
         } catch (SerialPortException e) {
             throw new IOException(e.getMessage(), e);
         }
@@ -17,6 +17,8 @@
 package de.gmxhome.conrad.jSerialComm;
 
 import com.fazecast.jSerialComm.SerialPort;
+import com.fazecast.jSerialComm.SerialPortDataListener;
+import com.fazecast.jSerialComm.SerialPortEvent;
 import com.fazecast.jSerialComm.SerialPortInvalidPortException;
 import de.gmxhome.conrad.jpos.jpos_base.SerialIOAdapter;
 
@@ -55,9 +57,33 @@ public class JSCSerial implements SerialIOAdapter {
         }
     }
 
+    @Override
+    public boolean setDataListener(DataListener listener) throws IOException {
+        checkOpened(true);
+        SerialIOExecutor.removeDataListener();
+        if (listener != null) {
+            SerialPortDataListener portlistener = new SerialPortDataListener() {
+                @Override
+                public int getListeningEvents() {
+                    return LISTENING_EVENT_DATA_AVAILABLE;
+                }
+
+                @Override
+                public void serialEvent(SerialPortEvent event) {
+                    if (event.getEventType() == LISTENING_EVENT_DATA_AVAILABLE)
+                        listener.dataAvailable(JSCSerial.this);
+                }
+            };
+            if (!SerialIOExecutor.addDataListener(portlistener))
+                throw new IOException("Data listener cannot be set");
+        }
+        return true;
+    }
+
     @Override
     public void close() throws IOException {
         checkOpened(true);
+        SerialIOExecutor.removeDataListener();
         if (!SerialIOExecutor.closePort())
             throw new IOException("Closing port error");
     }
@@ -77,8 +103,14 @@ public class JSCSerial implements SerialIOAdapter {
 
     @Override
     public byte[] read(int count, int timeout) throws IOException {
-        checkOpened(true);
         byte[] result = new byte[count];
+        int len = read(result, 0, count, timeout);
+        return len == count ? result : Arrays.copyOf(result, len);
+    }
+
+    @Override
+    public int read(byte[] buffer, int offset, int count, int timeout) throws IOException {
+        checkOpened(true);
         int len = SerialIOExecutor.bytesAvailable();
         if (len < 0)
             throw new IOException("Port not open error");
@@ -86,10 +118,9 @@ public class JSCSerial implements SerialIOAdapter {
             if (!SerialIOExecutor.setComPortTimeouts(TimeoutMode, timeout == 0 ? 1 : timeout, 0))
                 throw new IOException("Timeout cannot be set");
         }
-        if ((len = SerialIOExecutor.readBytes(result, count)) < 0)
+        if ((len = SerialIOExecutor.readBytes(buffer, count, offset)) < 0)
             throw new IOException("Read error");
-        result = Arrays.copyOf(result, len);
-        return result;
+        return len;
     }
 
     @Override
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2026 Martin Conrad
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package de.gmxhome.conrad.jpos.jpos_base;
+
+import java.util.Arrays;
+
+/**
+ * Snapshot of capability and property values of a property set, e.g. the capabilities that are relevant for the
+ * validation of print data on a specific print station. Since capabilities and properties are public fields that can
+ * be changed by device implementations at any time, the snapshot cannot be notified about changes. Instead, method get
+ * lets the source fill the current values into an internal buffer and returns the previous snapshot as long as the
+ * values did not change. Therefore, calling get does not allocate memory as long as nothing changes.<br>
+ * The returned array is shared between all callers and must not be modified.<br>
+ * In addition, this class provides helper functions for list properties, e.g. FontTypefaceList or CharacterSetList,
+ * that avoid splitting the same list again and again.
+ */
+public class CapabilitySnapshot {
+    /**
+     * Source of the values of a snapshot.
+     */
+    public interface Source {
+        /**
+         * Stores the current values in the given array. Must not allocate memory to keep snapshot retrieval cheap.
+         * @param values Array to be filled. Its length is the size passed to the constructor of the snapshot.
+         */
+        void fill(int[] values);
+    }
+
+    private final Source TheSource;
+    private final int[] Current;
+    private int[] Values = null;
+
+    /**
+     * Constructor.
+     * @param size   Number of values.
+     * @param source Source of the values.
+     */
+    public CapabilitySnapshot(int size, Source source) {
+        TheSource = source;
+        Current = new int[size];
+    }
+
+    /**
+     * Retrieves the current values.
+     * @return Array containing the current values. The same array will be returned until one of the values changes.
+     *         Must not be modified.
+     */
+    public synchronized int[] get() {
+        TheSource.fill(Current);
+        if (Values == null || !Arrays.equals(Current, Values))
+            Values = Arrays.copyOf(Current, Current.length);
+        return Values;
+    }
+
+    /**
+     * Counts the elements of a comma separated list. The result is the same as list.split(",").length, but no array
+     * will be created.
+     * @param list Comma separated list.
+     * @return Number of elements, without trailing empty elements as with String.split.
+     */
+    public static int countItems(String list) {
+        if (list.length() == 0)
+            return 1;
+        int last = list.length() - 1;
+        while (last >= 0 && list.charAt(last) == ',')
+            last--;
+        int count = last < 0 ? 0 : 1;
+        for (int i = 0; i < last; i++) {
+            if (list.charAt(i) == ',')
+                count++;
+        }
+        return count;
+    }
+
+    /**
+     * Converted value of a comma separated list of integer values, e.g. CharacterSetList. The list will be converted
+     * again only if it has been changed.
+     */
+    public static class IntegerList {
+        private String List = null;
+        private long[] Values = null;
+
+        /**
+         * Retrieves the values of the given list.
+         * @param list Comma separated list of integer values.
+         * @return The values, as returned by JposBaseDevice.stringArrayToLongArray(list.split(",")). Must not be
+         *         modified.
+         * @throws NumberFormatException If list contains a value that is not an integer value.
+         */
+        public synchronized long[] get(String list) {
+            if (Values == null || !list.equals(List)) {
+                Values = JposBaseDevice.stringArrayToLongArray(list.split(","));
+                List = list;
+            }
+            return Values;
+        }
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright 2026 Martin Conrad
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package de.gmxhome.conrad.jpos.jpos_base;
+
+/**
+ * Single-pass tokenizer for output data with UPOS escape sequences as used by POSPrinter, PointCardRW and LineDisplay.
+ * The tokenizer works on indices of the original string, it never copies the remaining data. Escape sequences have the
+ * form ESC | [!|*] [value] [subtype] type [data], where subtype consists of lower case letters, type is any other
+ * character and data is present for specific types or if value specifies the data length.<br>
+ * Usage:
+ * <pre>
+ *     EscSequenceTokenizer tokens = new EscSequenceTokenizer(data, true, "E");
+ *     while (tokens.next()) {
+ *         // process printable part between tokens.TextStart and tokens.TextEnd
+ *         tokens.parse();
+ *         // process escape sequence described by tokens.Type, tokens.Subtype, ...
+ *     }
+ *     // process printable part between tokens.TextStart and tokens.TextEnd
+ * </pre>
+ * Method parse throws an IndexOutOfBoundsException if the escape sequence is incomplete.
+ */
+public class EscSequenceTokenizer {
+    /**
+     * The data to be tokenized.
+     */
+    public final String Data;
+
+    /**
+     * Start index of the printable part before the current escape sequence, or of the remaining data after next
+     * returned false.
+     */
+    public int TextStart;
+
+    /**
+     * Index behind the printable part before the current escape sequence, or length of Data after next returned false.
+     */
+    public int TextEnd;
+
+    /**
+     * Type of the escape sequence, the character behind value and subtype.
+     */
+    public int Type;
+
+    /**
+     * Subtype of the escape sequence, lower case letters between value and type. Each letter has been added to the
+     * subtype after multiplying the previous value by 1000. 0 if the escape sequence has no subtype.
+     */
+    public int Subtype;
+
+    /**
+     * Value of the escape sequence, 0 if not present.
+     */
+    public int Value;
+
+    /**
+     * True if the escape sequence contains a value.
+     */
+    public boolean ValueIsPresent;
+
+    /**
+     * True if the value has been preceded by an exclamation mark.
+     */
+    public boolean Negated;
+
+    /**
+     * True if the value has been preceded by an asterisk. In this case, the value specifies the length of the data
+     * following the type character.
+     */
+    public boolean ValueIsDataLength;
+
+    /**
+     * Data following the type character, null if the escape sequence has no data.
+     */
+    public String EscData;
+
+    private final boolean Prefixes;
+    private final String DataTypes;
+    private int Position = 0;
+
+    /**
+     * Constructor.
+     * @param data      Data to be tokenized.
+     * @param prefixes  True if the value may be preceded by an exclamation mark or an asterisk.
+     * @param dataTypes Types of escape sequences that are followed by data of the length specified by value.
+     */
+    public EscSequenceTokenizer(String data, boolean prefixes, String dataTypes) {
+        Data = data;
+        Prefixes = prefixes;
+        DataTypes = dataTypes;
+    }
+
+    /**
+     * Searches the next escape sequence and sets TextStart and TextEnd to the bounds of the printable part before it.
+     * @return true if an escape sequence has been found, false if only printable data remains.
+     */
+    public boolean next() {
+        int index = Data.indexOf("\33|", TextStart = Position);
+        Position = TextEnd = index < 0 ? Data.length() : index;
+        return index >= 0;
+    }
+
+    /**
+     * Parses the escape sequence found by next.
+     * @throws IndexOutOfBoundsException If the escape sequence is incomplete.
+     */
+    public void parse() {
+        int index = Position + 2;
+        int temp = Data.charAt(index);
+        Negated = Prefixes && temp == '!';
+        ValueIsDataLength = Prefixes && temp == '*';
+        if (Negated || ValueIsDataLength)
+            index++;
+        Value = 0;
+        ValueIsPresent = false;
+        while ((temp = Data.charAt(index) - '0') >= 0 && temp <= 9) {
+            Value = Value * 10 + temp;
+            ValueIsPresent = true;
+            index++;
+        }
+        Subtype = 0;
+        while ((temp = Data.charAt(index)) >= 'a' && temp <= 'z') {
+            Subtype = Subtype * 1000 + temp;
+            index++;
+        }
+        Type = temp;
+        Position = ++index;
+        if (ValueIsDataLength || DataTypes.indexOf(Type) >= 0)
+            Position += (EscData = Data.substring(index, index + Value)).length();
+        else
+            EscData = null;
+    }
+}
@@ -0,0 +1,376 @@
+/*
+ * Copyright 2026 Martin Conrad
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package de.gmxhome.conrad.jpos.jpos_base;
+
+import jpos.JposException;
+
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.Checksum;
+
+import static jpos.JposConst.*;
+
+/**
+ * Reads frames from a UniqueIOProcessor. Incoming data will be collected in a growable buffer. Only newly received
+ * bytes will be checked for the frame boundary and added to the checksum, if any. Bytes received after the end of a
+ * frame remain in the buffer and will be used as the beginning of the next frame.<br>
+ * Subclasses implement the frame format. The following formats are supported:
+ * <ul>
+ *     <li>Delimited: Frames end with a specific byte (e.g. ETX), optionally followed by a fixed number of trailer
+ *     bytes (e.g. a block check character). Optionally, frames start with a specific byte (e.g. STX), bytes received
+ *     before the start byte will be discarded.</li>
+ *     <li>LengthPrefixed: The frame header contains the frame length at a fixed position.</li>
+ * </ul>
+ * Fields separated by a specific byte (e.g. ETB) can be extracted from a frame via method split.<br>
+ * Since a FrameReader buffers data that has not yet been consumed, the underlying IO processor should not be read
+ * directly while the reader contains data, see method clear.
+ */
+public abstract class FrameReader {
+    /**
+     * The IO processor data will be read from.
+     */
+    protected final UniqueIOProcessor Stream;
+
+    /**
+     * Received data. The current frame starts at offset 0.
+     */
+    protected byte[] Buffer = new byte[256];
+
+    /**
+     * Number of valid bytes in Buffer.
+     */
+    protected int Length = 0;
+
+    /**
+     * Number of bytes in Buffer that have already been checked by method scan.
+     */
+    protected int Scanned = 0;
+
+    /**
+     * Maximum length of a frame. If more bytes have been received without detecting a frame boundary, readFrame throws
+     * a JposException. Default: 65536.
+     */
+    public int MaxFrameLength = 0x10000;
+
+    private final Checksum Check;
+    private boolean FrameComplete = false;
+
+    /**
+     * Constructor.
+     * @param stream IO processor to be used, must have been opened before reading the first frame.
+     * @param check  Checksum to be calculated over each frame, null if no checksum shall be calculated.
+     */
+    protected FrameReader(UniqueIOProcessor stream, Checksum check) {
+        Stream = stream;
+        Check = check;
+    }
+
+    /**
+     * Retrieves the checksum object. After readFrame returned a frame, its value is the checksum of that frame as
+     * described in the subclass.
+     * @return Checksum object as passed to the constructor.
+     */
+    public Checksum getChecksum() {
+        return Check;
+    }
+
+    /**
+     * Reads the next frame.
+     * @param timeout          Maximum time to wait for the first byte of the frame, in milliseconds.
+     * @param characterTimeout Maximum time between two consecutive bytes of the frame, in milliseconds.
+     * @return The frame, null on timeout. In case of a timeout, the incomplete frame will be discarded.
+     * @throws JposException If an IO error occurs or the frame is invalid. In the latter case, all buffered data
+     *                       will be discarded.
+     */
+    public byte[] readFrame(int timeout, int characterTimeout) throws JposException {
+        if (FrameComplete)
+            startFrame();
+        int framelength;
+        while ((framelength = Scanned < Length ? scan() : 0) == 0) {
+            if (Length > MaxFrameLength) {
+                clear();
+                throw new JposException(JPOS_E_FAILURE, "Frame too long");
+            }
+            Stream.setTimeout(Length == 0 ? timeout : characterTimeout);
+            ensureCapacity(1);
+            if (Stream.read(Buffer, Length, 1) == 0) {
+                clear();
+                return null;
+            }
+            Length++;
+            int count = Stream.available();
+            if (count > 0) {
+                ensureCapacity(count);
+                Length += Stream.read(Buffer, Length, count);
+            }
+        }
+        byte[] frame = Arrays.copyOf(Buffer, framelength);
+        discard(framelength);
+        FrameComplete = true;
+        return frame;
+    }
+
+    /**
+     * Discards all buffered data. Should be called whenever the IO processor will be flushed, e.g. before sending a
+     * new request.
+     */
+    public void clear() {
+        Length = 0;
+        startFrame();
+    }
+
+    /**
+     * Checks new bytes in Buffer, starting at offset Scanned. Must update Scanned and the checksum (via method
+     * checksum) accordingly. Can call method discard to remove leading garbage.
+     * @return Length of the frame at the beginning of Buffer if complete, 0 if more data is needed.
+     * @throws JposException If the buffered data cannot be a valid frame.
+     */
+    protected abstract int scan() throws JposException;
+
+    /**
+     * Resets the scanning state before a new frame will be scanned. Subclasses that override this method must call
+     * the overridden method.
+     */
+    protected void startFrame() {
+        Scanned = 0;
+        FrameComplete = false;
+        if (Check != null)
+            Check.reset();
+    }
+
+    /**
+     * Adds bytes of the current frame to the checksum.
+     * @param from Offset of first byte in Buffer.
+     * @param to   Offset behind last byte in Buffer.
+     */
+    protected void checksum(int from, int to) {
+        if (Check != null && to > from)
+            Check.update(Buffer, from, to - from);
+    }
+
+    /**
+     * Removes bytes from the beginning of Buffer. Scanned will be adjusted accordingly.
+     * @param count Number of bytes to be removed.
+     */
+    protected void discard(int count) {
+        if (count > 0) {
+            System.arraycopy(Buffer, count, Buffer, 0, Length -= count);
+            Scanned = Math.max(0, Scanned - count);
+        }
+    }
+
+    private void ensureCapacity(int count) {
+        if (Length + count > Buffer.length)
+            Buffer = Arrays.copyOf(Buffer, Math.max(Buffer.length * 2, Length + count));
+    }
+
+    /**
+     * Splits part of a frame into fields.
+     * @param frame     The frame.
+     * @param length    Number of bytes of frame to be split, e.g. without end delimiter and checksum.
+     * @param separator Field separator, e.g. ETB.
+     * @param charset   Character set for conversion of the fields.
+     * @return Fields between separators. As with String.split(separator, -1), trailing empty fields are included.
+     */
+    public static String[] split(byte[] frame, int length, byte separator, Charset charset) {
+        List<String> fields = new ArrayList<>();
+        int start = 0;
+        for (int i = 0; i < length; i++) {
+            if (frame[i] == separator) {
+                fields.add(new String(frame, start, i - start, charset));
+                start = i + 1;
+            }
+        }
+        fields.add(new String(frame, start, length - start, charset));
+        return fields.toArray(new String[0]);
+    }
+
+    /**
+     * Reader for frames that end with a specific byte, optionally followed by a fixed number of trailer bytes. The
+     * checksum covers all bytes of the frame before the end byte.
+     */
+    public static class Delimited extends FrameReader {
+        private final int Start;
+        private final byte End;
+        private final int TrailerLength;
+        private int EndOffset = -1;
+
+        /**
+         * Constructor.
+         * @param stream        IO processor to be used.
+         * @param start         Start byte, -1 if frames have no start byte.
+         * @param end           End byte.
+         * @param trailerLength Number of bytes following the end byte, e.g. 1 for a block check character.
+         * @param check         Checksum to be calculated, null if no checksum shall be calculated.
+         */
+        public Delimited(UniqueIOProcessor stream, int start, byte end, int trailerLength, Checksum check) {
+            super(stream, check);
+            Start = start;
+            End = end;
+            TrailerLength = trailerLength;
+        }
+
+        @Override
+        protected void startFrame() {
+            super.startFrame();
+            EndOffset = -1;
+        }
+
+        @Override
+        protected int scan() {
+            if (Scanned == 0 && Start >= 0) {
+                int i;
+                for (i = 0; i < Length && Buffer[i] != (byte) Start; i++) ;
+                discard(i);
+                if (Length == 0)
+                    return 0;
+            }
+            if (EndOffset < 0) {
+                int i;
+                for (i = Scanned; i < Length && Buffer[i] != End; i++) ;
+                checksum(Scanned, i);
+                Scanned = i;
+                if (i == Length)
+                    return 0;
+                EndOffset = i;
+            }
+            Scanned = Length;
+            return Length > EndOffset + TrailerLength ? EndOffset + TrailerLength + 1 : 0;
+        }
+    }
+
+    /**
+     * Reader for frames with the frame length at a fixed position of the frame header. The checksum covers all bytes
+     * of the frame except the trailer bytes.
+     */
+    public static class LengthPrefixed extends FrameReader {
+        private final int LengthOffset;
+        private final int LengthSize;
+        private final boolean BigEndian;
+        private final int Adjustment;
+        private final int TrailerLength;
+        private int FrameLength = 0;
+
+        /**
+         * Constructor.
+         * @param stream        IO processor to be used.
+         * @param lengthOffset  Offset of the length field within the frame.
+         * @param lengthSize    Size of the length field, 1 - 4 bytes.
+         * @param bigEndian     True if the most significant byte of the length field comes first.
+         * @param adjustment    Value to be added to the length field to get the total frame length, e.g. the size of
+         *                      header and trailer if the length field specifies the length of the payload only.
+         * @param trailerLength Number of bytes at the end of the frame not to be included in the checksum.
+         * @param check         Checksum to be calculated, null if no checksum shall be calculated.
+         */
+        public LengthPrefixed(UniqueIOProcessor stream, int lengthOffset, int lengthSize, boolean bigEndian, int adjustment, int trailerLength, Checksum check) {
+            super(stream, check);
+            LengthOffset = lengthOffset;
+            LengthSize = lengthSize;
+            BigEndian = bigEndian;
+            Adjustment = adjustment;
+            TrailerLength = trailerLength;
+        }
+
+        @Override
+        protected void startFrame() {
+            super.startFrame();
+            FrameLength = 0;
+        }
+
+        @Override
+        protected int scan() throws JposException {
+            if (FrameLength == 0) {
+                if (Length < LengthOffset + LengthSize)
+                    return 0;
+                long value = 0;
+                for (int i = 0; i < LengthSize; i++) {
+                    int b = Buffer[LengthOffset + (BigEndian ? i : LengthSize - 1 - i)] & 0xff;
+                    value = (value << 8) | b;
+                }
+                if (value + Adjustment < Math.max(LengthOffset + LengthSize, TrailerLength) || value + Adjustment > MaxFrameLength) {
+                    clear();
+                    throw new JposException(JPOS_E_FAILURE, "Invalid frame length: " + value);
+                }
+                FrameLength = (int) (value + Adjustment);
+            }
+            int end = Math.min(Length, FrameLength - TrailerLength);
+            if (end > Scanned)
+                checksum(Scanned, end);
+            Scanned = Math.max(Scanned, Math.min(Length, FrameLength));
+            return Length >= FrameLength ? FrameLength : 0;
+        }
+    }
+
+    /**
+     * Checksum that adds up all bytes as unsigned values.
+     */
+    public static class Sum implements Checksum {
+        private long Value = 0;
+
+        @Override
+        public void update(int b) {
+            Value += b & 0xff;
+        }
+
+        @Override
+        public void update(byte[] b, int off, int len) {
+            for (int i = off; i < off + len; i++)
+                Value += b[i] & 0xff;
+        }
+
+        @Override
+        public long getValue() {
+            return Value;
+        }
+
+        @Override
+        public void reset() {
+            Value = 0;
+        }
+    }
+
+    /**
+     * Checksum that combines all bytes via exclusive or, also known as block check character.
+     */
+    public static class Xor implements Checksum {
+        private int Value = 0;
+
+        @Override
+        public void update(int b) {
+            Value ^= b & 0xff;
+        }
+
+        @Override
+        public void update(byte[] b, int off, int len) {
+            for (int i = off; i < off + len; i++)
+                Value ^= b[i] & 0xff;
+        }
+
+        @Override
+        public long getValue() {
+            return Value;
+        }
+
+        @Override
+        public void reset() {
+            Value = 0;
+        }
+    }
+}
@@ -0,0 +1,240 @@
+/*
+ * Copyright 2026 Martin Conrad
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package de.gmxhome.conrad.jpos.jpos_base;
+
+import java.io.IOException;
+import java.nio.channels.*;
+import java.util.*;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import static de.gmxhome.conrad.jpos.jpos_base.SyncObject.INFINITE;
+
+/**
+ * Selector based IO reactor. One thread waits for all registered channels and calls the handler of a channel
+ * whenever the channel is ready for one of its registered operations. This allows IO processors to process
+ * incoming data without a thread of their own.<br>
+ * Handlers will be called by the reactor thread and must not block. Registration, changes of the registered
+ * operations and deregistration can be requested from any thread, they will be performed by the reactor thread
+ * between two calls of Selector.select().<br>
+ * If the selector has been closed or fails permanently, the reactor thread stops and the failed method of all
+ * registered handlers will be called. A stopped shared reactor will be replaced by a new one on the next call of
+ * getShared.
+ */
+public class IOReactor implements Runnable {
+    /**
+     * Handler for channels registered at an IOReactor.
+     */
+    public interface Handler {
+        /**
+         * Will be called by the reactor thread whenever the channel is ready for at least one of the registered
+         * operations. Must not block.
+         * @param key Selection key of the channel.
+         */
+        void ready(SelectionKey key);
+
+        /**
+         * Will be called once if the reactor stops because its selector failed. The handler will not be called
+         * again. The default implementation does nothing.
+         * @param error The exception that stopped the reactor.
+         */
+        default void failed(Exception error) {}
+    }
+
+    private static IOReactor Shared = null;
+
+    /**
+     * Retrieves the IOReactor shared by all IO processors within the JVM. The reactor will be created on first use.
+     * @return The shared IOReactor.
+     * @throws IOException If the selector cannot be opened.
+     */
+    public static synchronized IOReactor getShared() throws IOException {
+        if (Shared == null || Shared.Stopped)
+            Shared = new IOReactor("SharedIOReactor");
+        return Shared;
+    }
+
+    private final Selector TheSelector;
+    private final Thread TheThread;
+    private final Queue<Runnable> Tasks = new ConcurrentLinkedQueue<>();
+
+    // Handlers of all registered channels. Access while holding Handlers, which synchronizes Stopped as well.
+    private final Map<SelectableChannel, Handler> Handlers = new HashMap<>();
+    private volatile boolean Stopped = false;
+
+    /**
+     * Number of consecutive select failures that stop the reactor.
+     */
+    private static final int MaxSelectFailures = 10;
+
+    /**
+     * Constructor. Opens the selector and starts the reactor thread as daemon thread.
+     * @param name Name of the reactor thread.
+     * @throws IOException If the selector cannot be opened.
+     */
+    public IOReactor(String name) throws IOException {
+        TheSelector = Selector.open();
+        TheThread = new Thread(this, name);
+        TheThread.setDaemon(true);
+        TheThread.start();
+    }
+
+    /**
+     * Registers a channel. The channel will be switched to non-blocking mode.
+     * @param channel Channel to be registered.
+     * @param ops     Operations the handler shall be called for, see SelectionKey.
+     * @param handler Handler to be called whenever the channel is ready for one of the given operations.
+     * @throws IOException If the reactor has been stopped or the channel cannot be switched to non-blocking mode.
+     */
+    public void register(SelectableChannel channel, int ops, Handler handler) throws IOException {
+        if (Stopped)
+            throw new IOException("IOReactor stopped");
+        channel.configureBlocking(false);
+        execute(() -> {
+            try {
+                channel.register(TheSelector, ops, handler);
+                synchronized (Handlers) {
+                    Handlers.put(channel, handler);
+                }
+            } catch (ClosedChannelException ignored) {
+            } catch (ClosedSelectorException e) {
+                handler.failed(e);      // Reactor stopped meanwhile
+            }
+        });
+    }
+
+    /**
+     * Changes the operations the handler of a registered channel shall be called for. Can be used to suspend and
+     * resume processing of a channel, e.g. if the consumer of incoming data cannot keep up.
+     * @param channel Registered channel.
+     * @param ops     Operations the handler shall be called for, see SelectionKey.
+     */
+    public void setInterest(SelectableChannel channel, int ops) {
+        execute(() -> {
+            SelectionKey key = channel.keyFor(TheSelector);
+            if (key != null && key.isValid())
+                key.interestOps(ops);
+        });
+    }
+
+    /**
+     * Removes a channel from the reactor. When the method returns, the handler of the channel is not running and will
+     * not be called again.
+     * @param channel Channel to be removed.
+     */
+    public void unregister(SelectableChannel channel) {
+        SyncObject done = new SyncObject();
+        execute(() -> {
+            SelectionKey key = channel.keyFor(TheSelector);
+            if (key != null)
+                key.cancel();
+            synchronized (Handlers) {
+                Handlers.remove(channel);
+            }
+            done.signal();
+        });
+        if (Thread.currentThread() != TheThread)
+            done.suspend(INFINITE);
+    }
+
+    private void execute(Runnable task) {
+        if (Thread.currentThread() == TheThread)
+            task.run();
+        else {
+            Tasks.add(task);
+            synchronized (Handlers) {
+                if (!Stopped) {
+                    TheSelector.wakeup();
+                    return;
+                }
+            }
+            runTasks();     // No reactor thread anymore, e.g. to finish unregister
+        }
+    }
+
+    private void runTasks() {
+        Runnable task;
+        while ((task = Tasks.poll()) != null) {
+            try {
+                task.run();
+            } catch (Throwable e) {
+                e.printStackTrace();
+            }
+        }
+    }
+
+    @Override
+    public void run() {
+        Exception error = null;
+        int failures = 0;
+        while (error == null) {
+            try {
+                TheSelector.select();
+                failures = 0;
+                runTasks();
+                Iterator<SelectionKey> keys = TheSelector.selectedKeys().iterator();
+                while (keys.hasNext()) {
+                    SelectionKey key = keys.next();
+                    keys.remove();
+                    try {
+                        if (key.isValid())
+                            ((Handler) key.attachment()).ready(key);
+                    } catch (Throwable e) {
+                        e.printStackTrace();
+                    }
+                }
+            } catch (ClosedSelectorException e) {
+                error = e;
+            } catch (Exception e) {
+                e.printStackTrace();
+                if (++failures >= MaxSelectFailures)
+                    error = e;
+                else {
+                    try {
+                        Thread.sleep(10L * failures);
+                    } catch (InterruptedException ignored) {}
+                }
+            }
+        }
+        stop(error);
+    }
+
+    /**
+     * Stops the reactor after a permanent selector failure: Closes the selector, performs pending tasks and informs
+     * all registered handlers.
+     * @param error The exception that stopped the reactor.
+     */
+    private void stop(Exception error) {
+        List<Handler> handlers;
+        synchronized (Handlers) {
+            Stopped = true;
+            handlers = new ArrayList<>(Handlers.values());
+            Handlers.clear();
+        }
+        try {
+            TheSelector.close();
+        } catch (IOException ignored) {}
+        runTasks();
+        for (Handler handler : handlers) {
+            try {
+                handler.failed(error);
+            } catch (Throwable e) {
+                e.printStackTrace();
+            }
+        }
+    }
+}
@@ -23,6 +23,8 @@ import jpos.services.EventCallbacks;
 import java.lang.reflect.Array;
 import java.lang.reflect.Field;
 import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static de.gmxhome.conrad.jpos.jpos_base.JposCommonProperties.*;
 import static de.gmxhome.conrad.jpos.jpos_base.JposDevice.*;
@@ -93,8 +95,10 @@ public class JposBase implements BaseService {
             for (SynchronizedMessageBox msg : ActiveMessageBoxes)
                 msg.abortDialog();
         }
-        synchronized(Device.AsyncProcessorRunning) {
-            Device.PendingCommands.clear();
+        synchronized(Props.RequestSync) {
+            synchronized(Device.AsyncProcessorRunning) {
+                Device.PendingCommands.clear();
+            }
         }
         Props.EventSource = null;
         Props.Device = null;
@@ -117,6 +121,8 @@ public class JposBase implements BaseService {
      * @param propertyName Name of the property.
      */
     public void logGet(Object obj, String propertyName) {
+        if (!Device.isLoggable(DEBUG))
+            return;
         try {
             Device.log(DEBUG, Props.LogicalName + ": " + propertyName + ": " + getPropertyString(obj, propertyName));
         } catch (Exception e) {
@@ -137,13 +143,39 @@ public class JposBase implements BaseService {
      * @throws Exception    Getter not available.
      */
     public String getPropertyString(Object obj, String propertyName) throws Exception {
-        Field  property;
-        try {
-            property = obj.getClass().getField(propertyName);
-        } catch (Exception e) {
-            (property = obj.getClass().getDeclaredField(propertyName)).setAccessible(true);
+        Object value = getPropertyAccessor(obj.getClass(), propertyName).get(obj);
+        return removeOuterArraySpecifier(value, Device.MaxArrayStringElements);
+    }
+
+    // Property accessors, one map per class, keyed by property name. Each accessor is an accessible field.
+    private static final ClassValue<Map<String, Field>> PropertyAccessors = new ClassValue<Map<String, Field>>() {
+        @Override
+        protected Map<String, Field> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    /**
+     * Retrieves a getter for the named field of the given class. Public fields of the class and its super classes will
+     * be preferred, otherwise a field declared by the class itself will be used. The field will be looked up and made
+     * accessible once per class and property name and will be reused for all further calls.
+     * @param type          Class that contains the requested property.
+     * @param propertyName  Name of the requested property.
+     * @return              Field that holds the property value, accessible via its get method.
+     * @throws Exception    Field not available.
+     */
+    protected static Field getPropertyAccessor(Class<?> type, String propertyName) throws Exception {
+        Map<String, Field> accessors = PropertyAccessors.get(type);
+        Field accessor = accessors.get(propertyName);
+        if (accessor == null) {
+            try {
+                accessor = type.getField(propertyName);
+            } catch (Exception e) {
+                (accessor = type.getDeclaredField(propertyName)).setAccessible(true);
+            }
+            accessors.put(propertyName, accessor);
         }
-        return removeOuterArraySpecifier(property.get(obj), Device.MaxArrayStringElements);
+        return accessor;
     }
 
     /**
@@ -179,11 +211,26 @@ public class JposBase implements BaseService {
         int max = Array.getLength(value);
         int limit = Math.min(max, maxlen);
         for (int i = 0; i < limit; i++) {
-            Object component = Array.get(value, i);
-            String componentString = deepToString(component, maxlen);
             if (0 != i)
                 valueString.append(",");
-            valueString.append(componentString);
+            if (value instanceof Object[])
+                valueString.append(deepToString(((Object[]) value)[i], maxlen));
+            else if (value instanceof int[])
+                valueString.append(((int[]) value)[i]);
+            else if (value instanceof byte[])
+                valueString.append(((byte[]) value)[i]);
+            else if (value instanceof long[])
+                valueString.append(((long[]) value)[i]);
+            else if (value instanceof boolean[])
+                valueString.append(((boolean[]) value)[i]);
+            else if (value instanceof char[])
+                valueString.append(((char[]) value)[i]);
+            else if (value instanceof short[])
+                valueString.append(((short[]) value)[i]);
+            else if (value instanceof double[])
+                valueString.append(((double[]) value)[i]);
+            else
+                valueString.append(((float[]) value)[i]);
         }
         if (limit < max)
             valueString.append(",...}");
@@ -197,7 +244,7 @@ public class JposBase implements BaseService {
      * @param propertyName Name of property to be set.
      */
     public void logPreSet(String propertyName) {
-        Device.log(DEBUG, Props.LogicalName + ": Enter set" + propertyName + "...");
+        Device.log(DEBUG, () -> Props.LogicalName + ": Enter set" + propertyName + "...");
     }
 
     /**
@@ -205,6 +252,8 @@ public class JposBase implements BaseService {
      * @param propertyName Name of property to be set.
      */
     public void logSet(String propertyName) {
+        if (!Device.isLoggable(INFO))
+            return;
         try {
             Device.log(INFO, Props.LogicalName + ": " + propertyName + " <- " + getPropertyString(Props, propertyName));
         } catch (Exception e) {
@@ -218,7 +267,18 @@ public class JposBase implements BaseService {
      * @param args String specifying the parameters passed to the method.
      */
     public void logPreCall(String method, String args) {
-        Device.log(DEBUG, Props.LogicalName + ": Enter " + method + "(" + args + ")...");
+        Device.log(DEBUG, () -> Props.LogicalName + ": Enter " + method + "(" + args + ")...");
+    }
+
+    /**
+     * Generates logging message before named method will be called. The parameter dump will be built only if the
+     * message will be logged.
+     * @param method Method name.
+     * @param args   Parameters passed to the method, converted via removeOuterArraySpecifier.
+     */
+    public void logPreCall(String method, Object[] args) {
+        Device.log(DEBUG, () -> Props.LogicalName + ": Enter " + method + "(" +
+                removeOuterArraySpecifier(args, Device.MaxArrayStringElements) + ")...");
     }
 
     /**
@@ -226,7 +286,7 @@ public class JposBase implements BaseService {
      * @param method Method name.
      */
     public void logPreCall(String method) {
-        Device.log(DEBUG, Props.LogicalName + ": Enter " + method + "()...");
+        Device.log(DEBUG, () -> Props.LogicalName + ": Enter " + method + "()...");
     }
 
     /**
@@ -235,7 +295,18 @@ public class JposBase implements BaseService {
      * @param args   empty string or comma separated list of arguments.
      */
     public void logCall(String method, String args) {
-        Device.log(INFO, Props.LogicalName + ": " + method + "(" + args + ") successful.");
+        Device.log(INFO, () -> Props.LogicalName + ": " + method + "(" + args + ") successful.");
+    }
+
+    /**
+     * Generate logging message after successful method call. The parameter dump will be built only if the message
+     * will be logged.
+     * @param method Method name.
+     * @param args   Parameters of the method, converted via removeOuterArraySpecifier.
+     */
+    public void logCall(String method, Object[] args) {
+        Device.log(INFO, () -> Props.LogicalName + ": " + method + "(" +
+                removeOuterArraySpecifier(args, Device.MaxArrayStringElements) + ") successful.");
     }
 
     /**
@@ -243,7 +314,7 @@ public class JposBase implements BaseService {
      * @param method Method name.
      */
     public void logCall(String method) {
-        Device.log(INFO, Props.LogicalName + ": " + method + " successful.");
+        Device.log(INFO, () -> Props.LogicalName + ": " + method + " successful.");
     }
 
     /**
@@ -251,7 +322,7 @@ public class JposBase implements BaseService {
      * @param method Method name.
      */
     public void logAsyncCall(String method) {
-        Device.log(INFO, Props.LogicalName + ": " + method + " enqueued successfully.");
+        Device.log(INFO, () -> Props.LogicalName + ": " + method + " enqueued successfully.");
     }
 
     /**
@@ -646,7 +717,7 @@ public class JposBase implements BaseService {
         check(firmwareFileName == null, JPOS_E_ILLEGAL, "Missing firmwareFileName");
         check(result == null || result.length == 0, JPOS_E_ILLEGAL, "Missing result");
         DeviceInterface.compareFirmwareVersion(firmwareFileName, result);
-        logCall("compareFirmwareVersion", removeOuterArraySpecifier(new Object[]{firmwareFileName, result}, Device.MaxArrayStringElements));
+        logCall("compareFirmwareVersion", new Object[]{firmwareFileName, result});
     }
 
     /**
@@ -655,7 +726,7 @@ public class JposBase implements BaseService {
      * @throws JposException See UPOS specification, method updateFirmware
      */
     public void updateFirmware(String firmwareFileName) throws JposException {
-        logPreCall("UpdateFirmware", removeOuterArraySpecifier(new Object[]{firmwareFileName}, Device.MaxArrayStringElements));
+        logPreCall("UpdateFirmware", new Object[]{firmwareFileName});
         checkEnabled();
         check(!Device.CapUpdateFirmware, JPOS_E_ILLEGAL, "Device does not support update firmware");
         check(firmwareFileName == null, JPOS_E_ILLEGAL, "Missing firmwareFileName");
@@ -676,7 +747,7 @@ public class JposBase implements BaseService {
     public void resetStatistics(String statisticsBuffer) throws JposException {
         if (statisticsBuffer == null)
             statisticsBuffer = "";
-        logPreCall("ResetStatistics", removeOuterArraySpecifier(new Object[]{statisticsBuffer}, Device.MaxArrayStringElements));
+        logPreCall("ResetStatistics", new Object[]{statisticsBuffer});
         checkEnabled();
         check(!Props.CapUpdateStatistics || !Props.CapStatisticsReporting, JPOS_E_ILLEGAL, "Device does not support resetting statistics");
         DeviceInterface.resetStatistics(statisticsBuffer);
@@ -689,14 +760,14 @@ public class JposBase implements BaseService {
      * @throws JposException See UPOS specification, method retrieveStatistics
      */
     public void retrieveStatistics(String[] statisticsBuffer) throws JposException {
-        logPreCall("RetrieveStatistics", removeOuterArraySpecifier(new Object[]{"..."}, Device.MaxArrayStringElements));
+        logPreCall("RetrieveStatistics", new Object[]{"..."});
         if (statisticsBuffer != null && statisticsBuffer[0] == null)
             statisticsBuffer[0] = "";
         checkEnabled();
         check(!Props.CapStatisticsReporting, JPOS_E_ILLEGAL, "Device does not support retrieving statistics");
         check(statisticsBuffer == null, JPOS_E_ILLEGAL, "Missing statisticsBuffer");
         DeviceInterface.retrieveStatistics(statisticsBuffer);
-        logCall("RetrieveStatistics", removeOuterArraySpecifier(new Object[]{statisticsBuffer[0]}, Device.MaxArrayStringElements));
+        logCall("RetrieveStatistics", new Object[]{statisticsBuffer[0]});
     }
 
     /**
@@ -705,7 +776,7 @@ public class JposBase implements BaseService {
      * @throws JposException See UPOS specification, method updateStatistics
      */
     public void updateStatistics(String statisticsBuffer) throws JposException {
-        logPreCall("UpdateStatistics", removeOuterArraySpecifier(new Object[]{statisticsBuffer}, Device.MaxArrayStringElements));
+        logPreCall("UpdateStatistics", new Object[]{statisticsBuffer});
         if (statisticsBuffer == null)
             statisticsBuffer = "";
         checkEnabled();
@@ -838,7 +909,7 @@ public class JposBase implements BaseService {
 
     @Override
     public void claim(int timeout) throws JposException {
-        logPreCall("Claim", removeOuterArraySpecifier(new Object[]{timeout}, Device.MaxArrayStringElements));
+        logPreCall("Claim", new Object[]{timeout});
         checkOpened();
         check(Props.Claimed, JPOS_E_CLAIMED, "Device just claimed");
         check(Props.ExclusiveUse == ExclusiveNo, JPOS_E_ILLEGAL, "Device always shareable");
@@ -909,11 +980,12 @@ public class JposBase implements BaseService {
             release();
         DeviceInterface.close();
         logCall("Close");
+        Device.flushLog();
     }
 
     @Override
     public void checkHealth(int level) throws JposException {
-        logPreCall("CheckHealth", removeOuterArraySpecifier(new Object[]{level}, Device.MaxArrayStringElements));
+        logPreCall("CheckHealth", new Object[]{level});
         checkEnabled();
         DeviceInterface.checkHealth(level);
         logCall("CheckHealth");
@@ -921,7 +993,7 @@ public class JposBase implements BaseService {
 
     @Override
     public void directIO(int command, int[] data, Object object) throws JposException {
-        logPreCall("DirectIO", removeOuterArraySpecifier(new Object[]{command, data, object}, Device.MaxArrayStringElements));
+        logPreCall("DirectIO", new Object[]{command, data, object});
         check(data != null && data.length != 1, JPOS_E_ILLEGAL, "Data invalid, must be int[1]: " + deepToString(data, 5));
         DirectIO request = DeviceInterface.directIO(command, data, object);
         if (request != null) {
@@ -929,12 +1001,12 @@ public class JposBase implements BaseService {
             logAsyncCall("DirectIO");
             return;
         }
-        logCall("DirectIO", removeOuterArraySpecifier(new Object[]{command, data, object}, Device.MaxArrayStringElements));
+        logCall("DirectIO", new Object[]{command, data, object});
     }
 
     @Override
     public void open(String logicalName, EventCallbacks eventCallbacks) throws JposException {
-        Device.log(DEBUG, removeOuterArraySpecifier(new Object[]{logicalName, eventCallbacks.getClass().getName()}, Device.MaxArrayStringElements));
+        Device.log(DEBUG, () -> removeOuterArraySpecifier(new Object[]{logicalName, eventCallbacks.getClass().getName()}, Device.MaxArrayStringElements));
         Props.LogicalName = logicalName;
         Props.EventCB = eventCallbacks;
         try {
@@ -22,6 +22,9 @@ import jpos.events.*;
 
 import java.lang.reflect.Constructor;
 import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
 
 import jpos.services.*;
 import net.bplaced.conrad.log4jpos.*;
@@ -78,21 +81,55 @@ import static net.bplaced.conrad.log4jpos.Level.*;
  *     <br>However, even if set, the individual service implementation can decide to throw a JposException whenever the
  *     application tries to change a writable property until the device has been claimed, but only if not set, the service
  *     method <i>checkOpenNotClaimed</i> will throw the JposException without calling the device specific set method.</li>
+ *     <li>BitmapCacheSize: For all POSPrinter devices, the maximum number of bitmaps converted to raster format that
+ *     will be kept by the service, see POSPrinterService method getRasterBitmap. Each entry keeps the raster data of one
+ *     bitmap, up to height * line width / 8 bytes, and for memory bitmaps the source data as well. Cache hits and misses
+ *     will be reported as manufacturer specific statistics BitmapCacheHits and BitmapCacheMisses if the device supports
+ *     statistics reporting. Default: 0 (no cache).</li>
+ *     <li>BitmapStripes: For all POSPrinter devices, the number of horizontal stripes of a bitmap that will be
+ *     converted to raster format in parallel. Default: 1 (no parallel conversion).</li>
  *     <li>DrawerBeepVolume: For all CashDrawer devices, a beep volume between 0 and 127 can be specified. Default is
  *     implementation specific.</li>
+ *     <li>EventDeliveryMode: Specifies how threads for event delivery will be provided. One of <b>Thread</b> (a new
+ *     thread for each event processor and each confirmation event callback), <b>DevicePool</b> (threads of a cached
+ *     thread pool owned by the device), <b>SharedPool</b> (threads of a cached thread pool shared by all devices
+ *     within the JVM) or <b>Virtual</b> (virtual threads, if supported by the JVM, otherwise same as SharedPool).
+ *     Default: Thread.</li>
  *     <li>LoggerName: Name of the logger. See Log4j specification for more details.</li>
  *     <li>LoggerFormat: Layout pattern, if not set, SimpleLayout will be used. See Log4j specification for more details.</li>
  *     <li>LogFilePath: Path of log file.</li>
  *     <li>LogFilePattern: If set, file pattern for DailyRollingFileAppender, otherwise FileAppender will be used.
  *     See Log4j specification for more details.</li>
+ *     <li>LoggerQueuePolicy: Specifies what happens when the logging queue is full. One of <b>Block</b> (the caller
+ *     waits until the logging thread has written enough messages) or <b>Drop</b> (the message will be discarded and
+ *     counted). Default: Block.</li>
+ *     <li>LoggerQueueSize: If greater than zero, logging messages will be put into a queue with the given capacity and
+ *     written in batches by a separate logging thread. Default: 0 (messages will be written by the caller). Time stamp
+ *     and thread name passed to the appenders are those of the caller.</li>
  *     <li>LogLevel: One of <b>all</b>, <b>trace</b>, <b>debug</b>, <b>info</b>, <b>warn</b>, <b>error</b>, <b>fatal</b>
  *     or <b>off</b>. Specifies the logging level. See Log4pos specification for more details.</li>
  *     <li>MaxArrayStringElements: Specifies the maximum number of elements of an object to be logged that are fully logged.
  *     If an object to be logged has more elements, the remaining elements will be logged as "...".</li>
+ *     <li>MaxPooledRequests: Maximum number of requests waiting for a pool thread if RequestExecutionMode is
+ *     <b>Pool</b>. If reached, further asynchronous requests will be rejected with error code E_BUSY. Default: 100.</li>
+ *     <li>MaxRequestThreads: Maximum number of pool threads used for concurrent request processing if
+ *     RequestExecutionMode is <b>Pool</b>. If all pool threads are busy, further requests wait in the queue of the
+ *     pool, see MaxPooledRequests. Default: 4.</li>
  *     <li>MaximumConfirmationEventWaitingTime: Specifies the maximum time an event callback may block event handling.
  *     Default: FOREVER. <b>KEEP IN MIND:</b> Setting this property to a different value leads to a service that does
  *     not fully fulfill the requirements of the UPOS specification: Running more than one event handler callback
  *     becomes possible.</li>
+ *     <li>PrintDataCacheSize: For all POSPrinter devices, the service keeps the parsed print data of the given number
+ *     of most recently used print strings if greater than zero. Repeated strings, e.g. receipt headers and trailers,
+ *     will not be parsed again and ValidateData skips the capability checks for them. The device specific validateData
+ *     methods will be called anyway. Lists returned by POSPrinterService method outputDataParts will be unmodifiable in
+ *     this case. Cache hits and misses will be reported as manufacturer specific statistics PrintDataCacheHits and
+ *     PrintDataCacheMisses if the device supports statistics reporting. Default: 0 (no cache).</li>
+ *     <li>RequestExecutionMode: Specifies how threads for concurrent request processing will be provided. One of
+ *     <b>Thread</b> (a new thread for each request), <b>Pool</b> (threads of a pool owned by the device with at most
+ *     MaxRequestThreads threads and at most MaxPooledRequests waiting requests, a new thread for each long-running
+ *     request) or <b>Virtual</b> (virtual threads, if supported by the JVM, otherwise same as Pool). Default: Thread.
+ *     Only relevant for devices that support concurrent request processing.</li>
  *     <li>SerialIOAdapterClass: Name of the SerialIOAdapter class. No default, must be set if serial communication shall
  *     be used. The following adapter classes have been implemented:
  *     <ul>
@@ -102,9 +139,22 @@ import static net.bplaced.conrad.log4jpos.Level.*;
  *         <li>de.gmxhome.conrad.jSSC.JSSCSerial: Serial IO implementation using jSSC framework.</li>
  *     </ul>
  *     </li>
+ *     <li>SharedIOReactor: If true, UDP IO processors of the device will not start a reader thread of their own.
+ *     Instead, all of them will be served by one IOReactor shared within the JVM. Default: false.</li>
  *     <li>StrictFIFOEventHandling: If true, all events will be delivered in the same sequence as they have been fired.
  *     If false, data end input error events can be bypassed by other events as long as DataEventEnabled and
  *     FreezeEvents are false. Default is false.</li>
+ *     <li>TcpKeepAlive: If true, TCP IO processors enable TCP keep-alive (SO_KEEPALIVE). Default: false.</li>
+ *     <li>TcpNoDelay: If true, TCP IO processors disable Nagle's algorithm (TCP_NODELAY). Default: false.</li>
+ *     <li>TcpReconnectDelay: If greater than zero, a TCP IO processor will not try to connect again for the given
+ *     number of milliseconds after a connect failed. The delay doubles with each further failure up to
+ *     TcpReconnectMaxDelay and will be reset after a successful connect. Default: 0 (no delay).</li>
+ *     <li>TcpReconnectMaxDelay: Maximum connect delay, see TcpReconnectDelay. Default: 30000.</li>
+ *     <li>UdpInputCapacity: Maximum number of received UDP frames buffered by a UDP IO processor. Default: 1000.</li>
+ *     <li>UdpInputHighWater: If the number of buffered UDP frames reaches this value, receiving will be suspended until
+ *     the number falls to UdpInputLowWater or below. Must not be greater than UdpInputCapacity. If 0, receiving will
+ *     never be suspended and frames that do not fit into the buffer will be discarded. Default: UdpInputCapacity.</li>
+ *     <li>UdpInputLowWater: See UdpInputHighWater. Must be less than UdpInputHighWater. Default: UdpInputHighWater / 2.</li>
  * </ul>
  */
 public class JposBaseDevice {
@@ -178,18 +228,88 @@ public class JposBaseDevice {
      */
     public String LoggerFormat;
 
+    /**
+     * If true, IO processors that support it use the IOReactor shared within the JVM instead of a reader thread of
+     * their own. Default: false. Can be changed via jpos.xml.
+     */
+    public boolean SharedIOReactor = false;
+
+    /**
+     * If true, TCP IO processors enable TCP keep-alive. Default: false. Can be changed via jpos.xml.
+     */
+    public boolean TcpKeepAlive = false;
+
+    /**
+     * If true, TCP IO processors disable Nagle's algorithm. Default: false. Can be changed via jpos.xml.
+     */
+    public boolean TcpNoDelay = false;
+
+    /**
+     * Initial delay in milliseconds before a TCP IO processor tries to connect again after a connect failed, 0 for
+     * no delay. Default: 0. Can be changed via jpos.xml.
+     */
+    public int TcpReconnectDelay = 0;
+
+    /**
+     * Maximum delay in milliseconds before a TCP IO processor tries to connect again after a connect failed. Default:
+     * 30000. Can be changed via jpos.xml.
+     */
+    public int TcpReconnectMaxDelay = 30000;
+
+    /**
+     * Maximum number of frames buffered by UDP IO processors. Default: 1000. Can be changed via jpos.xml.
+     */
+    public int UdpInputCapacity = 1000;
+
+    /**
+     * Number of frames buffered by UDP IO processors that suspends receiving. If 0, receiving will never be suspended
+     * and frames that do not fit into the buffer will be discarded. Default: 1000. Can be changed via jpos.xml.
+     */
+    public int UdpInputHighWater = 1000;
+
+    /**
+     * Number of frames buffered by UDP IO processors at or below which suspended receiving continues. Default:
+     * UdpInputHighWater / 2 (500). Can be changed via jpos.xml.
+     */
+    public int UdpInputLowWater = 500;
+
+    /**
+     * Capacity of the logging queue. If greater than zero, logging messages will be written asynchronously by a
+     * separate logging thread. Default: 0 (synchronous logging). Can be changed via jpos.xml.
+     */
+    public int LoggerQueueSize = 0;
+
+    /**
+     * LoggerQueuePolicy value: The logging caller waits until there is room in the logging queue.
+     */
+    public static final int LoggerQueueBlock = 0;
+
+    /**
+     * LoggerQueuePolicy value: Logging messages that do not fit into the logging queue will be discarded.
+     */
+    public static final int LoggerQueueDrop = 1;
+
+    /**
+     * Policy to be used if the logging queue is full, LoggerQueueBlock or LoggerQueueDrop. Default: LoggerQueueBlock.
+     * Can be changed via jpos.xml.
+     */
+    public int LoggerQueuePolicy = LoggerQueueBlock;
+
     /**
      * Maximum number of array elements used for its string representation. Default: 100. Can be changed via jpos.xml.
      */
     public int MaxArrayStringElements = 100;
 
     /**
-     * List holds all outstanding output requests.
+     * List holds all outstanding output requests. Requests can be counted and removed per property set without
+     * scanning the requests of other property sets.
      */
-    public List<JposOutputRequest> PendingCommands = new ArrayList<>();
+    public final PendingRequestList PendingCommands = new PendingRequestList();
 
     /**
      * Flag that signals whether the processor for asynchronous commands is running. Used for synchronization purposes.
+     * Whenever the request state of a property set will be changed, the RequestSync object of that property set must
+     * be locked before this object.
      */
     public final JposOutputRequest.JposRequestThread[] AsyncProcessorRunning = {null};
 
@@ -208,12 +328,14 @@ public class JposBaseDevice {
      */
     public void invokeRequestThread(JposOutputRequest request, Class<?> immediate) {
         if (immediate != null) {
-            int index;
-            for (index = 0; index < PendingCommands.size(); index++) {
-                if (!immediate.isInstance(PendingCommands.get(index)))
+            ListIterator<JposOutputRequest> it = PendingCommands.listIterator();
+            while (it.hasNext()) {
+                if (!immediate.isInstance(it.next())) {
+                    it.previous();
                     break;
+                }
             }
-            PendingCommands.add(index, request);
+            it.add(request);
         } else
             PendingCommands.add(request);
         if (AsyncProcessorRunning[0] == null) {
@@ -235,15 +357,127 @@ public class JposBaseDevice {
         return false;
     }
 
+    /**
+     * Value for RequestExecutionMode: A new thread will be created for each concurrently processed request.
+     */
+    public static final int RequestExecutionThread = 0;
+
+    /**
+     * Value for RequestExecutionMode: Concurrently processed requests will be executed by a thread pool owned by the
+     * device. The maximum number of pool threads is specified by MaxRequestThreads. If all pool threads are busy,
+     * requests wait in the queue of the pool. If MaxPooledRequests requests are waiting, further asynchronous requests
+     * will be rejected. Long-running requests as specified by method isLongRunningRequest, e.g. sound playback or
+     * input requests, get a new thread as in mode RequestExecutionThread because they would block a pool thread for
+     * an unpredictable time.
+     */
+    public static final int RequestExecutionPool = 1;
+
+    /**
+     * Value for RequestExecutionMode: Concurrently processed requests will be executed by virtual threads. If the JVM
+     * does not support virtual threads, RequestExecutionPool will be used instead.
+     */
+    public static final int RequestExecutionVirtual = 2;
+
+    /**
+     * Specifies how threads for concurrent request processing will be provided. One of RequestExecutionThread,
+     * RequestExecutionPool or RequestExecutionVirtual. Default: RequestExecutionThread. Can be changed via jpos.xml
+     * property RequestExecutionMode.<br>
+     * In all modes except RequestExecutionThread, requests that must be serialized within their service will not be
+     * started before the previous serialized request of the service has been finished. Therefore, aborting such a
+     * request waits until all previous serialized requests of the service have been finished.
+     */
+    public int RequestExecutionMode = RequestExecutionThread;
+
+    /**
+     * Maximum number of pool threads used for concurrent request processing if RequestExecutionMode is
+     * RequestExecutionPool. Requests that find all pool threads busy wait in the queue of the pool. Default: 4. Can be
+     * changed via jpos.xml property MaxRequestThreads.
+     */
+    public int MaxRequestThreads = 4;
+
+    /**
+     * Maximum number of requests waiting for a pool thread if RequestExecutionMode is RequestExecutionPool. If reached,
+     * further asynchronous requests will be rejected with error code E_BUSY. Synchronous requests and requests that
+     * will be started after their predecessor has been finished or after an error has been retried will be queued
+     * anyway. Default: 100. Can be changed via jpos.xml property MaxPooledRequests.
+     */
+    public int MaxPooledRequests = 100;
+
+    // Executor for concurrent request processing, will be created on first use and shut down when the device will
+    // be removed.
+    private ExecutorService RequestExecutor = null;
+
     /**
      * Starts a new thread for concurrent asynchronous processing and adds it to the CurrentCommands list of the
-     * property set the request belongs to.
+     * property set the request belongs to. If RequestExecutionMode is not RequestExecutionThread, the request will be
+     * passed to the request executor instead of starting a new thread.
      * @param request   Request to be invoked.
      */
     public void createConcurrentRequestThread(JposOutputRequest request) {
         request.Props.CurrentCommands.add(request);
         RequestRunner runner = new RequestRunner(request);
-        new JposOutputRequest.JposRequestThread(runner, request).start();
+        if (RequestExecutionMode == RequestExecutionThread)
+            new JposOutputRequest.JposRequestThread(runner, request).start();
+        else if (!runner.Serialized || request.Props.SerializedRequestRunner == runner)
+            startRequestRunner(runner);
+    }
+
+    /**
+     * Method which checks whether a request processed concurrently may take a long or unpredictable time, e.g. because
+     * it waits for input or plays sound. If RequestExecutionMode is RequestExecutionPool, such requests get a new
+     * thread instead of blocking a pool thread. This default implementation returns true for input requests. Override
+     * this method in derived classes with other long-running requests.
+     *
+     * @param request Request to be checked.
+     * @return  true if the request shall not be executed by a pool thread.
+     */
+    public boolean isLongRunningRequest(JposOutputRequest request) {
+        return request instanceof JposInputRequest;
+    }
+
+    /**
+     * Checks whether the given request would exceed MaxPooledRequests if it would be passed to the request pool. Must
+     * be called while holding the AsyncProcessorRunning lock.
+     * @param request   Request to be checked.
+     * @return  true if the request would wait for a pool thread and MaxPooledRequests requests are waiting already.
+     */
+    boolean requestPoolFull(JposOutputRequest request) {
+        if (!(RequestExecutor instanceof ThreadPoolExecutor) || isLongRunningRequest(request))
+            return false;
+        Boolean concurrent = concurrentProcessingSupported(request);
+        return (concurrent == null || concurrent) &&
+                ((ThreadPoolExecutor) RequestExecutor).getQueue().size() >= MaxPooledRequests;
+    }
+
+    /**
+     * Passes a request runner to the request executor as specified by RequestExecutionMode. While running, the
+     * executing thread has the same name as a JposRequestThread for the runner. Long-running requests get a new thread
+     * if the executor is a thread pool.
+     * @param runner    Runner to be started.
+     */
+    void startRequestRunner(RequestRunner runner) {
+        String name = JposOutputRequest.JposRequestThread.getThreadName(runner, runner.Request);
+        synchronized (AsyncProcessorRunning) {
+            if (RequestExecutor == null) {
+                if (RequestExecutionMode == RequestExecutionVirtual)
+                    RequestExecutor = newVirtualThreadExecutor();
+                if (RequestExecutor == null) {
+                    // The queue is not limited here: enqueue rejects new asynchronous requests when MaxPooledRequests
+                    // requests are waiting, but requests whose predecessor has been finished must not get lost.
+                    ThreadPoolExecutor pool = new ThreadPoolExecutor(MaxRequestThreads, MaxRequestThreads, 60,
+                            TimeUnit.SECONDS, new LinkedBlockingQueue<>(), newDaemonThreadFactory(ID + ".RequestPool"));
+                    pool.allowCoreThreadTimeOut(true);
+                    RequestExecutor = pool;
+                }
+            }
+            if (!(RequestExecutor instanceof ThreadPoolExecutor) || !isLongRunningRequest(runner.Request)) {
+                try {
+                    RequestExecutor.execute(namedTask(runner, name));
+                    return;
+                } catch (RejectedExecutionException ignore) {}  // Executor shut down, device will be removed
+            }
+        }
+        new JposOutputRequest.JposRequestThread(runner, runner.Request).start();
     }
 
     /**
@@ -299,16 +533,21 @@ public class JposBaseDevice {
             if (Request.Abort == null)
                 Request.catchedInvocation();
             boolean processed = Request.finishAsyncProcessing();
-            synchronized (AsyncProcessorRunning) {
-                if (processed)
-                    Request.Props.CurrentCommands.remove(Request);
-                if (Request.Props.SerializedRequestRunner == this) {
-                    if (Request.Props.SerializedRequests.size() > 0) {
-                        Request.Props.SerializedRequestRunner = Request.Props.SerializedRequests.get(0);
-                        getRequestRunnersRequest(Request.Props.SerializedRequestRunner).Waiting.signal();
-                        Request.Props.SerializedRequests.remove(0);
-                    } else
-                        Request.Props.SerializedRequestRunner = null;
+            synchronized (Request.Props.RequestSync) {
+                synchronized (AsyncProcessorRunning) {
+                    if (processed)
+                        Request.Props.CurrentCommands.remove(Request);
+                    if (Request.Props.SerializedRequestRunner == this) {
+                        if (Request.Props.SerializedRequests.size() > 0) {
+                            Runnable next = Request.Props.SerializedRequestRunner = Request.Props.SerializedRequests.get(0);
+                            Request.Props.SerializedRequests.remove(0);
+                            if (RequestExecutionMode != RequestExecutionThread && next instanceof RequestRunner)
+                                startRequestRunner((RequestRunner) next);
+                            else
+                                getRequestRunnersRequest(next).Waiting.signal();
+                        } else
+                            Request.Props.SerializedRequestRunner = null;
+                    }
                 }
             }
         }
@@ -479,6 +718,111 @@ public class JposBaseDevice {
     // Object used for synchronization purposes.
     private final Byte[] LoggerSync = {0};
 
+    // Logging thread, if logging will be performed asynchronously.
+    private LogWriter TheLogWriter = null;
+
+    // Number of logging messages discarded due to a full logging queue.
+    private final AtomicLong DroppedLogMessages = new AtomicLong();
+
+    /**
+     * Retrieves the number of logging messages that have been discarded because the logging queue was full.
+     * @return Number of discarded messages. Always zero if LoggerQueuePolicy is LoggerQueueBlock.
+     */
+    public long getDroppedLogMessages() {
+        return DroppedLogMessages.get();
+    }
+
+    // Element of the logging queue. If Log is null, it is a marker used to wait until all previous messages have
+    // been written. The logging event will be created by the logging caller, therefore it holds time stamp and thread
+    // name of the caller, not of the logging thread.
+    private static class LogEntry {
+        final Logger Log;
+        final LoggingEvent Event;
+        final SyncObject Written;
+        final boolean Last;
+
+        LogEntry(Logger log, Level level, String message) {
+            Log = log;
+            Event = new LoggingEvent(JposBaseDevice.class.getName(), log, level, message, null);
+            Event.getThreadName();      // Thread name will be retrieved on first access
+            Written = null;
+            Last = false;
+        }
+
+        LogEntry(boolean last) {
+            Log = null;
+            Event = null;
+            Written = new SyncObject();
+            Last = last;
+        }
+    }
+
+    // Thread that writes logging messages from the logging queue in batches. Callers put entries into the queue
+    // without holding LoggerSync, the thread itself never locks LoggerSync.
+    private class LogWriter extends Thread {
+        private final BlockingQueue<LogEntry> Queue;
+        private volatile boolean Finished = false;
+
+        LogWriter(int size) {
+            super(ID + ".LogWriter");
+            setDaemon(true);
+            Queue = new ArrayBlockingQueue<>(size);
+        }
+
+        // Waits until the entry has been queued. Gives up if the writer has been finished meanwhile because no one
+        // would take the entry anymore.
+        void put(LogEntry entry) {
+            boolean interrupted = false;
+            while (!Finished) {
+                try {
+                    if (Queue.offer(entry, 100, TimeUnit.MILLISECONDS))
+                        break;
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+            if (interrupted)
+                Thread.currentThread().interrupt();
+        }
+
+        boolean offer(LogEntry entry) {
+            return Queue.offer(entry);
+        }
+
+        @Override
+        public void run() {
+            List<LogEntry> batch = new ArrayList<>();
+            boolean last = false;
+            while (!last) {
+                try {
+                    batch.add(Queue.take());
+                } catch (InterruptedException e) {
+                    continue;
+                }
+                Queue.drainTo(batch);
+                for (LogEntry entry : batch) {
+                    if (entry.Log != null) {
+                        try {
+                            entry.Log.callAppenders(entry.Event);
+                        } catch (Throwable e) {
+                            e.printStackTrace();
+                        }
+                    } else {
+                        last |= entry.Last;
+                        entry.Written.signal();
+                    }
+                }
+                batch.clear();
+            }
+            Finished = true;
+            Queue.drainTo(batch);       // Entries queued behind the last marker will not be written
+            for (LogEntry entry : batch) {
+                if (entry.Written != null)
+                    entry.Written.signal();
+            }
+        }
+    }
+
     /**
      * Performs logging. Includes automatic logger initialization whenever necessary and possible.
      * However, if logger intialization is not possible due to missing entries in jpos.xml, no logging
@@ -490,6 +834,8 @@ public class JposBaseDevice {
     public void log(Object loglevel, String message) {
         Level level;
         level = loglevel instanceof Level ? (Level) loglevel : getLog4posLevel(loglevel);
+        if (!isLoggable(level))
+            return;
         synchronized (LoggerSync) {
             if (Log == null && LogLevel != OFF) {
                 Log = Logger.getLogger(LoggerName);
@@ -511,11 +857,102 @@ public class JposBaseDevice {
                 }
             }
         }
-        if (Log != null) {
+        if (LoggerQueueSize > 0) {
+            LogWriter writer;
+            LogEntry entry;
+            synchronized (LoggerSync) {
+                if (Log == null)
+                    return;
+                if (TheLogWriter == null)
+                    (TheLogWriter = new LogWriter(LoggerQueueSize)).start();
+                writer = TheLogWriter;
+                entry = new LogEntry(Log, level, message);
+            }
+            if (LoggerQueuePolicy == LoggerQueueBlock)
+                writer.put(entry);
+            else if (!writer.offer(entry))
+                DroppedLogMessages.incrementAndGet();
+        } else if (Log != null) {
             Log.log(level, message);
         }
     }
 
+    /**
+     * Waits until all logging messages that have been queued before have been written. Does nothing if logging will
+     * be performed synchronously.
+     */
+    public void flushLog() {
+        finishLogWriter(false);
+    }
+
+    private void finishLogWriter(boolean stop) {
+        LogEntry marker = new LogEntry(stop);
+        LogWriter writer;
+        synchronized (LoggerSync) {
+            if ((writer = TheLogWriter) == null || writer == Thread.currentThread())
+                return;
+            if (stop)
+                TheLogWriter = null;
+        }
+        writer.put(marker);
+        if (!writer.Finished)
+            marker.Written.suspend(INFINITE);
+    }
+
+    /**
+     * Performs logging with a message that will be built only if messages of the given logging level will be logged.
+     * Should be used whenever building the message is expensive, e.g. for hex dumps of data buffers.
+     *
+     * @param loglevel Logging loglevel, any Level object from log4j, log4jpos or java.util.logging
+     * @param message  Supplier that builds the message to be logged
+     */
+    public void log(Object loglevel, Supplier<String> message) {
+        if (isLoggable(loglevel))
+            log(loglevel, message.get());
+    }
+
+    /**
+     * Performs parameterized logging. The message will be built via String.format only if messages of the given
+     * logging level will be logged.
+     *
+     * @param loglevel Logging loglevel, any Level object from log4j, log4jpos or java.util.logging
+     * @param format   Format string as specified for String.format
+     * @param args     Arguments referenced by format
+     */
+    public void log(Object loglevel, String format, Object... args) {
+        if (isLoggable(loglevel))
+            log(loglevel, String.format(format, args));
+    }
+
+    // Logging levels in ascending order.
+    private static final Level[] LogLevelOrder = {ALL, TRACE, DEBUG, INFO, WARN, ERROR, FATAL, OFF};
+
+    private static int getLogLevelIndex(Level level) {
+        for (int i = 0; i < LogLevelOrder.length; i++) {
+            if (LogLevelOrder[i] == level)
+                return i;
+        }
+        return -1;
+    }
+
+    /**
+     * Checks whether messages of the given logging level will be logged. Can be used to avoid building logging
+     * messages that would be discarded anyway.
+     *
+     * @param loglevel Logging loglevel, any Level object from log4j, log4jpos or java.util.logging
+     * @return true if messages of the given level will be logged, false if they will be discarded.
+     */
+    public boolean isLoggable(Object loglevel) {
+        Level current = LogLevel;
+        if (current == null)
+            return true;
+        if (current == OFF)
+            return false;
+        int index = getLogLevelIndex(loglevel instanceof Level ? (Level) loglevel : getLog4posLevel(loglevel));
+        int limit = getLogLevelIndex(current);
+        return index < 0 || limit < 0 || index >= limit;
+    }
+
     // Convert log4j-Level and java.util.logging-Level to log4pos-Level
     private Level getLog4posLevel(Object loglevel) {
         if (loglevel instanceof java.util.logging.Level) {
@@ -598,6 +1035,145 @@ public class JposBaseDevice {
      */
     public static String SerialIOAdapterClass = null;
 
+    /**
+     * Value for EventDeliveryMode: A new thread will be created for each event processor and each confirmation event
+     * callback.
+     */
+    public static final int EventDeliveryThread = 0;
+
+    /**
+     * Value for EventDeliveryMode: Event processors and confirmation event callbacks will be executed by threads of a
+     * cached thread pool owned by the device.
+     */
+    public static final int EventDeliveryDevicePool = 1;
+
+    /**
+     * Value for EventDeliveryMode: Event processors and confirmation event callbacks will be executed by threads of a
+     * cached thread pool shared by all devices within the JVM.
+     */
+    public static final int EventDeliverySharedPool = 2;
+
+    /**
+     * Value for EventDeliveryMode: Event processors and confirmation event callbacks will be executed by virtual
+     * threads. If the JVM does not support virtual threads, EventDeliverySharedPool will be used instead.
+     */
+    public static final int EventDeliveryVirtual = 3;
+
+    /**
+     * Specifies how threads for event delivery will be provided. One of EventDeliveryThread, EventDeliveryDevicePool,
+     * EventDeliverySharedPool or EventDeliveryVirtual. Default: EventDeliveryThread. Can be changed via jpos.xml
+     * property EventDeliveryMode.<br>
+     * In all modes except EventDeliveryThread, confirmation event callbacks will be invoked directly by the event
+     * processor if MaximumConfirmationEventWaitingTime is FOREVER because the event processor would wait for the
+     * end of the callback anyway.<br>
+     * The executor for these modes will be selected on first use, later changes between them have no effect.
+     */
+    public int EventDeliveryMode = EventDeliveryThread;
+
+    // Executor for EventDeliveryDevicePool, will be created on first use and shut down when the device will be removed.
+    private ExecutorService DeviceEventExecutor = null;
+
+    // Executors for EventDeliverySharedPool and EventDeliveryVirtual, will be created on first use.
+    private static ExecutorService SharedEventExecutor = null;
+    private static ExecutorService VirtualEventExecutor = null;
+
+    // Executor selected by getEventExecutor, cached to avoid the class lock on each start of event delivery.
+    private volatile ExecutorService EventExecutor = null;
+
+    /**
+     * Returns an executor service that runs each task in a new virtual thread. Since virtual threads are not available
+     * in all supported Java versions, the executor will be created via reflection.
+     * @return Executor service using virtual threads or null if the JVM does not support virtual threads.
+     */
+    static ExecutorService newVirtualThreadExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    /**
+     * Returns a cached thread pool with daemon threads. Idle threads will be terminated after 60 seconds.
+     * @param name Name of the pool threads, will be overwritten by the task specific name while a task is running.
+     * @return Executor service with daemon threads.
+     */
+    static ExecutorService newDaemonThreadPool(String name) {
+        return Executors.newCachedThreadPool(newDaemonThreadFactory(name));
+    }
+
+    /**
+     * Returns a thread factory that creates daemon threads with the given name.
+     * @param name Name of the threads.
+     * @return Thread factory for daemon threads.
+     */
+    static ThreadFactory newDaemonThreadFactory(String name) {
+        return runner -> {
+            Thread thread = new Thread(runner, name);
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * Returns a task that runs the given task within a thread that has the given name while running.
+     * @param runner    Task to be executed.
+     * @param name      Thread name.
+     * @return Task that sets the thread name, runs the task and restores the thread name.
+     */
+    static Runnable namedTask(Runnable runner, String name) {
+        return () -> {
+            Thread current = Thread.currentThread();
+            String oldName = current.getName();
+            current.setName(name);
+            try {
+                runner.run();
+            } finally {
+                current.setName(oldName);
+            }
+        };
+    }
+
+    private ExecutorService getEventExecutor() {
+        ExecutorService executor = EventExecutor;
+        if (executor != null)
+            return executor;
+        synchronized (JposBaseDevice.class) {
+            if (EventDeliveryMode == EventDeliveryVirtual) {
+                if (VirtualEventExecutor == null)
+                    VirtualEventExecutor = newVirtualThreadExecutor();
+                executor = VirtualEventExecutor;
+            }
+            if (executor == null && EventDeliveryMode == EventDeliveryDevicePool) {
+                if (DeviceEventExecutor == null)
+                    DeviceEventExecutor = newDaemonThreadPool(ID + ".EventPool");
+                executor = DeviceEventExecutor;
+            }
+            if (executor == null) {
+                if (SharedEventExecutor == null)
+                    SharedEventExecutor = newDaemonThreadPool("SharedEventPool");
+                executor = SharedEventExecutor;
+            }
+            return EventExecutor = executor;
+        }
+    }
+
+    /**
+     * Runs the given event processing task as specified by EventDeliveryMode. While running, the executing thread has
+     * the given name.
+     * @param runner    Task to be executed.
+     * @param name      Thread name.
+     */
+    void startEventThread(Runnable runner, String name) {
+        if (EventDeliveryMode != EventDeliveryThread) {
+            try {
+                getEventExecutor().execute(namedTask(runner, name));
+                return;
+            } catch (RejectedExecutionException ignore) {}
+        }
+        new Thread(runner, name).start();
+    }
+
     /**
      * Maximun number of milliseconds the event handling is delayed after delivery of events that need confirmation.
      * Default is JPOS_FOREVER (unlimited number of seconds). Deprecated: Use MaximumConfirmationEventWaitingTime from
@@ -654,8 +1230,65 @@ public class JposBaseDevice {
                     throw new JposException(JPOS_E_ILLEGAL, "Invalid warning level");
             }
             int val;
+            if ((o = entry.getPropertyValue("EventDeliveryMode")) != null) {
+                String[] modes = {"Thread", "DevicePool", "SharedPool", "Virtual"};
+                for (val = modes.length - 1; val >= 0; --val) {
+                    if (modes[val].equalsIgnoreCase(o.toString()))
+                        break;
+                }
+                check(val < 0, JPOS_E_ILLEGAL, "Invalid EventDeliveryMode: " + o);
+                EventDeliveryMode = val;
+            }
+            if ((o = entry.getPropertyValue("RequestExecutionMode")) != null) {
+                String[] modes = {"Thread", "Pool", "Virtual"};
+                for (val = modes.length - 1; val >= 0; --val) {
+                    if (modes[val].equalsIgnoreCase(o.toString()))
+                        break;
+                }
+                check(val < 0, JPOS_E_ILLEGAL, "Invalid RequestExecutionMode: " + o);
+                RequestExecutionMode = val;
+            }
+            if ((o = entry.getPropertyValue("MaxRequestThreads")) != null && (val = Integer.parseInt(o.toString())) > 0)
+                MaxRequestThreads = val;
+            if ((o = entry.getPropertyValue("MaxPooledRequests")) != null && (val = Integer.parseInt(o.toString())) > 0)
+                MaxPooledRequests = val;
             if ((o = entry.getPropertyValue("MaxArrayStringElements")) != null && (val = Integer.parseInt(o.toString())) > 0)
                 MaxArrayStringElements = val;
+            if ((o = entry.getPropertyValue("UdpInputCapacity")) != null && (val = Integer.parseInt(o.toString())) > 0) {
+                UdpInputCapacity = UdpInputHighWater = val;
+                UdpInputLowWater = val / 2;
+            }
+            if ((o = entry.getPropertyValue("UdpInputHighWater")) != null) {
+                check((val = Integer.parseInt(o.toString())) < 0 || val > UdpInputCapacity, JPOS_E_ILLEGAL, "Invalid UdpInputHighWater: " + o);
+                UdpInputHighWater = val;
+                UdpInputLowWater = val / 2;
+            }
+            if ((o = entry.getPropertyValue("UdpInputLowWater")) != null) {
+                check((val = Integer.parseInt(o.toString())) < 0, JPOS_E_ILLEGAL, "Invalid UdpInputLowWater: " + o);
+                UdpInputLowWater = val;
+            }
+            check(UdpInputHighWater > 0 && UdpInputLowWater >= UdpInputHighWater, JPOS_E_ILLEGAL, "UdpInputLowWater must be less than UdpInputHighWater");
+            if ((o = entry.getPropertyValue("SharedIOReactor")) != null)
+                SharedIOReactor = Boolean.parseBoolean(o.toString());
+            if ((o = entry.getPropertyValue("TcpKeepAlive")) != null)
+                TcpKeepAlive = Boolean.parseBoolean(o.toString());
+            if ((o = entry.getPropertyValue("TcpNoDelay")) != null)
+                TcpNoDelay = Boolean.parseBoolean(o.toString());
+            if ((o = entry.getPropertyValue("TcpReconnectDelay")) != null && (val = Integer.parseInt(o.toString())) >= 0)
+                TcpReconnectDelay = val;
+            if ((o = entry.getPropertyValue("TcpReconnectMaxDelay")) != null && (val = Integer.parseInt(o.toString())) >= 0)
+                TcpReconnectMaxDelay = val;
+            if ((o = entry.getPropertyValue("LoggerQueueSize")) != null && (val = Integer.parseInt(o.toString())) >= 0)
+                LoggerQueueSize = val;
+            if ((o = entry.getPropertyValue("LoggerQueuePolicy")) != null) {
+                String[] policies = {"Block", "Drop"};
+                for (val = policies.length - 1; val >= 0; --val) {
+                    if (policies[val].equalsIgnoreCase(o.toString()))
+                        break;
+                }
+                check(val < 0, JPOS_E_ILLEGAL, "Invalid LoggerQueuePolicy: " + o);
+                LoggerQueuePolicy = val;
+            }
             if ((o = entry.getPropertyValue("SerialIOAdapterClass")) != null) {
                 if (SerialIOAdapterClass == null) {
                     try {
@@ -715,17 +1348,11 @@ public class JposBaseDevice {
             if (props.DeviceEnabled) {
                 props.State = JPOS_S_ERROR;
                 if (event.getErrorLocus() == JPOS_EL_INPUT && props.DataCount > 0) {
-                    JposEvent ev = null;
-                    for (int i = 0; i < props.EventList.size(); ++i) {
-                        ev = props.EventList.get(i);
-                        if (ev instanceof JposDataEvent) {
-                            props.EventList.add(i, event.getInputDataErrorEvent());
-                            break;
-                        }
-                    }
-                    if (!(ev instanceof JposDataEvent) && props.DataEventList.get(0) instanceof JposDataEvent) {
+                    int index = props.EventList.indexOfDataEvent();
+                    if (index >= 0)
+                        props.EventList.add(index, event.getInputDataErrorEvent());
+                    else if (props.DataEventList.size() > 0 && props.DataEventList.get(0) instanceof JposDataEvent)
                         props.DataEventList.add(0, event.getInputDataErrorEvent());
-                    }
                 }
                 props.EventList.add(event);
                 log(DEBUG, props.LogicalName + ": Buffer Error Event: [" + event.toLogString() + "]");
@@ -737,7 +1364,10 @@ public class JposBaseDevice {
     /**
      * Enqueues or fires status update event. If FreezeEvent is false, the event will be fired immediately. Otherwise, it will
      * be enqueued and fired after FreezeEvents will be reset. In case of sharable devices, the event will be fired to all
-     * devices controls that enabled the same physical device.
+     * devices controls that enabled the same physical device.<br>
+     * Blocking and status properties will be checked and updated only once, for the property set of the event source.
+     * The same event object will then be buffered for all device controls, therefore status update events must not be
+     * modified after they have been passed to this method.
      *
      * @param event Event to be fired
      * @throws JposException If error occurs during event handling
@@ -746,18 +1376,17 @@ public class JposBaseDevice {
     public void handleEvent(JposStatusUpdateEvent event) throws JposException {
         JposCommonProperties props = event.getPropertySet();
         synchronized (props.DevProps) {
-            for (int j = 0; j < props.DevProps.size(); j++) {
-                JposCommonProperties dev = props.DevProps.get(j);
+            synchronized (props.EventList) {
+                if (event.block())
+                    return;
+                event.setAndCheckStatusProperties();
+            }
+            for (JposCommonProperties dev : props.DevProps) {
                 synchronized (dev.EventList) {
-                    JposStatusUpdateEvent ev;
-                    ev = (dev == props) ? event : event.copyEvent((JposBase) event.getSource());
-                    if (!ev.block()) {
-                        ev.setAndCheckStatusProperties();
-                        if (dev.DeviceEnabled) {
-                            dev.EventList.add(ev);
-                            log(DEBUG, dev.LogicalName + ": Buffer StatusUpdateEvent: [" + ev.toLogString() + "]");
-                            processEventList(dev);
-                        }
+                    if (dev.DeviceEnabled) {
+                        dev.EventList.add(event);
+                        log(DEBUG, () -> dev.LogicalName + ": Buffer StatusUpdateEvent: [" + event.toLogString() + "]");
+                        processEventList(dev);
                     }
                 }
             }
@@ -904,27 +1533,49 @@ public class JposBaseDevice {
      * Process the event queue. Fires notification events (except data events) and buffers confirmation events in
      * confirmation event queue while FreezeEvents = false
      */
-    class EventFirer extends Thread {
+    class EventFirer implements Runnable {
         private final JposCommonProperties Props;
 
         /**
-         * Constructor for service thread that fires events when for the device instance that holds the given property set.
+         * Constructor for service task that fires events when for the device instance that holds the given property
+         * set. The task will be started as specified by EventDeliveryMode.
          * @param dev   Property set of the device instance.
          * @throws JposException If thread creation fails.
          */
         EventFirer(JposCommonProperties dev) throws JposException {
-            super();
             Props = dev;
-            setName("EventFirer");
             Props.EventProcessor = this;
             try {
-                start();
+                startEventThread(this, "EventFirer");
             }
             catch (Exception e) {
+                Props.EventProcessor = null;
                 throw new JposException(JPOS_E_FAILURE, e.getMessage(), e);
             }
         }
 
+        /**
+         * Invokes the application callback for an event that needs confirmation. Waits until the callback returns, but
+         * not longer than MaximumConfirmationEventWaitingTime.
+         * @param callback  Runnable that invokes the application callback and the corresponding post-processing.
+         * @param name      Name of the thread used for callback invocation.
+         */
+        private void fireConfirmationEvent(Runnable callback, String name) {
+            if (EventDeliveryMode != EventDeliveryThread && Props.MaximumConfirmationEventWaitingTime == JPOS_FOREVER)
+                callback.run();
+            else {
+                final SyncObject waiter = new SyncObject();
+                startEventThread(() -> {
+                    try {
+                        callback.run();
+                    } finally {
+                        waiter.signal();
+                    }
+                }, name);
+                waiter.suspend(Props.MaximumConfirmationEventWaitingTime);
+            }
+        }
+
         @Override
         public void run() {
             while(true) {
@@ -940,13 +1591,10 @@ public class JposBaseDevice {
                         break;
                     Props.EventProcessor = this;
                     JposEvent event;
-                    if (Props.DataEventEnabled && Props.DataEventList.size() > 0) {
-                        event = Props.DataEventList.get(0);
-                        Props.DataEventList.remove(0);
-                    } else {
-                        event = Props.EventList.get(0);
-                        Props.EventList.remove(0);
-                    }
+                    if (Props.DataEventEnabled && Props.DataEventList.size() > 0)
+                        event = Props.DataEventList.remove(0);
+                    else
+                        event = Props.EventList.remove(0);
                     if (event instanceof JposTransitionEvent) {
                         (trevent = (JposTransitionEvent) event).setTransitionProperties();
                     } else if (event instanceof JposDirectIOEvent) {
@@ -976,25 +1624,20 @@ public class JposBaseDevice {
                     }
                 }
                 if (dioevent != null) {
-                    final SyncObject waiter = new SyncObject();
                     final JposDirectIOEvent dioev = dioevent;
-                    new Thread(() -> {
+                    fireConfirmationEvent(() -> {
                         try {
                             Props.EventCB.fireDirectIOEvent(dioev);
                             log(DEBUG, Props.LogicalName + ": Fire Transition Event: [" + dioev.toLogString() + "]");
                             postDirectIOProcessing(dioev);
                         } catch (Throwable e) {
                             e.printStackTrace();
-                        } finally {
-                            waiter.signal();
                         }
-                    }, "DirectIOEventRunner").start();
-                    waiter.suspend(Props.MaximumConfirmationEventWaitingTime);
+                    }, "DirectIOEventRunner");
                 }
                 else if (trevent != null) {
-                    final SyncObject waiter = new SyncObject();
                     final JposTransitionEvent tev = trevent;
-                    new Thread(() -> {
+                    fireConfirmationEvent(() -> {
                         try {
                             if (Props.EventCB instanceof EventCallbacks2) {
                                 ((EventCallbacks2) Props.EventCB).fireTransitionEvent(tev);
@@ -1005,18 +1648,14 @@ public class JposBaseDevice {
                             postTransitionProcessing(tev);
                         } catch (Throwable e) {
                             e.printStackTrace();
-                        } finally {
-                            waiter.signal();
                         }
-                    }, "TransitionEventRunner").start();
-                    waiter.suspend(Props.MaximumConfirmationEventWaitingTime);
+                    }, "TransitionEventRunner");
                 } else if (errevent != null) {
-                    final SyncObject waiter = new SyncObject();
                     final JposErrorEvent errev = errevent;
                     if (errevent.getErrorLocus() == JPOS_EL_OUTPUT) {
-                        new Thread(() -> {
+                        fireConfirmationEvent(() -> {
                             try {
-                                synchronized (AsyncProcessorRunning) {
+                                synchronized (Props.RequestSync) {
                                     Props.EventCB.fireErrorEvent(errev);
                                     log(DEBUG, Props.LogicalName + ": Fire Error Event: [" + errev.toLogString() + "]");
                                     if (errev.getErrorResponse() == JPOS_ER_CLEAR) {
@@ -1032,15 +1671,12 @@ public class JposBaseDevice {
                                 }
                             } catch (Throwable e) {
                                 e.printStackTrace();
-                            } finally {
-                                waiter.signal();
                             }
-                        }, "OutputErrorEventRunner").start();
-                        waiter.suspend(Props.MaximumConfirmationEventWaitingTime);
+                        }, "OutputErrorEventRunner");
                     } else {
-                        new Thread(() -> {
+                        fireConfirmationEvent(() -> {
                             try {
-                                synchronized (AsyncProcessorRunning) {
+                                synchronized (Props.RequestSync) {
                                     Props.EventCB.fireErrorEvent(errev);
                                     log(DEBUG, Props.LogicalName + ": Fire Error Event: [" + errev.toLogString() + "]");
                                     if (errev.getErrorResponse() == JPOS_ER_CLEAR) {
@@ -1056,11 +1692,8 @@ public class JposBaseDevice {
                                 }
                             } catch (Throwable e) {
                                 e.printStackTrace();
-                            } finally {
-                                waiter.signal();
                             }
-                        }, "InputErrorEventRunner").start();
-                        waiter.suspend(Props.MaximumConfirmationEventWaitingTime);
+                        }, "InputErrorEventRunner");
                     }
                 } else if (ocevent != null) {
                     try {
@@ -1146,6 +1779,20 @@ public class JposBaseDevice {
         if (noOfPropertySets() == 0) {
             JposDeviceFactory.deleteDevice(ID);
             props.EventSource.logCall("DeleteInstance probably");
+            synchronized (JposBaseDevice.class) {
+                if (DeviceEventExecutor != null) {
+                    DeviceEventExecutor.shutdown();
+                    DeviceEventExecutor = null;
+                }
+                EventExecutor = null;
+            }
+            synchronized (AsyncProcessorRunning) {
+                if (RequestExecutor != null) {
+                    RequestExecutor.shutdown();
+                    RequestExecutor = null;
+                }
+            }
+            finishLogWriter(true);
             synchronized(LoggerSync) {
                 if (Log != null) {
                     Log.removeAllAppenders();
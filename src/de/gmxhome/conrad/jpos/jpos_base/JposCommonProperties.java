@@ -226,16 +226,25 @@ public abstract class JposCommonProperties implements JposBaseInterface {
      */
     final public List<SyncObject> ClaimWaiters = new LinkedList<>();
 
+    /**
+     * Object used to synchronize changes of the request state of this property set, e.g. State, the lists of suspended
+     * and current commands or serialized requests. Whenever one of these will be changed, RequestSync must be locked
+     * before Device.AsyncProcessorRunning. Therefore, holding one of both locks is sufficient for reading. Since
+     * RequestSync is specific to this property set, error event handlers of this property set block only requests
+     * of this property set, not requests of other property sets bound to the same device.
+     */
+    public final Byte[] RequestSync = {0};
+
     /**
      * Event list, holds at least events until they can be fired. As long as DataEventEnabled = false,
      * data events and (input) error events will be put into DataEventList instead.
      */
-    final public List<JposEvent> EventList = new LinkedList<>();
+    final public JposEventList EventList = new JposEventList();
 
     /**
      * Event list, holds all data and input error events until they can be fired.
      */
-    protected final List<JposEvent> DataEventList = new LinkedList<>();
+    protected final JposEventList DataEventList = new JposEventList();
 
     /**
      * List of all property sets sharing the same UPOS device.
@@ -336,6 +345,46 @@ public abstract class JposCommonProperties implements JposBaseInterface {
      */
     public List<Runnable> SerializedRequests = new LinkedList<>();
 
+    /**
+     * Maximum number of asynchronous requests of this property set that may be enqueued, suspended or in progress at
+     * the same time. Further asynchronous requests will be rejected with error code E_BUSY. Synchronous requests, e.g.
+     * synchronous print methods that use the request queue, will neither be counted nor rejected. Default: 0 (no
+     * limit). Can be changed via jpos.xml property MaxQueuedRequests.
+     */
+    public int MaxQueuedRequests = 0;
+
+    /**
+     * Number of requests of this property set that have been enqueued since the device has been opened.
+     */
+    public long EnqueuedRequests = 0;
+
+    /**
+     * Number of requests of this property set that have been rejected due to MaxQueuedRequests or MaxPooledRequests of
+     * the device.
+     */
+    public long RejectedRequests = 0;
+
+    /**
+     * Maximum number of requests of this property set that have been enqueued, suspended or in progress at the same
+     * time.
+     */
+    public int MaxRequestQueueDepth = 0;
+
+    /**
+     * Number of synchronous requests of this property set whose callers wait in enqueueSynchronous. Used to compute
+     * the number of asynchronous requests checked against MaxQueuedRequests without scanning the request lists.
+     * Change only while holding the AsyncProcessorRunning lock of the device.
+     */
+    public int SynchronousRequests = 0;
+
+    /**
+     * Retrieves the number of requests of this property set that are currently enqueued, suspended or in progress.
+     * @return Current request queue depth.
+     */
+    public int getRequestQueueDepth() {
+        return newJposOutputRequest().countCommands();
+    }
+
     /**
      * Event processor. Thread that fires status update events, ouitput complete events and direct IO and transition
      * events that are used for notification only.
@@ -373,6 +422,8 @@ public abstract class JposCommonProperties implements JposBaseInterface {
                 Device.AllowAlwaysSetProperties = AllowAlwaysSetProperties = Boolean.parseBoolean(o.toString());
             if ((o = entry.getPropertyValue("MaximumConfirmationEventWaitingTime")) != null && (val = Integer.parseInt(o.toString())) > 0)
                 Device.MaximumConfirmationEventWaitingTime = MaximumConfirmationEventWaitingTime = val;
+            if ((o = entry.getPropertyValue("MaxQueuedRequests")) != null && (val = Integer.parseInt(o.toString())) >= 0)
+                MaxQueuedRequests = val;
             if ((o = entry.getPropertyValue("StrictFIFOEventHandling")) != null)
                 Device.StrictFIFOEventHandling = StrictFIFOEventHandling = Boolean.parseBoolean(o.toString());
             if ((o = entry.getPropertyValue("jposVersion")) != null) {
@@ -417,6 +468,7 @@ public abstract class JposCommonProperties implements JposBaseInterface {
      * Initialization of properties that must be initialized during open.
      */
     public void initOnOpen() {
+        EnqueuedRequests = RejectedRequests = MaxRequestQueueDepth = 0;
         AutoDisable = false;
         DataCount = 0;
         Claimed = false;
@@ -620,10 +672,12 @@ public abstract class JposCommonProperties implements JposBaseInterface {
     @Override
     @SuppressWarnings("AssignmentUsedAsCondition")
     public void flagWhenIdle(boolean b) throws JposException {
-        synchronized (Device.AsyncProcessorRunning) {
-            if (FlagWhenIdle = b) {
-                if (State == JPOS_S_IDLE) {
-                    Device.handleEvent(new JposStatusUpdateEvent(EventSource, FlagWhenIdleStatusValue));
+        synchronized (RequestSync) {
+            synchronized (Device.AsyncProcessorRunning) {
+                if (FlagWhenIdle = b) {
+                    if (State == JPOS_S_IDLE) {
+                        Device.handleEvent(new JposStatusUpdateEvent(EventSource, FlagWhenIdleStatusValue));
+                    }
                 }
             }
         }
@@ -704,24 +758,14 @@ public abstract class JposCommonProperties implements JposBaseInterface {
     public void clearInput() throws JposException {
         synchronized (EventList) {
             if (UsesSubsystemUnits) {
-                for (List<JposEvent> list : getArrayOf(0, EventList, DataEventList)) {
-                    for (int i = 0; i < list.size(); ) {
-                        JposEvent ev = list.get(i);
-                        i = conditionalDataEventRemoval(list, CurrentUnitID, i, ev);
-                        i = conditionalInputErrorEventRemoval(list, CurrentUnitID, i, ev);
-                    }
+                for (JposEventList list : getArrayOf(0, EventList, DataEventList)) {
+                    list.removeIf(ev -> conditionalDataEventRemoval(CurrentUnitID, ev) ||
+                            conditionalInputErrorEventRemoval(CurrentUnitID, ev));
                 }
             } else {
                 DataEventList.clear();
-                for (int i = 0; i < EventList.size();) {
-                    JposEvent ev = EventList.get(i);
-                    if (ev instanceof JposDataEvent)
-                        EventList.remove(ev);
-                    else if (ev instanceof JposErrorEvent && ((JposErrorEvent) ev).getErrorLocus() != JPOS_EL_OUTPUT)
-                        EventList.remove(ev);
-                    else
-                        i++;
-                }
+                EventList.removeIf(ev -> ev instanceof JposDataEvent ||
+                        (ev instanceof JposErrorEvent && ((JposErrorEvent) ev).getErrorLocus() != JPOS_EL_OUTPUT));
                 DataCount = 0;
             }
             // See UPOS spec, chapter 2.5.3. clearInput Method: Clears all device input that has been
@@ -734,29 +778,16 @@ public abstract class JposCommonProperties implements JposBaseInterface {
         State = JPOS_S_IDLE;
     }
 
-    private int conditionalInputErrorEventRemoval(List<JposEvent> list, int bit, int i, JposEvent ev) {
-        if (ev instanceof UnitInputErrorEvent) {
-            if ((((UnitInputErrorEvent) ev).Units & bit) != 0) {
-                list.remove(i);
-            }
-            else {
-                i++;
-            }
-        }
-        return i;
+    private boolean conditionalInputErrorEventRemoval(int bit, JposEvent ev) {
+        return ev instanceof UnitInputErrorEvent && (((UnitInputErrorEvent) ev).Units & bit) != 0;
     }
 
-    private int conditionalDataEventRemoval(List<JposEvent> list, int bit, int i, JposEvent ev) {
-        if (ev instanceof UnitDataEvent) {
-            if ((((UnitDataEvent) ev).Unit & bit) != 0) {
-                list.remove(i);
-                DataCount--;
-            }
-            else {
-                i++;
-            }
+    private boolean conditionalDataEventRemoval(int bit, JposEvent ev) {
+        if (ev instanceof UnitDataEvent && (((UnitDataEvent) ev).Unit & bit) != 0) {
+            DataCount--;
+            return true;
         }
-        return i;
+        return false;
     }
 
     @Override
@@ -776,10 +807,8 @@ public abstract class JposCommonProperties implements JposBaseInterface {
     public void clearOutput() throws JposException {
         if (UsesSubsystemUnits) {
             synchronized(EventList) {
-                for (int i = 0; i < EventList.size();) {
-                    i = conditionalOutputErrorEventRemoval(CurrentUnitID, i);
-                    i = conditionalOutputCompleteEventRemoval(CurrentUnitID, i);
-                }
+                EventList.removeIf(ev -> conditionalOutputErrorEventRemoval(CurrentUnitID, ev) ||
+                        conditionalOutputCompleteEventRemoval(CurrentUnitID, ev));
             }
             UnitOutputRequest checker = new UnitOutputRequest(this, CurrentUnitID);
             checker.clearOutput();
@@ -800,13 +829,7 @@ public abstract class JposCommonProperties implements JposBaseInterface {
         }
         else {
             synchronized (EventList) {
-                for (int i = 0; i < EventList.size();) {
-                    JposEvent ev = EventList.get(i);
-                    if (ev instanceof JposErrorEvent && ((JposErrorEvent) ev).getErrorLocus() == JPOS_EL_OUTPUT)
-                        EventList.remove(i);
-                    else
-                        ++i;
-                }
+                EventList.removeIf(ev -> ev instanceof JposErrorEvent && ((JposErrorEvent) ev).getErrorLocus() == JPOS_EL_OUTPUT);
             }
             newJposOutputRequest().clearOutput();
             if (State != JPOS_S_IDLE) {
@@ -823,22 +846,12 @@ public abstract class JposCommonProperties implements JposBaseInterface {
         }
     }
 
-    private int conditionalOutputErrorEventRemoval(int bit, int i) {
-        JposEvent event = EventList.get(i);
-        if (event instanceof UnitOutputErrorEvent && (((UnitOutputErrorEvent) event).Units & bit) != 0)
-            EventList.remove(i);
-        else
-            i++;
-        return i;
+    private boolean conditionalOutputErrorEventRemoval(int bit, JposEvent event) {
+        return event instanceof UnitOutputErrorEvent && (((UnitOutputErrorEvent) event).Units & bit) != 0;
     }
 
-    private int conditionalOutputCompleteEventRemoval(int bit, int i) {
-        JposEvent event = EventList.get(i);
-        if (event instanceof UnitOutputCompleteEvent && (((UnitOutputCompleteEvent) event).Units & bit) != 0)
-            EventList.remove(i);
-        else
-            i++;
-        return i;
+    private boolean conditionalOutputCompleteEventRemoval(int bit, JposEvent event) {
+        return event instanceof UnitOutputCompleteEvent && (((UnitOutputCompleteEvent) event).Units & bit) != 0;
     }
 
     @Override
@@ -0,0 +1,247 @@
+/*
+ * Copyright 2026 Martin Conrad
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package de.gmxhome.conrad.jpos.jpos_base;
+
+import jpos.events.JposEvent;
+
+import java.util.*;
+import java.util.function.Predicate;
+
+/**
+ * List of buffered events, implemented as circular array. Access via index, adding and removing events at both ends
+ * need constant time, inserting or removing events at other positions moves the elements between the position and
+ * the nearer end of the list. Method removeIf removes all matching events in one pass.<br>
+ * In addition, the list keeps the indices of the data events it contains in ascending order. Therefore, method
+ * indexOfDataEvent needs constant time and method dataEventCount returns the number of data events without scanning
+ * the list. Since inserting or removing an event changes the indices of all following events, the indices will be
+ * stored relative to an offset: Depending on the position of the event, either the stored indices of the data events
+ * in front of it or the stored indices of the data events behind it must be changed.<br>
+ * As with ArrayList, access must be synchronized externally, usually via the EventList object of the property set.
+ */
+public class JposEventList extends AbstractList<JposEvent> implements RandomAccess {
+    private JposEvent[] Elements = new JposEvent[16];
+    private int Head = 0;
+    private int Size = 0;
+    private int[] DataIndices = new int[16];
+    private int DataHead = 0;
+    private int DataEvents = 0;
+    private int DataOffset = 0;
+
+    private int position(int index) {
+        return (Head + index) & (Elements.length - 1);
+    }
+
+    private void checkIndex(int index, int limit) {
+        if (index < 0 || index > limit)
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + Size);
+    }
+
+    // Position of the k-th data event within the circular array DataIndices.
+    private int dataPosition(int k) {
+        return (DataHead + k) & (DataIndices.length - 1);
+    }
+
+    // Index of the k-th data event within the list.
+    private int dataIndex(int k) {
+        return DataIndices[dataPosition(k)] - DataOffset;
+    }
+
+    // Number of data events with an index less than the given index.
+    private int dataRank(int index) {
+        int low = 0, high = DataEvents;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (dataIndex(mid) < index)
+                low = mid + 1;
+            else
+                high = mid;
+        }
+        return low;
+    }
+
+    // Adds delta to the indices of all data events with rank k or higher.
+    private void shiftDataIndices(int k, int delta) {
+        if (k < DataEvents - k) {
+            DataOffset -= delta;
+            for (int i = 0; i < k; i++)
+                DataIndices[dataPosition(i)] -= delta;
+        } else {
+            for (int i = k; i < DataEvents; i++)
+                DataIndices[dataPosition(i)] += delta;
+        }
+    }
+
+    // Inserts the index of a data event with rank k.
+    private void insertDataIndex(int k, int index) {
+        if (DataEvents == DataIndices.length) {
+            int[] indices = new int[DataIndices.length * 2];
+            for (int i = 0; i < DataEvents; i++)
+                indices[i] = DataIndices[dataPosition(i)];
+            DataIndices = indices;
+            DataHead = 0;
+        }
+        if (k < DataEvents / 2) {
+            DataHead = (DataHead - 1) & (DataIndices.length - 1);
+            for (int i = 0; i < k; i++)
+                DataIndices[dataPosition(i)] = DataIndices[dataPosition(i + 1)];
+        } else {
+            for (int i = DataEvents; i > k; i--)
+                DataIndices[dataPosition(i)] = DataIndices[dataPosition(i - 1)];
+        }
+        DataIndices[dataPosition(k)] = index + DataOffset;
+        DataEvents++;
+    }
+
+    // Removes the index of the data event with rank k.
+    private void removeDataIndex(int k) {
+        if (k < DataEvents / 2) {
+            for (int i = k; i > 0; i--)
+                DataIndices[dataPosition(i)] = DataIndices[dataPosition(i - 1)];
+            DataHead = (DataHead + 1) & (DataIndices.length - 1);
+        } else {
+            for (int i = k; i < DataEvents - 1; i++)
+                DataIndices[dataPosition(i)] = DataIndices[dataPosition(i + 1)];
+        }
+        DataEvents--;
+    }
+
+    private void clearDataIndices() {
+        DataHead = DataEvents = DataOffset = 0;
+    }
+
+    @Override
+    public int size() {
+        return Size;
+    }
+
+    @Override
+    public JposEvent get(int index) {
+        checkIndex(index, Size - 1);
+        return Elements[position(index)];
+    }
+
+    @Override
+    public JposEvent set(int index, JposEvent event) {
+        checkIndex(index, Size - 1);
+        int pos = position(index);
+        JposEvent old = Elements[pos];
+        if (old instanceof JposDataEvent != event instanceof JposDataEvent) {
+            if (event instanceof JposDataEvent)
+                insertDataIndex(dataRank(index), index);
+            else
+                removeDataIndex(dataRank(index));
+        }
+        Elements[pos] = event;
+        return old;
+    }
+
+    @Override
+    public void add(int index, JposEvent event) {
+        checkIndex(index, Size);
+        if (Size == Elements.length) {
+            JposEvent[] elements = new JposEvent[Elements.length * 2];
+            for (int i = 0; i < Size; i++)
+                elements[i] = Elements[position(i)];
+            Elements = elements;
+            Head = 0;
+        }
+        if (index < Size / 2) {
+            Head = (Head - 1) & (Elements.length - 1);
+            for (int i = 0; i < index; i++)
+                Elements[position(i)] = Elements[position(i + 1)];
+        } else {
+            for (int i = Size; i > index; i--)
+                Elements[position(i)] = Elements[position(i - 1)];
+        }
+        Elements[position(index)] = event;
+        Size++;
+        int rank = dataRank(index);
+        shiftDataIndices(rank, 1);
+        if (event instanceof JposDataEvent)
+            insertDataIndex(rank, index);
+        modCount++;
+    }
+
+    @Override
+    public JposEvent remove(int index) {
+        checkIndex(index, Size - 1);
+        JposEvent event = Elements[position(index)];
+        if (index < Size / 2) {
+            for (int i = index; i > 0; i--)
+                Elements[position(i)] = Elements[position(i - 1)];
+            Elements[Head] = null;
+            Head = (Head + 1) & (Elements.length - 1);
+        } else {
+            for (int i = index; i < Size - 1; i++)
+                Elements[position(i)] = Elements[position(i + 1)];
+            Elements[position(Size - 1)] = null;
+        }
+        Size--;
+        int rank = dataRank(index);
+        if (event instanceof JposDataEvent)
+            removeDataIndex(rank);
+        shiftDataIndices(rank, -1);
+        modCount++;
+        return event;
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super JposEvent> filter) {
+        int count = 0;
+        clearDataIndices();
+        for (int i = 0; i < Size; i++) {
+            JposEvent event = Elements[position(i)];
+            if (!filter.test(event)) {
+                if (event instanceof JposDataEvent)
+                    insertDataIndex(DataEvents, count);
+                Elements[position(count++)] = event;
+            }
+        }
+        if (count == Size)
+            return false;
+        for (int i = count; i < Size; i++)
+            Elements[position(i)] = null;
+        Size = count;
+        modCount++;
+        return true;
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(Elements, null);
+        Head = Size = 0;
+        clearDataIndices();
+        modCount++;
+    }
+
+    /**
+     * Retrieves the index of the first data event in the list.
+     * @return Index of first JposDataEvent, -1 if the list does not contain any data event.
+     */
+    public int indexOfDataEvent() {
+        return DataEvents > 0 ? dataIndex(0) : -1;
+    }
+
+    /**
+     * Retrieves the number of data events in the list.
+     * @return Number of JposDataEvent objects in the list.
+     */
+    public int dataEventCount() {
+        return DataEvents;
+    }
+}
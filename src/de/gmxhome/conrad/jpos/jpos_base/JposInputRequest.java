@@ -51,73 +51,82 @@ public class JposInputRequest extends JposOutputRequest {
 
     @Override
     public void enqueue() throws JposException {
-        synchronized (Device.AsyncProcessorRunning) {
-            OutputID = -1;
-            if (EndSync == null)
-                Props.AsyncInputActive = true;
-            Boolean concurrent = Device.concurrentProcessingSupported(this);
-            if (concurrent == null || concurrent) {
-                if (Props.State == JPOS_S_ERROR)
-                    Props.SuspendedConcurrentCommands.add(this);
+        synchronized (Props.RequestSync) {
+            synchronized (Device.AsyncProcessorRunning) {
+                checkQueueLimit();
+                OutputID = -1;
+                if (EndSync == null)
+                    Props.AsyncInputActive = true;
+                Boolean concurrent = Device.concurrentProcessingSupported(this);
+                if (concurrent == null || concurrent) {
+                    if (Props.State == JPOS_S_ERROR)
+                        Props.SuspendedConcurrentCommands.add(this);
+                    else
+                        Device.createConcurrentRequestThread(this);
+                } else if (Props.State == JPOS_S_ERROR)
+                    Props.SuspendedCommands.add(this);
                 else
-                    Device.createConcurrentRequestThread(this);
-            } else if (Props.State == JPOS_S_ERROR)
-                Props.SuspendedCommands.add(this);
-            else
-                Device.invokeRequestThread(this, null);
+                    Device.invokeRequestThread(this, null);
+            }
         }
     }
 
     @Override
     public boolean finishAsyncProcessing() {
         boolean processed = super.finishAsyncProcessing();
-        synchronized (Device.AsyncProcessorRunning) {
-            if (Device.CurrentCommand != this && Device.CurrentCommand instanceof JposInputRequest && Device.CurrentCommand.Props == Props)
-                return processed;
-            for (List<JposOutputRequest> requests : getArrayOf(0,
-                    Device.PendingCommands, Props.SuspendedCommands, Props.SuspendedConcurrentCommands, Props.CurrentCommands)) {
-                if (requests != null) {
-                    for (JposOutputRequest request : requests) {
-                        if (request != this && request instanceof JposInputRequest && request.Props == Props)
-                            return processed;
+        synchronized (Props.RequestSync) {
+            synchronized (Device.AsyncProcessorRunning) {
+                if (Device.CurrentCommand != this && Device.CurrentCommand instanceof JposInputRequest && Device.CurrentCommand.Props == Props)
+                    return processed;
+                if (Device.PendingCommands.contains(Props, request -> request != this && request instanceof JposInputRequest))
+                    return processed;
+                for (List<JposOutputRequest> requests : getArrayOf(0,
+                        Props.SuspendedCommands, Props.SuspendedConcurrentCommands, Props.CurrentCommands)) {
+                    if (requests != null) {
+                        for (JposOutputRequest request : requests) {
+                            if (request != this && request instanceof JposInputRequest && request.Props == Props)
+                                return processed;
+                        }
                     }
                 }
+                Props.AsyncInputActive = false;
             }
-            Props.AsyncInputActive = false;
         }
         return processed;
     }
 
     @Override
     public void reactivate(boolean queries) {
-        synchronized (Device.AsyncProcessorRunning) {
-            int i = 0;
-            while (Props.SuspendedCommands.size() > 0) {
-                JposOutputRequest request = Props.SuspendedCommands.get(i);
-                if ((request instanceof JposInputRequest) == queries) {
-                    if (!queries && Props.State != JPOS_S_BUSY) {
-                        Props.State = JPOS_S_BUSY;
-                        Props.EventSource.logSet("State");
+        synchronized (Props.RequestSync) {
+            synchronized (Device.AsyncProcessorRunning) {
+                int i = 0;
+                while (Props.SuspendedCommands.size() > 0) {
+                    JposOutputRequest request = Props.SuspendedCommands.get(i);
+                    if ((request instanceof JposInputRequest) == queries) {
+                        if (!queries && Props.State != JPOS_S_BUSY) {
+                            Props.State = JPOS_S_BUSY;
+                            Props.EventSource.logSet("State");
+                        }
+                        Props.SuspendedCommands.remove(i);
+                        Device.invokeRequestThread(request, null);
                     }
-                    Props.SuspendedCommands.remove(i);
-                    Device.invokeRequestThread(request, null);
+                    else
+                        i++;
                 }
-                else
-                    i++;
-            }
-            i = 0;
-            while (Props.SuspendedConcurrentCommands.size() > 0) {
-                JposOutputRequest request = Props.SuspendedConcurrentCommands.get(0);
-                if ((request instanceof JposInputRequest) == queries) {
-                    if (!queries && Props.State != JPOS_S_BUSY) {
-                        Props.State = JPOS_S_BUSY;
-                        Props.EventSource.logSet("State");
+                i = 0;
+                while (Props.SuspendedConcurrentCommands.size() > 0) {
+                    JposOutputRequest request = Props.SuspendedConcurrentCommands.get(0);
+                    if ((request instanceof JposInputRequest) == queries) {
+                        if (!queries && Props.State != JPOS_S_BUSY) {
+                            Props.State = JPOS_S_BUSY;
+                            Props.EventSource.logSet("State");
+                        }
+                        Device.createConcurrentRequestThread(request);
+                        Props.SuspendedConcurrentCommands.remove(i);
                     }
-                    Device.createConcurrentRequestThread(request);
-                    Props.SuspendedConcurrentCommands.remove(i);
+                    else
+                        i++;
                 }
-                else
-                    i++;
             }
         }
     }
@@ -32,7 +32,10 @@ import static jpos.JposConst.*;
  * To abort a command, call method abortCommand from a different thread. Method abortCommand sets
  * the Abort SyncObject that can be used by a running command to check whether it shall
  * finish.
- * The Run method implements the command processor.
+ * The Run method implements the command processor.<br>
+ * Changes of the request state of a property set are synchronized via the RequestSync object of the property set
+ * and the AsyncProcessorRunning object of the device, always locked in this order. The device lock must never be
+ * held while trying to lock RequestSync.
  */
 public class JposOutputRequest implements Runnable {
     /**
@@ -60,6 +63,11 @@ public class JposOutputRequest implements Runnable {
      */
     public SyncObject EndSync = null;
 
+    // SyncObject used as EndSync by enqueueSynchronous, one per calling thread. A thread waits for at most one
+    // synchronous request at a time and each synchronous request signals EndSync exactly once, after that it will not
+    // be accessed anymore. Therefore, the object can be reused for the next synchronous request of the thread.
+    private static final ThreadLocal<SyncObject> EndSyncObjects = ThreadLocal.withInitial(() -> new SyncObject(false));
+
     /**
      * If true, the command has been finished. Must be set to true whenever command processing
      * finishes.
@@ -180,13 +188,23 @@ public class JposOutputRequest implements Runnable {
          */
         public JposRequestThread(Runnable runner, JposOutputRequest req) {
             super(runner);
+            setName(getThreadName(runner, req));
+        }
+
+        /**
+         * Returns the name of a request handler thread for the specified request using the specified request runner.
+         * @param runner   Runnable to be used for request handling.
+         * @param req      Request to be handled.
+         * @return Thread name.
+         */
+        public static String getThreadName(Runnable runner, JposOutputRequest req) {
             String name = runner == req ? req.Device.ID : req.Props.LogicalName;
             if (! (runner instanceof  JposOutputRequest)) {
                 name += "." + req.getClass().getSimpleName();
                 if (req.OutputID != 0)
                     name += "." + req.OutputID;
             }
-            setName(name  + ".AsyncRequestExecutor");
+            return name  + ".AsyncRequestExecutor";
         }
     }
 
@@ -197,38 +215,79 @@ public class JposOutputRequest implements Runnable {
      */
     public void enqueue() throws JposException {
         int state;
-        synchronized (Device.AsyncProcessorRunning) {
-            state = Props.State;
-            if (EndSync == null) {
-                if (state == JPOS_S_IDLE)
-                    Props.State = JPOS_S_BUSY;
-                OutputID = (Props.OutputID = (Props.OutputID + 1) % Integer.MAX_VALUE);
-                Props.EventSource.logSet("OutputID");
-            }
-            Boolean concurrent = Device.concurrentProcessingSupported(this);
-            if (concurrent == null || concurrent) {
-                if (state == JPOS_S_ERROR)
-                    Props.SuspendedConcurrentCommands.add(this);
+        synchronized (Props.RequestSync) {
+            synchronized (Device.AsyncProcessorRunning) {
+                checkQueueLimit();
+                state = Props.State;
+                if (EndSync == null) {
+                    if (state == JPOS_S_IDLE)
+                        Props.State = JPOS_S_BUSY;
+                    OutputID = (Props.OutputID = (Props.OutputID + 1) % Integer.MAX_VALUE);
+                    Props.EventSource.logSet("OutputID");
+                }
+                Boolean concurrent = Device.concurrentProcessingSupported(this);
+                if (concurrent == null || concurrent) {
+                    if (state == JPOS_S_ERROR)
+                        Props.SuspendedConcurrentCommands.add(this);
+                    else
+                        Device.createConcurrentRequestThread(this);
+                } else if (state == JPOS_S_ERROR)
+                    Props.SuspendedCommands.add(this);
                 else
-                    Device.createConcurrentRequestThread(this);
-            } else if (state == JPOS_S_ERROR)
-                Props.SuspendedCommands.add(this);
-            else
-                Device.invokeRequestThread(this, null);
+                    Device.invokeRequestThread(this, null);
+            }
         }
         if (state != Props.State)
             Props.EventSource.logSet("State");
     }
 
+    /**
+     * Checks whether the request can be enqueued without exceeding MaxQueuedRequests of its property set or
+     * MaxPooledRequests of the device and updates the request queue statistics of the property set. Must be called
+     * within enqueue while holding the AsyncProcessorRunning lock of the device. Synchronous requests, enqueued via
+     * enqueueSynchronous, will neither be rejected nor counted against MaxQueuedRequests.
+     * @throws JposException If the number of enqueued or suspended asynchronous requests of the property set has
+     *                       reached MaxQueuedRequests or if the request would wait for a pool thread and
+     *                       MaxPooledRequests requests are waiting already.
+     */
+    protected void checkQueueLimit() throws JposException {
+        int depth = countCommands();
+        if (EndSync == null && Props.MaxQueuedRequests > 0) {
+            int asyncDepth = depth - Props.SynchronousRequests;
+            if (asyncDepth >= Props.MaxQueuedRequests) {
+                Props.RejectedRequests++;
+                throw new JposException(JPOS_E_BUSY, "Too many pending requests: " + asyncDepth);
+            }
+        }
+        if (EndSync == null && Device.requestPoolFull(this)) {
+            Props.RejectedRequests++;
+            throw new JposException(JPOS_E_BUSY, "Too many requests waiting for a pool thread");
+        }
+        Props.EnqueuedRequests++;
+        if (depth >= Props.MaxRequestQueueDepth)
+            Props.MaxRequestQueueDepth = depth + 1;
+    }
+
     /**
      * Enqueue request for synchronous processing. No JposErrorEvent handling, but exception
      * handling will take place.
      * @throws JposException JposException thrown within command execution thread.
      */
     public void enqueueSynchronous() throws JposException {
-        EndSync = new SyncObject();
-        enqueue();
-        EndSync.suspend(INFINITE);
+        SyncObject endSync = EndSyncObjects.get();
+        endSync.reset();
+        EndSync = endSync;
+        synchronized (Device.AsyncProcessorRunning) {
+            Props.SynchronousRequests++;
+        }
+        try {
+            enqueue();
+            endSync.suspend(INFINITE);
+        } finally {
+            synchronized (Device.AsyncProcessorRunning) {
+                Props.SynchronousRequests--;
+            }
+        }
         JposException ex = Exception;
         reset();
         if (ex != null)
@@ -242,10 +301,9 @@ public class JposOutputRequest implements Runnable {
     protected JposOutputRequest dequeue() {
         JposOutputRequest result = null;
         synchronized (Device.AsyncProcessorRunning) {
-            if (Device.PendingCommands.size() > 0) {
-                result = Device.PendingCommands.get(0);
-                Device.PendingCommands.remove(0);
-            } else
+            if (Device.PendingCommands.size() > 0)
+                result = Device.PendingCommands.remove(0);
+            else
                 Device.AsyncProcessorRunning[0] = null;
             Device.CurrentCommand = result;
         }
@@ -259,10 +317,8 @@ public class JposOutputRequest implements Runnable {
      * @return false if another request is active or enqueued, true otherwise.
      */
     private boolean lastRequest() {
-        for (JposOutputRequest req : Device.PendingCommands) {
-            if (req.Props == Props)
-                return false;
-        }
+        if (Device.PendingCommands.count(Props) > 0)
+            return false;
         if (Props.CurrentCommands != null) {
             for (JposOutputRequest req : Props.CurrentCommands) {
                 if (req != this)
@@ -286,45 +342,39 @@ public class JposOutputRequest implements Runnable {
     public void clearInput() {
         int i = 0;
         List<JposOutputRequest> current = new ArrayList<>();
-        JposOutputRequest request;
         int state = Props.State;
-        synchronized (Device.AsyncProcessorRunning) {
-            while (i < Props.SuspendedCommands.size()) {
-                if (Props.SuspendedCommands.get(i) instanceof JposInputRequest) {
-                    Props.SuspendedCommands.remove(i);
-                } else {
-                    i++;
+        synchronized (Props.RequestSync) {
+            synchronized (Device.AsyncProcessorRunning) {
+                while (i < Props.SuspendedCommands.size()) {
+                    if (Props.SuspendedCommands.get(i) instanceof JposInputRequest) {
+                        Props.SuspendedCommands.remove(i);
+                    } else {
+                        i++;
+                    }
                 }
-            }
-            i = 0;
-            while (i < Props.SuspendedConcurrentCommands.size()) {
-                if (Props.SuspendedConcurrentCommands.get(i) instanceof JposInputRequest) {
-                    Props.SuspendedConcurrentCommands.remove(i);
-                } else {
-                    i++;
+                i = 0;
+                while (i < Props.SuspendedConcurrentCommands.size()) {
+                    if (Props.SuspendedConcurrentCommands.get(i) instanceof JposInputRequest) {
+                        Props.SuspendedConcurrentCommands.remove(i);
+                    } else {
+                        i++;
+                    }
                 }
-            }
-            i = 0;
-            while (i < Device.PendingCommands.size()) {
-                if ((request = Device.PendingCommands.get(i)).Props == Props && request instanceof JposInputRequest) {
-                    Device.PendingCommands.remove(i);
-                } else {
-                    i++;
+                Device.PendingCommands.remove(Props, req -> req instanceof JposInputRequest);
+                if (Device.CurrentCommand instanceof JposInputRequest)
+                    current.add(Device.CurrentCommand);
+                if (Props.CurrentCommands != null) {
+                    for (JposOutputRequest req : Props.CurrentCommands) {
+                        if (req instanceof JposInputRequest)
+                            current.add(req);
+                    }
                 }
-            }
-            if (Device.CurrentCommand instanceof JposInputRequest)
-                current.add(Device.CurrentCommand);
-            if (Props.CurrentCommands != null) {
-                for (JposOutputRequest req : Props.CurrentCommands) {
-                    if (req instanceof JposInputRequest)
-                        current.add(req);
+                if (current.size() == 0) {
+                    Props.AsyncInputActive = false;
+                    if (Props.State == JPOS_S_ERROR && Props.SuspendedCommands.size() + Props.SuspendedConcurrentCommands.size() == 0)
+                        Props.State = JPOS_S_IDLE;
                 }
             }
-            if (current.size() == 0) {
-                Props.AsyncInputActive = false;
-                if (Props.State == JPOS_S_ERROR && Props.SuspendedCommands.size() + Props.SuspendedConcurrentCommands.size() == 0)
-                    Props.State = JPOS_S_IDLE;
-            }
         }
         if (state != Props.State)
             Props.EventSource.logSet("State");
@@ -347,45 +397,39 @@ public class JposOutputRequest implements Runnable {
         int i = 0;
         List<JposOutputRequest> current = new ArrayList<>();
         int state = Props.State;
-        synchronized (Device.AsyncProcessorRunning) {
-            while (i < Props.SuspendedCommands.size()) {
-                if (!(Props.SuspendedCommands.get(i) instanceof JposInputRequest)) {
-                    Props.SuspendedCommands.remove(i);
-                } else {
-                    i++;
+        synchronized (Props.RequestSync) {
+            synchronized (Device.AsyncProcessorRunning) {
+                while (i < Props.SuspendedCommands.size()) {
+                    if (!(Props.SuspendedCommands.get(i) instanceof JposInputRequest)) {
+                        Props.SuspendedCommands.remove(i);
+                    } else {
+                        i++;
+                    }
                 }
-            }
-            i = 0;
-            while (i < Props.SuspendedConcurrentCommands.size()) {
-                if (!(Props.SuspendedConcurrentCommands.get(i) instanceof JposInputRequest)) {
-                    Props.SuspendedConcurrentCommands.remove(i);
-                } else {
-                    i++;
+                i = 0;
+                while (i < Props.SuspendedConcurrentCommands.size()) {
+                    if (!(Props.SuspendedConcurrentCommands.get(i) instanceof JposInputRequest)) {
+                        Props.SuspendedConcurrentCommands.remove(i);
+                    } else {
+                        i++;
+                    }
                 }
-            }
-            i = 0;
-            while (i < Device.PendingCommands.size()) {
-                JposOutputRequest req;
-                if ((req = Device.PendingCommands.get(i)).Props == Props && !(req instanceof JposInputRequest)) {
-                    Device.PendingCommands.remove(i);
-                } else {
-                    i++;
+                Device.PendingCommands.remove(Props, req -> !(req instanceof JposInputRequest));
+                if (!(Device.CurrentCommand instanceof JposInputRequest)) {
+                    JposOutputRequest req = Device.CurrentCommand;
+                    if (req != null && req.Props == Props)
+                        current.add(Device.CurrentCommand);
                 }
-            }
-            if (!(Device.CurrentCommand instanceof JposInputRequest)) {
-                JposOutputRequest req = Device.CurrentCommand;
-                if (req != null && req.Props == Props)
-                    current.add(Device.CurrentCommand);
-            }
-            if (Props.CurrentCommands != null) {
-                for (JposOutputRequest request : Props.CurrentCommands) {
-                    if (!(request instanceof JposInputRequest) && request != null)
-                        current.add(request);
+                if (Props.CurrentCommands != null) {
+                    for (JposOutputRequest request : Props.CurrentCommands) {
+                        if (!(request instanceof JposInputRequest) && request != null)
+                            current.add(request);
+                    }
+                }
+                if (current.size() == 0) {
+                    Props.State = Props.SuspendedCommands.size() + Props.SuspendedConcurrentCommands.size() == 0 ?
+                            JPOS_S_IDLE : JPOS_S_ERROR;
                 }
-            }
-            if (current.size() == 0) {
-                Props.State = Props.SuspendedCommands.size() + Props.SuspendedConcurrentCommands.size() == 0 ?
-                        JPOS_S_IDLE : JPOS_S_ERROR;
             }
         }
         if (state != Props.State)
@@ -398,28 +442,23 @@ public class JposOutputRequest implements Runnable {
      * Removes all pending and suspended output requests belonging to the property set of the command.
      */
     public void clearAll() {
-        int i = 0;
         List<JposOutputRequest> current = new ArrayList<>();
         int state = Props.State;
-        synchronized (Device.AsyncProcessorRunning) {
-            Props.SuspendedCommands.clear();
-            Props.SuspendedConcurrentCommands.clear();
-            while (i < Device.PendingCommands.size()) {
-                if (Device.PendingCommands.get(i).Props == Props) {
-                    Device.PendingCommands.remove(i);
-                } else {
-                    i++;
+        synchronized (Props.RequestSync) {
+            synchronized (Device.AsyncProcessorRunning) {
+                Props.SuspendedCommands.clear();
+                Props.SuspendedConcurrentCommands.clear();
+                Device.PendingCommands.remove(Props, null);
+                if (Device.CurrentCommand != null && Device.CurrentCommand.Props == Props) {
+                    current.add(Device.CurrentCommand);
+                }
+                if (Props.CurrentCommands != null) {
+                    current.addAll(Props.CurrentCommands);
+                }
+                if (current.size() == 0) {
+                    Props.State = JPOS_S_IDLE;
+                    Props.AsyncInputActive = false;
                 }
-            }
-            if (Device.CurrentCommand != null && Device.CurrentCommand.Props == Props) {
-                current.add(Device.CurrentCommand);
-            }
-            if (Props.CurrentCommands != null) {
-                current.addAll(Props.CurrentCommands);
-            }
-            if (current.size() == 0) {
-                Props.State = JPOS_S_IDLE;
-                Props.AsyncInputActive = false;
             }
         }
         if (state != Props.State)
@@ -433,12 +472,9 @@ public class JposOutputRequest implements Runnable {
      * @return Computed amount.
      */
     public int countCommands() {
-        int count = 0;
+        int count;
         synchronized (Device.AsyncProcessorRunning) {
-            for (JposOutputRequest command : Device.PendingCommands) {
-                if (command.Props == Props)
-                    count++;
-            }
+            count = Device.PendingCommands.count(Props);
             JposOutputRequest current = Device.CurrentCommand;
             if (current != null && current.Props == Props)
                 count++;
@@ -455,36 +491,30 @@ public class JposOutputRequest implements Runnable {
      * suspended command list of the property set.
      */
     private void suspend() {
-        int i = 0;
         int state;
-        synchronized (Device.AsyncProcessorRunning) {
-            state = Props.State;
-            JposOutputRequest request = Device.CurrentCommand;
-            if (request != null && request.Props == Props) {
-                Props.SuspendedCommands.add(request);
-                Device.CurrentCommand = null;
-                request.reset();
-                Props.State = JPOS_S_ERROR;
-            }
-            if (Props.CurrentCommands != null) {
-                while (Props.CurrentCommands.size() > 0) {
-                    request = Props.CurrentCommands.get(0);
-                    Props.SuspendedConcurrentCommands.add(request);
-                    Props.CurrentCommands.remove(request);
-                    if (request == this)
-                        request.reset();
-                    else
-                        request.abortCommand(true);
+        synchronized (Props.RequestSync) {
+            synchronized (Device.AsyncProcessorRunning) {
+                state = Props.State;
+                JposOutputRequest request = Device.CurrentCommand;
+                if (request != null && request.Props == Props) {
+                    Props.SuspendedCommands.add(request);
+                    Device.CurrentCommand = null;
+                    request.reset();
                     Props.State = JPOS_S_ERROR;
                 }
-            }
-            while (i < Device.PendingCommands.size()) {
-                if (Device.PendingCommands.get(i).Props == Props) {
-                    Props.SuspendedCommands.add(Device.PendingCommands.get(i));
-                    Device.PendingCommands.remove(i);
-                } else {
-                    i++;
+                if (Props.CurrentCommands != null) {
+                    while (Props.CurrentCommands.size() > 0) {
+                        request = Props.CurrentCommands.get(0);
+                        Props.SuspendedConcurrentCommands.add(request);
+                        Props.CurrentCommands.remove(request);
+                        if (request == this)
+                            request.reset();
+                        else
+                            request.abortCommand(true);
+                        Props.State = JPOS_S_ERROR;
+                    }
                 }
+                Props.SuspendedCommands.addAll(Device.PendingCommands.remove(Props, null));
             }
         }
         if (state != Props.State)
@@ -505,24 +535,26 @@ public class JposOutputRequest implements Runnable {
      * Reactivate previously suspended requests: Add them to PendingCommands and start handler thread.
      */
     public void reactivate() {
-        synchronized (Device.AsyncProcessorRunning) {
-            while (Props.SuspendedCommands.size() > 0) {
-                JposOutputRequest current = Props.SuspendedCommands.get(0);
-                if (!(current instanceof JposInputRequest) && Props.State != JPOS_S_BUSY) {
-                    Props.State = JPOS_S_BUSY;
-                    Props.EventSource.logSet("State");
+        synchronized (Props.RequestSync) {
+            synchronized (Device.AsyncProcessorRunning) {
+                while (Props.SuspendedCommands.size() > 0) {
+                    JposOutputRequest current = Props.SuspendedCommands.get(0);
+                    if (!(current instanceof JposInputRequest) && Props.State != JPOS_S_BUSY) {
+                        Props.State = JPOS_S_BUSY;
+                        Props.EventSource.logSet("State");
+                    }
+                    Props.SuspendedCommands.remove(0);
+                    Device.invokeRequestThread(current, null);
                 }
-                Props.SuspendedCommands.remove(0);
-                Device.invokeRequestThread(current, null);
-            }
-            while (Props.SuspendedConcurrentCommands.size() > 0) {
-                JposOutputRequest current = Props.SuspendedConcurrentCommands.get(0);
-                if (!(current instanceof JposInputRequest) && Props.State != JPOS_S_BUSY) {
-                    Props.State = JPOS_S_BUSY;
-                    Props.EventSource.logSet("State");
+                while (Props.SuspendedConcurrentCommands.size() > 0) {
+                    JposOutputRequest current = Props.SuspendedConcurrentCommands.get(0);
+                    if (!(current instanceof JposInputRequest) && Props.State != JPOS_S_BUSY) {
+                        Props.State = JPOS_S_BUSY;
+                        Props.EventSource.logSet("State");
+                    }
+                    Props.SuspendedConcurrentCommands.remove(0);
+                    Device.createConcurrentRequestThread(current);
                 }
-                Props.SuspendedConcurrentCommands.remove(0);
-                Device.createConcurrentRequestThread(current);
             }
         }
     }
@@ -533,9 +565,11 @@ public class JposOutputRequest implements Runnable {
         while ((current = dequeue()) != null) {
             current.catchedInvocation();
             if (current.EndSync != null) {
-                synchronized (Device.AsyncProcessorRunning) {
-                    current.finished();
-                    transitionToIdle();
+                synchronized (current.Props.RequestSync) {
+                    synchronized (Device.AsyncProcessorRunning) {
+                        current.finished();
+                        current.transitionToIdle();
+                    }
                 }
                 current.EndSync.signal();
             } else
@@ -581,24 +615,28 @@ public class JposOutputRequest implements Runnable {
             } else if (Exception != null) {
                 JposErrorEvent event = createErrorEvent(Exception);
                 if (event == null) {
-                    synchronized (Device.AsyncProcessorRunning) {
-                        finished();
-                        Props.FlagWhenIdle = true;
-                        Props.EventSource.logSet("FlagWhenIdle");
-                        processed = true;
+                    synchronized (Props.RequestSync) {
+                        synchronized (Device.AsyncProcessorRunning) {
+                            finished();
+                            Props.FlagWhenIdle = true;
+                            Props.EventSource.logSet("FlagWhenIdle");
+                            processed = true;
+                        }
                     }
                 } else {
                     suspend();
                     Device.handleEvent(event);
                 }
             } else {
-                synchronized (Device.AsyncProcessorRunning) {
-                    finished();
-                    JposOutputCompleteEvent ocevent = createOutputEvent();
-                    if (ocevent != null) {
-                        Device.handleEvent(ocevent);
+                synchronized (Props.RequestSync) {
+                    synchronized (Device.AsyncProcessorRunning) {
+                        finished();
+                        JposOutputCompleteEvent ocevent = createOutputEvent();
+                        if (ocevent != null) {
+                            Device.handleEvent(ocevent);
+                        }
+                        processed = true;
                     }
-                    processed = true;
                 }
             }
         } catch (Throwable e1) {
@@ -613,23 +651,25 @@ public class JposOutputRequest implements Runnable {
 
     private void transitionToIdle() {
         JposStatusUpdateEvent event = null;
-        synchronized (Device.AsyncProcessorRunning) {
-            if (lastRequest()) {
-                if (Props.State == JPOS_S_BUSY) {
-                    Props.State = JPOS_S_IDLE;
-                    Props.EventSource.logSet("State");
-                }
-                if (Props.FlagWhenIdle) {
-                    Props.FlagWhenIdle = false;
-                    Props.EventSource.logSet("FlagWhenIdle");
-                    synchronized (Device.AsyncProcessorRunning) {
-                        JposOutputRequest savedCommand = Device.CurrentCommand;
-                        try {
-                            event = (Device.CurrentCommand = this).createIdleEvent();
-                        } catch (Throwable e) {
-                            e.printStackTrace();
+        synchronized (Props.RequestSync) {
+            synchronized (Device.AsyncProcessorRunning) {
+                if (lastRequest()) {
+                    if (Props.State == JPOS_S_BUSY) {
+                        Props.State = JPOS_S_IDLE;
+                        Props.EventSource.logSet("State");
+                    }
+                    if (Props.FlagWhenIdle) {
+                        Props.FlagWhenIdle = false;
+                        Props.EventSource.logSet("FlagWhenIdle");
+                        synchronized (Device.AsyncProcessorRunning) {
+                            JposOutputRequest savedCommand = Device.CurrentCommand;
+                            try {
+                                event = (Device.CurrentCommand = this).createIdleEvent();
+                            } catch (Throwable e) {
+                                e.printStackTrace();
+                            }
+                            Device.CurrentCommand = savedCommand;
                         }
-                        Device.CurrentCommand = savedCommand;
                     }
                 }
             }
@@ -0,0 +1,338 @@
+/*
+ * Copyright 2026 Martin Conrad
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package de.gmxhome.conrad.jpos.jpos_base;
+
+import java.util.*;
+import java.util.function.Predicate;
+
+/**
+ * List of pending output requests of a device. Holds the requests of all property sets bound to the device in a global
+ * order, but links the requests of each property set in an additional chain. Therefore, the following operations can
+ * be performed in constant time:
+ * <ul>
+ *     <li>Adding a request at the end of the list,</li>
+ *     <li>Removing the first request or any other request given by reference,</li>
+ *     <li>Retrieving the number of requests that belong to a specific property set.</li>
+ * </ul>
+ * Removing all requests that belong to a property set needs time proportional to the number of requests of that
+ * property set, independent of the number of requests of other property sets.<br>
+ * Access via index needs linear time, use a list iterator to walk through the list and to insert requests at a
+ * specific position. A request must not be added more than once. As with ArrayList, access must be
+ * synchronized externally, usually via the AsyncProcessorRunning object of the device.
+ */
+public class PendingRequestList extends AbstractList<JposOutputRequest> {
+    private static class Node {
+        final JposOutputRequest Request;
+        Node Previous, Next, PreviousOfProps, NextOfProps;
+
+        Node(JposOutputRequest request) {
+            Request = request;
+        }
+    }
+
+    private static class PropsChain {
+        Node First, Last;
+        int Count = 0;
+    }
+
+    private Node First = null, Last = null;
+    private int Size = 0;
+    private final Map<JposOutputRequest, Node> Nodes = new IdentityHashMap<>();
+    private final Map<JposCommonProperties, PropsChain> Chains = new HashMap<>();
+
+    @Override
+    public int size() {
+        return Size;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return o instanceof JposOutputRequest && Nodes.containsKey(o);
+    }
+
+    @Override
+    public JposOutputRequest get(int index) {
+        return getNode(index).Request;
+    }
+
+    private Node getNode(int index) {
+        if (index < 0 || index >= Size)
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + Size);
+        Node node;
+        if (index < Size / 2) {
+            for (node = First; index > 0; --index)
+                node = node.Next;
+        } else {
+            for (node = Last, index = Size - 1 - index; index > 0; --index)
+                node = node.Previous;
+        }
+        return node;
+    }
+
+    @Override
+    public boolean add(JposOutputRequest request) {
+        insertBefore(request, null);
+        return true;
+    }
+
+    @Override
+    public void add(int index, JposOutputRequest request) {
+        if (index < 0 || index > Size)
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + Size);
+        insertBefore(request, index == Size ? null : getNode(index));
+    }
+
+    private void insertBefore(JposOutputRequest request, Node successor) {
+        if (Nodes.containsKey(request))
+            throw new IllegalArgumentException("Request just pending");
+        Node node = new Node(request);
+        Nodes.put(request, node);
+        node.Next = successor;
+        node.Previous = successor == null ? Last : successor.Previous;
+        if (node.Previous == null)
+            First = node;
+        else
+            node.Previous.Next = node;
+        if (successor == null)
+            Last = node;
+        else
+            successor.Previous = node;
+        PropsChain chain = Chains.get(request.Props);
+        if (chain == null)
+            Chains.put(request.Props, chain = new PropsChain());
+        Node previous = node.Previous;
+        if (successor != null) {
+            while (previous != null && previous.Request.Props != request.Props)
+                previous = previous.Previous;
+        } else
+            previous = chain.Last;
+        node.PreviousOfProps = previous;
+        node.NextOfProps = previous == null ? chain.First : previous.NextOfProps;
+        if (node.PreviousOfProps == null)
+            chain.First = node;
+        else
+            node.PreviousOfProps.NextOfProps = node;
+        if (node.NextOfProps == null)
+            chain.Last = node;
+        else
+            node.NextOfProps.PreviousOfProps = node;
+        chain.Count++;
+        Size++;
+        modCount++;
+    }
+
+    @Override
+    public JposOutputRequest remove(int index) {
+        Node node = getNode(index);
+        unlink(node);
+        return node.Request;
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        Node node = o instanceof JposOutputRequest ? Nodes.get(o) : null;
+        if (node == null)
+            return false;
+        unlink(node);
+        return true;
+    }
+
+    private void unlink(Node node) {
+        Nodes.remove(node.Request);
+        if (node.Previous == null)
+            First = node.Next;
+        else
+            node.Previous.Next = node.Next;
+        if (node.Next == null)
+            Last = node.Previous;
+        else
+            node.Next.Previous = node.Previous;
+        PropsChain chain = Chains.get(node.Request.Props);
+        if (node.PreviousOfProps == null)
+            chain.First = node.NextOfProps;
+        else
+            node.PreviousOfProps.NextOfProps = node.NextOfProps;
+        if (node.NextOfProps == null)
+            chain.Last = node.PreviousOfProps;
+        else
+            node.NextOfProps.PreviousOfProps = node.PreviousOfProps;
+        if (--chain.Count == 0)
+            Chains.remove(node.Request.Props);
+        Size--;
+        modCount++;
+    }
+
+    @Override
+    public void clear() {
+        First = Last = null;
+        Size = 0;
+        Nodes.clear();
+        Chains.clear();
+        modCount++;
+    }
+
+    @Override
+    public Iterator<JposOutputRequest> iterator() {
+        return new Itr(0);
+    }
+
+    @Override
+    public ListIterator<JposOutputRequest> listIterator(int index) {
+        if (index < 0 || index > Size)
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + Size);
+        return new Itr(index);
+    }
+
+    /**
+     * List iterator that walks along the node chain. In contrast to the index based iterator of AbstractList, next,
+     * previous, remove and add need constant time (add needs time proportional to the distance to the previous request
+     * of the same property set). set is not supported because requests are linked by identity.
+     */
+    private class Itr implements ListIterator<JposOutputRequest> {
+        private Node NextNode;
+        private Node Current = null;
+        private int NextIndex;
+        private int ExpectedModCount = modCount;
+
+        Itr(int index) {
+            NextNode = index == Size ? null : getNode(index);
+            NextIndex = index;
+        }
+
+        private void checkModCount() {
+            if (ExpectedModCount != modCount)
+                throw new ConcurrentModificationException();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return NextNode != null;
+        }
+
+        @Override
+        public JposOutputRequest next() {
+            checkModCount();
+            if (NextNode == null)
+                throw new NoSuchElementException();
+            Current = NextNode;
+            NextNode = NextNode.Next;
+            NextIndex++;
+            return Current.Request;
+        }
+
+        @Override
+        public boolean hasPrevious() {
+            return NextIndex > 0;
+        }
+
+        @Override
+        public JposOutputRequest previous() {
+            checkModCount();
+            if (NextIndex == 0)
+                throw new NoSuchElementException();
+            Current = NextNode = NextNode == null ? Last : NextNode.Previous;
+            NextIndex--;
+            return Current.Request;
+        }
+
+        @Override
+        public int nextIndex() {
+            return NextIndex;
+        }
+
+        @Override
+        public int previousIndex() {
+            return NextIndex - 1;
+        }
+
+        @Override
+        public void remove() {
+            if (Current == null)
+                throw new IllegalStateException();
+            checkModCount();
+            if (Current == NextNode)
+                NextNode = NextNode.Next;
+            else
+                NextIndex--;
+            unlink(Current);
+            Current = null;
+            ExpectedModCount = modCount;
+        }
+
+        @Override
+        public void set(JposOutputRequest request) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void add(JposOutputRequest request) {
+            checkModCount();
+            insertBefore(request, NextNode);
+            NextIndex++;
+            Current = null;
+            ExpectedModCount = modCount;
+        }
+    }
+
+    /**
+     * Retrieves the number of pending requests that belong to the given property set.
+     * @param props Property set.
+     * @return Number of pending requests of props.
+     */
+    public int count(JposCommonProperties props) {
+        PropsChain chain = Chains.get(props);
+        return chain == null ? 0 : chain.Count;
+    }
+
+    /**
+     * Checks whether a pending request of the given property set matches the given filter.
+     * @param props  Property set.
+     * @param filter Filter to be used, null for any request.
+     * @return true if at least one request of props matches filter.
+     */
+    public boolean contains(JposCommonProperties props, Predicate<JposOutputRequest> filter) {
+        PropsChain chain = Chains.get(props);
+        if (chain != null) {
+            for (Node node = chain.First; node != null; node = node.NextOfProps) {
+                if (filter == null || filter.test(node.Request))
+                    return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Removes all pending requests of the given property set that match the given filter.
+     * @param props  Property set.
+     * @param filter Filter to be used, null for all requests of props.
+     * @return List of removed requests in the order they have been stored in the list.
+     */
+    public List<JposOutputRequest> remove(JposCommonProperties props, Predicate<JposOutputRequest> filter) {
+        List<JposOutputRequest> removed = new ArrayList<>();
+        PropsChain chain = Chains.get(props);
+        if (chain != null) {
+            for (Node node = chain.First; node != null; node = node.NextOfProps) {
+                if (filter == null || filter.test(node.Request)) {
+                    unlink(node);
+                    removed.add(node.Request);
+                }
+            }
+        }
+        return removed;
+    }
+}
@@ -0,0 +1,245 @@
+/*
+ * Copyright 2026 Martin Conrad
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package de.gmxhome.conrad.jpos.jpos_base;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static net.bplaced.conrad.log4jpos.Level.*;
+
+/**
+ * Scheduler for periodic status polls of devices. Instead of a poll thread per device, all poll tasks run on a small
+ * thread pool. The interval between two polls of a task adapts to the device activity: After a poll that reported a
+ * change and while the task is marked as busy, the fast delay will be used. Otherwise, the delay will be doubled after
+ * each poll until it reaches the idle delay. A random jitter will be added to each delay to avoid that polls of
+ * different devices run in synchronized bursts.<br>
+ * A task never runs concurrently with itself. Exceptions thrown by a poll function will be logged via the log of the
+ * device that registered the task. Since poll tasks share the pool threads, they should use short IO timeouts.
+ * Devices with polls that may block for a longer time, e.g. while the device is offline, should use a PollScheduler of
+ * their own instead of the shared one.
+ */
+public class PollScheduler {
+    /**
+     * Poll function of a device.
+     */
+    public interface Poller {
+        /**
+         * Performs one status poll.
+         * @return true if the device status changed or the device is active, false if nothing happened.
+         */
+        boolean poll();
+    }
+
+    /**
+     * A poll task registered at a PollScheduler.
+     */
+    public class Task implements Runnable {
+        private final JposBaseDevice Dev;
+        private final String Name;
+        private final Poller ThePoller;
+        private int FastDelay;
+        private int IdleDelay;
+        private int Delay;
+        private boolean Busy = false;
+        private boolean Triggered = false;
+        private boolean Cancelled = false;
+        private Thread Running = null;
+        private ScheduledFuture<?> Next = null;
+        private long PollCount = 0;
+
+        private Task(JposBaseDevice dev, String name, Poller poller, int fastDelay, int idleDelay) {
+            Dev = dev;
+            Name = name;
+            ThePoller = poller;
+            setDelays(fastDelay, idleDelay);
+        }
+
+        /**
+         * Changes the delays of the task.
+         * @param fastDelay Delay between polls while the device is active, in milliseconds.
+         * @param idleDelay Maximum delay between polls while the device is idle, in milliseconds. Must not be less
+         *                  than fastDelay.
+         */
+        public synchronized void setDelays(int fastDelay, int idleDelay) {
+            if (fastDelay <= 0 || idleDelay < fastDelay)
+                throw new IllegalArgumentException("Invalid poll delays: " + fastDelay + ", " + idleDelay);
+            FastDelay = fastDelay;
+            IdleDelay = idleDelay;
+            Delay = fastDelay;
+        }
+
+        /**
+         * Marks the device as busy or idle. While busy, the task polls with the fast delay, e.g. while a command is
+         * in progress.
+         * @param busy true if the device is busy.
+         */
+        public synchronized void setBusy(boolean busy) {
+            Busy = busy;
+            if (busy)
+                trigger();
+        }
+
+        /**
+         * Requests a poll as soon as possible, e.g. after a command that changes the device status. Subsequent polls
+         * will use the fast delay.
+         */
+        public synchronized void trigger() {
+            if (!Cancelled) {
+                Delay = FastDelay;
+                if (Running == null && (Next == null || Next.cancel(false)))
+                    schedule(0);
+                else    // Poll running or just starting: Poll again when finished
+                    Triggered = true;
+            }
+        }
+
+        /**
+         * Removes the task from the scheduler. When the method returns, the poll function is not running and will not
+         * be called again, except if called by the poll function itself.
+         */
+        public synchronized void cancel() {
+            Cancelled = true;
+            if (Next != null)
+                Next.cancel(false);
+            while (Running != null && Running != Thread.currentThread()) {
+                try {
+                    wait();
+                } catch (InterruptedException ignored) {}
+            }
+        }
+
+        /**
+         * Checks whether the task has been cancelled. Can be used by long-running operations of the device to
+         * check whether they shall be aborted.
+         * @return true if cancel has been called.
+         */
+        public synchronized boolean isCancelled() {
+            return Cancelled;
+        }
+
+        /**
+         * Retrieves the number of polls performed.
+         * @return Number of calls of the poll function.
+         */
+        public synchronized long getPollCount() {
+            return PollCount;
+        }
+
+        /**
+         * Retrieves the current delay.
+         * @return Delay in milliseconds that will be used after the next poll if nothing changes, without jitter.
+         */
+        public synchronized int getCurrentDelay() {
+            return Delay;
+        }
+
+        private void schedule(long delay) {
+            Next = Executor.schedule(this, delay, TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public void run() {
+            synchronized (this) {
+                if (Cancelled)
+                    return;
+                Running = Thread.currentThread();
+                PollCount++;
+            }
+            boolean active = false;
+            try {
+                active = ThePoller.poll();
+            } catch (Throwable e) {
+                Dev.log(ERROR, Name + ": Poll error: " + e);
+            }
+            synchronized (this) {
+                Running = null;
+                if (Cancelled)
+                    notifyAll();
+                else {
+                    Delay = active || Busy ? FastDelay : Math.min(IdleDelay, Delay * 2);
+                    schedule(Triggered ? 0 : jitter(Delay));
+                    Triggered = false;
+                }
+            }
+        }
+    }
+
+    private static PollScheduler Shared = null;
+
+    /**
+     * Retrieves the PollScheduler shared by all devices within the JVM. The scheduler will be created on first use.
+     * @return The shared PollScheduler.
+     */
+    public static synchronized PollScheduler getShared() {
+        if (Shared == null)
+            Shared = new PollScheduler("SharedPollScheduler", Math.max(2, Runtime.getRuntime().availableProcessors()));
+        return Shared;
+    }
+
+    /**
+     * Maximum jitter in percent of the delay. Each delay will be changed by a random value between -Jitter and
+     * +Jitter percent. Default: 10.
+     */
+    public int Jitter = 10;
+
+    private final ScheduledThreadPoolExecutor Executor;
+
+    /**
+     * Constructor. Creates the thread pool. Pool threads are daemon threads.
+     * @param name    Name prefix of the pool threads.
+     * @param threads Number of pool threads.
+     */
+    public PollScheduler(String name, int threads) {
+        AtomicInteger count = new AtomicInteger();
+        Executor = new ScheduledThreadPoolExecutor(threads, runnable -> {
+            Thread thread = new Thread(runnable, name + "-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        Executor.setRemoveOnCancelPolicy(true);
+        Executor.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+    }
+
+    /**
+     * Stops the pool threads of a PollScheduler that is no longer needed. All tasks should have been cancelled before.
+     * Must not be called for the shared PollScheduler.
+     */
+    public void shutdown() {
+        Executor.shutdown();
+    }
+
+    /**
+     * Registers a poll task. Polling starts when method trigger of the returned task will be called. Therefore, the
+     * caller can store the task before the poll function will be called for the first time.
+     * @param dev       Device that registers the task, its log will be used to log exceptions of the poll function.
+     * @param name      Name of the task, will be used as prefix of log messages.
+     * @param poller    The poll function.
+     * @param fastDelay Delay between polls while the device is active, in milliseconds.
+     * @param idleDelay Maximum delay between polls while the device is idle, in milliseconds. Must not be less than
+     *                  fastDelay.
+     * @return The task. Use its cancel method to remove the task from the scheduler.
+     */
+    public Task register(JposBaseDevice dev, String name, Poller poller, int fastDelay, int idleDelay) {
+        return new Task(dev, name, poller, fastDelay, idleDelay);
+    }
+
+    private long jitter(int delay) {
+        long range = (long) delay * Jitter / 100;
+        return range > 0 ? delay + ThreadLocalRandom.current().nextLong(-range, range + 1) : delay;
+    }
+}
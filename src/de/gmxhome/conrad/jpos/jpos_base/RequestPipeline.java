@@ -0,0 +1,365 @@
+/*
+ * Copyright 2026 Martin Conrad
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package de.gmxhome.conrad.jpos.jpos_base;
+
+import jpos.JposException;
+
+import java.util.*;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import static jpos.JposConst.*;
+
+/**
+ * Pipelined request channel for devices with a protocol that tags each command and echoes the tag in the
+ * corresponding response. Up to a maximum number of commands can be in flight at the same time, responses will be
+ * matched to their commands via the tag. Therefore, commands sent by the application need not wait behind status
+ * polls of a status watcher thread.<br>
+ * A reader thread reads all responses. Responses without a known tag will be passed to method unsolicited.<br>
+ * If a request times out, its tag remains reserved until the late response arrives or TagQuarantine milliseconds
+ * have elapsed, whatever happens first. Until then, the tag will not be used for new commands and the reserved tag
+ * occupies one of the maxInFlight slots. Therefore, a late response will never be matched to a newer command.<br>
+ * Status polls can be sent via pollStatus. A status poll will be skipped if the status has been refreshed recently,
+ * e.g. by the response of an application command, and concurrent status polls share one command.<br>
+ * Derived classes implement the protocol specific parts: Building a frame with tag, reading a response and retrieving
+ * the tag of a response. After an IO error in the reader thread, all pending requests fail and the pipeline cannot be
+ * used anymore. A new pipeline must be created after the connection has been established again.
+ */
+public abstract class RequestPipeline implements Runnable {
+    /**
+     * A command sent via the pipeline.
+     */
+    public class Request {
+        /**
+         * The tag of the command.
+         */
+        public final int Tag;
+
+        private final SyncObject Done = new SyncObject();
+        private boolean Finished = false;
+        private byte[] Response = null;
+        private JposException Error = null;
+
+        private Request(int tag) {
+            Tag = tag;
+        }
+
+        /**
+         * Checks whether the response has been received or the request failed.
+         * @return true if finished.
+         */
+        public boolean isFinished() {
+            synchronized (Pending) {
+                return Finished;
+            }
+        }
+
+        /**
+         * Waits for the response. Can be called by more than one thread.
+         * @param timeout Maximum time to wait in milliseconds.
+         * @return The response.
+         * @throws JposException If the request failed or on timeout. In case of a timeout, a response received later
+         *                       will be passed to method unsolicited.
+         */
+        public byte[] getResponse(long timeout) throws JposException {
+            if (!Done.suspend(timeout)) {
+                expire(this);
+                Done.suspend(SyncObject.INFINITE);
+            }
+            Done.signal();      // Wake up other waiting threads
+            synchronized (Pending) {
+                if (Error != null)
+                    throw Error;
+                return Response;
+            }
+        }
+    }
+
+    /**
+     * The IO processor used for communication.
+     */
+    protected final UniqueIOProcessor Stream;
+
+    private final Map<Integer, Request> Pending = new HashMap<>();
+    private final Map<Integer, Long> Reserved = new HashMap<>();
+    private final Semaphore Slots;
+    private final int TagCount;
+    private int NextTag = 0;
+    private JposException Broken = null;
+    private final ThreadHandler Reader;
+
+    /**
+     * Time in milliseconds the tag of a timed-out request remains reserved if no late response arrives. Default:
+     * 10000. Should be greater than the maximum response time of the device.
+     */
+    public long TagQuarantine = 10000;
+
+    private final Object StatusLock = new Object();
+    private Request StatusPoll = null;
+    private long StatusRefreshTime = 0;
+    private boolean StatusRefreshed = false;
+
+    /**
+     * Constructor. The reader thread must be started via method start after construction.
+     * @param stream      IO processor to be used, must have been opened before.
+     * @param maxInFlight Maximum number of commands waiting for a response.
+     * @param tagCount    Number of different tags, tags will be values from 0 to tagCount - 1. Must not be less than
+     *                    maxInFlight.
+     * @param name        Name of the reader thread.
+     */
+    protected RequestPipeline(UniqueIOProcessor stream, int maxInFlight, int tagCount, String name) {
+        if (maxInFlight <= 0 || tagCount < maxInFlight)
+            throw new IllegalArgumentException("Invalid maxInFlight or tagCount");
+        Stream = stream;
+        Slots = new Semaphore(maxInFlight, true);
+        TagCount = tagCount;
+        Reader = new ThreadHandler(name, this);
+    }
+
+    /**
+     * Starts the reader thread. Must be called once before the first command will be sent.
+     */
+    public void start() {
+        Reader.start();
+    }
+
+    /**
+     * Builds the frame to be sent for a command.
+     * @param tag     Tag of the command.
+     * @param command The command.
+     * @return Frame to be written to the IO processor.
+     */
+    protected abstract byte[] frame(int tag, byte[] command);
+
+    /**
+     * Reads the next response. Will be called by the reader thread only.
+     * @return The response, null on timeout. The timeout should be short enough to allow the thread to finish in time.
+     * @throws JposException In case of an IO error.
+     */
+    protected abstract byte[] readResponse() throws JposException;
+
+    /**
+     * Retrieves the tag of a response.
+     * @param response The response.
+     * @return Tag of the response, -1 if the response has no tag.
+     */
+    protected abstract int tagOf(byte[] response);
+
+    /**
+     * Will be called by the reader thread for responses that do not belong to a pending request. The default
+     * implementation discards the response.
+     * @param response The response.
+     */
+    protected void unsolicited(byte[] response) {}
+
+    /**
+     * Specifies whether a response contains the current device status. If so, the next status poll will be skipped
+     * if it happens within the given maximum age. The default implementation returns false.
+     * @param response The response.
+     * @return true if the response refreshes the status.
+     */
+    protected boolean refreshesStatus(byte[] response) {
+        return false;
+    }
+
+    /**
+     * Sends a command.
+     * @param command The command, see method frame.
+     * @param timeout Maximum time to wait for a free slot if the maximum number of commands is in flight, in
+     *                milliseconds.
+     * @return The request. Use its getResponse method to retrieve the response.
+     * @throws JposException On timeout, in case of an IO error or if the pipeline has been broken by a previous error.
+     */
+    public Request send(byte[] command, long timeout) throws JposException {
+        try {
+            if (!Slots.tryAcquire(timeout, TimeUnit.MILLISECONDS))
+                throw new JposException(JPOS_E_TIMEOUT, "Too many pending requests");
+        } catch (InterruptedException e) {
+            throw new JposException(JPOS_E_FAILURE, "Interrupted", e);
+        }
+        Request request;
+        synchronized (Pending) {
+            if (Broken != null) {
+                Slots.release();
+                throw Broken;
+            }
+            // Since pending and reserved tags occupy one slot each, a free tag exists.
+            while (Pending.containsKey(NextTag) || Reserved.containsKey(NextTag))
+                NextTag = (NextTag + 1) % TagCount;
+            Pending.put(NextTag, request = new Request(NextTag));
+            NextTag = (NextTag + 1) % TagCount;
+        }
+        try {
+            Stream.write(frame(request.Tag, command));
+        } catch (JposException e) {
+            finish(request, null, e);
+            throw e;
+        }
+        return request;
+    }
+
+    /**
+     * Sends a command and waits for its response.
+     * @param command The command.
+     * @param timeout Maximum time to wait for a free slot and for the response, each in milliseconds.
+     * @return The response.
+     * @throws JposException On timeout or in case of an error.
+     */
+    public byte[] call(byte[] command, long timeout) throws JposException {
+        return send(command, timeout).getResponse(timeout);
+    }
+
+    /**
+     * Sends a status poll. The poll will be skipped if the status has been refreshed within maxAge milliseconds.
+     * If another status poll is in flight, its response will be used instead of sending a new poll.
+     * @param command Status poll command.
+     * @param maxAge  Maximum age of the current status in milliseconds.
+     * @param timeout Maximum time to wait for a free slot and for the response, each in milliseconds.
+     * @return The response of the status poll, null if the poll has been skipped.
+     * @throws JposException On timeout or in case of an error.
+     */
+    public byte[] pollStatus(byte[] command, long maxAge, long timeout) throws JposException {
+        Request poll;
+        synchronized (StatusLock) {
+            synchronized (Pending) {
+                if (StatusRefreshed && System.nanoTime() - StatusRefreshTime < maxAge * 1000000)
+                    return null;
+            }
+            if (StatusPoll == null || StatusPoll.isFinished())
+                StatusPoll = send(command, timeout);
+            poll = StatusPoll;
+        }
+        byte[] response = poll.getResponse(timeout);
+        statusRefreshed();
+        return response;
+    }
+
+    /**
+     * Marks the status as refreshed, e.g. after the device implementation processed a response with status
+     * information.
+     */
+    public void statusRefreshed() {
+        synchronized (Pending) {
+            StatusRefreshTime = System.nanoTime();
+            StatusRefreshed = true;
+        }
+    }
+
+    /**
+     * Stops the reader thread. Pending requests fail. The IO processor will not be closed.
+     */
+    public void close() {
+        Reader.waitFinished();
+        failAll(new JposException(JPOS_E_CLOSED, "Pipeline closed"));
+    }
+
+    private boolean finish(Request request, byte[] response, JposException error) {
+        synchronized (Pending) {
+            if (Pending.get(request.Tag) != request)
+                return false;
+            Pending.remove(request.Tag);
+            request.Response = response;
+            request.Error = error;
+            request.Finished = true;
+        }
+        Slots.release();
+        request.Done.signal();
+        return true;
+    }
+
+    private void expire(Request request) {
+        synchronized (Pending) {
+            if (Pending.get(request.Tag) != request)
+                return;
+            Pending.remove(request.Tag);
+            request.Error = new JposException(JPOS_E_TIMEOUT, "No response for request " + request.Tag);
+            request.Finished = true;
+            // Keep the slot until the reservation ends, see release and purgeReserved.
+            Reserved.put(request.Tag, System.nanoTime() + TagQuarantine * 1000000);
+        }
+        request.Done.signal();
+    }
+
+    private boolean release(int tag) {
+        synchronized (Pending) {
+            if (Reserved.remove(tag) == null)
+                return false;
+        }
+        Slots.release();
+        return true;
+    }
+
+    private void purgeReserved() {
+        int count = 0;
+        synchronized (Pending) {
+            if (Reserved.isEmpty())
+                return;
+            long now = System.nanoTime();
+            for (Iterator<Map.Entry<Integer, Long>> it = Reserved.entrySet().iterator(); it.hasNext(); ) {
+                if (now - it.next().getValue() >= 0) {
+                    it.remove();
+                    count++;
+                }
+            }
+        }
+        if (count > 0)
+            Slots.release(count);
+    }
+
+    private void failAll(JposException error) {
+        List<Request> requests;
+        int reserved;
+        synchronized (Pending) {
+            if (Broken == null)
+                Broken = error;
+            requests = new ArrayList<>(Pending.values());
+            reserved = Reserved.size();
+            Reserved.clear();
+        }
+        for (Request request : requests)
+            finish(request, null, error);
+        if (reserved > 0)
+            Slots.release(reserved);
+    }
+
+    @Override
+    public void run() {
+        while (!Reader.ToBeFinished) {
+            purgeReserved();
+            byte[] response;
+            try {
+                if ((response = readResponse()) == null)
+                    continue;
+            } catch (JposException e) {
+                failAll(e);
+                return;
+            }
+            if (refreshesStatus(response))
+                statusRefreshed();
+            int tag = tagOf(response);
+            Request request;
+            synchronized (Pending) {
+                request = Pending.get(tag);
+            }
+            if (request == null || !finish(request, response, null)) {
+                release(tag);
+                unsolicited(response);
+            }
+        }
+    }
+}
@@ -31,6 +31,17 @@ import static net.bplaced.conrad.log4jpos.Level.*;
  */
 public class SSLClientIOProcessor extends TcpClientIOProcessor {
     private final SSLSocketFactory Factory;
+    private long LastHandshakeTime = 0;
+
+    /**
+     * Retrieves the time needed for the last successful TLS handshake. Handshakes that resume a previous session are
+     * much faster than full handshakes. Sessions will be resumed automatically if the SSLSocketFactory has been used
+     * for a previous connection to the same target and the session has not been expired.
+     * @return Handshake time in milliseconds.
+     */
+    public long getLastHandshakeTime() {
+        return LastHandshakeTime;
+    }
 
     /**
      * Stores JposDevice and tcp address of derived IO processors. The device will
@@ -57,13 +68,20 @@ public class SSLClientIOProcessor extends TcpClientIOProcessor {
             Dev.log(ERROR, LoggingPrefix + "Open error: Socket just connected");
             throw new JposException(JPOS_E_ILLEGAL, IOProcessorError, "Socket just connected");
         }
+        checkConnectDelay(noErrorLog);
+        long start = System.nanoTime();
         try {
             Sock = new Socket();
+            configureSocket(Sock);
             if (OwnPort != 0)
                 Sock.bind(new InetSocketAddress((InetAddress) null, OwnPort));
             Sock.connect(new InetSocketAddress(TargetIP, TargetPort), ConnectTimeout);
+            // Host and port allow resumption of a session cached by Factory.
             Sock = Factory.createSocket(Sock, TargetIP.getHostAddress(), TargetPort, true);
+            long handshakestart = System.nanoTime();
             ((SSLSocket) Sock).startHandshake();
+            LastHandshakeTime = (System.nanoTime() - handshakestart) / 1000000;
+            connected(start, true);
             // Special UniqueIOProcessor, only used for logging because super.super.open(...) does not work.
             new UniqueIOProcessor(Dev, Port).open(noErrorLog);
         } catch (Exception e) {
@@ -72,6 +90,7 @@ public class SSLClientIOProcessor extends TcpClientIOProcessor {
                     Sock.close();
                 } catch (Exception ignored) {}
                 Sock = null;
+                connected(start, false);
             }
             if (noErrorLog)
                 throw new JposException(JPOS_E_ILLEGAL, IOProcessorError, e.getMessage(), e);
@@ -170,6 +170,48 @@ public interface SerialIOAdapter extends AutoCloseable {
      */
     public byte[] read(int count, int timeout) throws IOException;
 
+    /**
+     * Reads data from a communication port into a buffer provided by the caller. If no data are available, read
+     * blocks until data are available or the specified timeout has been reached. The default implementation uses
+     * read(int, int) and copies the result. Implementations should override this method to read into the buffer
+     * directly and let read(int, int) delegate to it.
+     * @param buffer Buffer to be filled.
+     * @param offset Offset of first byte to be filled.
+     * @param count Maximum number of bytes to be read.
+     * @param timeout Maximum time to wait for data in milliseconds.
+     * @return Number of bytes stored in buffer, 0 on timeout.
+     * @throws IOException In case of an IO error.
+     */
+    public default int read(byte[] buffer, int offset, int count, int timeout) throws IOException {
+        byte[] data = read(count, timeout);
+        System.arraycopy(data, 0, buffer, offset, data.length);
+        return data.length;
+    }
+
+    /**
+     * Listener for incoming data, see setDataListener.
+     */
+    public interface DataListener {
+        /**
+         * Will be called whenever new data have been received. Will be called by a thread of the adapter or the
+         * underlying framework and must not block. Usually, it signals a thread that reads the data.
+         * @param adapter The adapter that received the data.
+         */
+        void dataAvailable(SerialIOAdapter adapter);
+    }
+
+    /**
+     * Sets a listener that will be notified whenever new data have been received. This allows reading data without
+     * polling via available or read with short timeouts. The port must have been opened before. The default
+     * implementation does not support listeners.
+     * @param listener Listener to be notified, null to remove the current listener.
+     * @return true if the adapter supports listeners, false otherwise. In the latter case, the caller must poll.
+     * @throws IOException In case of an IO error.
+     */
+    public default boolean setDataListener(DataListener listener) throws IOException {
+        return false;
+    }
+
     /**
      * Write the given byte buffer to the com port.
      * @param buffer    Buffer to be written
@@ -21,6 +21,7 @@ import jpos.JposException;
 
 import java.io.IOException;
 import java.lang.reflect.*;
+import java.util.Arrays;
 
 import static de.gmxhome.conrad.jpos.jpos_base.JposDevice.*;
 import static de.gmxhome.conrad.jpos.jpos_base.SerialIOAdapter.*;
@@ -175,18 +176,33 @@ public class SerialIOProcessor extends UniqueIOProcessor {
         synchronized (WriteSynchronizer) {
             if (SerialIOExecutor == null)
                 logerror("Write", JPOS_E_ILLEGAL, "Port not open");
-            try {
-                SerialIOExecutor.write(buffer);
-                return super.write(buffer);
-            } catch (IOException e) {
-                return logerror("Write", JPOS_E_FAILURE, e);
-            }
+            if (combineWrite(buffer))
+                return buffer.length;
+            transmit(buffer, 0, buffer.length);
+            return super.write(buffer);
+        }
+    }
+
+    @Override
+    protected boolean canCombineWrites() {
+        return true;
+    }
+
+    @Override
+    protected void transmit(byte[] buffer, int offset, int count) throws JposException {
+        if (SerialIOExecutor == null)
+            logerror("Write", JPOS_E_ILLEGAL, "Port not open");
+        try {
+            SerialIOExecutor.write(offset == 0 && count == buffer.length ? buffer : Arrays.copyOfRange(buffer, offset, offset + count));
+        } catch (IOException e) {
+            logerror("Write", JPOS_E_FAILURE, e);
         }
     }
 
     @Override
     public int available() throws JposException {
         int count = 0;
+        flushOutputBeforeRead();
         if (SerialIOExecutor == null)
             logerror("Available", JPOS_E_ILLEGAL, "Port not open");
         try {
@@ -203,24 +219,63 @@ public class SerialIOProcessor extends UniqueIOProcessor {
 
     @Override
     public byte[] read(int count) throws JposException {
+        byte[] result = new byte[count];
+        int len = read(result, 0, count);
+        return len == count ? result : Arrays.copyOf(result, len);
+    }
+
+    @Override
+    public int read(byte[] buffer, int offset, int count) throws JposException {
+        flushOutputBeforeRead();
         synchronized (ReadSynchronizer) {
             int timeout = Timeout;
             if (SerialIOExecutor == null)
                 logerror("Read", JPOS_E_ILLEGAL, "Port not open");
-            byte[] result = new byte[count];
             if (count == 0)
-                return result;
+                return 0;
             try {
-                result = SerialIOExecutor.read(count, timeout);
-                LoggingData = result;
-                return super.read(count);
+                return logRead(buffer, offset, SerialIOExecutor.read(buffer, offset, count, timeout));
             } catch (IOException e) {
-                logerror("Read", JPOS_E_FAILURE, e);
-                return null;    // Won't be reached
+                return logerror("Read", JPOS_E_FAILURE, e);
             }
         }
     }
 
+    /**
+     * Listener for incoming data, see setInputListener.
+     */
+    public interface InputListener {
+        /**
+         * Will be called whenever new data have been received. Will be called by a thread of the SerialIOAdapter or
+         * the underlying framework and must not block. Usually, it signals a thread that reads the data via read or
+         * available.
+         * @param processor The SerialIOProcessor that received the data.
+         */
+        void inputAvailable(SerialIOProcessor processor);
+    }
+
+    /**
+     * Sets a listener that will be notified whenever new data have been received. This allows devices to wait for
+     * input instead of polling the port via available or read with short timeouts. Not all SerialIOAdapter
+     * implementations support listeners. The listener will be removed when the port will be closed.
+     * @param listener Listener to be notified, null to remove the current listener.
+     * @return true if the listener has been set, false if the SerialIOAdapter does not support listeners. In the
+     *         latter case, the device must poll.
+     * @throws JposException If the port is not open or in case of an IO error.
+     */
+    public boolean setInputListener(InputListener listener) throws JposException {
+        if (SerialIOExecutor == null)
+            logerror("SetInputListener", JPOS_E_ILLEGAL, "Port not open");
+        try {
+            boolean supported = SerialIOExecutor.setDataListener(listener == null ? null : adapter -> listener.inputAvailable(this));
+            Dev.log(DEBUG, LoggingPrefix + (listener == null ? "Input listener removed." : supported ? "Input listener set." : "Input listener not supported."));
+            return supported;
+        } catch (IOException e) {
+            logerror("SetInputListener", JPOS_E_FAILURE, e);
+            return false;   // Won't be reached
+        }
+    }
+
     @Override
     public void flush() throws JposException {
         if (SerialIOExecutor == null)
@@ -283,6 +338,10 @@ public class SerialIOProcessor extends UniqueIOProcessor {
     public void close() throws JposException {
         if (SerialIOExecutor == null)
             logerror("Close", JPOS_E_ILLEGAL, "Not opened");
+        flushOutputOnClose();
+        try {
+            SerialIOExecutor.setDataListener(null);
+        } catch (Exception ignored) {}
         try {
                 SerialIOExecutor.close();
             super.close();
@@ -35,10 +35,19 @@ public class SyncObject {
     private final Semaphore TheSemaphore;
 
     /**
-     * Constructor, initializes Semaphore used for synchronization.
+     * Constructor, initializes Semaphore used for synchronization. Waiting threads will be woken up in FIFO order.
      */
     public SyncObject() {
-        TheSemaphore = new Semaphore(0, true);
+        this(true);
+    }
+
+    /**
+     * Constructor, initializes Semaphore used for synchronization.
+     * @param fair If true, waiting threads will be woken up in FIFO order. Otherwise, a signal may be consumed by any
+     *             waiting thread, which has less overhead if only one thread will wait for the object.
+     */
+    public SyncObject(boolean fair) {
+        TheSemaphore = new Semaphore(0, fair);
     }
 
     /**
@@ -47,23 +56,20 @@ public class SyncObject {
      * @param milliseconds Timeout (-1: without timeout).
      * @return true: SyncObject has been signalled, false otherwise.
      */
-    @SuppressWarnings("AssignmentUsedAsCondition")
     public boolean suspend(long milliseconds) {
-        boolean ret = true;
         if (milliseconds == INFINITE) {
             TheSemaphore.acquireUninterruptibly();
+            return true;
         }
-        else {
-            long starttime = System.currentTimeMillis();
-            ret = false;
-            for (long currenttime = starttime; currenttime - starttime <= milliseconds; currenttime = System.currentTimeMillis()) {
-                try {
-                    if (ret = TheSemaphore.tryAcquire(milliseconds - (currenttime - starttime), TimeUnit.MILLISECONDS))
-                        break;
-                } catch (Exception ignored) {}
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(milliseconds);
+        long remaining = deadline - System.nanoTime();
+        while (true) {
+            try {
+                return TheSemaphore.tryAcquire(remaining > 0 ? remaining : 0, TimeUnit.NANOSECONDS);
+            } catch (InterruptedException ignored) {
+                remaining = deadline - System.nanoTime();
             }
         }
-        return ret;
     }
 
     /**
@@ -77,9 +83,6 @@ public class SyncObject {
      * Reset object to an unsignalled state
      */
     public void reset() {
-        while(true) {
-            if (!suspend(0))
-                break;
-        }
+        TheSemaphore.drainPermits();
     }
 }
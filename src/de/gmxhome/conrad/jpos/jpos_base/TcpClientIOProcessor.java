@@ -22,6 +22,7 @@ import java.io.IOException;
 import java.net.InetAddress;
 import java.net.InetSocketAddress;
 import java.net.Socket;
+import java.net.SocketException;
 import java.net.SocketTimeoutException;
 import java.util.Arrays;
 
@@ -45,6 +46,10 @@ public class TcpClientIOProcessor extends UniqueIOProcessor {
      */
     public TcpClientIOProcessor(JposDevice dev, String addr) throws JposException {
         super(dev, addr);
+        KeepAlive = dev.TcpKeepAlive;
+        NoDelay = dev.TcpNoDelay;
+        ReconnectDelay = dev.TcpReconnectDelay;
+        ReconnectMaxDelay = Math.max(dev.TcpReconnectMaxDelay, ReconnectDelay);
         String[] splitaddr = addr.split(":");
         if (splitaddr.length != 2) {
             int idx = 0;
@@ -88,6 +93,128 @@ public class TcpClientIOProcessor extends UniqueIOProcessor {
      */
     int OwnPort = 0;
 
+    /**
+     * Enable TCP keep-alive. Default: TcpKeepAlive property of device.
+     */
+    boolean KeepAlive;
+
+    /**
+     * Disable Nagle's algorithm. Default: TcpNoDelay property of device.
+     */
+    boolean NoDelay;
+
+    /**
+     * Initial delay between failed connect and next connect attempt in milliseconds. Default: TcpReconnectDelay property
+     * of device.
+     */
+    int ReconnectDelay;
+
+    /**
+     * Maximum delay between failed connect and next connect attempt in milliseconds. Default: TcpReconnectMaxDelay
+     * property of device.
+     */
+    int ReconnectMaxDelay;
+
+    private int CurrentDelay = 0;
+    private long NextConnect = 0;
+    private int Connects = 0;
+    private int Reconnects = 0;
+    private int FailedConnects = 0;
+    private long LastConnectTime = 0;
+
+    /**
+     * Retrieves the number of successful connects after the first successful connect.
+     * @return Number of reconnects.
+     */
+    public int getReconnectCount() {
+        return Reconnects;
+    }
+
+    /**
+     * Retrieves the number of failed connect attempts, including attempts rejected due to reconnect delay.
+     * @return Number of failed connects.
+     */
+    public int getFailedConnectCount() {
+        return FailedConnects;
+    }
+
+    /**
+     * Retrieves the time needed for the last successful connect, including the TLS handshake, if any.
+     * @return Connect time in milliseconds.
+     */
+    public long getLastConnectTime() {
+        return LastConnectTime;
+    }
+
+    /**
+     * Checks whether a connect attempt is allowed. After a failed connect, the next attempt is allowed after the
+     * current reconnect delay. Must be called by open before connecting.
+     * @param noErrorLog If set, no error will be logged.
+     * @throws JposException If the reconnect delay has not been elapsed.
+     */
+    void checkConnectDelay(boolean noErrorLog) throws JposException {
+        if (CurrentDelay > 0 && System.nanoTime() - NextConnect < 0) {
+            FailedConnects++;
+            String message = "Connect delayed after previous failure";
+            if (noErrorLog)
+                throw new JposException(JPOS_E_FAILURE, IOProcessorError, message);
+            logerror("Open", JPOS_E_FAILURE, message);
+        }
+    }
+
+    /**
+     * Sets the socket options. Must be called by open before connecting.
+     * @param sock Socket to be configured.
+     * @throws SocketException If an option cannot be set.
+     */
+    void configureSocket(Socket sock) throws SocketException {
+        if (KeepAlive)
+            sock.setKeepAlive(true);
+        if (NoDelay)
+            sock.setTcpNoDelay(true);
+    }
+
+    /**
+     * Updates connect statistics and reconnect delay. Must be called by open after connecting.
+     * @param start   Value of System.nanoTime() before connecting.
+     * @param success True if connected successfully.
+     */
+    void connected(long start, boolean success) {
+        if (success) {
+            if (Connects++ > 0)
+                Reconnects++;
+            CurrentDelay = 0;
+            LastConnectTime = (System.nanoTime() - start) / 1000000;
+        } else {
+            FailedConnects++;
+            CurrentDelay = CurrentDelay == 0 ? ReconnectDelay : Math.min(CurrentDelay * 2, ReconnectMaxDelay);
+            NextConnect = System.nanoTime() + CurrentDelay * 1000000L;
+        }
+    }
+
+    /**
+     * Closes the connection, if any, and connects again. Pending output of write combining remains buffered and will
+     * be sent via the new connection, the linger time will be suspended while no connection exists. If a previous
+     * connect attempt failed, the next attempt will be rejected until the reconnect delay has been elapsed.
+     * @param noErrorLog If set, no error will be logged in error case.
+     * @throws JposException If the connection cannot be established.
+     */
+    public void reconnect(boolean noErrorLog) throws JposException {
+        synchronized (WriteSynchronizer) {
+            suspendLinger();
+            if (Sock != null) {
+                try {
+                    Sock.close();
+                } catch (IOException ignored) {}
+                Sock = null;
+            }
+        }
+        open(noErrorLog);
+        synchronized (WriteSynchronizer) {
+            resumeLinger();
+        }
+    }
+
     /**
      * Sets TCP specific communication parameter.
      * @param ownport   Own port address
@@ -124,17 +251,32 @@ public class TcpClientIOProcessor extends UniqueIOProcessor {
         synchronized (WriteSynchronizer) {
             if (Sock == null)
                 logerror("Write", JPOS_E_ILLEGAL, "Socket not connected");
-            try {
-                Sock.getOutputStream().write(buffer);
-            } catch (IOException e) {
-                logerror("Write", JPOS_E_FAILURE, e);
-            }
+            if (combineWrite(buffer))
+                return buffer.length;
+            transmit(buffer, 0, buffer.length);
             return super.write(buffer);
         }
     }
 
+    @Override
+    protected boolean canCombineWrites() {
+        return true;
+    }
+
+    @Override
+    protected void transmit(byte[] buffer, int offset, int count) throws JposException {
+        if (Sock == null)
+            logerror("Write", JPOS_E_ILLEGAL, "Socket not connected");
+        try {
+            Sock.getOutputStream().write(buffer, offset, count);
+        } catch (IOException e) {
+            logerror("Write", JPOS_E_FAILURE, e);
+        }
+    }
+
     @Override
     public int available() throws JposException {
+        flushOutputBeforeRead();
         if (Sock == null)
             logerror("Available", JPOS_E_ILLEGAL, "Socket not connected");
         try {
@@ -147,23 +289,33 @@ public class TcpClientIOProcessor extends UniqueIOProcessor {
 
     @Override
     public byte[] read(int count) throws JposException {
+        byte[] result = new byte[count];
+        int len = read(result, 0, count);
+        return len == count ? result : Arrays.copyOf(result, len);
+    }
+
+    @Override
+    public int read(byte[] buffer, int offset, int count) throws JposException {
+        flushOutputBeforeRead();
         synchronized(ReadSynchronizer) {
             if (Sock == null)
                 logerror("Read", JPOS_E_ILLEGAL, "Socket not connected");
+            int len = 0;
             try {
                 Sock.setSoTimeout(Timeout);
                 long start = System.currentTimeMillis();
-                int len = Sock.getInputStream().read(LoggingData = new byte[count]);
-                if (len > 0 || (Timeout >= 0 && System.currentTimeMillis() - start >= Timeout))
-                    LoggingData = len > 0 ? Arrays.copyOf(LoggingData, len) : new byte[0];
-                else
-                    logerror("Read", JPOS_E_FAILURE, "Bad socket: Timeout not working ");
+                len = Sock.getInputStream().read(buffer, offset, count);
+                if (len <= 0) {
+                    if (!(Timeout >= 0 && System.currentTimeMillis() - start >= Timeout))
+                        logerror("Read", JPOS_E_FAILURE, "Bad socket: Timeout not working ");
+                    len = 0;
+                }
             } catch (SocketTimeoutException e) {
-                LoggingData = new byte[0];
+                len = 0;
             } catch (IOException e) {
                 logerror("Read", JPOS_E_FAILURE, e);
             }
-            return super.read(count);
+            return logRead(buffer, offset, len);
         }
     }
 
@@ -197,13 +349,24 @@ public class TcpClientIOProcessor extends UniqueIOProcessor {
             Dev.log(ERROR, LoggingPrefix + "Open error: Socket just connected");
             throw new JposException(JPOS_E_ILLEGAL, IOProcessorError, "Socket just connected");
         }
+        checkConnectDelay(noErrorLog);
+        long start = System.nanoTime();
         try {
             Sock = new Socket();
+            configureSocket(Sock);
             if (OwnPort != 0)
                 Sock.bind(new InetSocketAddress((InetAddress) null, OwnPort));
             Sock.connect(new InetSocketAddress(TargetIP, TargetPort), ConnectTimeout);
+            connected(start, true);
             super.open(noErrorLog);
         } catch (Exception e) {
+            if (Sock != null && !Sock.isConnected()) {
+                try {
+                    Sock.close();
+                } catch (Exception ignored) {}
+                Sock = null;
+                connected(start, false);
+            }
             if (noErrorLog)
                 throw new JposException(JPOS_E_ILLEGAL, IOProcessorError, e.getMessage(), e);
             logerror("Open", JPOS_E_ILLEGAL, e);
@@ -216,6 +379,7 @@ public class TcpClientIOProcessor extends UniqueIOProcessor {
             Dev.log(ERROR, LoggingPrefix + "Close error: Socket just closed");
             throw new JposException(JPOS_E_ILLEGAL, IOProcessorError, "Socket just closed");
         }
+        flushOutputOnClose();
         try {
             Sock.close();
         } catch (IOException e) {
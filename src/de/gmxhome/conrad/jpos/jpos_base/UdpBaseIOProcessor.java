@@ -24,8 +24,10 @@ import java.net.InetSocketAddress;
 import java.net.SocketAddress;
 import java.nio.ByteBuffer;
 import java.nio.channels.DatagramChannel;
-import java.util.ArrayList;
-import java.util.List;
+import java.nio.channels.SelectionKey;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
 
 import static de.gmxhome.conrad.jpos.jpos_base.SyncObject.INFINITE;
 import static jpos.JposConst.JPOS_E_FAILURE;
@@ -70,11 +72,48 @@ public abstract class UdpBaseIOProcessor extends UniqueIOProcessor implements Ru
     protected DatagramChannel Socket = null;
 
     private Thread TheReader = null;
+    private IOReactor Reactor = null;
+    private ByteBuffer ReactorBuffer = null;
     private SyncObject ReadWaiter = null;
     private SyncObject ContinueWaiter = null;
-    private final List<Object> InputData = new ArrayList<>();
     private boolean HighWaterWaiting = false;
 
+    // Ring buffer for received frames. InputBytes is the sum of the data lengths of all buffered frames.
+    private Frame[] InputFrames = new Frame[0];
+    private int InputHead = 0;
+    private int InputCount = 0;
+    private int InputBytes = 0;
+    private int HighWater = 0;
+    private int LowWater = 0;
+
+    // Exception that occurred during receive. It will be passed to the reader after all buffered frames.
+    private JposException InputException = null;
+
+    private long DroppedFrames = 0;
+    private long ReceiveSuspensions = 0;
+
+    /**
+     * Retrieves the number of received frames that have been discarded because the input buffer was full. Frames can
+     * only be discarded if the high-water mark is 0, otherwise receiving will be suspended before the buffer is full.
+     * @return Number of discarded frames since the processor has been created.
+     */
+    public long getDroppedFrames() {
+        synchronized (ReadSynchronizer) {
+            return DroppedFrames;
+        }
+    }
+
+    /**
+     * Retrieves how often receiving has been suspended because the number of buffered frames reached the high-water
+     * mark. While suspended, further frames remain in the receive buffer of the socket.
+     * @return Number of suspensions since the processor has been created.
+     */
+    public long getReceiveSuspensions() {
+        synchronized (ReadSynchronizer) {
+            return ReceiveSuspensions;
+        }
+    }
+
     /**
      * Internal class, encapsulating a received frame with source address.
      */
@@ -100,6 +139,46 @@ public abstract class UdpBaseIOProcessor extends UniqueIOProcessor implements Ru
         }
     }
 
+    /**
+     * Maximum number of Frame objects kept for reuse.
+     */
+    private static final int MaxPooledFrames = 64;
+
+    // Frame objects that can be reused, the data of a frame will be passed to the application and is never reused.
+    private final Deque<Frame> FramePool = new ArrayDeque<>();
+
+    /**
+     * Creates a frame from the received data. Only the payload, the bytes between position 0 and the current position
+     * of data, will be copied. The Frame object will be taken from a pool, if possible.
+     * @param data   Buffer filled by receive or read, position must be behind the last received byte.
+     * @param source Source address.
+     * @return Frame containing a copy of the payload and the source address.
+     */
+    Frame newFrame(ByteBuffer data, SocketAddress source) {
+        byte[] payload = new byte[data.position()];
+        data.flip();
+        data.get(payload);
+        Frame frame;
+        synchronized (FramePool) {
+            frame = FramePool.pollFirst();
+        }
+        if (frame == null)
+            return new Frame(payload, source);
+        frame.Data = payload;
+        frame.Addr = (InetSocketAddress) source;
+        return frame;
+    }
+
+    // Returns a frame that is no longer needed to the frame pool.
+    private void releaseFrame(Frame frame) {
+        frame.Data = null;
+        frame.Addr = null;
+        synchronized (FramePool) {
+            if (FramePool.size() < MaxPooledFrames)
+                FramePool.addFirst(frame);
+        }
+    }
+
     @Override
     public int setTimeout(int timeout) {
         return Timeout = timeout > 0 ? timeout : (timeout == 0 ? 1 : Integer.MAX_VALUE);
@@ -132,9 +211,31 @@ public abstract class UdpBaseIOProcessor extends UniqueIOProcessor implements Ru
                 Socket.socket().bind(null);
             ReadWaiter = new SyncObject();
             ContinueWaiter = new SyncObject();
-            InputData.clear();
+            synchronized (ReadSynchronizer) {
+                InputFrames = new Frame[Dev.UdpInputCapacity];
+                HighWater = Dev.UdpInputHighWater;
+                LowWater = Dev.UdpInputLowWater;
+                InputHead = InputCount = InputBytes = 0;
+                InputException = null;
+            }
             HighWaterWaiting = false;
-            (TheReader = new Thread(this, initAfterBind())).start();
+            String name = initAfterBind();
+            if (Dev.SharedIOReactor) {
+                ReactorBuffer = ByteBuffer.allocateDirect(Socket.socket().getReceiveBufferSize());
+                (Reactor = IOReactor.getShared()).register(Socket, SelectionKey.OP_READ, new IOReactor.Handler() {
+                    @Override
+                    public void ready(SelectionKey key) {
+                        receive(key);
+                    }
+
+                    @Override
+                    public void failed(Exception error) {
+                        String message = "IOReactor stopped: " + error.getClass().getSimpleName();
+                        addInputData(new JposException(JPOS_E_FAILURE, message, error));
+                    }
+                });
+            } else
+                (TheReader = new Thread(this, name)).start();
         } catch (Exception e) {
             String message = e.getClass().getSimpleName() + ": " + e.getMessage();
             if (noErrorLog)
@@ -149,6 +250,8 @@ public abstract class UdpBaseIOProcessor extends UniqueIOProcessor implements Ru
             Dev.log(ERROR, LoggingPrefix + "Close error: Socket just closed");
             throw new JposException(JPOS_E_ILLEGAL, IOProcessorError, "Socket just closed");
         }
+        if (Reactor != null)
+            Reactor.unregister(Socket);
         try {
             Socket.close();
         } catch (Exception e) {
@@ -156,20 +259,35 @@ public abstract class UdpBaseIOProcessor extends UniqueIOProcessor implements Ru
         }
         Socket = null;
         LoggingPrefix = "";
-        ContinueWaiter.signal();
-        try {
-            TheReader.join();
-        } catch (InterruptedException ignored) {}
-        TheReader = null;
+        if (Reactor == null) {
+            ContinueWaiter.signal();
+            try {
+                TheReader.join();
+            } catch (InterruptedException ignored) {}
+            TheReader = null;
+        }
+        Reactor = null;
+        ReactorBuffer = null;
         super.close();
     }
 
     /**
      * Encapsulated socket write or send method call
      * @param buffer    Buffer to be written.
+     * @return Number of bytes sent. 0 if the socket is in non-blocking mode and the socket buffer is full, otherwise
+     *         the buffer size.
      * @throws IOException If an error occurs.
      */
-    abstract void send(ByteBuffer buffer) throws IOException;
+    abstract int send(ByteBuffer buffer) throws IOException;
+
+    /**
+     * Maximum time in milliseconds write retries sending a frame while the socket buffer is full. Only relevant for
+     * sockets registered at the shared IOReactor, these are in non-blocking mode.
+     */
+    private static final int MaxSendRetryTime = 1000;
+
+    // Never signalled, used to wait between send retries. Access is synchronized via WriteSynchronizer.
+    private final SyncObject SendRetryWaiter = new SyncObject();
 
     @Override
     public int write(byte[] buffer) throws JposException {
@@ -179,7 +297,13 @@ public abstract class UdpBaseIOProcessor extends UniqueIOProcessor implements Ru
             try {
                 if (Socket.socket().getSendBufferSize() < buffer.length)
                     throw new JposException(JPOS_E_ILLEGAL, "Message too long: " + buffer.length);
-                send(ByteBuffer.wrap(buffer));
+                ByteBuffer data = ByteBuffer.wrap(buffer);
+                long deadline = System.nanoTime() + MaxSendRetryTime * 1000000L;
+                while (send(data) == 0 && buffer.length > 0) {
+                    if (System.nanoTime() - deadline >= 0)
+                        logerror("Write", JPOS_E_FAILURE, "Socket buffer full, frame not sent");
+                    SendRetryWaiter.suspend(1);
+                }
             } catch (IOException e) {
                 logerror("Write", JPOS_E_FAILURE, e);
             }
@@ -187,24 +311,102 @@ public abstract class UdpBaseIOProcessor extends UniqueIOProcessor implements Ru
         }
     }
 
+    // Used by the reader thread and flush to ensure that flush does not complete while a frame is being added.
     private final int[] FlushSync = {0};
 
     /**
      * Encapsulated socket read or receive call. Returns null if no frames are present. Otherwise, a Frame object with
      * frame data ans the source address, either from receive or TargetIP (if connected client socket).
-     * @param data ByteBuffer to be used for reading.
+     * @param data ByteBuffer to be used for reading. It is a cleared direct buffer that will be reused for all frames,
+     *             therefore its content must be copied via newFrame.
      * @return Frame containing frame data and source address or null.
      * @throws IOException If an I/O error occurred during receive.
      */
     abstract Object getFrameOrException(ByteBuffer data) throws IOException;
 
+    /**
+     * Stores a received frame or exception into the input buffer and wakes up a waiting reader.
+     * @param readobj Frame or JposException.
+     * @return true if receiving must be suspended until the reader continues receiving.
+     */
+    private boolean addInputData(Object readobj) {
+        synchronized (ReadSynchronizer) {
+            if (readobj instanceof JposException) {
+                InputException = (JposException) readobj;
+                ReadWaiter.signal();
+                return true;
+            }
+            Frame frame = (Frame) readobj;
+            if (InputCount == InputFrames.length) {
+                DroppedFrames++;
+                releaseFrame(frame);
+                return false;
+            }
+            InputFrames[(InputHead + InputCount++) % InputFrames.length] = frame;
+            InputBytes += frame.Data.length;
+            ReadWaiter.signal();
+            if (HighWater > 0 && InputCount >= HighWater) {
+                HighWaterWaiting = true;
+                ReceiveSuspensions++;
+                return true;
+            }
+            return false;
+        }
+    }
+
+    // Removes all frames from the input buffer. Must be called while holding ReadSynchronizer.
+    private void clearInputFrames() {
+        Arrays.fill(InputFrames, null);
+        InputHead = InputCount = InputBytes = 0;
+    }
+
+    /**
+     * Continues receiving after receiving has been suspended due to an exception or a full input buffer.
+     */
+    private void continueReceiving() {
+        if (Reactor != null) {
+            DatagramChannel socket = Socket;
+            if (socket != null)
+                Reactor.setInterest(socket, SelectionKey.OP_READ);
+        } else
+            ContinueWaiter.signal();
+    }
+
+    /**
+     * Handler for the shared IOReactor. Receives all frames that are currently available. If receiving must be
+     * suspended, the socket will not be selected until the reader calls continueReceiving.<br>
+     * The reactor thread is shared by all UDP devices, therefore it only holds ReadSynchronizer while storing a frame
+     * and never waits for FlushSync.
+     * @param key Selection key of the socket.
+     */
+    private void receive(SelectionKey key) {
+        while (Socket != null) {
+            Object readobj;
+            try {
+                ReactorBuffer.clear();
+                readobj = getFrameOrException(ReactorBuffer);
+                if (readobj == null)
+                    return;
+            } catch (Exception e) {
+                readobj = new JposException(JPOS_E_FAILURE, e.getClass().getSimpleName() + ": " + e.getMessage(), e);
+            }
+            if (addInputData(readobj)) {
+                key.interestOps(0);
+                return;
+            }
+        }
+    }
+
     @Override
     public void run() {
+        ByteBuffer data = null;
         while (Socket != null) {
             Object readobj;
-            boolean highwater = false;
             try {
-                ByteBuffer data = ByteBuffer.wrap(new byte[Socket.socket().getReceiveBufferSize()]);
+                int size = Socket.socket().getReceiveBufferSize();
+                if (data == null || data.capacity() < size)
+                    data = ByteBuffer.allocateDirect(size);
+                data.clear();
                 readobj = getFrameOrException(data);
                 if (readobj == null)
                     continue;
@@ -212,13 +414,7 @@ public abstract class UdpBaseIOProcessor extends UniqueIOProcessor implements Ru
                 readobj = new JposException(JPOS_E_FAILURE, e.getClass().getSimpleName() + ": " + e.getMessage(), e);
             }
             synchronized (FlushSync) {
-                synchronized (ReadSynchronizer) {
-                    InputData.add(readobj);
-                    if (readobj instanceof Frame && InputData.size() >= 1000)
-                        highwater = HighWaterWaiting = true;
-                    ReadWaiter.signal();
-                }
-                if (readobj instanceof JposException || highwater)
+                if (addInputData(readobj))
                     ContinueWaiter.suspend(INFINITE);
             }
         }
@@ -227,23 +423,14 @@ public abstract class UdpBaseIOProcessor extends UniqueIOProcessor implements Ru
     @Override
     public int available() throws JposException {
         synchronized(ReadSynchronizer) {
-            int count = 0;
-            for (Object data : InputData) {
-                if (data instanceof JposException) {
-                    if (count == 0) {
-                        InputData.clear();
-                        ReadWaiter = new SyncObject();
-                        ContinueWaiter.signal();
-                        throw (JposException) data;
-                    }
-                    else
-                        break;
-                }
-                else {
-                    count += ((Frame) data).Data.length;
-                }
+            if (InputCount == 0 && InputException != null) {
+                JposException e = InputException;
+                InputException = null;
+                ReadWaiter = new SyncObject();
+                continueReceiving();
+                throw e;
             }
-            LoggingData = String.valueOf(count).getBytes();
+            LoggingData = String.valueOf(InputBytes).getBytes();
             return super.available();
         }
     }
@@ -252,18 +439,29 @@ public abstract class UdpBaseIOProcessor extends UniqueIOProcessor implements Ru
     public byte[] read(int count) throws JposException {
         if (ReadWaiter.suspend(Timeout)) {
             synchronized (ReadSynchronizer) {
-                Object data = InputData.get(0);
-                InputData.remove(0);
-                if (data instanceof JposException) {
-                    ContinueWaiter.signal();
-                    throw (JposException) data;
+                if (InputCount == 0) {
+                    JposException e = InputException;
+                    if (e == null) {
+                        // Data have been consumed via flush or available meanwhile
+                        LoggingData = new byte[0];
+                        return super.read(count);
+                    }
+                    InputException = null;
+                    continueReceiving();
+                    throw e;
                 }
-                if (HighWaterWaiting && InputData.size() < 500) {
+                Frame frame = InputFrames[InputHead];
+                InputFrames[InputHead] = null;
+                InputHead = (InputHead + 1) % InputFrames.length;
+                InputCount--;
+                InputBytes -= frame.Data.length;
+                if (HighWaterWaiting && InputCount <= LowWater) {
                     HighWaterWaiting = false;
-                    ContinueWaiter.signal();
+                    continueReceiving();
                 }
-                LoggingData = ((Frame) data).Data;
-                SourceIP = ((Frame) data).Addr;
+                LoggingData = frame.Data;
+                SourceIP = frame.Addr;
+                releaseFrame(frame);
             }
         } else
             LoggingData = new byte[0];
@@ -272,30 +470,27 @@ public abstract class UdpBaseIOProcessor extends UniqueIOProcessor implements Ru
 
     @Override
     public void flush() throws JposException {
-        boolean callSuper = true;
         while (true) {
             synchronized (ReadSynchronizer) {
-                if (InputData.size() > 0) {
-                    Object e = InputData.get(InputData.size() - 1);
-                    InputData.clear();
+                if (InputCount > 0 || InputException != null) {
+                    JposException e = InputException;
+                    clearInputFrames();
+                    InputException = null;
                     ReadWaiter = new SyncObject();
-                    if (e instanceof JposException || HighWaterWaiting) {
+                    if (e != null || HighWaterWaiting) {
                         HighWaterWaiting = false;
-                        ContinueWaiter.signal();
-                        if (e instanceof JposException)
-                            throw (JposException) e;
+                        continueReceiving();
+                        if (e != null)
+                            throw e;
                     }
                 }
-                if (callSuper) {
-                    super.flush();
-                    callSuper = false;
-                }
             }
             synchronized (FlushSync) {
-                if (InputData.size() == 0) {
+                if (InputCount == 0 && InputException == null) {
                     break;
                 }
             }
         }
+        super.flush();
     }
 }
@@ -21,7 +21,6 @@ import jpos.JposException;
 import java.io.IOException;
 import java.net.*;
 import java.nio.ByteBuffer;
-import java.util.Arrays;
 
 import static jpos.JposConst.*;
 
@@ -90,14 +89,14 @@ public class UdpClientIOProcessor extends UdpBaseIOProcessor {
     }
 
     @Override
-    void send(ByteBuffer buffer) throws IOException {
-        Socket.write(buffer);
+    int send(ByteBuffer buffer) throws IOException {
+        return Socket.write(buffer);
     }
 
     Object getFrameOrException(ByteBuffer data) throws IOException {
         int count = Socket.read(data);
         if (count <= 0)
             return null;
-        return new Frame(Arrays.copyOf(data.array(), count), TargetIP);
+        return newFrame(data, TargetIP);
     }
 }
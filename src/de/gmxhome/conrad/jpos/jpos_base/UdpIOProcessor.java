@@ -21,7 +21,6 @@ import jpos.JposException;
 import java.io.IOException;
 import java.net.*;
 import java.nio.ByteBuffer;
-import java.util.Arrays;
 
 import static jpos.JposConst.*;
 
@@ -130,14 +129,14 @@ public class UdpIOProcessor extends UdpBaseIOProcessor {
     }
 
     @Override
-    void send(ByteBuffer buffer) throws IOException {
-        Socket.send(buffer, TargetIP);
+    int send(ByteBuffer buffer) throws IOException {
+        return Socket.send(buffer, TargetIP);
     }
 
     Object getFrameOrException(ByteBuffer data) throws IOException {
             InetSocketAddress address = (InetSocketAddress)  Socket.receive(data);
             if (address == null)
                 return null;
-            return new Frame(Arrays.copyOf(data.array(), data.position()), address);
+            return newFrame(data, address);
     }
 }
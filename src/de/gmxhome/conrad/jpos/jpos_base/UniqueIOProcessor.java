@@ -18,7 +18,9 @@ package de.gmxhome.conrad.jpos.jpos_base;
 
 import jpos.JposException;
 
+import java.nio.ByteBuffer;
 import java.util.Arrays;
+import java.util.concurrent.*;
 
 import static jpos.JposConst.*;
 import static net.bplaced.conrad.log4jpos.Level.*;
@@ -145,21 +147,24 @@ public class UniqueIOProcessor implements AutoCloseable {
      */
     final byte[] ReadSynchronizer = {'R'};
 
+    // Hexadecimal digits used by toLogString.
+    private static final char[] HexDigits = "0123456789ABCDEF".toCharArray();
+
     /**
      * Generate log string from byte buffer
      * @param buffer byte array containing input or output data
      * @return String corresponding to previously specified logging type
      */
     public String toLogString(byte[] buffer) {
-        StringBuilder res = new StringBuilder();
+        StringBuilder res = new StringBuilder(buffer.length * 3);
         for (byte c : buffer) {
             switch (LoggingType) {
             case LoggingTypeHexString:
-                res.append(String.format(" %02X", c & 0xff));
+                res.append(' ').append(HexDigits[(c >> 4) & 0xf]).append(HexDigits[c & 0xf]);
                 break;
             case LoggingTypeEscapeString:
                 if (c < 0x20)
-                    res.append(String.format("\\%03o", (int) c & 0xff));
+                    res.append('\\').append((char) ('0' + ((c >> 6) & 3))).append((char) ('0' + ((c >> 3) & 7))).append((char) ('0' + (c & 7)));
                 else if (c == '\\')
                     res.append("\\");
                 else
@@ -196,10 +201,207 @@ public class UniqueIOProcessor implements AutoCloseable {
      * @throws  JposException if something goes wrong
      */
     public int write(byte[] buffer) throws JposException {
-        Dev.log(TRACE, LoggingPrefix + "Write " + buffer.length + " byte" + location(false) +": " + toLogString(buffer));
+        Dev.log(TRACE, () -> LoggingPrefix + "Write " + buffer.length + " byte" + location(false) +": " + toLogString(buffer));
         return buffer.length;
     }
 
+    // Write combining: WriteBuffer is null while write combining is disabled. Change only while holding
+    // WriteSynchronizer. WriteCount and WriteError are volatile to let readers check for pending data without lock.
+    private byte[] WriteBuffer = null;
+    private volatile int WriteCount = 0;
+    private int WriteLinger = 0;
+    private ScheduledFuture<?> LingerTask = null;
+    private volatile JposException WriteError = null;
+
+    private static ScheduledExecutorService LingerTimer = null;
+
+    private static synchronized ScheduledExecutorService getLingerTimer() {
+        if (LingerTimer == null) {
+            LingerTimer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "WriteLingerTimer");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return LingerTimer;
+    }
+
+    /**
+     * Specifies whether the IO processor supports write combining. Derived classes that support write combining must
+     * override this method and method transmit and must call combineWrite in their write method,
+     * flushOutputBeforeRead in their read and available methods and flushOutputOnClose in their close method.
+     * @return true if write combining is supported. The default implementation returns false.
+     */
+    protected boolean canCombineWrites() {
+        return false;
+    }
+
+    /**
+     * Enables or disables write combining. If enabled, data passed to write will be collected in a buffer and sent
+     * in one operation when
+     * <ul>
+     *     <li>flushOutput will be called,</li>
+     *     <li>read or available will be called, because devices usually respond only to complete requests,</li>
+     *     <li>the buffer cannot hold the next frame,</li>
+     *     <li>linger milliseconds have elapsed since the first frame has been buffered (if linger &gt; 0) or</li>
+     *     <li>the processor will be closed.</li>
+     * </ul>
+     * Frames that are at least as long as the buffer will be sent immediately after the buffered data. Pending data
+     * will be sent before write combining will be changed.
+     * @param size   Size of the write buffer, 0 to disable write combining.
+     * @param linger Maximum time in milliseconds data remain in the buffer, 0 to send data only when the buffer is full,
+     *               when data will be read or when flushOutput will be called.
+     * @throws JposException If write combining is not supported or if pending data cannot be sent.
+     */
+    public void setWriteCombining(int size, int linger) throws JposException {
+        if (!canCombineWrites())
+            logerror("SetWriteCombining", JPOS_E_ILLEGAL, "Write combining not supported");
+        if (size < 0 || linger < 0)
+            logerror("SetWriteCombining", JPOS_E_ILLEGAL, "Invalid parameter");
+        synchronized (WriteSynchronizer) {
+            flushOutput();
+            WriteBuffer = size == 0 ? null : new byte[size];
+            WriteLinger = linger;
+        }
+        Dev.log(DEBUG, LoggingPrefix + (size == 0 ? "Write combining disabled." : "Write combining enabled, size: " + size + ", linger: " + linger));
+    }
+
+    /**
+     * Sends all data collected by write combining. Does nothing if write combining is disabled or no data are pending.
+     * @throws JposException If data cannot be sent or if sending data after linger time failed.
+     */
+    public void flushOutput() throws JposException {
+        synchronized (WriteSynchronizer) {
+            checkWriteError();
+            if (LingerTask != null) {
+                LingerTask.cancel(false);
+                LingerTask = null;
+            }
+            if (WriteCount > 0) {
+                int count = WriteCount;
+                WriteCount = 0;
+                transmit(WriteBuffer, 0, count);
+                if (Dev.isLoggable(TRACE)) {
+                    byte[] data = Arrays.copyOf(WriteBuffer, count);
+                    Dev.log(TRACE, LoggingPrefix + "Write " + count + " byte" + location(false) + ": " + toLogString(data));
+                }
+            }
+        }
+    }
+
+    /**
+     * Sends all data collected by write combining before data will be read. Must be called at the beginning of the read
+     * and available methods of derived classes that support write combining, before ReadSynchronizer will be locked.
+     * WriteSynchronizer will only be locked if data are buffered or sending data after linger time failed, so reading
+     * does not wait for a write operation in progress while write combining is disabled or the buffer is empty.
+     * @throws JposException If data cannot be sent or if sending data after linger time failed.
+     */
+    protected void flushOutputBeforeRead() throws JposException {
+        if (WriteCount > 0 || WriteError != null)
+            flushOutput();
+    }
+
+    /**
+     * Sends all data collected by write combining before the processor will be closed. Must be called by the close
+     * method of derived classes that support write combining. Errors will be ignored, pending data and pending errors
+     * of sending data after linger time will be discarded anyway to avoid sending stale data after reopening.
+     */
+    protected void flushOutputOnClose() {
+        synchronized (WriteSynchronizer) {
+            try {
+                flushOutput();
+            } catch (JposException ignored) {}  // Error has been logged, close anyway
+            if (LingerTask != null) {
+                LingerTask.cancel(false);
+                LingerTask = null;
+            }
+            WriteCount = 0;
+            WriteError = null;
+        }
+    }
+
+    /**
+     * Adds a frame to the write buffer if write combining is enabled. Must be called by the write method of derived
+     * classes that support write combining while holding WriteSynchronizer. If it returns false, the frame must be
+     * written immediately.
+     * @param buffer The frame.
+     * @return true if the frame has been buffered, false if write combining is disabled or the frame is too long.
+     * @throws JposException If buffered data cannot be sent or if sending data after linger time failed.
+     */
+    protected boolean combineWrite(byte[] buffer) throws JposException {
+        if (WriteBuffer == null)
+            return false;
+        checkWriteError();
+        if (WriteCount + buffer.length > WriteBuffer.length || buffer.length >= WriteBuffer.length) {
+            flushOutput();
+            if (buffer.length >= WriteBuffer.length)
+                return false;
+        }
+        if (WriteCount == 0)
+            scheduleLinger();
+        System.arraycopy(buffer, 0, WriteBuffer, WriteCount, buffer.length);
+        WriteCount += buffer.length;
+        return true;
+    }
+
+    private void scheduleLinger() {
+        if (WriteLinger > 0) {
+            ScheduledFuture<?>[] task = new ScheduledFuture<?>[1];
+            task[0] = LingerTask = getLingerTimer().schedule(() -> {
+                synchronized (WriteSynchronizer) {
+                    if (LingerTask != task[0])
+                        return;     // Data have been sent meanwhile, a newer task may be pending
+                    LingerTask = null;
+                    try {
+                        flushOutput();
+                    } catch (JposException e) {
+                        WriteError = e;
+                    }
+                }
+            }, WriteLinger, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Cancels sending buffered data after linger time, e.g. while the connection will be re-established. Buffered data
+     * remain in the write buffer. Must be called while holding WriteSynchronizer.
+     */
+    protected void suspendLinger() {
+        if (LingerTask != null) {
+            LingerTask.cancel(false);
+            LingerTask = null;
+        }
+    }
+
+    /**
+     * Restarts the linger time for buffered data after suspendLinger. Does nothing if no data are buffered. Must be
+     * called while holding WriteSynchronizer.
+     */
+    protected void resumeLinger() {
+        if (WriteCount > 0 && LingerTask == null)
+            scheduleLinger();
+    }
+
+    private void checkWriteError() throws JposException {
+        if (WriteError != null) {
+            JposException e = WriteError;
+            WriteError = null;
+            throw e;
+        }
+    }
+
+    /**
+     * Sends data to the communication target without logging. Used by write combining, must be overridden by derived
+     * classes that support write combining.
+     * @param buffer Buffer holding the data.
+     * @param offset Offset of the first byte to be sent.
+     * @param count  Number of bytes to be sent.
+     * @throws JposException If an IO error occurs.
+     */
+    protected void transmit(byte[] buffer, int offset, int count) throws JposException {
+        logerror("Write", JPOS_E_ILLEGAL, "Write combining not supported");
+    }
+
     /**
      * Retrieves no. of readable units from communication source. If called from
      * a derived class, LoggingData must be filled with the count to be returned.
@@ -209,7 +411,7 @@ public class UniqueIOProcessor implements AutoCloseable {
     public int available() throws JposException {
         try {
             int count = Integer.parseInt(new String(LoggingData));
-            Dev.log(ALL, LoggingPrefix + "Available bytes: " + count);
+            Dev.log(ALL, () -> LoggingPrefix + "Available bytes: " + count);
             return count;
         } catch (Exception e) {
             throw new JposException(JPOS_E_ILLEGAL, IOProcessorError, "Available implementation error, no LoggingData available.");
@@ -231,15 +433,69 @@ public class UniqueIOProcessor implements AutoCloseable {
         if (LoggingData.length > count) {
             byte[] data = Arrays.copyOf(LoggingData, count);
             byte[] remainder = Arrays.copyOfRange(LoggingData, count, LoggingData.length);
-            Dev.log(TRACE, LoggingPrefix + "Read " + data.length + " bytes" + location(true) + ": " + toLogString(data));
-            Dev.log(TRACE, LoggingPrefix + "Discard " + remainder.length + " bytes" + location(true) + ": " + toLogString(remainder));
+            Dev.log(TRACE, () -> LoggingPrefix + "Read " + data.length + " bytes" + location(true) + ": " + toLogString(data));
+            Dev.log(TRACE, () -> LoggingPrefix + "Discard " + remainder.length + " bytes" + location(true) + ": " + toLogString(remainder));
             return data;
         } else {
-            Dev.log(TRACE, LoggingPrefix + "Read " + LoggingData.length + " bytes" + location(true) + ": " + toLogString(LoggingData));
+            Dev.log(TRACE, () -> LoggingPrefix + "Read " + LoggingData.length + " bytes" + location(true) + ": " + toLogString(LoggingData));
             return LoggingData;
         }
     }
 
+    /**
+     * Reads a frame of given maximum byte length from communication source into a buffer provided by the caller.
+     * The default implementation uses read(int) and copies the result into the buffer. Derived classes can override
+     * this method to read into the buffer directly. In that case, they must call logRead to log the data and read(int)
+     * should delegate to this method.
+     * @param buffer Buffer to be filled.
+     * @param offset Offset of first byte to be filled.
+     * @param count  Maximum no. of bytes to be read.
+     * @return No. of bytes stored in buffer. In case of timeout, less than count, in extreme case 0.
+     * @throws JposException if something goes wrong
+     */
+    public int read(byte[] buffer, int offset, int count) throws JposException {
+        byte[] data = read(count);
+        System.arraycopy(data, 0, buffer, offset, data.length);
+        return data.length;
+    }
+
+    /**
+     * Reads a frame from communication source into a ByteBuffer. At most buffer.remaining() bytes will be read, the
+     * position of the buffer will be advanced by the number of bytes read. If the buffer has a backing array, data
+     * will be read into the array directly.
+     * @param buffer Buffer to be filled.
+     * @return No. of bytes stored in buffer. In case of timeout, less than buffer.remaining(), in extreme case 0.
+     * @throws JposException if something goes wrong
+     */
+    public int read(ByteBuffer buffer) throws JposException {
+        int count;
+        if (buffer.hasArray()) {
+            count = read(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+            buffer.position(buffer.position() + count);
+        } else {
+            byte[] data = read(buffer.remaining());
+            buffer.put(data);
+            count = data.length;
+        }
+        return count;
+    }
+
+    /**
+     * Logs data read into a caller provided buffer. Must be called by derived classes that override
+     * read(byte[], int, int). The data will be copied for logging only if trace logging is enabled.
+     * @param buffer Buffer holding the data.
+     * @param offset Offset of first byte read.
+     * @param count  No. of bytes read.
+     * @return count.
+     */
+    protected int logRead(byte[] buffer, int offset, int count) {
+        if (Dev.isLoggable(TRACE)) {
+            byte[] data = Arrays.copyOfRange(buffer, offset, offset + count);
+            Dev.log(TRACE, LoggingPrefix + "Read " + count + " bytes" + location(true) + ": " + toLogString(data));
+        }
+        return count;
+    }
+
     /**
      * Generates string to be inserted into logging message whenever the source or target
      * port does not match the initial port.
@@ -58,42 +58,38 @@ public class UnitOutputRequest extends JposOutputRequest {
     public void clearOutput() {
         List<UnitOutputRequest> current = new ArrayList<>();
         UnitOutputRequest req;
-        synchronized (Device.AsyncProcessorRunning) {
-            for (int i = 0; i < Props.SuspendedCommands.size();) {
-                req = (UnitOutputRequest)Props.SuspendedCommands.get(i);
-                if ((req.Units & Units) != 0) {
-                    Props.SuspendedCommands.remove(i);
-                } else {
-                    ++i;
+        synchronized (Props.RequestSync) {
+            synchronized (Device.AsyncProcessorRunning) {
+                for (int i = 0; i < Props.SuspendedCommands.size();) {
+                    req = (UnitOutputRequest)Props.SuspendedCommands.get(i);
+                    if ((req.Units & Units) != 0) {
+                        Props.SuspendedCommands.remove(i);
+                    } else {
+                        ++i;
+                    }
                 }
-            }
-            for (int i = 0; i < Props.SuspendedConcurrentCommands.size();) {
-                req = (UnitOutputRequest)Props.SuspendedConcurrentCommands.get(i);
-                if ((req.Units & Units) != 0) {
-                    Props.SuspendedCommands.remove(i);
-                } else {
-                    ++i;
+                for (int i = 0; i < Props.SuspendedConcurrentCommands.size();) {
+                    req = (UnitOutputRequest)Props.SuspendedConcurrentCommands.get(i);
+                    if ((req.Units & Units) != 0) {
+                        Props.SuspendedCommands.remove(i);
+                    } else {
+                        ++i;
+                    }
                 }
-            }
-            for (int i = 0; i < Device.PendingCommands.size();) {
-                if (Device.PendingCommands.get(i) instanceof UnitOutputRequest &&
-                        (req = (UnitOutputRequest)Device.PendingCommands.get(i)).Props == Props && (req.Units & Units) != 0) {
-                    Device.PendingCommands.remove(i);
-                } else {
-                    i++;
+                Device.PendingCommands.remove(Props, request ->
+                        request instanceof UnitOutputRequest && (((UnitOutputRequest) request).Units & Units) != 0);
+                if (Device.CurrentCommand instanceof UnitOutputRequest) {
+                    req = (UnitOutputRequest)Device.CurrentCommand;
+                    if (req.Props == Props && (req.Units & Units) != 0)
+                        current.add(req);
                 }
-            }
-            if (Device.CurrentCommand instanceof UnitOutputRequest) {
-                req = (UnitOutputRequest)Device.CurrentCommand;
-                if (req.Props == Props && (req.Units & Units) != 0)
-                    current.add(req);
-            }
-            if (Props.CurrentCommands != null) {
-                for (JposOutputRequest request : Props.CurrentCommands) {
-                    if (request instanceof UnitOutputRequest) {
-                        req = (UnitOutputRequest) request;
-                        if ((req.Units & Units) != 0)
-                            current.add(req);
+                if (Props.CurrentCommands != null) {
+                    for (JposOutputRequest request : Props.CurrentCommands) {
+                        if (request instanceof UnitOutputRequest) {
+                            req = (UnitOutputRequest) request;
+                            if ((req.Units & Units) != 0)
+                                current.add(req);
+                        }
                     }
                 }
             }
@@ -255,7 +255,7 @@ public class BeltService extends JposBase implements BeltService116 {
 
     @Override
     public void adjustItemCount(int i, int i1) throws JposException {
-        logPreCall("AdjustItemCount", removeOuterArraySpecifier(new Object[]{i, i1}, Device.MaxArrayStringElements));
+        logPreCall("AdjustItemCount", new Object[]{i, i1});
         checkEnabled();
         checkMember(i, new long[]{BELT_AIC_BACKWARD, BELT_AIC_FORWARD}, JPOS_E_ILLEGAL, "Invalid direction: " + i);
         check(!Data.CapAutoStopBackwardItemCount && i == BELT_AIC_BACKWARD, JPOS_E_ILLEGAL, "Unsupported direction: " + i);
@@ -266,7 +266,7 @@ public class BeltService extends JposBase implements BeltService116 {
 
     @Override
     public void moveBackward(int i) throws JposException {
-        logPreCall("MoveBackward", removeOuterArraySpecifier(new Object[]{i}, Device.MaxArrayStringElements));
+        logPreCall("MoveBackward", new Object[]{i});
         checkEnabled();
         check(!Data.CapMoveBackward, JPOS_E_ILLEGAL, "Not supported");
         check(i <= 0 || i > Data.CapSpeedStepsBackward, JPOS_E_ILLEGAL, "Speed out of range: " + i);
@@ -276,7 +276,7 @@ public class BeltService extends JposBase implements BeltService116 {
 
     @Override
     public void moveForward(int i) throws JposException {
-        logPreCall("MoveForward", removeOuterArraySpecifier(new Object[]{i}, Device.MaxArrayStringElements));
+        logPreCall("MoveForward", new Object[]{i});
         checkEnabled();
         check(i <= 0 || i > Data.CapSpeedStepsForward, JPOS_E_ILLEGAL, "Speed out of range: " + i);
         BeltInterface.moveForward(i);
@@ -293,7 +293,7 @@ public class BeltService extends JposBase implements BeltService116 {
 
     @Override
     public void resetItemCount(int i) throws JposException {
-        logPreCall("ResetItemCount", removeOuterArraySpecifier(new Object[]{i}, Device.MaxArrayStringElements));
+        logPreCall("ResetItemCount", new Object[]{i});
         checkEnabled();
         checkMember(i, new long[]{BELT_RIC_BACKWARD, BELT_RIC_FORWARD}, JPOS_E_ILLEGAL, "Invalid direction: " + i);
         check(!Data.CapAutoStopBackwardItemCount && i == BELT_RIC_BACKWARD, JPOS_E_ILLEGAL, "Unsupported direction: " + i);
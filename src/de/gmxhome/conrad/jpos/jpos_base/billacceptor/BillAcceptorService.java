@@ -172,7 +172,7 @@ public class BillAcceptorService extends JposBase implements BillAcceptorService
 
     @Override
     public void adjustCashCounts(String cashCounts) throws JposException {
-        logPreCall("AdjustCashCounts", removeOuterArraySpecifier(new Object[]{cashCounts}, Device.MaxArrayStringElements));
+        logPreCall("AdjustCashCounts", new Object[]{cashCounts});
         checkEnabled();
         check(cashCounts == null, JPOS_E_ILLEGAL, "Cash counts null");
         check(cashCounts.length() == 0 || cashCounts.charAt(0) != ';', JPOS_E_ILLEGAL, "Bad format of cash count");
@@ -204,7 +204,7 @@ public class BillAcceptorService extends JposBase implements BillAcceptorService
 
     @Override
     public void endDeposit(int success) throws JposException {
-        logPreCall("EndDeposit", removeOuterArraySpecifier(new Object[]{success}, Device.MaxArrayStringElements));
+        logPreCall("EndDeposit", new Object[]{success});
         checkEnabled();
         check(Data.DepositStatus != BACC_STATUS_DEPOSIT_COUNT, JPOS_E_ILLEGAL,
                 (Data.DepositStatus == BACC_STATUS_DEPOSIT_JAM) ? "Jam condition" : "Operation not fixed");
@@ -226,7 +226,7 @@ public class BillAcceptorService extends JposBase implements BillAcceptorService
 
     @Override
     public void pauseDeposit(int control) throws JposException {
-        logPreCall("PauseDeposit", removeOuterArraySpecifier(new Object[]{control}, Device.MaxArrayStringElements));
+        logPreCall("PauseDeposit", new Object[]{control});
         checkEnabled();
         check(!Data.CapPauseDeposit, JPOS_E_ILLEGAL, "PauseDeposit not supported");
         check(control == BACC_DEPOSIT_PAUSE && Data.DepositStatus == BACC_STATUS_DEPOSIT_END,
@@ -246,6 +246,6 @@ public class BillAcceptorService extends JposBase implements BillAcceptorService
         check(discrepancy == null, JPOS_E_ILLEGAL, "discrepancy null");
         check(discrepancy.length != 1, JPOS_E_ILLEGAL, "discrepancy: Invalid array size");
         BillAcceptorInterface.readCashCounts(cashCounts, discrepancy);
-        logCall("ReadCashCounts", removeOuterArraySpecifier(new Object[]{cashCounts[0], discrepancy[0]}, Device.MaxArrayStringElements));
+        logCall("ReadCashCounts", new Object[]{cashCounts[0], discrepancy[0]});
     }
 }
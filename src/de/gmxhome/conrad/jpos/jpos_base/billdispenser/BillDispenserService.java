@@ -164,7 +164,7 @@ public class BillDispenserService extends JposBase implements BillDispenserServi
 
     @Override
     public void adjustCashCounts(String cashCounts) throws JposException {
-        logPreCall("AdjustCashCounts", removeOuterArraySpecifier(new Object[]{cashCounts}, Device.MaxArrayStringElements));
+        logPreCall("AdjustCashCounts", new Object[]{cashCounts});
         checkEnabled();
         check(cashCounts == null, JPOS_E_ILLEGAL, "Cash counts null");
         check(cashCounts.length() == 0 || cashCounts.charAt(0) != ';', JPOS_E_ILLEGAL, "Bad format of cash count");
@@ -186,7 +186,7 @@ public class BillDispenserService extends JposBase implements BillDispenserServi
 
     @Override
     public void dispenseCash(String cashCounts) throws JposException {
-        logPreCall("DispenseCash", removeOuterArraySpecifier(new Object[]{cashCounts}, Device.MaxArrayStringElements));
+        logPreCall("DispenseCash", new Object[]{cashCounts});
         checkEnabled();
         check(Props.State == JPOS_S_BUSY, JPOS_E_BUSY, "Device is busy");
         check(cashCounts == null, JPOS_E_ILLEGAL, "Cash counts null");
@@ -218,6 +218,6 @@ public class BillDispenserService extends JposBase implements BillDispenserServi
         check(discrepancy == null, JPOS_E_ILLEGAL, "discrepancy null");
         check(discrepancy.length != 1, JPOS_E_ILLEGAL, "discrepancy: Invalid array size");
         BillDispenserInterface.readCashCounts(cashCounts, discrepancy);
-        logCall("ReadCashCounts", removeOuterArraySpecifier(new Object[]{cashCounts[0], discrepancy[0]}, Device.MaxArrayStringElements));
+        logCall("ReadCashCounts", new Object[]{cashCounts[0], discrepancy[0]});
     }
 }
@@ -270,7 +270,7 @@ public class BiometricsService extends JposBase implements BiometricsService116
             referenceBIR = new byte[0];
         if (payload == null)
             payload = new byte[0];
-        logPreCall("BeginEnrollCapture", bytes2String(referenceBIR) + ", " + bytes2String(payload));
+        logPreCall("BeginEnrollCapture", new Object[]{referenceBIR, payload});
         check(!Data.CapTemplateAdaptation && !Data.isDataEmpty(referenceBIR, true), JPOS_E_FAILURE, "Adaption of referenceBIR not supported");
         checkEnabled();
         Biometrics.beginEnrollCapture(referenceBIR, payload);
@@ -299,8 +299,8 @@ public class BiometricsService extends JposBase implements BiometricsService116
         if (referenceBIRPopulation == null)
             referenceBIRPopulation = new byte[0][];
         Object[] refBIR = bytes2String(referenceBIRPopulation);
-        logPreCall("Identify", removeOuterArraySpecifier(new Object[]{
-                maxFARRequested, maxFRRRequested, fARPrecedence,refBIR[0].toString(), "...", timeout }, Device.MaxArrayStringElements));
+        logPreCall("Identify", new Object[]{
+                maxFARRequested, maxFRRRequested, fARPrecedence,refBIR[0].toString(), "...", timeout });
         checkEnabled();
         Data.checkFARorFRRLimit(maxFARRequested, "maxFARRequested");
         Data.checkFARorFRRLimit(maxFRRRequested, "maxFRRRequested");
@@ -312,7 +312,7 @@ public class BiometricsService extends JposBase implements BiometricsService116
         Biometrics.identify(maxFARRequested, maxFRRRequested, fARPrecedence, referenceBIRPopulation, candidateRanking, timeout);
         if (candidateRanking[0] == null)
             candidateRanking[0] = new int[0];
-        logCall("Identify", removeOuterArraySpecifier(new Object[]{"...", ints2String(candidateRanking[0]), "..."}, Device.MaxArrayStringElements));
+        logCall("Identify", new Object[]{"...", ints2String(candidateRanking[0]), "..."});
     }
 
     @Override
@@ -323,9 +323,9 @@ public class BiometricsService extends JposBase implements BiometricsService116
         if (sampleBIR == null)
             sampleBIR = new byte[0];
         Object[] refBIR = bytes2String(referenceBIRPopulation);
-        logPreCall("IdentifyMatch", removeOuterArraySpecifier(new Object[]{
-                        maxFARRequested, maxFRRRequested, fARPrecedence, bytes2String(sampleBIR), refBIR[0].toString(), "..."
-                }, Device.MaxArrayStringElements));
+        logPreCall("IdentifyMatch", new Object[]{
+                        maxFARRequested, maxFRRRequested, fARPrecedence, sampleBIR, refBIR[0].toString(), "..."
+                });
         checkEnabled();
         Data.checkFARorFRRLimit(maxFARRequested, "maxFARRequested");
         Data.checkFARorFRRLimit(maxFRRRequested, "maxFRRRequested");
@@ -337,7 +337,7 @@ public class BiometricsService extends JposBase implements BiometricsService116
         Biometrics.identifyMatch(maxFARRequested, maxFRRRequested, fARPrecedence, sampleBIR, referenceBIRPopulation, candidateRanking);
         if (candidateRanking[0] == null)
             candidateRanking[0] = new int[0];
-        logCall("IdentifyMatch", removeOuterArraySpecifier(new Object[]{"...", ints2String(candidateRanking[0])}, Device.MaxArrayStringElements));
+        logCall("IdentifyMatch", new Object[]{"...", ints2String(candidateRanking[0])});
     }
 
     @Override
@@ -346,8 +346,8 @@ public class BiometricsService extends JposBase implements BiometricsService116
             prematchDataBIR = new byte[0];
         if (sampleBIR == null)
             sampleBIR = new byte[0];
-        logPreCall("ProcessPrematchData", removeOuterArraySpecifier(new Object[]{
-                bytes2String(sampleBIR), bytes2String(prematchDataBIR), "..."}, Device.MaxArrayStringElements));
+        logPreCall("ProcessPrematchData", new Object[]{
+                sampleBIR, prematchDataBIR, "..."});
         checkEnabled();
         check(!Data.CapPrematchData, JPOS_E_ILLEGAL, "PrematchData not supported");
         check(Data.isDataEmpty(sampleBIR, true), JPOS_E_ILLEGAL, "Empty sampleBIR");
@@ -357,8 +357,8 @@ public class BiometricsService extends JposBase implements BiometricsService116
         Biometrics.processPrematchData(sampleBIR, prematchDataBIR, processedBIR);
         if (processedBIR[0] == null)
             processedBIR[0] = new byte[0];
-        logCall("ProcessPrematchData", removeOuterArraySpecifier(new Object[]{
-                "...", bytes2String(processedBIR[0])}, Device.MaxArrayStringElements));
+        logCall("ProcessPrematchData", new Object[]{
+                "...", processedBIR[0]});
     }
 
     @Override
@@ -367,10 +367,10 @@ public class BiometricsService extends JposBase implements BiometricsService116
                        int timeout) throws JposException {
         if (referenceBIR == null)
             referenceBIR = new byte[0];
-        logPreCall("Verify", removeOuterArraySpecifier(new Object[]{
-                maxFARRequested, maxFRRRequested, fARPrecedence, bytes2String(referenceBIR),
-                adaptedBIR == null ? null : bytes2String(adaptedBIR)[0], "...", timeout
-        }, Device.MaxArrayStringElements));
+        logPreCall("Verify", new Object[]{
+                maxFARRequested, maxFRRRequested, fARPrecedence, referenceBIR,
+                adaptedBIR, "...", timeout
+        });
         checkEnabled();
         Data.checkFARorFRRLimit(maxFARRequested, "maxFARRequested");
         Data.checkFARorFRRLimit(maxFRRRequested, "maxFRRRequested");
@@ -387,9 +387,9 @@ public class BiometricsService extends JposBase implements BiometricsService116
                 "Reference payload invalid, must be byte[1][]");
         check(timeout < 0 && timeout != JPOS_FOREVER, JPOS_E_ILLEGAL, "Invalid timeout: " + timeout);
         Biometrics.verify(maxFARRequested, maxFRRRequested, fARPrecedence, referenceBIR, adaptedBIR, result, fARAchieved, fRRAchieved, payload, timeout);
-        logCall("Verify", removeOuterArraySpecifier(new Object[]{
-                "...", bytes2String(adaptedBIR)[0], result[0], fARAchieved[0], fRRAchieved[0], bytes2String(payload)[0], "..."
-        }, Device.MaxArrayStringElements));
+        logCall("Verify", new Object[]{
+                "...", adaptedBIR, result[0], fARAchieved[0], fRRAchieved[0], payload, "..."
+        });
     }
 
     @Override
@@ -400,10 +400,10 @@ public class BiometricsService extends JposBase implements BiometricsService116
             sampleBIR = new byte[0];
         if (referenceBIR == null)
             referenceBIR = new byte[0];
-        logPreCall("VerifyMatch", removeOuterArraySpecifier(new Object[]{
-                maxFARRequested, maxFRRRequested, fARPrecedence, bytes2String(sampleBIR), bytes2String(referenceBIR),
-                adaptedBIR == null ? null : bytes2String(adaptedBIR)[0], "..."
-        }, Device.MaxArrayStringElements));
+        logPreCall("VerifyMatch", new Object[]{
+                maxFARRequested, maxFRRRequested, fARPrecedence, sampleBIR, referenceBIR,
+                adaptedBIR, "..."
+        });
         checkEnabled();
         Data.checkFARorFRRLimit(maxFARRequested, "maxFARRequested");
         Data.checkFARorFRRLimit(maxFRRRequested, "maxFRRRequested");
@@ -420,8 +420,8 @@ public class BiometricsService extends JposBase implements BiometricsService116
         check(payload == null || payload.length != 1, JPOS_E_ILLEGAL,
                 "Reference payload invalid, must be byte[1][]");
         Biometrics.verifyMatch(maxFARRequested, maxFRRRequested, fARPrecedence, sampleBIR, referenceBIR, adaptedBIR, result, fARAchieved, fRRAchieved, payload);
-        logCall("VerifyMatch", removeOuterArraySpecifier(new Object[]{
-                "...", bytes2String(adaptedBIR)[0], result[0], fARAchieved[0], fRRAchieved[0], bytes2String(payload)[0]
-        }, Device.MaxArrayStringElements));
+        logCall("VerifyMatch", new Object[]{
+                "...", adaptedBIR, result[0], fARAchieved[0], fRRAchieved[0], payload
+        });
     }
 }
@@ -218,8 +218,8 @@ public class BumpBarService extends JposBase implements BumpBarService116 {
 
     @Override
     public void bumpBarSound(int units, int frequency, int duration, int numberOfCycles, int interSoundWait) throws JposException {
-        logPreCall("BumpBarSound", removeOuterArraySpecifier(new Object[]{
-                units, frequency, duration, numberOfCycles, interSoundWait}, Device.MaxArrayStringElements));
+        logPreCall("BumpBarSound", new Object[]{
+                units, frequency, duration, numberOfCycles, interSoundWait});
         check(units == 0, units, JPOS_E_ILLEGAL, 0, "No unit specified");
         checkOnline(units);
         check(frequency < 0, units, JPOS_E_ILLEGAL, 0, "Frequency invalid: " + frequency);
@@ -238,7 +238,7 @@ public class BumpBarService extends JposBase implements BumpBarService116 {
 
     @Override
     public void setKeyTranslation(int units, int scanCode, int logicalKey) throws JposException {
-        logPreCall("SetKeyTranslation", removeOuterArraySpecifier(new Object[]{units, scanCode, logicalKey}, Device.MaxArrayStringElements));
+        logPreCall("SetKeyTranslation", new Object[]{units, scanCode, logicalKey});
         checkOnline(units);
         check(units == 0, units, JPOS_E_ILLEGAL, 0, "No unit specified");
         check(scanCode < 0 || scanCode > 255, units, JPOS_E_ILLEGAL, 0, "ScanCode out of range: " + scanCode);
@@ -306,7 +306,7 @@ public class CashChangerService extends JposBase implements CashChangerService11
 
     @Override
     public void adjustCashCounts(String cashCounts) throws JposException {
-        logPreCall("AdjustCashCounts", removeOuterArraySpecifier(new Object[]{cashCounts}, Device.MaxArrayStringElements));
+        logPreCall("AdjustCashCounts", new Object[]{cashCounts});
         checkEnabled();
         check(cashCounts == null, JPOS_E_ILLEGAL, "Cash counts null");
         String[] cashCountPart = cashCounts.split(";");
@@ -344,7 +344,7 @@ public class CashChangerService extends JposBase implements CashChangerService11
 
     @Override
     public void endDeposit(int success) throws JposException {
-        logPreCall("EndDeposit", removeOuterArraySpecifier(new Object[]{success}, Device.MaxArrayStringElements));
+        logPreCall("EndDeposit", new Object[]{success});
         long[] validsuccess = { CHAN_DEPOSIT_CHANGE, CHAN_DEPOSIT_NOCHANGE, CHAN_DEPOSIT_REPAY };
         checkEnabled();
         check(Data.DepositStatus != CHAN_STATUS_DEPOSIT_COUNT, JPOS_E_ILLEGAL,
@@ -367,7 +367,7 @@ public class CashChangerService extends JposBase implements CashChangerService11
 
     @Override
     public void pauseDeposit(int control) throws JposException {
-        logPreCall("PauseDeposit", removeOuterArraySpecifier(new Object[]{control}, Device.MaxArrayStringElements));
+        logPreCall("PauseDeposit", new Object[]{control});
         checkEnabled();
         check(!Data.CapPauseDeposit, JPOS_E_ILLEGAL, "PauseDeposit not supported");
         check(control == CHAN_DEPOSIT_PAUSE && Data.DepositStatus == CHAN_STATUS_DEPOSIT_END,
@@ -380,7 +380,7 @@ public class CashChangerService extends JposBase implements CashChangerService11
 
     @Override
     public void dispenseCash(String cashCounts) throws JposException {
-        logPreCall("DispenseCash", removeOuterArraySpecifier(new Object[]{cashCounts}, Device.MaxArrayStringElements));
+        logPreCall("DispenseCash", new Object[]{cashCounts});
         checkEnabled();
         check(cashCounts == null, JPOS_E_ILLEGAL, "Cash counts null");
         String[] cashCountPart = cashCounts.split(";");
@@ -410,7 +410,7 @@ public class CashChangerService extends JposBase implements CashChangerService11
 
     @Override
     public void dispenseChange(int amount) throws JposException {
-        logPreCall("DispenseChange", removeOuterArraySpecifier(new Object[]{amount}, Device.MaxArrayStringElements));
+        logPreCall("DispenseChange", new Object[]{amount});
         checkEnabled();
         check(amount <= 0, JPOS_E_ILLEGAL, "Invalid amount");
         if (callNowOrLater(CashChangerInterface.dispenseChange(amount)))
@@ -428,6 +428,6 @@ public class CashChangerService extends JposBase implements CashChangerService11
         check(discrepancy == null, JPOS_E_ILLEGAL, "discrepancy null");
         check(discrepancy.length != 1, JPOS_E_ILLEGAL, "discrepancy: Invalid array size");
         CashChangerInterface.readCashCounts(cashCounts, discrepancy);
-        logCall("ReadCashCounts", removeOuterArraySpecifier(new Object[]{cashCounts[0], discrepancy[0]}, Device.MaxArrayStringElements));
+        logCall("ReadCashCounts", new Object[]{cashCounts[0], discrepancy[0]});
     }
 }
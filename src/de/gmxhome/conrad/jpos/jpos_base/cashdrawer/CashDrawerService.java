@@ -100,8 +100,8 @@ public class CashDrawerService extends JposBase implements CashDrawerService116,
 
     @Override
     public void waitForDrawerClose(int beepTimeout, int beepFrequency, int beepDuration, int beepDelay) throws JposException {
-        logPreCall("WaitForDrawerClose", removeOuterArraySpecifier(new Object[]{
-                beepTimeout, beepFrequency, beepDuration, beepDelay}, Device.MaxArrayStringElements));
+        logPreCall("WaitForDrawerClose", new Object[]{
+                beepTimeout, beepFrequency, beepDuration, beepDelay});
         checkEnabledUnclaimed();
         if (!Data.CapStatus)
             return;
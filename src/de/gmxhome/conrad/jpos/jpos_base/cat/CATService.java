@@ -331,7 +331,7 @@ public class CATService extends JposBase implements CATService116 {
 
     @Override
     public void accessDailyLog(int sequenceNumber, int type, int timeout) throws JposException {
-        logPreCall("AccessDailyLog", removeOuterArraySpecifier(new Object[]{sequenceNumber, type, timeout}, Device.MaxArrayStringElements));
+        logPreCall("AccessDailyLog", new Object[]{sequenceNumber, type, timeout});
         checkBusy();
         checkMember(type, DailyLogType, JPOS_E_ILLEGAL, "Invalid log type: " + type);
         check((type & ~Data.CapDailyLog) != 0, JPOS_E_ILLEGAL, "Invalid log type: " + type);
@@ -341,8 +341,8 @@ public class CATService extends JposBase implements CATService116 {
 
     @Override
     public void authorizeCompletion(int sequenceNumber, long amount, long taxOthers, int timeout) throws JposException {
-        logPreCall("AuthorizeCompletion", removeOuterArraySpecifier(new Object[]{
-                sequenceNumber, amount, taxOthers, timeout}, Device.MaxArrayStringElements));
+        logPreCall("AuthorizeCompletion", new Object[]{
+                sequenceNumber, amount, taxOthers, timeout});
         checkBusy();
         check(!Data.CapAuthorizeCompletion, JPOS_E_ILLEGAL, "AuthorizeCompletion not supported");
         check(amount <= 0, JPOS_E_ILLEGAL, "Invalid amount: " + amount);
@@ -353,8 +353,8 @@ public class CATService extends JposBase implements CATService116 {
 
     @Override
     public void authorizePreSales(int sequenceNumber, long amount, long taxOthers, int timeout) throws JposException {
-        logPreCall("AuthorizePreSales", removeOuterArraySpecifier(new Object[]{
-                sequenceNumber, amount, taxOthers, timeout}, Device.MaxArrayStringElements));
+        logPreCall("AuthorizePreSales", new Object[]{
+                sequenceNumber, amount, taxOthers, timeout});
         checkBusy();
         check(!Data.CapAuthorizePreSales, JPOS_E_ILLEGAL, "AuthorizePreSales not supported");
         check(amount <= 0, JPOS_E_ILLEGAL, "Invalid amount: " + amount);
@@ -365,8 +365,8 @@ public class CATService extends JposBase implements CATService116 {
 
     @Override
     public void authorizeRefund(int sequenceNumber, long amount, long taxOthers, int timeout) throws JposException {
-        logPreCall("AuthorizeRefund", removeOuterArraySpecifier(new Object[]{
-                sequenceNumber, amount, taxOthers, timeout}, Device.MaxArrayStringElements));
+        logPreCall("AuthorizeRefund", new Object[]{
+                sequenceNumber, amount, taxOthers, timeout});
         checkBusy();
         check(!Data.CapAuthorizeRefund, JPOS_E_ILLEGAL, "AuthorizeRefund not supported");
         check(amount <= 0, JPOS_E_ILLEGAL, "Invalid amount: " + amount);
@@ -377,8 +377,8 @@ public class CATService extends JposBase implements CATService116 {
 
     @Override
     public void authorizeSales(int sequenceNumber, long amount, long taxOthers, int timeout) throws JposException {
-        logPreCall("AuthorizeSales", removeOuterArraySpecifier(new Object[]{
-                sequenceNumber, amount, taxOthers, timeout}, Device.MaxArrayStringElements));
+        logPreCall("AuthorizeSales", new Object[]{
+                sequenceNumber, amount, taxOthers, timeout});
         checkBusy();
         check(amount <= 0, JPOS_E_ILLEGAL, "Invalid amount: " + amount);
         check(taxOthers < 0, JPOS_E_ILLEGAL, "Invalid taxOthers: " + taxOthers);
@@ -388,8 +388,8 @@ public class CATService extends JposBase implements CATService116 {
 
     @Override
     public void authorizeVoid(int sequenceNumber, long amount, long taxOthers, int timeout) throws JposException {
-        logPreCall("AuthorizeVoid", removeOuterArraySpecifier(new Object[]{
-                sequenceNumber, amount, taxOthers, timeout}, Device.MaxArrayStringElements));
+        logPreCall("AuthorizeVoid", new Object[]{
+                sequenceNumber, amount, taxOthers, timeout});
         checkBusy();
         check(!Data.CapAuthorizeVoid, JPOS_E_ILLEGAL, "AuthorizeVoid not supported");
         check(amount <= 0, JPOS_E_ILLEGAL, "Invalid amount: " + amount);
@@ -400,8 +400,8 @@ public class CATService extends JposBase implements CATService116 {
 
     @Override
     public void authorizeVoidPreSales(int sequenceNumber, long amount, long taxOthers, int timeout) throws JposException {
-        logPreCall("AuthorizeVoidPreSales", removeOuterArraySpecifier(new Object[]{
-                sequenceNumber, amount, taxOthers, timeout}, Device.MaxArrayStringElements));
+        logPreCall("AuthorizeVoidPreSales", new Object[]{
+                sequenceNumber, amount, taxOthers, timeout});
         checkBusy();
         check(!Data.CapAuthorizeVoidPreSales, JPOS_E_ILLEGAL, "AuthorizeVoidPreSales not supported");
         check(amount <= 0, JPOS_E_ILLEGAL, "Invalid amount: " + amount);
@@ -412,8 +412,8 @@ public class CATService extends JposBase implements CATService116 {
 
     @Override
     public void cashDeposit(int sequenceNumber, long amount, int timeout) throws JposException {
-        logPreCall("CashDeposit", removeOuterArraySpecifier(new Object[]{
-                sequenceNumber, amount, timeout}, Device.MaxArrayStringElements));
+        logPreCall("CashDeposit", new Object[]{
+                sequenceNumber, amount, timeout});
         checkBusy();
         check(!Data.CapCashDeposit, JPOS_E_ILLEGAL, "CashDeposit not supported");
         check(amount <= 0, JPOS_E_ILLEGAL, "Invalid amount: " + amount);
@@ -423,7 +423,7 @@ public class CATService extends JposBase implements CATService116 {
 
     @Override
     public void checkCard(int sequenceNumber, int timeout) throws JposException {
-        logPreCall("CheckCard", removeOuterArraySpecifier(new Object[]{sequenceNumber, timeout}, Device.MaxArrayStringElements));
+        logPreCall("CheckCard", new Object[]{sequenceNumber, timeout});
         checkBusy();
         check(!Data.CapCheckCard, JPOS_E_ILLEGAL, "CheckCard not supported");
         check(timeout < 0 && timeout != JPOS_FOREVER, JPOS_E_ILLEGAL, "Invalid timeout: " + timeout);
@@ -410,7 +410,7 @@ public class CheckScannerService extends JposBase implements CheckScannerService
 
     @Override
     public void beginInsertion(int timeout) throws JposException {
-        logPreCall("BeginInsertion", removeOuterArraySpecifier(new Object[]{timeout}, Device.MaxArrayStringElements));
+        logPreCall("BeginInsertion", new Object[]{timeout});
         checkEnabled();
         check(timeout < 0 && timeout != JPOS_FOREVER, JPOS_E_ILLEGAL, "Invalid timeout value: " + timeout);
         CheckScanner.beginInsertion(timeout);
@@ -420,7 +420,7 @@ public class CheckScannerService extends JposBase implements CheckScannerService
 
     @Override
     public void beginRemoval(int timeout) throws JposException {
-        logPreCall("BeginRemoval", removeOuterArraySpecifier(new Object[]{timeout}, Device.MaxArrayStringElements));
+        logPreCall("BeginRemoval", new Object[]{timeout});
         checkEnabled();
         check(timeout < 0 && timeout != JPOS_FOREVER, JPOS_E_ILLEGAL, "Invalid timeout value: " + timeout);
         CheckScanner.beginRemoval(timeout);
@@ -431,7 +431,7 @@ public class CheckScannerService extends JposBase implements CheckScannerService
     @Override
     public void clearImage(int by) throws JposException {
         long[] validby = { CHK_CLR_ALL, CHK_CLR_BY_FILEID, CHK_CLR_BY_FILEINDEX, CHK_CLR_BY_IMAGETAGDATA };
-        logPreCall("ClearImage", removeOuterArraySpecifier(new Object[]{by}, Device.MaxArrayStringElements));
+        logPreCall("ClearImage", new Object[]{by});
         checkEnabled();
         checkMember(by, validby, JPOS_E_ILLEGAL, "Invalid by value: " + by);
         CheckScanner.clearImage(by);
@@ -440,7 +440,7 @@ public class CheckScannerService extends JposBase implements CheckScannerService
 
     @Override
     public void defineCropArea(int cropAreaID, int x, int y, int cx, int cy) throws JposException {
-        logPreCall("DefineCropArea", removeOuterArraySpecifier(new Object[]{cropAreaID, x, y, cx, cy}, Device.MaxArrayStringElements));
+        logPreCall("DefineCropArea", new Object[]{cropAreaID, x, y, cx, cy});
         checkEnabled();
         if (cropAreaID != CHK_CROP_AREA_RESET_ALL) {
             check(!Data.CapDefineCropArea, JPOS_E_ILLEGAL, "Crop areas not supported");
@@ -479,7 +479,7 @@ public class CheckScannerService extends JposBase implements CheckScannerService
 
     @Override
     public void retrieveImage(int cropAreaID) throws JposException {
-        logPreCall("RetrieveImage", removeOuterArraySpecifier(new Object[]{cropAreaID}, Device.MaxArrayStringElements));
+        logPreCall("RetrieveImage", new Object[]{cropAreaID});
         checkEnabled();
         check(Data.InsertionMode || Data.RemovalMode, JPOS_E_FAILURE, "Bad device state (" + (Data.InsertionMode ? "insertion" : "removal") + " mode)");
         check(!Data.CapDefineCropArea && cropAreaID != CHK_CROP_AREA_ENTIRE_IMAGE, JPOS_E_ILLEGAL, "Invalid Crop area: " + cropAreaID);
@@ -489,7 +489,7 @@ public class CheckScannerService extends JposBase implements CheckScannerService
 
     @Override
     public void retrieveMemory(int by) throws JposException {
-        logPreCall("RetrieveMemory", removeOuterArraySpecifier(new Object[]{by}, Device.MaxArrayStringElements));
+        logPreCall("RetrieveMemory", new Object[]{by});
         Object[][] allowedValue = {
                 { CHK_LOCATE_BY_FILEID, Data.FileID != null && !Data.FileID.equals(""), "Missing FileID" },
                 { CHK_LOCATE_BY_FILEINDEX, true },
@@ -515,7 +515,7 @@ public class CheckScannerService extends JposBase implements CheckScannerService
 
     @Override
     public void storeImage(int cropAreaID) throws JposException {
-        logPreCall("StoreImage", removeOuterArraySpecifier(new Object[]{cropAreaID}, Device.MaxArrayStringElements));
+        logPreCall("StoreImage", new Object[]{cropAreaID});
         checkEnabled();
         check(!Data.CapStoreImageFiles, JPOS_E_ILLEGAL, "StoreImage not supported");
         check(!Data.CapDefineCropArea && cropAreaID != CHK_CROP_AREA_ENTIRE_IMAGE, JPOS_E_ILLEGAL, "Invalid Crop area: " + cropAreaID);
@@ -172,7 +172,7 @@ public class CoinAcceptorService extends JposBase implements CoinAcceptorService
 
     @Override
     public void adjustCashCounts(String cashCounts) throws JposException {
-        logPreCall("AdjustCashCounts", removeOuterArraySpecifier(new Object[]{cashCounts}, Device.MaxArrayStringElements));
+        logPreCall("AdjustCashCounts", new Object[]{cashCounts});
         checkEnabled();
         check(cashCounts == null, JPOS_E_ILLEGAL, "Cash counts null");
         String[] cashCount = cashCounts.split(",");
@@ -203,7 +203,7 @@ public class CoinAcceptorService extends JposBase implements CoinAcceptorService
 
     @Override
     public void endDeposit(int success) throws JposException {
-        logPreCall("EndDeposit", removeOuterArraySpecifier(new Object[]{success}, Device.MaxArrayStringElements));
+        logPreCall("EndDeposit", new Object[]{success});
         checkEnabled();
         check(Data.DepositStatus != CACC_STATUS_DEPOSIT_COUNT, JPOS_E_ILLEGAL,
                 (Data.DepositStatus == CACC_STATUS_DEPOSIT_JAM) ? "Jam condition" : "Operation not fixed");
@@ -225,7 +225,7 @@ public class CoinAcceptorService extends JposBase implements CoinAcceptorService
 
     @Override
     public void pauseDeposit(int control) throws JposException {
-        logPreCall("PauseDeposit", removeOuterArraySpecifier(new Object[]{control}, Device.MaxArrayStringElements));
+        logPreCall("PauseDeposit", new Object[]{control});
         checkEnabled();
         check(!Data.CapPauseDeposit, JPOS_E_ILLEGAL, "PauseDeposit not supported");
         check(control == CACC_DEPOSIT_PAUSE && Data.DepositStatus == CACC_STATUS_DEPOSIT_END,
@@ -245,6 +245,6 @@ public class CoinAcceptorService extends JposBase implements CoinAcceptorService
         check(discrepancy == null, JPOS_E_ILLEGAL, "discrepancy null");
         check(discrepancy.length != 1, JPOS_E_ILLEGAL, "discrepancy: Invalid array size");
         CoinAcceptorInterface.readCashCounts(cashCounts, discrepancy);
-        logCall("ReadCashCounts", removeOuterArraySpecifier(new Object[]{cashCounts[0], discrepancy[0]}, Device.MaxArrayStringElements));
+        logCall("ReadCashCounts", new Object[]{cashCounts[0], discrepancy[0]});
     }
 }
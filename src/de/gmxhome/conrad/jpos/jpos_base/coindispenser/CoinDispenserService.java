@@ -77,7 +77,7 @@ public class CoinDispenserService extends JposBase implements CoinDispenserServi
 
     @Override
     public void adjustCashCounts(String cashCounts) throws JposException {
-        logPreCall("AdjustCashCounts", removeOuterArraySpecifier(new Object[]{cashCounts}, Device.MaxArrayStringElements));
+        logPreCall("AdjustCashCounts", new Object[]{cashCounts});
         checkEnabled();
         check(cashCounts == null, JPOS_E_ILLEGAL, "Cash counts null");
         String[] cashCount = cashCounts.split(",");
@@ -98,17 +98,17 @@ public class CoinDispenserService extends JposBase implements CoinDispenserServi
 
     @Override
     public void readCashCounts(String[] cashCounts, boolean[] discrepancy) throws JposException {
-        logPreCall("ReadCashCounts", removeOuterArraySpecifier(new Object[]{cashCounts, discrepancy}, Device.MaxArrayStringElements));
+        logPreCall("ReadCashCounts", new Object[]{cashCounts, discrepancy});
         checkEnabled();
         check(cashCounts == null || cashCounts.length != 1, JPOS_E_ILLEGAL, "Bad dimension of cashCounts");
         check(discrepancy == null || discrepancy.length != 1, JPOS_E_ILLEGAL, "Bad dimension of discrepancy");
         CoinDispenserInterface.readCashCounts(cashCounts, discrepancy);
-        logCall("ReadCashCounts", removeOuterArraySpecifier(new Object[]{cashCounts[0], discrepancy[0]}, Device.MaxArrayStringElements));
+        logCall("ReadCashCounts", new Object[]{cashCounts[0], discrepancy[0]});
     }
 
     @Override
     public void dispenseChange(int amount) throws JposException {
-        logPreCall("DispenseChange", removeOuterArraySpecifier(new Object[]{amount}, Device.MaxArrayStringElements));
+        logPreCall("DispenseChange", new Object[]{amount});
         checkEnabled();
         check(amount <= 0 , JPOS_E_ILLEGAL, "Amount negative or zero");
         CoinDispenserInterface.dispenseChange(amount);
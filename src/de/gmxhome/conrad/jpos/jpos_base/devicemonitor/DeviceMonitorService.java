@@ -77,7 +77,7 @@ public class DeviceMonitorService extends JposBase implements DeviceMonitorServi
                 DMON_MMODE_WITHIN, DMON_MMODE_OUTSIDE, DMON_MMODE_POLLING
         };
         long[] important = { DMON_MMODE_WITHIN, DMON_MMODE_OUTSIDE };
-        logPreCall("AddMonitoringDevice", removeOuterArraySpecifier(new Object[]{deviceID, monitoringMode, boundary, subBoundary, intervalTime}, Device.MaxArrayStringElements));
+        logPreCall("AddMonitoringDevice", new Object[]{deviceID, monitoringMode, boundary, subBoundary, intervalTime});
         checkEnabled();
         String[] alldevs = Data.DeviceList.split(",");
         for (String anydev : alldevs) {
@@ -158,7 +158,7 @@ public class DeviceMonitorService extends JposBase implements DeviceMonitorServi
                 check(pValue == null || pValue.length != 1, JPOS_E_ILLEGAL, "pValue must be int[1]");
                 DeviceMonitor.getDeviceValue(deviceID, pValue);
                 logSet("MonitoringDeviceList");
-                logCall("GetDeviceValue", removeOuterArraySpecifier(new Object[]{deviceID, pValue[0]}, Device.MaxArrayStringElements));
+                logCall("GetDeviceValue", new Object[]{deviceID, pValue[0]});
                 return;
             }
         }
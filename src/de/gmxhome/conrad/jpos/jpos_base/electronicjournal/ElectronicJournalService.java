@@ -261,7 +261,7 @@ public class ElectronicJournalService extends JposBase implements ElectronicJour
 
     @Override
     public void addMarker(String marker) throws JposException {
-        logPreCall("AddMarker", removeOuterArraySpecifier(new Object[]{marker}, Device.MaxArrayStringElements));
+        logPreCall("AddMarker", new Object[]{marker});
         checkEnabled();
         check(!Data.CapAddMarker, JPOS_E_ILLEGAL, "Device does not support AddMarker method");
         ElectronicJournalInterface.addMarker(marker);
@@ -306,7 +306,7 @@ public class ElectronicJournalService extends JposBase implements ElectronicJour
 
     @Override
     public void initializeMedium(String mediumID) throws JposException {
-        logPreCall("InitializeMedium", removeOuterArraySpecifier(new Object[]{mediumID}, Device.MaxArrayStringElements));
+        logPreCall("InitializeMedium", new Object[]{mediumID});
         check(mediumID == null, JPOS_E_ILLEGAL, "Invalid mediumID parameter: [null]");
         checkEnabled();
         check(!Data.CapInitializeMedium, JPOS_E_ILLEGAL, "InitializeMedium not supported");
@@ -315,7 +315,7 @@ public class ElectronicJournalService extends JposBase implements ElectronicJour
 
     @Override
     public void printContent(String fromMarker, String toMarker) throws JposException {
-        logPreCall("PrintContent", removeOuterArraySpecifier(new Object[]{fromMarker, toMarker}, Device.MaxArrayStringElements));
+        logPreCall("PrintContent", new Object[]{fromMarker, toMarker});
         check(fromMarker == null, JPOS_E_ILLEGAL, "Invalid fromMarker parameter: [null]");
         check(toMarker == null, JPOS_E_ILLEGAL, "Invalid toMarker parameter: [null]");
         checkEnabled();
@@ -325,7 +325,7 @@ public class ElectronicJournalService extends JposBase implements ElectronicJour
 
     @Override
     public void printContentFile(String fileName) throws JposException {
-        logPreCall("PrintContentFile", removeOuterArraySpecifier(new Object[]{fileName}, Device.MaxArrayStringElements));
+        logPreCall("PrintContentFile", new Object[]{fileName});
         check(fileName == null, JPOS_E_ILLEGAL, "Invalid fileName parameter: [null]");
         checkEnabled();
         check(!Data.CapPrintContentFile, JPOS_E_ILLEGAL, "PrintContentFile not supported");
@@ -334,7 +334,7 @@ public class ElectronicJournalService extends JposBase implements ElectronicJour
 
     @Override
     public void queryContent(String fileName, String fromMarker, String toMarker) throws JposException {
-        logPreCall("QueryContent", removeOuterArraySpecifier(new Object[]{fileName, fromMarker, toMarker}, Device.MaxArrayStringElements));
+        logPreCall("QueryContent", new Object[]{fileName, fromMarker, toMarker});
         check(fileName == null, JPOS_E_ILLEGAL, "Invalid fileName parameter: [null]");
         check(fromMarker == null, JPOS_E_ILLEGAL, "Invalid fromMarker parameter: [null]");
         check(toMarker == null, JPOS_E_ILLEGAL, "Invalid toMarker parameter: [null]");
@@ -364,30 +364,30 @@ public class ElectronicJournalService extends JposBase implements ElectronicJour
 
     @Override
     public void retrieveCurrentMarker(int markerType, String[] marker) throws JposException {
-        logPreCall("RetrieveCurrentMarker", removeOuterArraySpecifier(new Object[]{markerType}, Device.MaxArrayStringElements));
+        logPreCall("RetrieveCurrentMarker", new Object[]{markerType});
         check(marker == null || marker.length != 1, JPOS_E_ILLEGAL, "Marker must be a String array with length 1");
         checkEnabled();
         check(!Data.CapRetrieveCurrentMarker, JPOS_E_ILLEGAL, "Device does not support RetrieveCurrentMarker method");
         check(!member(markerType, MarkerTypesNormal) && !member(markerType, MarkerTypesSpecial), JPOS_E_ILLEGAL, "Bad marker type: "+ markerType);
         ElectronicJournalInterface.retrieveCurrentMarker(markerType, marker);
-        logCall("RetrieveCurrentMarker", removeOuterArraySpecifier(new Object[]{markerType, marker[0]}, Device.MaxArrayStringElements));
+        logCall("RetrieveCurrentMarker", new Object[]{markerType, marker[0]});
     }
 
     @Override
     public void retrieveMarker(int markerType, int sessionNumber, int documentNumber, String[] marker) throws JposException {
-        logPreCall("RetrieveMarker", removeOuterArraySpecifier(new Object[]{markerType, sessionNumber, documentNumber}, Device.MaxArrayStringElements));
+        logPreCall("RetrieveMarker", new Object[]{markerType, sessionNumber, documentNumber});
         check(marker == null || marker.length != 1, JPOS_E_ILLEGAL, "Marker must be a String array with length 1");
         checkEnabled();
         check(!Data.CapRetrieveMarker, JPOS_E_ILLEGAL, "Device does not support RetrieveMarker method");
         checkMember(markerType, MarkerTypesNormal, JPOS_E_ILLEGAL, "Bad marker type: "+ markerType);
         check(documentNumber < 0, JPOS_E_ILLEGAL, "Illegal document number: " + documentNumber);
         ElectronicJournalInterface.retrieveMarker(markerType, sessionNumber, documentNumber, marker);
-        logCall("RetrieveMarker", removeOuterArraySpecifier(new Object[]{markerType, marker[0]}, Device.MaxArrayStringElements));
+        logCall("RetrieveMarker", new Object[]{markerType, marker[0]});
     }
 
     @Override
     public void retrieveMarkerByDateTime(int markerType, String dateTime, String markerNumber, String[] marker) throws JposException {
-        logPreCall("RetrieveMarkerByDateTime", removeOuterArraySpecifier(new Object[]{markerType, dateTime, markerNumber}, Device.MaxArrayStringElements));
+        logPreCall("RetrieveMarkerByDateTime", new Object[]{markerType, dateTime, markerNumber});
         check(dateTime == null, JPOS_E_ILLEGAL, "Invalid dateTime parameter: [null]");
         check(markerNumber == null, JPOS_E_ILLEGAL, "Invalid markerNumber parameter: [null]");
         check(marker == null || marker.length != 1, JPOS_E_ILLEGAL, "Marker must be a String array with length 1");
@@ -407,18 +407,18 @@ public class ElectronicJournalService extends JposBase implements ElectronicJour
             throw new JposException(JPOS_E_ILLEGAL, "Format for markerNumber and dateTime must be numeric: " + e.getMessage());
         }
         ElectronicJournalInterface.retrieveMarkerByDateTime(markerType, dateTime, markerNumber, marker);
-        logCall("RetrieveMarkerByDateTime", removeOuterArraySpecifier(new Object[]{markerType, marker[0]}, Device.MaxArrayStringElements));
+        logCall("RetrieveMarkerByDateTime", new Object[]{markerType, marker[0]});
     }
 
     @Override
     public void retrieveMarkersDateTime(String marker, String[] dateTime) throws JposException {
-        logPreCall("RetrieveMarkersDateTime", removeOuterArraySpecifier(new Object[]{marker}, Device.MaxArrayStringElements));
+        logPreCall("RetrieveMarkersDateTime", new Object[]{marker});
         check(marker == null, JPOS_E_ILLEGAL, "Invalid marker parameter: [null]");
         check(dateTime == null || dateTime.length != 1, JPOS_E_ILLEGAL, "DateTime must be a String array with length 1");
         checkEnabled();
         check(!Data.CapRetrieveMarkersDateTime, JPOS_E_ILLEGAL, "Device does not support RetrieveMarkersDateTime method");
         ElectronicJournalInterface.retrieveMarkersDateTime(marker, dateTime);
-        logCall("RetrieveMarkersDateTime", removeOuterArraySpecifier(new Object[]{marker, dateTime[0]}, Device.MaxArrayStringElements));
+        logCall("RetrieveMarkersDateTime", new Object[]{marker, dateTime[0]});
     }
 
     @Override
@@ -426,11 +426,13 @@ public class ElectronicJournalService extends JposBase implements ElectronicJour
         logPreCall("SuspendPrintContent");
         checkEnabled();
         check(!Data.CapSuspendPrintContent, JPOS_E_ILLEGAL, "Device does not support SuspendPrintContent method");
-        synchronized (Device.AsyncProcessorRunning) {
-            JposOutputRequest effective = Device.CurrentCommand;
-            if (Device.CurrentCommand == null && Device.PendingCommands.size() > 0)
-                effective = Device.PendingCommands.get(0);
-            check((!(effective instanceof PrintContent) && !(effective instanceof PrintContentFile)), JPOS_E_ILLEGAL, "Device not printing");
+        synchronized (Props.RequestSync) {
+            synchronized (Device.AsyncProcessorRunning) {
+                JposOutputRequest effective = Device.CurrentCommand;
+                if (Device.CurrentCommand == null && Device.PendingCommands.size() > 0)
+                    effective = Device.PendingCommands.get(0);
+                check((!(effective instanceof PrintContent) && !(effective instanceof PrintContentFile)), JPOS_E_ILLEGAL, "Device not printing");
+            }
         }
         check(Data.Suspended, JPOS_E_ILLEGAL, "Device just suspended");
         ElectronicJournalInterface.suspendPrintContent();
@@ -442,11 +444,13 @@ public class ElectronicJournalService extends JposBase implements ElectronicJour
         logPreCall("SuspendQueryContent");
         checkEnabled();
         check(!Data.CapSuspendQueryContent, JPOS_E_ILLEGAL, "Device does not support SuspendQueryContent method");
-        synchronized (Device.AsyncProcessorRunning) {
-            JposOutputRequest effective = Device.CurrentCommand;
-            if (Device.CurrentCommand == null && Device.PendingCommands.size() > 0)
-                effective = Device.PendingCommands.get(0);
-            check(!(effective instanceof QueryContent), JPOS_E_ILLEGAL, "Device not querying content");
+        synchronized (Props.RequestSync) {
+            synchronized (Device.AsyncProcessorRunning) {
+                JposOutputRequest effective = Device.CurrentCommand;
+                if (Device.CurrentCommand == null && Device.PendingCommands.size() > 0)
+                    effective = Device.PendingCommands.get(0);
+                check(!(effective instanceof QueryContent), JPOS_E_ILLEGAL, "Device not querying content");
+            }
         }
         check(Data.Suspended, JPOS_E_ILLEGAL, "Device just suspended");
         ElectronicJournalInterface.suspendQueryContent();
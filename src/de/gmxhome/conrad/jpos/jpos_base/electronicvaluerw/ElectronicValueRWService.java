@@ -770,7 +770,7 @@ public class ElectronicValueRWService extends JposBase implements ElectronicValu
     @Override
     public void beginDetection(int type, int timeout) throws JposException {
         long[] validvalues = { EVRW_BD_ANY, EVRW_BD_SPECIFIC};
-        logPreCall("BeginDetection", removeOuterArraySpecifier(new Object[]{type, timeout}, Device.MaxArrayStringElements));
+        logPreCall("BeginDetection", new Object[]{type, timeout});
         checkEnabled();
         check(Data.State != JPOS_S_IDLE, JPOS_E_BUSY, "Device busy");
         check(!Data.DetectionControl, JPOS_E_BUSY, "Card detection by application disabled");
@@ -782,7 +782,7 @@ public class ElectronicValueRWService extends JposBase implements ElectronicValu
 
     @Override
     public void beginRemoval(int timeout) throws JposException {
-        logPreCall("BeginRemoval", removeOuterArraySpecifier(new Object[]{timeout}, Device.MaxArrayStringElements));
+        logPreCall("BeginRemoval", new Object[]{timeout});
         checkEnabled();
         check(Data.State != JPOS_S_IDLE, JPOS_E_BUSY, "Device busy");
         check(timeout != JPOS_FOREVER && timeout < 0,JPOS_E_ILLEGAL, "Invalid timeout value: " + timeout);
@@ -927,7 +927,7 @@ public class ElectronicValueRWService extends JposBase implements ElectronicValu
 
     @Override
     public void retrieveResultInformation(String name, String[] value) throws JposException {
-        logPreCall("RetrieveResultInformation", removeOuterArraySpecifier(new Object[]{name}, Device.MaxArrayStringElements));
+        logPreCall("RetrieveResultInformation", new Object[]{name});
         checkEnabled();
         check(name == null || name.length() == 0, JPOS_E_ILLEGAL, "No tag specified");
         check(value == null || value.length != 1, JPOS_E_ILLEGAL, "Value not String[1]");
@@ -936,12 +936,12 @@ public class ElectronicValueRWService extends JposBase implements ElectronicValu
         ElectronicValueRW.retrieveResultInformation(name, value);
         if (value[0] == null)
             value[0] = "";
-        logCall("RetrieveResultInformation", name + ", " + value[0]);
+        logCall("RetrieveResultInformation", new Object[]{name, value[0]});
     }
 
     @Override
     public void setParameterInformation(String name, String value) throws JposException {
-        logPreCall("SetParameterInformation", removeOuterArraySpecifier(new Object[]{name, value}, Device.MaxArrayStringElements));
+        logPreCall("SetParameterInformation", new Object[]{name, value});
         if ("SetttledVoucherID".equals(name))
             name = "SettledVoucherID";
         checkEnabled();
@@ -959,7 +959,7 @@ public class ElectronicValueRWService extends JposBase implements ElectronicValu
     public void accessDailyLog(int sequenceNumber, int type, int timeout) throws JposException {
         long[] validvalues = {EVRW_DL_REPORTING, EVRW_DL_SETTLEMENT};
 
-        logPreCall("AccessDailyLog", removeOuterArraySpecifier(new Object[]{sequenceNumber, type, timeout}, Device.MaxArrayStringElements));
+        logPreCall("AccessDailyLog", new Object[]{sequenceNumber, type, timeout});
         checkBusy();
         checkMember(type, validvalues, JPOS_E_ILLEGAL, "Invalid log type: " + type);
         check((type & ~Data.CapDailyLog) != 0, JPOS_E_ILLEGAL, "Invalid log type: " + type);
@@ -971,7 +971,7 @@ public class ElectronicValueRWService extends JposBase implements ElectronicValu
     public void accessData(int dataType, int[] data, Object[] obj) throws JposException {
         long[] validvalues = {EVRW_AD_KEY, EVRW_AD_NEGATIVE_LIST, EVRW_AD_OTHERS};
 
-        logPreCall("AccessData", removeOuterArraySpecifier(new Object[]{dataType, data, obj}, Device.MaxArrayStringElements));
+        logPreCall("AccessData", new Object[]{dataType, data, obj});
         checkBusy();
         checkMember(dataType, validvalues, JPOS_E_ILLEGAL, "Invalid dataType: " + dataType);
         check(data == null || data.length != 1, JPOS_E_ILLEGAL, "Invalid data");
@@ -983,7 +983,7 @@ public class ElectronicValueRWService extends JposBase implements ElectronicValu
     public void accessLog(int sequenceNumber, int type, int timeout) throws JposException {
         long[] validvalues = {EVRW_AL_REPORTING, EVRW_AL_SETTLEMENT};
 
-        logPreCall("AccessLog", removeOuterArraySpecifier(new Object[]{sequenceNumber, type, timeout}, Device.MaxArrayStringElements));
+        logPreCall("AccessLog", new Object[]{sequenceNumber, type, timeout});
         checkBusy();
         checkMember(type, validvalues, JPOS_E_ILLEGAL, "Invalid type: " + type);
         check(timeout < 0 && timeout != JPOS_FOREVER, JPOS_E_ILLEGAL, "Invalid timeout: " + timeout);
@@ -992,7 +992,7 @@ public class ElectronicValueRWService extends JposBase implements ElectronicValu
 
     @Override
     public void activateEVService(int[] data, Object[] obj) throws JposException {
-        logPreCall("ActivateEVService", removeOuterArraySpecifier(new Object[]{data, obj}, Device.MaxArrayStringElements));
+        logPreCall("ActivateEVService", new Object[]{data, obj});
         checkBusy();
         check(data == null || data.length != 1, JPOS_E_ILLEGAL, "Invalid data");
         check(obj == null || obj.length != 1, JPOS_E_ILLEGAL, "Invalid obj");
@@ -1001,7 +1001,7 @@ public class ElectronicValueRWService extends JposBase implements ElectronicValu
 
     @Override
     public void activateService(int[] data, Object[] obj) throws JposException {
-        logPreCall("ActivateService", removeOuterArraySpecifier(new Object[]{data, obj}, Device.MaxArrayStringElements));
+        logPreCall("ActivateService", new Object[]{data, obj});
         checkBusy();
         check(!Data.CapActivateService, JPOS_E_ILLEGAL, "ActivateService not supported");
         check(data == null || data.length != 1, JPOS_E_ILLEGAL, "Invalid data");
@@ -1011,7 +1011,7 @@ public class ElectronicValueRWService extends JposBase implements ElectronicValu
 
     @Override
     public void addValue(int sequenceNumber, int timeout) throws JposException {
-        logPreCall("AddValue", removeOuterArraySpecifier(new Object[]{sequenceNumber, timeout}, Device.MaxArrayStringElements));
+        logPreCall("AddValue", new Object[]{sequenceNumber, timeout});
         checkBusy();
         check(!Data.CapAddValue, JPOS_E_ILLEGAL, "AddValue not supported");
         check(timeout < 0 && timeout != JPOS_FOREVER, JPOS_E_ILLEGAL, "Invalid timeout: " + timeout);
@@ -1020,7 +1020,7 @@ public class ElectronicValueRWService extends JposBase implements ElectronicValu
 
     @Override
     public void authorizeCompletion(int sequenceNumber, long amount, long taxOthers, int timeout) throws JposException {
-        logPreCall("AuthorizeCompletion", removeOuterArraySpecifier(new Object[]{sequenceNumber, amount, taxOthers, timeout}, Device.MaxArrayStringElements));
+        logPreCall("AuthorizeCompletion", new Object[]{sequenceNumber, amount, taxOthers, timeout});
         checkBusy();
         check(!Data.CapAuthorizeCompletion, JPOS_E_ILLEGAL, "AuthorizeCompletion not supported");
         check(amount <= 0, JPOS_E_ILLEGAL, "Invalid amount: " + amount);
@@ -1031,7 +1031,7 @@ public class ElectronicValueRWService extends JposBase implements ElectronicValu
 
     @Override
     public void authorizePreSales(int sequenceNumber, long amount, long taxOthers, int timeout) throws JposException {
-        logPreCall("AuthorizePreSales", removeOuterArraySpecifier(new Object[]{sequenceNumber, amount, taxOthers, timeout}, Device.MaxArrayStringElements));
+        logPreCall("AuthorizePreSales", new Object[]{sequenceNumber, amount, taxOthers, timeout});
         checkBusy();
         check(!Data.CapAuthorizePreSales, JPOS_E_ILLEGAL, "AuthorizePreSales not supported");
         check(amount <= 0, JPOS_E_ILLEGAL, "Invalid amount: " + amount);
@@ -1042,7 +1042,7 @@ public class ElectronicValueRWService extends JposBase implements ElectronicValu
 
     @Override
     public void authorizeRefund(int sequenceNumber, long amount, long taxOthers, int timeout) throws JposException {
-        logPreCall("AuthorizeRefund", removeOuterArraySpecifier(new Object[]{sequenceNumber, amount, taxOthers, timeout}, Device.MaxArrayStringElements));
+        logPreCall("AuthorizeRefund", new Object[]{sequenceNumber, amount, taxOthers, timeout});
         checkBusy();
         check(!Data.CapAuthorizeRefund, JPOS_E_ILLEGAL, "AuthorizeRefund not supported");
         check(amount <= 0, JPOS_E_ILLEGAL, "Invalid amount: " + amount);
@@ -1053,7 +1053,7 @@ public class ElectronicValueRWService extends JposBase implements ElectronicValu
 
     @Override
     public void authorizeSales(int sequenceNumber, long amount, long taxOthers, int timeout) throws JposException {
-        logPreCall("AuthorizeSales", removeOuterArraySpecifier(new Object[]{sequenceNumber, amount, taxOthers, timeout}, Device.MaxArrayStringElements));
+        logPreCall("AuthorizeSales", new Object[]{sequenceNumber, amount, taxOthers, timeout});
         checkBusy();
         check(amount <= 0, JPOS_E_ILLEGAL, "Invalid amount: " + amount);
         check(taxOthers < 0, JPOS_E_ILLEGAL, "Invalid taxOthers: " + taxOthers);
@@ -1063,7 +1063,7 @@ public class ElectronicValueRWService extends JposBase implements ElectronicValu
 
     @Override
     public void authorizeVoid(int sequenceNumber, long amount, long taxOthers, int timeout) throws JposException {
-        logPreCall("AuthorizeVoid", removeOuterArraySpecifier(new Object[]{sequenceNumber, amount, taxOthers, timeout}, Device.MaxArrayStringElements));
+        logPreCall("AuthorizeVoid", new Object[]{sequenceNumber, amount, taxOthers, timeout});
         checkBusy();
         check(!Data.CapAuthorizeVoid, JPOS_E_ILLEGAL, "AuthorizeVoid not supported");
         check(amount <= 0, JPOS_E_ILLEGAL, "Invalid amount: " + amount);
@@ -1074,7 +1074,7 @@ public class ElectronicValueRWService extends JposBase implements ElectronicValu
 
     @Override
     public void authorizeVoidPreSales(int sequenceNumber, long amount, long taxOthers, int timeout) throws JposException {
-        logPreCall("AuthorizeVoidPreSales", removeOuterArraySpecifier(new Object[]{sequenceNumber, amount, taxOthers, timeout}, Device.MaxArrayStringElements));
+        logPreCall("AuthorizeVoidPreSales", new Object[]{sequenceNumber, amount, taxOthers, timeout});
         checkBusy();
         check(!Data.CapAuthorizeVoidPreSales, JPOS_E_ILLEGAL, "AuthorizeVoidPreSales not supported");
         check(amount <= 0, JPOS_E_ILLEGAL, "Invalid amount: " + amount);
@@ -1085,7 +1085,7 @@ public class ElectronicValueRWService extends JposBase implements ElectronicValu
 
     @Override
     public void cancelValue(int sequenceNumber, int timeout) throws JposException {
-        logPreCall("CancelValue", removeOuterArraySpecifier(new Object[]{sequenceNumber, timeout}, Device.MaxArrayStringElements));
+        logPreCall("CancelValue", new Object[]{sequenceNumber, timeout});
         checkBusy();
         check(!Data.CapCancelValue, JPOS_E_ILLEGAL, "CancelValue not supported");
         check(timeout < 0 && timeout != JPOS_FOREVER, JPOS_E_ILLEGAL, "Invalid timeout: " + timeout);
@@ -1094,7 +1094,7 @@ public class ElectronicValueRWService extends JposBase implements ElectronicValu
 
     @Override
     public void cashDeposit(int sequenceNumber, long amount, int timeout) throws JposException {
-        logPreCall("CashDeposit", removeOuterArraySpecifier(new Object[]{sequenceNumber, amount, timeout}, Device.MaxArrayStringElements));
+        logPreCall("CashDeposit", new Object[]{sequenceNumber, amount, timeout});
         checkBusy();
         check(!Data.CapCashDeposit, JPOS_E_ILLEGAL, "CashDeposit not supported");
         check(amount <= 0, JPOS_E_ILLEGAL, "Invalid amount: " + amount);
@@ -1104,7 +1104,7 @@ public class ElectronicValueRWService extends JposBase implements ElectronicValu
 
     @Override
     public void checkCard(int sequenceNumber, int timeout) throws JposException {
-        logPreCall("CheckCard", removeOuterArraySpecifier(new Object[]{sequenceNumber, timeout}, Device.MaxArrayStringElements));
+        logPreCall("CheckCard", new Object[]{sequenceNumber, timeout});
         checkBusy();
         check(!Data.CapCheckCard, JPOS_E_ILLEGAL, "CheckCard not supported");
         check(timeout < 0 && timeout != JPOS_FOREVER, JPOS_E_ILLEGAL, "Invalid timeout: " + timeout);
@@ -1113,7 +1113,7 @@ public class ElectronicValueRWService extends JposBase implements ElectronicValu
 
     @Override
     public void checkServiceRegistrationToMedium(int sequenceNumber, int timeout) throws JposException {
-        logPreCall("CheckServiceRegistrationToMedium", removeOuterArraySpecifier(new Object[]{sequenceNumber, timeout}, Device.MaxArrayStringElements));
+        logPreCall("CheckServiceRegistrationToMedium", new Object[]{sequenceNumber, timeout});
         checkBusy();
         check(timeout < 0 && timeout != JPOS_FOREVER, JPOS_E_ILLEGAL, "Invalid timeout: " + timeout);
         callIt(ElectronicValueRW.checkServiceRegistrationToMedium(sequenceNumber, timeout), "CheckServiceRegistrationToMedium");
@@ -1121,7 +1121,7 @@ public class ElectronicValueRWService extends JposBase implements ElectronicValu
 
     @Override
     public void closeDailyEVService(int[] data, Object[] obj) throws JposException {
-        logPreCall("CloseDailyEVService", removeOuterArraySpecifier(new Object[]{data, obj}, Device.MaxArrayStringElements));
+        logPreCall("CloseDailyEVService", new Object[]{data, obj});
         checkBusy();
         check(data == null || data.length != 1, JPOS_E_ILLEGAL, "Invalid data");
         check(obj == null || obj.length != 1, JPOS_E_ILLEGAL, "Invalid obj");
@@ -1130,7 +1130,7 @@ public class ElectronicValueRWService extends JposBase implements ElectronicValu
 
     @Override
     public void deactivateEVService(int[] data, Object[] obj) throws JposException {
-        logPreCall("DeactivateEVService", removeOuterArraySpecifier(new Object[]{data, obj}, Device.MaxArrayStringElements));
+        logPreCall("DeactivateEVService", new Object[]{data, obj});
         checkBusy();
         check(data == null || data.length != 1, JPOS_E_ILLEGAL, "Invalid data");
         check(obj == null || obj.length != 1, JPOS_E_ILLEGAL, "Invalid obj");
@@ -1147,7 +1147,7 @@ public class ElectronicValueRWService extends JposBase implements ElectronicValu
 
     @Override
     public void openDailyEVService(int[] data, Object[] obj) throws JposException {
-        logPreCall("UpdateKey", removeOuterArraySpecifier(new Object[]{data, obj}, Device.MaxArrayStringElements));
+        logPreCall("UpdateKey", new Object[]{data, obj});
         checkBusy();
         check(data == null || data.length != 1, JPOS_E_ILLEGAL, "Invalid data");
         check(obj == null || obj.length != 1, JPOS_E_ILLEGAL, "Invalid obj");
@@ -1164,7 +1164,7 @@ public class ElectronicValueRWService extends JposBase implements ElectronicValu
 
     @Override
     public void readValue(int sequenceNumber, int timeout) throws JposException {
-        logPreCall("ReadValue", removeOuterArraySpecifier(new Object[]{sequenceNumber, timeout}, Device.MaxArrayStringElements));
+        logPreCall("ReadValue", new Object[]{sequenceNumber, timeout});
         checkBusy();
         check(timeout < 0 && timeout != JPOS_FOREVER, JPOS_E_ILLEGAL, "Invalid timeout: " + timeout);
         callIt(ElectronicValueRW.readValue(sequenceNumber, timeout), "ReadValue");
@@ -1172,7 +1172,7 @@ public class ElectronicValueRWService extends JposBase implements ElectronicValu
 
     @Override
     public void registerServiceToMedium(int sequenceNumber, int timeout) throws JposException {
-        logPreCall("RegisterServiceToMedium", removeOuterArraySpecifier(new Object[]{sequenceNumber, timeout}, Device.MaxArrayStringElements));
+        logPreCall("RegisterServiceToMedium", new Object[]{sequenceNumber, timeout});
         checkBusy();
         check(timeout < 0 && timeout != JPOS_FOREVER, JPOS_E_ILLEGAL, "Invalid timeout: " + timeout);
         callIt(ElectronicValueRW.registerServiceToMedium(sequenceNumber, timeout), "RegisterServiceToMedium");
@@ -1180,7 +1180,7 @@ public class ElectronicValueRWService extends JposBase implements ElectronicValu
 
     @Override
     public void subtractValue(int sequenceNumber, int timeout) throws JposException {
-        logPreCall("SubtractValue", removeOuterArraySpecifier(new Object[]{sequenceNumber, timeout}, Device.MaxArrayStringElements));
+        logPreCall("SubtractValue", new Object[]{sequenceNumber, timeout});
         checkBusy();
         check(!Data.CapSubtractValue, JPOS_E_ILLEGAL, "CancelValue not supported");
         check(timeout < 0 && timeout != JPOS_FOREVER, JPOS_E_ILLEGAL, "Invalid timeout: " + timeout);
@@ -1191,7 +1191,7 @@ public class ElectronicValueRWService extends JposBase implements ElectronicValu
     public void transactionAccess(int control) throws JposException {
         long[] validvalues = {EVRW_TA_TRANSACTION, EVRW_TA_NORMAL};
 
-        logPreCall("TransactionAccess", removeOuterArraySpecifier(new Object[]{control}, Device.MaxArrayStringElements));
+        logPreCall("TransactionAccess", new Object[]{control});
         checkBusy();
         check(!Data.CapTransaction, JPOS_E_ILLEGAL, "TransactionAccess not supported");
         checkMember(control, validvalues, JPOS_E_ILLEGAL, "Invalid control value: " + control);
@@ -1216,7 +1216,7 @@ public class ElectronicValueRWService extends JposBase implements ElectronicValu
 
     @Override
     public void unregisterServiceToMedium(int sequenceNumber, int timeout) throws JposException {
-        logPreCall("UnregisterServiceToMedium", removeOuterArraySpecifier(new Object[]{sequenceNumber, timeout}, Device.MaxArrayStringElements));
+        logPreCall("UnregisterServiceToMedium", new Object[]{sequenceNumber, timeout});
         checkBusy();
         check(timeout < 0 && timeout != JPOS_FOREVER, JPOS_E_ILLEGAL, "Invalid timeout: " + timeout);
         callIt(ElectronicValueRW.unregisterServiceToMedium(sequenceNumber, timeout), "UnregisterServiceToMedium");
@@ -1226,7 +1226,7 @@ public class ElectronicValueRWService extends JposBase implements ElectronicValu
     public void updateData(int dataType, int[] data, Object[] obj) throws JposException {
         long[] validvalues = {EVRW_AD_KEY, EVRW_AD_NEGATIVE_LIST, EVRW_AD_OTHERS};
 
-        logPreCall("UpdateData", removeOuterArraySpecifier(new Object[]{dataType, data, obj}, Device.MaxArrayStringElements));
+        logPreCall("UpdateData", new Object[]{dataType, data, obj});
         checkBusy();
         checkMember(dataType, validvalues, JPOS_E_ILLEGAL, "Invalid dataType: " + dataType);
         check(data == null || data.length != 1, JPOS_E_ILLEGAL, "Invalid data");
@@ -1236,7 +1236,7 @@ public class ElectronicValueRWService extends JposBase implements ElectronicValu
 
     @Override
     public void updateKey(int[] data, Object[] obj) throws JposException {
-        logPreCall("UpdateKey", removeOuterArraySpecifier(new Object[]{data, obj}, Device.MaxArrayStringElements));
+        logPreCall("UpdateKey", new Object[]{data, obj});
         checkBusy();
         check(data == null || data.length != 1, JPOS_E_ILLEGAL, "Invalid data");
         check(obj == null || obj.length != 1, JPOS_E_ILLEGAL, "Invalid obj");
@@ -1245,7 +1245,7 @@ public class ElectronicValueRWService extends JposBase implements ElectronicValu
 
     @Override
     public void writeValue(int sequenceNumber, int timeout) throws JposException {
-        logPreCall("WriteValue", removeOuterArraySpecifier(new Object[]{sequenceNumber, timeout}, Device.MaxArrayStringElements));
+        logPreCall("WriteValue", new Object[]{sequenceNumber, timeout});
         checkBusy();
         check(!Data.CapWriteValue, JPOS_E_ILLEGAL, "WriteValue not supported");
         check(timeout < 0 && timeout != JPOS_FOREVER, JPOS_E_ILLEGAL, "Invalid timeout: " + timeout);
@@ -783,11 +783,13 @@ public class FiscalPrinterProperties extends JposCommonProperties implements Fis
     @Override
     public void clearOutput() throws JposException {
         super.clearOutput();
-        synchronized(Device.AsyncProcessorRunning) {
-            SyncObject obj = IdleWaiter;
-            if (obj != null) {
-                IdleWaiter = null;
-                obj.signal();
+        synchronized(RequestSync) {
+            synchronized(Device.AsyncProcessorRunning) {
+                SyncObject obj = IdleWaiter;
+                if (obj != null) {
+                    IdleWaiter = null;
+                    obj.signal();
+                }
             }
         }
     }
@@ -1131,7 +1131,7 @@ public class FiscalPrinterService extends JposBase implements FiscalPrinterServi
 
     @Override
     public void beginFiscalDocument(int documentAmount) throws JposException {
-        logPreCall("BeginFiscalDocument", removeOuterArraySpecifier(new Object[]{documentAmount}, Device.MaxArrayStringElements));
+        logPreCall("BeginFiscalDocument", new Object[]{documentAmount});
         checkEnabled();
         check(!Data.CapSlpPresent || !Data.CapSlpFiscalDocument, JPOS_E_ILLEGAL, "Fiscal document printing not supported");
         checkext(Data.PrinterState != FPTR_PS_MONITOR, JPOS_EFPTR_WRONG_STATE, "Cannot change to fiscal document state");
@@ -1141,7 +1141,7 @@ public class FiscalPrinterService extends JposBase implements FiscalPrinterServi
 
     @Override
     public void beginFiscalReceipt(boolean printHeader) throws JposException {
-        logPreCall("BeginFiscalReceipt", removeOuterArraySpecifier(new Object[]{printHeader}, Device.MaxArrayStringElements));
+        logPreCall("BeginFiscalReceipt", new Object[]{printHeader});
         checkEnabled();
         checkext(Data.PrinterState != FPTR_PS_MONITOR, JPOS_EFPTR_WRONG_STATE, "Cannot change to fiscal receipt state");
         FiscalPrinterInterface.beginFiscalReceipt(printHeader);
@@ -1150,7 +1150,7 @@ public class FiscalPrinterService extends JposBase implements FiscalPrinterServi
 
     @Override
     public void beginFixedOutput(int station, int documentType) throws JposException {
-        logPreCall("BeginFixedOutput", removeOuterArraySpecifier(new Object[]{station, documentType}, Device.MaxArrayStringElements));
+        logPreCall("BeginFixedOutput", new Object[]{station, documentType});
         checkEnabled();
         check(!Data.CapFixedOutput, JPOS_E_ILLEGAL, "Non-fiscal fixed text printing not supported");
         checkext(Data.PrinterState != FPTR_PS_MONITOR, JPOS_EFPTR_WRONG_STATE, "Cannot change to non-fiscal document state");
@@ -1170,7 +1170,7 @@ public class FiscalPrinterService extends JposBase implements FiscalPrinterServi
 
     @Override
     public void beginInsertion(int timeout) throws JposException {
-        logPreCall("BeginInsertion", removeOuterArraySpecifier(new Object[]{timeout}, Device.MaxArrayStringElements));
+        logPreCall("BeginInsertion", new Object[]{timeout});
         checkEnabled();
         check(!Data.CapSlpPresent, JPOS_E_ILLEGAL, "Slip station not supported");
         check(timeout < 0 && timeout != JPOS_FOREVER, JPOS_E_ILLEGAL, "Invalid timeout value: " + timeout);
@@ -1181,7 +1181,7 @@ public class FiscalPrinterService extends JposBase implements FiscalPrinterServi
 
     @Override
     public void beginItemList(int vatID) throws JposException {
-        logPreCall("BeginItemList", removeOuterArraySpecifier(new Object[]{vatID}, Device.MaxArrayStringElements));
+        logPreCall("BeginItemList", new Object[]{vatID});
         checkEnabled();
         check(!Data.CapItemList, JPOS_E_ILLEGAL, "Non-fiscal item list printing not supported");
         check(ValidVatRates != null && !ValidVatRates.containsKey(vatID), JPOS_E_ILLEGAL, "Invalid VAT id: " + vatID);
@@ -1202,7 +1202,7 @@ public class FiscalPrinterService extends JposBase implements FiscalPrinterServi
 
     @Override
     public void beginRemoval(int timeout) throws JposException {
-        logPreCall("BeginRemoval", removeOuterArraySpecifier(new Object[]{timeout}, Device.MaxArrayStringElements));
+        logPreCall("BeginRemoval", new Object[]{timeout});
         checkEnabled();
         check(!Data.CapSlpPresent, JPOS_E_ILLEGAL, "Slip station not supported");
         check(timeout < 0 && timeout != JPOS_FOREVER, JPOS_E_ILLEGAL, "Invalid timeout value: " + timeout);
@@ -1243,7 +1243,7 @@ public class FiscalPrinterService extends JposBase implements FiscalPrinterServi
     @Override
     public void endFiscalReceipt(boolean printHeader) throws JposException {
         long[] allowed = { FPTR_PS_FISCAL_RECEIPT, FPTR_PS_FISCAL_RECEIPT_ENDING };
-        logPreCall("EndFiscalReceipt", removeOuterArraySpecifier(new Object[]{printHeader}, Device.MaxArrayStringElements));
+        logPreCall("EndFiscalReceipt", new Object[]{printHeader});
         checkEnabled();
         checkext(!member(Data.PrinterState, allowed), JPOS_EFPTR_WRONG_STATE, "Invalid printing state: " + Data.PrinterState);
         FiscalPrinterInterface.endFiscalReceipt(printHeader);
@@ -1313,7 +1313,7 @@ public class FiscalPrinterService extends JposBase implements FiscalPrinterServi
 
     @Override
     public void getData(int dataItem, int[] optArgs, String[] data) throws JposException {
-        logPreCall("GetData", removeOuterArraySpecifier(new Object[]{dataItem, optArgs, "..."}, Device.MaxArrayStringElements));
+        logPreCall("GetData", new Object[]{dataItem, optArgs, "..."});
         long[] needOptArgs = { FPTR_GD_TENDER, FPTR_GD_LINECOUNT, FPTR_GD_DESCRIPTION_LENGTH };
         long[] allowedstr = { FPTR_GD_FIRMWARE, FPTR_GD_PRINTER_ID, FPTR_GD_TENDER, FPTR_GD_VAT_ID_LIST};
         long[] allowedint = {
@@ -1345,7 +1345,7 @@ public class FiscalPrinterService extends JposBase implements FiscalPrinterServi
                     : Long.toString(longdata[0]);
         } else
             throw new JposException(JPOS_E_ILLEGAL, "Data item invalid: " + dataItem);
-        logCall("GetData", removeOuterArraySpecifier(new Object[]{dataItem, optArgs, data}, Device.MaxArrayStringElements));
+        logCall("GetData", new Object[]{dataItem, optArgs, data});
     }
 
     @Override
@@ -1355,12 +1355,12 @@ public class FiscalPrinterService extends JposBase implements FiscalPrinterServi
         check(date == null, JPOS_E_ILLEGAL, "Unexpected null pointer argument");
         check(date.length != 1, JPOS_E_ILLEGAL, "Bad dimension of argument pointer");
         FiscalPrinterInterface.getDate(date);
-        logCall("GetDate", removeOuterArraySpecifier(new Object[]{date[0]}, Device.MaxArrayStringElements));
+        logCall("GetDate", new Object[]{date[0]});
     }
 
     @Override
     public void getTotalizer(int vatID, int optArgs, String[] data) throws JposException {
-        logPreCall("GetTotalizer", removeOuterArraySpecifier(new Object[]{vatID, optArgs, "..."}, Device.MaxArrayStringElements));
+        logPreCall("GetTotalizer", new Object[]{vatID, optArgs, "..."});
         long[] allowed = {
                 FPTR_GT_GROSS, FPTR_GT_NET, FPTR_GT_DISCOUNT, FPTR_GT_DISCOUNT_VOID, FPTR_GT_ITEM, FPTR_GT_ITEM_VOID,
                 FPTR_GT_NOT_PAID, FPTR_GT_REFUND, FPTR_GT_REFUND_VOID, FPTR_GT_SUBTOTAL_DISCOUNT,
@@ -1377,12 +1377,12 @@ public class FiscalPrinterService extends JposBase implements FiscalPrinterServi
         data[0] = Data.CurrencyStringWithDecimalPoint
                 ? new BigDecimal(longdata[0]).scaleByPowerOfTen(-4).stripTrailingZeros().toPlainString()
                 : Long.toString(longdata[0]);
-        logCall("GetTotalizer", removeOuterArraySpecifier(new Object[]{vatID, optArgs, data[0]}, Device.MaxArrayStringElements));
+        logCall("GetTotalizer", new Object[]{vatID, optArgs, data[0]});
     }
 
     @Override
     public void getVatEntry(int vatID, int optArgs, int[] vatRate) throws JposException {
-        logPreCall("GetVatEntry", removeOuterArraySpecifier(new Object[]{vatID, optArgs, "..."}, Device.MaxArrayStringElements));
+        logPreCall("GetVatEntry", new Object[]{vatID, optArgs, "..."});
         checkEnabled();
         check(!Data.CapHasVatTable, JPOS_E_ILLEGAL, "No VAT table");
         if (ValidVatRates != null) {
@@ -1403,7 +1403,7 @@ public class FiscalPrinterService extends JposBase implements FiscalPrinterServi
         check(vatRate == null, JPOS_E_ILLEGAL, "Unexpected null pointer argument");
         check(vatRate.length != 1, JPOS_E_ILLEGAL, "Bad dimension of argument pointer");
         FiscalPrinterInterface.getVatEntry(vatID, optArgs, vatRate);
-        logCall("GetVatEntry", removeOuterArraySpecifier(new Object[]{vatID, optArgs, vatRate[0]}, Device.MaxArrayStringElements));
+        logCall("GetVatEntry", new Object[]{vatID, optArgs, vatRate[0]});
     }
 
     @Override
@@ -1419,7 +1419,7 @@ public class FiscalPrinterService extends JposBase implements FiscalPrinterServi
 
     @Override
     public void printPeriodicTotalsReport(String date1, String date2) throws JposException {
-        logPreCall("PrintPeriodicTotalsReport", removeOuterArraySpecifier(new Object[]{date1, date2}, Device.MaxArrayStringElements));
+        logPreCall("PrintPeriodicTotalsReport", new Object[]{date1, date2});
         check(date1 == null || date2 == null, JPOS_E_ILLEGAL, "Starting date and ending date must not be null");
         checkEnabled();
         checkext(Data.PrinterState != FPTR_PS_MONITOR, JPOS_EFPTR_WRONG_STATE, "Device not in monitor state");
@@ -1446,7 +1446,7 @@ public class FiscalPrinterService extends JposBase implements FiscalPrinterServi
 
     @Override
     public void printRecVoidItem(String description, long price, int quantity, int adjustmentType, long adjustment, int vatInfo) throws JposException {
-        logPreCall("PrintRecVoidItem", removeOuterArraySpecifier(new Object[]{description, price, quantity, adjustmentType, adjustment, vatInfo}, Device.MaxArrayStringElements));
+        logPreCall("PrintRecVoidItem", new Object[]{description, price, quantity, adjustmentType, adjustment, vatInfo});
         Data.checkForDeprecation(1011000, "Deprecated method, use PrintRecItemVoid and PrintRecItemAdjustmentVoid instead.");
         long[] allowedType = { FPTR_RT_SALES, FPTR_RT_SERVICE, FPTR_RT_SIMPLE_INVOICE, FPTR_RT_REFUND };
         long[] allowedamount = { FPTR_AT_AMOUNT_DISCOUNT, FPTR_AT_AMOUNT_SURCHARGE, FPTR_AT_COUPON_AMOUNT_DISCOUNT };
@@ -1471,7 +1471,7 @@ public class FiscalPrinterService extends JposBase implements FiscalPrinterServi
 
     @Override
     public void printReport(int reportType, String startNum, String endNum) throws JposException {
-        logPreCall("PrintReport", removeOuterArraySpecifier(new Object[]{reportType, startNum, endNum}, Device.MaxArrayStringElements));
+        logPreCall("PrintReport", new Object[]{reportType, startNum, endNum});
         long[] allowed = { FPTR_RT_ORDINAL, FPTR_RT_DATE, FPTR_RT_EOD_ORDINAL };
         check(startNum == null || endNum == null, JPOS_E_ILLEGAL, "Starting and final record must not be null");
         checkEnabled();
@@ -1528,7 +1528,7 @@ public class FiscalPrinterService extends JposBase implements FiscalPrinterServi
 
     @Override
     public void setCurrency(int newCurrency) throws JposException {
-        logPreCall("SetCurrency", removeOuterArraySpecifier(new Object[]{newCurrency}, Device.MaxArrayStringElements));
+        logPreCall("SetCurrency", new Object[]{newCurrency});
         checkEnabled();
         check(!Data.CapSetCurrency, JPOS_E_ILLEGAL, "Changing currency not supported");
         check(Data.DayOpened, JPOS_E_ILLEGAL, "Fiscal day open");
@@ -1540,7 +1540,7 @@ public class FiscalPrinterService extends JposBase implements FiscalPrinterServi
 
     @Override
     public void setDate(String date) throws JposException {
-        logPreCall("SetDate", removeOuterArraySpecifier(new Object[]{date}, Device.MaxArrayStringElements));
+        logPreCall("SetDate", new Object[]{date});
         check(date == null, JPOS_E_ILLEGAL, "Date must not be null");
         checkEnabled();
         check(Data.DayOpened, JPOS_E_ILLEGAL, "Day open");
@@ -1554,7 +1554,7 @@ public class FiscalPrinterService extends JposBase implements FiscalPrinterServi
 
     @Override
     public void setHeaderLine(int lineNumber, String text, boolean doubleWidth) throws JposException {
-        logPreCall("SetHeaderLine", removeOuterArraySpecifier(new Object[]{lineNumber, text, doubleWidth}, Device.MaxArrayStringElements));
+        logPreCall("SetHeaderLine", new Object[]{lineNumber, text, doubleWidth});
         check(text == null, JPOS_E_ILLEGAL, "Text must not be null");
         checkEnabled();
         check(!Data.CapSetHeader, JPOS_E_ILLEGAL, "Setting header line not supported");
@@ -1567,7 +1567,7 @@ public class FiscalPrinterService extends JposBase implements FiscalPrinterServi
 
     @Override
     public void setPOSID(String POSID, String cashierID) throws JposException {
-        logPreCall("SetPOSID", removeOuterArraySpecifier(new Object[]{POSID, cashierID}, Device.MaxArrayStringElements));
+        logPreCall("SetPOSID", new Object[]{POSID, cashierID});
         check(POSID == null || cashierID == null, JPOS_E_ILLEGAL, "POSID and cashierID must not be null");
         checkEnabled();
         check(!Data.CapSetPOSID, JPOS_E_ILLEGAL, "Setting pos ID not supported");
@@ -1580,7 +1580,7 @@ public class FiscalPrinterService extends JposBase implements FiscalPrinterServi
 
     @Override
     public void setStoreFiscalID(String ID) throws JposException {
-        logPreCall("SetStoreFiscalID", removeOuterArraySpecifier(new Object[]{ID}, Device.MaxArrayStringElements));
+        logPreCall("SetStoreFiscalID", new Object[]{ID});
         check(ID == null, JPOS_E_ILLEGAL, "ID must not be null");
         checkEnabled();
         check(!Data.CapSetStoreFiscalID, JPOS_E_ILLEGAL, "Setting store fiscal ID not supported");
@@ -1591,7 +1591,7 @@ public class FiscalPrinterService extends JposBase implements FiscalPrinterServi
 
     @Override
     public void setTrailerLine(int lineNumber, String text, boolean doubleWidth) throws JposException {
-        logPreCall("SetTrailerLine", removeOuterArraySpecifier(new Object[]{lineNumber, text, doubleWidth}, Device.MaxArrayStringElements));
+        logPreCall("SetTrailerLine", new Object[]{lineNumber, text, doubleWidth});
         check(text == null, JPOS_E_ILLEGAL, "Text must not be null");
         checkEnabled();
         check(!Data.CapSetTrailer, JPOS_E_ILLEGAL, "Setting trailer line not supported");
@@ -1629,7 +1629,7 @@ public class FiscalPrinterService extends JposBase implements FiscalPrinterServi
      */
     @Override
     public void setVatValue(int vatID, String vatValue) throws JposException {
-        logPreCall("SetVatValue", removeOuterArraySpecifier(new Object[]{vatID, vatValue}, Device.MaxArrayStringElements));
+        logPreCall("SetVatValue", new Object[]{vatID, vatValue});
         check(vatValue == null, JPOS_E_ILLEGAL, "vatValue must not be null");
         checkEnabled();
         check(!Data.CapHasVatTable, JPOS_E_ILLEGAL, "VAT tables not supported");
@@ -1658,7 +1658,7 @@ public class FiscalPrinterService extends JposBase implements FiscalPrinterServi
 
     @Override
     public void verifyItem(String itemName, int vatID) throws JposException {
-        logPreCall("VerifyItem", removeOuterArraySpecifier(new Object[]{itemName, vatID}, Device.MaxArrayStringElements));
+        logPreCall("VerifyItem", new Object[]{itemName, vatID});
         check(itemName == null, JPOS_E_ILLEGAL, "itemName must not be null");
         checkEnabled();
         check(!Data.CapHasVatTable, JPOS_E_ILLEGAL, "VAT tables not supported");
@@ -1676,7 +1676,7 @@ public class FiscalPrinterService extends JposBase implements FiscalPrinterServi
 
     @Override
     public void printFiscalDocumentLine(String documentLine) throws JposException {
-        logPreCall("PrintFiscalDocumentLine", removeOuterArraySpecifier(new Object[]{documentLine}, Device.MaxArrayStringElements));
+        logPreCall("PrintFiscalDocumentLine", new Object[]{documentLine});
         check(documentLine == null, JPOS_E_ILLEGAL, "DocumentLine must not be null");
         checkEnabled();
         check(!Data.CapSlpFiscalDocument, JPOS_E_ILLEGAL, "Fiscal document printing not supported");
@@ -1687,7 +1687,7 @@ public class FiscalPrinterService extends JposBase implements FiscalPrinterServi
 
     @Override
     public void printFixedOutput(int documentType, int lineNumber, String data) throws JposException {
-        logPreCall("PrintFixedOutput", removeOuterArraySpecifier(new Object[]{documentType, lineNumber, data}, Device.MaxArrayStringElements));
+        logPreCall("PrintFixedOutput", new Object[]{documentType, lineNumber, data});
         check(data == null, JPOS_E_ILLEGAL, "Data must not be null");
         checkEnabled();
         check(!Data.CapFixedOutput, JPOS_E_ILLEGAL, "Fixed output printing not supported");
@@ -1698,7 +1698,7 @@ public class FiscalPrinterService extends JposBase implements FiscalPrinterServi
 
     @Override
     public void printNormal(int station, String data) throws JposException {
-        logPreCall("PrintNormal", removeOuterArraySpecifier(new Object[]{station, data}, Device.MaxArrayStringElements));
+        logPreCall("PrintNormal", new Object[]{station, data});
         long[][] allowed = {
                 { FPTR_S_JOURNAL, FPTR_S_RECEIPT, FPTR_S_SLIP },    // possible print stations
                 { Data.CapJrnPresent ? 1 : 0, Data.CapRecPresent ? 1 : 0, Data.CapSlpPresent ? 1 : 0 },    // corresponding presence capabilities
@@ -1726,7 +1726,7 @@ public class FiscalPrinterService extends JposBase implements FiscalPrinterServi
 
     @Override
     public void printRecCash(long amount) throws JposException {
-        logPreCall("PrintRecCash", removeOuterArraySpecifier(new Object[]{amount}, Device.MaxArrayStringElements));
+        logPreCall("PrintRecCash", new Object[]{amount});
         long[] allowed = { FPTR_RT_CASH_IN, FPTR_RT_CASH_OUT };
         checkEnabled();
         check(!Data.CapFiscalReceiptType, JPOS_E_ILLEGAL, "Cash in / out not supported");
@@ -1740,7 +1740,7 @@ public class FiscalPrinterService extends JposBase implements FiscalPrinterServi
 
     @Override
     public void printRecItem(String description, long price, int quantity, int vatInfo, long unitPrice, String unitName) throws JposException {
-        logPreCall("PrintRecItem", removeOuterArraySpecifier(new Object[]{description, price, quantity, vatInfo, unitPrice, unitName}, Device.MaxArrayStringElements));
+        logPreCall("PrintRecItem", new Object[]{description, price, quantity, vatInfo, unitPrice, unitName});
         long[] allowed = { FPTR_RT_SALES, FPTR_RT_SERVICE, FPTR_RT_SIMPLE_INVOICE, FPTR_RT_REFUND };
         check(description == null, JPOS_E_ILLEGAL, "Description must not be null");
         if (unitName == null)
@@ -1760,7 +1760,7 @@ public class FiscalPrinterService extends JposBase implements FiscalPrinterServi
 
     @Override
     public void printRecItemAdjustment(int adjustmentType, String description, long amount, int vatInfo) throws JposException {
-        logPreCall("PrintRecItemAdjustment", removeOuterArraySpecifier(new Object[]{adjustmentType, description, amount, vatInfo}, Device.MaxArrayStringElements));
+        logPreCall("PrintRecItemAdjustment", new Object[]{adjustmentType, description, amount, vatInfo});
         long[] allowed = { FPTR_RT_SALES, FPTR_RT_SERVICE, FPTR_RT_SIMPLE_INVOICE, FPTR_RT_REFUND };
         long[] allowedamount = { FPTR_AT_AMOUNT_DISCOUNT, FPTR_AT_AMOUNT_SURCHARGE, FPTR_AT_COUPON_AMOUNT_DISCOUNT };
         long[] allowedpercent = { FPTR_AT_PERCENTAGE_DISCOUNT, FPTR_AT_PERCENTAGE_SURCHARGE, FPTR_AT_COUPON_PERCENTAGE_DISCOUNT };
@@ -1782,7 +1782,7 @@ public class FiscalPrinterService extends JposBase implements FiscalPrinterServi
 
     @Override
     public void printRecItemAdjustmentVoid(int adjustmentType, String description, long amount, int vatInfo) throws JposException {
-        logPreCall("PrintRecItemAdjustmentVoid", removeOuterArraySpecifier(new Object[]{adjustmentType, description, amount, vatInfo}, Device.MaxArrayStringElements));
+        logPreCall("PrintRecItemAdjustmentVoid", new Object[]{adjustmentType, description, amount, vatInfo});
         long[] allowed = { FPTR_RT_SALES, FPTR_RT_SERVICE, FPTR_RT_SIMPLE_INVOICE, FPTR_RT_REFUND };
         long[] allowedamount = { FPTR_AT_AMOUNT_DISCOUNT, FPTR_AT_AMOUNT_SURCHARGE, FPTR_AT_COUPON_AMOUNT_DISCOUNT };
         long[] allowedpercent = { FPTR_AT_PERCENTAGE_DISCOUNT, FPTR_AT_PERCENTAGE_SURCHARGE, FPTR_AT_COUPON_PERCENTAGE_DISCOUNT };
@@ -1804,7 +1804,7 @@ public class FiscalPrinterService extends JposBase implements FiscalPrinterServi
 
     @Override
     public void printRecItemFuel(String description, long price, int quantity, int vatInfo, long unitPrice, String unitName, long specialTax, String specialTaxName) throws JposException {
-        logPreCall("PrintRecItemFuel", removeOuterArraySpecifier(new Object[]{description, price, quantity, vatInfo, unitPrice, unitName, specialTax, specialTaxName}, Device.MaxArrayStringElements));
+        logPreCall("PrintRecItemFuel", new Object[]{description, price, quantity, vatInfo, unitPrice, unitName, specialTax, specialTaxName});
         long[] allowed = { FPTR_RT_SALES, FPTR_RT_SERVICE, FPTR_RT_SIMPLE_INVOICE, FPTR_RT_REFUND };
         check(description == null, JPOS_E_ILLEGAL, "Description must not be null");
         if (unitName == null)
@@ -1828,7 +1828,7 @@ public class FiscalPrinterService extends JposBase implements FiscalPrinterServi
 
     @Override
     public void printRecItemFuelVoid(String description, long price, int vatInfo, long specialTax) throws JposException {
-        logPreCall("PrintRecItemFuelVoid", removeOuterArraySpecifier(new Object[]{description, price, vatInfo, specialTax}, Device.MaxArrayStringElements));
+        logPreCall("PrintRecItemFuelVoid", new Object[]{description, price, vatInfo, specialTax});
         long[] allowed = { FPTR_RT_SALES, FPTR_RT_SERVICE, FPTR_RT_SIMPLE_INVOICE, FPTR_RT_REFUND };
         check(description == null, JPOS_E_ILLEGAL, "Description must not be null");
         checkEnabled();
@@ -1844,7 +1844,7 @@ public class FiscalPrinterService extends JposBase implements FiscalPrinterServi
 
     @Override
     public void printRecItemRefund(String description, long amount, int quantity, int vatInfo, long unitAmount, String unitName) throws JposException {
-        logPreCall("PrintRecItemRefund", removeOuterArraySpecifier(new Object[]{description, amount, quantity, vatInfo, unitAmount, unitName}, Device.MaxArrayStringElements));
+        logPreCall("PrintRecItemRefund", new Object[]{description, amount, quantity, vatInfo, unitAmount, unitName});
         long[] allowed = { FPTR_RT_SALES, FPTR_RT_SERVICE, FPTR_RT_REFUND };
         check(description == null, JPOS_E_ILLEGAL, "Description must not be null");
         if (unitName == null)
@@ -1864,7 +1864,7 @@ public class FiscalPrinterService extends JposBase implements FiscalPrinterServi
 
     @Override
     public void printRecItemRefundVoid(String description, long amount, int quantity, int vatInfo, long unitAmount, String unitName) throws JposException {
-        logPreCall("PrintRecItemRefundVoid", removeOuterArraySpecifier(new Object[]{description, amount, quantity, vatInfo, unitAmount, unitName}, Device.MaxArrayStringElements));
+        logPreCall("PrintRecItemRefundVoid", new Object[]{description, amount, quantity, vatInfo, unitAmount, unitName});
         long[] allowed = { FPTR_RT_SALES, FPTR_RT_SERVICE, FPTR_RT_REFUND };
         check(description == null, JPOS_E_ILLEGAL, "Description must not be null");
         if (unitName == null)
@@ -1884,7 +1884,7 @@ public class FiscalPrinterService extends JposBase implements FiscalPrinterServi
 
     @Override
     public void printRecItemVoid(String description, long price, int quantity, int vatInfo, long unitPrice, String unitName) throws JposException {
-        logPreCall("PrintRecItemVoid", removeOuterArraySpecifier(new Object[]{description, price, quantity, vatInfo, unitPrice, unitName}, Device.MaxArrayStringElements));
+        logPreCall("PrintRecItemVoid", new Object[]{description, price, quantity, vatInfo, unitPrice, unitName});
         long[] allowed = { FPTR_RT_SALES, FPTR_RT_SERVICE, FPTR_RT_SIMPLE_INVOICE, FPTR_RT_REFUND };
         check(description == null, JPOS_E_ILLEGAL, "Description and unitName must not be null");
         if (unitName == null)
@@ -1904,7 +1904,7 @@ public class FiscalPrinterService extends JposBase implements FiscalPrinterServi
 
     @Override
     public void printRecMessage(String message) throws JposException {
-        logPreCall("PrintRecMessage", removeOuterArraySpecifier(new Object[]{message}, Device.MaxArrayStringElements));
+        logPreCall("PrintRecMessage", new Object[]{message});
         long[] allowed = { FPTR_RT_SALES, FPTR_RT_SERVICE, FPTR_RT_SIMPLE_INVOICE, FPTR_RT_REFUND };
         long[] allowedState = { FPTR_PS_FISCAL_RECEIPT, FPTR_PS_FISCAL_RECEIPT_TOTAL, FPTR_PS_FISCAL_RECEIPT_ENDING };
         check(message == null, JposConst.JPOS_E_ILLEGAL, "Message must not be null");
@@ -1922,7 +1922,7 @@ public class FiscalPrinterService extends JposBase implements FiscalPrinterServi
 
     @Override
     public void printRecNotPaid(String description, long amount) throws JposException {
-        logPreCall("PrintRecNotPaid", removeOuterArraySpecifier(new Object[]{description, amount}, Device.MaxArrayStringElements));
+        logPreCall("PrintRecNotPaid", new Object[]{description, amount});
         long[] allowed = { FPTR_RT_SALES, FPTR_RT_SERVICE, FPTR_RT_SIMPLE_INVOICE, FPTR_RT_REFUND };
         long[] allowedState = { FPTR_PS_FISCAL_RECEIPT, FPTR_PS_FISCAL_RECEIPT_TOTAL };
         check(description == null, JposConst.JPOS_E_ILLEGAL, "Description must not be null");
@@ -1938,7 +1938,7 @@ public class FiscalPrinterService extends JposBase implements FiscalPrinterServi
 
     @Override
     public void printRecPackageAdjustment(int adjustmentType, String description, String vatAdjustment) throws JposException {
-        logPreCall("PrintRecPackageAdjustment", removeOuterArraySpecifier(new Object[]{adjustmentType, description, vatAdjustment}, Device.MaxArrayStringElements));
+        logPreCall("PrintRecPackageAdjustment", new Object[]{adjustmentType, description, vatAdjustment});
         long[] allowed = { FPTR_RT_SALES, FPTR_RT_SERVICE, FPTR_RT_SIMPLE_INVOICE, FPTR_RT_REFUND };
         long[] allowedType = AllowItemAdjustmentTypesInPackageAdjustment ? new long[]{
                 FPTR_AT_AMOUNT_DISCOUNT, FPTR_AT_AMOUNT_SURCHARGE, FPTR_AT_COUPON_AMOUNT_DISCOUNT,
@@ -1961,7 +1961,7 @@ public class FiscalPrinterService extends JposBase implements FiscalPrinterServi
 
     @Override
     public void printRecPackageAdjustVoid(int adjustmentType, String vatAdjustment) throws JposException {
-        logPreCall("PrintRecPackageAdjustVoid", removeOuterArraySpecifier(new Object[]{adjustmentType, vatAdjustment}, Device.MaxArrayStringElements));
+        logPreCall("PrintRecPackageAdjustVoid", new Object[]{adjustmentType, vatAdjustment});
         long[] allowed = { FPTR_RT_SALES, FPTR_RT_SERVICE, FPTR_RT_SIMPLE_INVOICE, FPTR_RT_REFUND };
         long[] allowedType = AllowItemAdjustmentTypesInPackageAdjustment ? new long[]{
                 FPTR_AT_AMOUNT_DISCOUNT, FPTR_AT_AMOUNT_SURCHARGE, FPTR_AT_COUPON_AMOUNT_DISCOUNT,
@@ -2011,7 +2011,7 @@ public class FiscalPrinterService extends JposBase implements FiscalPrinterServi
 
     @Override
     public void printRecRefund(String description, long amount, int vatInfo) throws JposException {
-        logPreCall("PrintRecRefund", removeOuterArraySpecifier(new Object[]{description, amount, vatInfo}, Device.MaxArrayStringElements));
+        logPreCall("PrintRecRefund", new Object[]{description, amount, vatInfo});
         long[] allowed = { FPTR_RT_SALES, FPTR_RT_SERVICE, FPTR_RT_REFUND };
         check(description == null, JposConst.JPOS_E_ILLEGAL, "Description must not be null");
         checkEnabled();
@@ -2026,7 +2026,7 @@ public class FiscalPrinterService extends JposBase implements FiscalPrinterServi
 
     @Override
     public void printRecRefundVoid(String description, long amount, int vatInfo) throws JposException {
-        logPreCall("PrintRecRefundVoid", removeOuterArraySpecifier(new Object[]{description, amount, vatInfo}, Device.MaxArrayStringElements));
+        logPreCall("PrintRecRefundVoid", new Object[]{description, amount, vatInfo});
         long[] allowed = { FPTR_RT_SALES, FPTR_RT_SERVICE, FPTR_RT_REFUND };
         check(description == null, JposConst.JPOS_E_ILLEGAL, "Description must not be null");
         checkEnabled();
@@ -2041,7 +2041,7 @@ public class FiscalPrinterService extends JposBase implements FiscalPrinterServi
 
     @Override
     public void printRecSubtotal(long amount) throws JposException {
-        logPreCall("PrintRecSubtotal", removeOuterArraySpecifier(new Object[]{amount}, Device.MaxArrayStringElements));
+        logPreCall("PrintRecSubtotal", new Object[]{amount});
         long[] allowed = { FPTR_RT_SALES, FPTR_RT_SERVICE, FPTR_RT_SIMPLE_INVOICE, FPTR_RT_REFUND };
         checkEnabled();
         checkext(Data.PrinterState != FPTR_PS_FISCAL_RECEIPT, JPOS_EFPTR_WRONG_STATE, "Not in fiscal receipt state");
@@ -2053,7 +2053,7 @@ public class FiscalPrinterService extends JposBase implements FiscalPrinterServi
 
     @Override
     public void printRecSubtotalAdjustment(int adjustmentType, String description, long amount) throws JposException {
-        logPreCall("PrintRecSubtotalAdjustment", removeOuterArraySpecifier(new Object[]{adjustmentType, description, amount}, Device.MaxArrayStringElements));
+        logPreCall("PrintRecSubtotalAdjustment", new Object[]{adjustmentType, description, amount});
         long[] allowed = { FPTR_RT_SALES, FPTR_RT_SERVICE, FPTR_RT_SIMPLE_INVOICE, FPTR_RT_REFUND };
         long[] allowedamount = { FPTR_AT_AMOUNT_DISCOUNT, FPTR_AT_AMOUNT_SURCHARGE, FPTR_AT_COUPON_AMOUNT_DISCOUNT };
         long[] allowedpercent = { FPTR_AT_PERCENTAGE_DISCOUNT, FPTR_AT_PERCENTAGE_SURCHARGE, FPTR_AT_COUPON_PERCENTAGE_DISCOUNT };
@@ -2074,7 +2074,7 @@ public class FiscalPrinterService extends JposBase implements FiscalPrinterServi
 
     @Override
     public void printRecSubtotalAdjustVoid(int adjustmentType, long amount) throws JposException {
-        logPreCall("PrintRecSubtotalAdjustVoid", removeOuterArraySpecifier(new Object[]{adjustmentType, amount}, Device.MaxArrayStringElements));
+        logPreCall("PrintRecSubtotalAdjustVoid", new Object[]{adjustmentType, amount});
         long[] allowed = { FPTR_RT_SALES, FPTR_RT_SERVICE, FPTR_RT_SIMPLE_INVOICE, FPTR_RT_REFUND };
         long[] allowedamount = { FPTR_AT_AMOUNT_DISCOUNT, FPTR_AT_AMOUNT_SURCHARGE };
         long[] allowedpercent = { FPTR_AT_PERCENTAGE_DISCOUNT, FPTR_AT_PERCENTAGE_SURCHARGE };
@@ -2093,7 +2093,7 @@ public class FiscalPrinterService extends JposBase implements FiscalPrinterServi
 
     @Override
     public void printRecTaxID(String taxId) throws JposException {
-        logPreCall("PrintRecTaxID", removeOuterArraySpecifier(new Object[]{taxId}, Device.MaxArrayStringElements));
+        logPreCall("PrintRecTaxID", new Object[]{taxId});
         long[] allowed = { FPTR_RT_SALES, FPTR_RT_SERVICE, FPTR_RT_SIMPLE_INVOICE, FPTR_RT_REFUND };
         check(taxId == null, JposConst.JPOS_E_ILLEGAL, "Tax-ID must not be null");
         checkEnabled();
@@ -2106,7 +2106,7 @@ public class FiscalPrinterService extends JposBase implements FiscalPrinterServi
 
     @Override
     public void printRecTotal(long total, long payment, String description) throws JposException {
-        logPreCall("PrintRecTotal", removeOuterArraySpecifier(new Object[]{total, payment, description}, Device.MaxArrayStringElements));
+        logPreCall("PrintRecTotal", new Object[]{total, payment, description});
         long[] allowed = { FPTR_RT_SALES, FPTR_RT_SERVICE, FPTR_RT_SIMPLE_INVOICE, FPTR_RT_REFUND };
         long[] allowedstate = { FPTR_PS_FISCAL_RECEIPT, FPTR_PS_FISCAL_RECEIPT_TOTAL };
         check(description == null, JposConst.JPOS_E_ILLEGAL, "Tax-ID must not be null");
@@ -2134,7 +2134,7 @@ public class FiscalPrinterService extends JposBase implements FiscalPrinterServi
 
     @Override
     public void printRecVoid(String description) throws JposException {
-        logPreCall("PrintRecVoid", removeOuterArraySpecifier(new Object[]{description}, Device.MaxArrayStringElements));
+        logPreCall("PrintRecVoid", new Object[]{description});
         long[] allowed = { FPTR_RT_SALES, FPTR_RT_SERVICE, FPTR_RT_SIMPLE_INVOICE, FPTR_RT_REFUND };
         long[] allowedstate = { FPTR_PS_FISCAL_RECEIPT, FPTR_PS_FISCAL_RECEIPT_TOTAL };
         check(description == null, JposConst.JPOS_E_ILLEGAL, "Tax-ID must not be null");
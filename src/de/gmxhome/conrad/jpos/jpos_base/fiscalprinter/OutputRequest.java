@@ -80,11 +80,13 @@ public class OutputRequest extends JposOutputRequest {
      */
     @Override
     public void invoke() throws JposException {
-        synchronized (Device.AsyncProcessorRunning) {
-            SyncObject waiter = ((FiscalPrinterProperties) Props).IdleWaiter;
-            if (Device.PendingCommands.size() == 0 && Device.CurrentCommand.Props.SuspendedCommands.size() == 0 && waiter != null) {
-                ((FiscalPrinterProperties) Props).IdleWaiter = null;
-                waiter.signal();
+        synchronized (Props.RequestSync) {
+            synchronized (Device.AsyncProcessorRunning) {
+                SyncObject waiter = ((FiscalPrinterProperties) Props).IdleWaiter;
+                if (Device.PendingCommands.size() == 0 && Device.CurrentCommand.Props.SuspendedCommands.size() == 0 && waiter != null) {
+                    ((FiscalPrinterProperties) Props).IdleWaiter = null;
+                    waiter.signal();
+                }
             }
         }
     }
@@ -96,12 +98,16 @@ public class OutputRequest extends JposOutputRequest {
      */
     @SuppressWarnings("SynchronizeOnNonFinalField")
     static public SyncObject setIdleWaiter(JposDevice dev) {
-        synchronized (dev.AsyncProcessorRunning) {
-            synchronized(dev.ClaimedFiscalPrinter) {
+        FiscalPrinterProperties props;
+        synchronized(dev.ClaimedFiscalPrinter) {
+            props = dev.ClaimedFiscalPrinter[0];
+        }
+        synchronized (props.RequestSync) {
+            synchronized (dev.AsyncProcessorRunning) {
                 if (dev.PendingCommands.size() != 0 ||
-                        dev.ClaimedFiscalPrinter[0].SuspendedCommands.size() != 0 ||
-                        dev.ClaimedFiscalPrinter[0].SuspendedConcurrentCommands.size() != 0) {
-                    return dev.ClaimedFiscalPrinter[0].IdleWaiter = new SyncObject();
+                        props.SuspendedCommands.size() != 0 ||
+                        props.SuspendedConcurrentCommands.size() != 0) {
+                    return props.IdleWaiter = new SyncObject();
                 }
             }
         }
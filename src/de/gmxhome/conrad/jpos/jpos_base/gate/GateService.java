@@ -79,7 +79,7 @@ public class GateService extends JposBase implements GateService116 {
 
     @Override
     public void waitForGateClose(int timeout) throws JposException {
-        logPreCall("WaitForGateClose", removeOuterArraySpecifier(new Object[]{timeout}, Device.MaxArrayStringElements));
+        logPreCall("WaitForGateClose", new Object[]{timeout});
         checkEnabledUnclaimed();
         if (!Data.CapGateStatus)
             return;
@@ -183,8 +183,10 @@ public class GestureControlService extends JposBase implements GestureControlSer
     @Override
     public void clearOutput() throws JposException {
         super.clearOutput();
-        synchronized (Device.AsyncProcessorRunning) {
-            OutputIDs.clear();
+        synchronized (Props.RequestSync) {
+            synchronized (Device.AsyncProcessorRunning) {
+                OutputIDs.clear();
+            }
         }
     }
 
@@ -202,7 +204,7 @@ public class GestureControlService extends JposBase implements GestureControlSer
 
     @Override
     public void createMotion(String fileName, String poseList) throws JposException {
-        logPreCall("CreateMotion", removeOuterArraySpecifier(new Object[]{fileName, poseList}, Device.MaxArrayStringElements));
+        logPreCall("CreateMotion", new Object[]{fileName, poseList});
         checkEnabled();
         check(!Data.CapMotionCreation, JPOS_E_ILLEGAL, "Motion creation not supported");
         checkFileName(fileName);
@@ -216,7 +218,7 @@ public class GestureControlService extends JposBase implements GestureControlSer
 
     @Override
     public void createPose(String fileName, int time) throws JposException {
-        logPreCall("CreatePose", removeOuterArraySpecifier(new Object[]{fileName, time}, Device.MaxArrayStringElements));
+        logPreCall("CreatePose", new Object[]{fileName, time});
         checkEnabled();
         check(!Data.CapPoseCreation, JPOS_E_ILLEGAL, "Pose creation not supported");
         check(!Data.PoseCreationMode, JPOS_E_ILLEGAL, "Not in pose creation mode");
@@ -228,7 +230,7 @@ public class GestureControlService extends JposBase implements GestureControlSer
 
     @Override
     public void getPosition(String jointID, int[] position) throws JposException {
-        logPreCall("GetPosition", removeOuterArraySpecifier(new Object[]{jointID, position}, Device.MaxArrayStringElements));
+        logPreCall("GetPosition", new Object[]{jointID, position});
         checkEnabled();
         check(position == null || position.length != 1, JPOS_E_ILLEGAL, "position must be int[1]");
         check(jointID == null || jointID.equals(""), JPOS_E_ILLEGAL, "JointID empty");
@@ -240,7 +242,7 @@ public class GestureControlService extends JposBase implements GestureControlSer
 
     @Override
     public void setPosition(String positionList, int time, boolean absolute) throws JposException {
-        logPreCall("SetPosition", removeOuterArraySpecifier(new Object[]{positionList, time, absolute}, Device.MaxArrayStringElements));
+        logPreCall("SetPosition", new Object[]{positionList, time, absolute});
         checkEnabled();
         check(positionList == null || positionList.equals(""), JPOS_E_ILLEGAL, "Empty positionList");
         List<JointParameter> positions = new ArrayList<>();
@@ -266,7 +268,7 @@ public class GestureControlService extends JposBase implements GestureControlSer
 
     @Override
     public void setSpeed(String speedList, int time) throws JposException {
-        logPreCall("SetSpeed", removeOuterArraySpecifier(new Object[]{speedList, time}, Device.MaxArrayStringElements));
+        logPreCall("SetSpeed", new Object[]{speedList, time});
         checkEnabled();
         check(speedList == null || speedList.equals(""), JPOS_E_ILLEGAL, "Empty speedList");
         List<JointParameter> positions = new ArrayList<>();
@@ -292,7 +294,7 @@ public class GestureControlService extends JposBase implements GestureControlSer
 
     @Override
     public void startMotion(String fileName) throws JposException {
-        logPreCall("StartMotion", removeOuterArraySpecifier(new Object[]{fileName}, Device.MaxArrayStringElements));
+        logPreCall("StartMotion", new Object[]{fileName});
         checkEnabled();
         check(fileName == null || fileName.equals(""), JPOS_E_ILLEGAL, "Filename must not be empty");
         JposOutputRequest req;
@@ -304,7 +306,7 @@ public class GestureControlService extends JposBase implements GestureControlSer
 
     @Override
     public void startPose(String fileName) throws JposException {
-        logPreCall("StartPose", removeOuterArraySpecifier(new Object[]{fileName}, Device.MaxArrayStringElements));
+        logPreCall("StartPose", new Object[]{fileName});
         checkEnabled();
         check(fileName == null || fileName.equals(""), JPOS_E_ILLEGAL, "Filename must not be empty");
         JposOutputRequest req;
@@ -316,18 +318,20 @@ public class GestureControlService extends JposBase implements GestureControlSer
 
     @Override
     public void stopControl(int outputID) throws JposException {
-        logPreCall("StopControl", removeOuterArraySpecifier(new Object[]{outputID}, Device.MaxArrayStringElements));
+        logPreCall("StopControl", new Object[]{outputID});
         checkEnabled();
-        synchronized (Device.AsyncProcessorRunning) {
-            for (Integer id : OutputIDs) {
-                if (id == outputID) {
-                    GestureControl.stopControl(outputID);
-                    OutputIDs.remove(id);
-                    logCall("StopControl");
-                    return;
+        synchronized (Props.RequestSync) {
+            synchronized (Device.AsyncProcessorRunning) {
+                for (Integer id : OutputIDs) {
+                    if (id == outputID) {
+                        GestureControl.stopControl(outputID);
+                        OutputIDs.remove(id);
+                        logCall("StopControl");
+                        return;
+                    }
                 }
+                throw new JposException(JPOS_E_ILLEGAL, "Output request not running: " + outputID);
             }
-            throw new JposException(JPOS_E_ILLEGAL, "Output request not running: " + outputID);
         }
     }
 
@@ -293,7 +293,7 @@ public class GraphicDisplayService extends JposBase implements GraphicDisplaySer
 
     @Override
     public void loadImage(String s) throws JposException {
-        logPreCall("LoadImage", removeOuterArraySpecifier(new Object[]{s}, Device.MaxArrayStringElements));
+        logPreCall("LoadImage", new Object[]{s});
         if (s == null)
             s = "";
         long[] valid = { GDSP_DMODE_IMAGE_FIT, GDSP_DMODE_IMAGE_FILL, GDSP_DMODE_IMAGE_CENTER };
@@ -305,7 +305,7 @@ public class GraphicDisplayService extends JposBase implements GraphicDisplaySer
 
     @Override
     public void loadURL(String s) throws JposException {
-        logPreCall("LoadURL", removeOuterArraySpecifier(new Object[]{s}, Device.MaxArrayStringElements));
+        logPreCall("LoadURL", new Object[]{s});
         if (s == null)
             s = "";
         checkEnabled();
@@ -316,7 +316,7 @@ public class GraphicDisplayService extends JposBase implements GraphicDisplaySer
 
     @Override
     public void playVideo(String s, boolean b) throws JposException {
-        logPreCall("PlayVideo", removeOuterArraySpecifier(new Object[]{s, b}, Device.MaxArrayStringElements));
+        logPreCall("PlayVideo", new Object[]{s, b});
         if (s == null)
             s = "";
         long[] valid = { GDSP_DMODE_VIDEO_NORMAL, GDSP_DMODE_VIDEO_FULL };
@@ -196,7 +196,7 @@ public class HardTotalsService extends JposBase implements HardTotalsService116
 
     @Override
     public void claimFile(int hTotalsFile, int timeout) throws JposException {
-        logPreCall("ClaimFile", removeOuterArraySpecifier(new Object[]{hTotalsFile, timeout}, Device.MaxArrayStringElements));
+        logPreCall("ClaimFile", new Object[]{hTotalsFile, timeout});
         checkEnabledUnclaimed();
         Boolean res = myHandle(hTotalsFile);
         check(res != null && res, JPOS_E_CLAIMED, "Hard total file claimed");
@@ -244,7 +244,7 @@ public class HardTotalsService extends JposBase implements HardTotalsService116
 
     @Override
     public void create(String fileName, int[] hTotalsFile, int size, boolean errorDetection) throws JposException {
-        logPreCall("Create", removeOuterArraySpecifier(new Object[]{fileName, "...", size, errorDetection}, Device.MaxArrayStringElements));
+        logPreCall("Create", new Object[]{fileName, "...", size, errorDetection});
         if (fileName == null)
             fileName = "";
         checkEnabledUnclaimed();
@@ -254,7 +254,7 @@ public class HardTotalsService extends JposBase implements HardTotalsService116
         check(hTotalsFile == null || hTotalsFile.length != 1, JPOS_E_ILLEGAL, "Bad file handle type, must be int[1]");
         check(size < 0, JPOS_E_ILLEGAL, "Invalid file size: " + size);
         HardTotals.create(fileName, hTotalsFile, size, errorDetection);
-        logCall("Create", removeOuterArraySpecifier(new Object[]{"...", hTotalsFile[0], "..."}, Device.MaxArrayStringElements));
+        logCall("Create", new Object[]{"...", hTotalsFile[0], "..."});
     }
 
     private boolean invalidCharacters(String fileName) {
@@ -268,7 +268,7 @@ public class HardTotalsService extends JposBase implements HardTotalsService116
 
     @Override
     public void delete(String fileName) throws JposException {
-        logPreCall("Delete", removeOuterArraySpecifier(new Object[]{fileName}, Device.MaxArrayStringElements));
+        logPreCall("Delete", new Object[]{fileName});
         if (fileName == null)
             fileName = "";
         checkEnabledUnclaimed();
@@ -281,7 +281,7 @@ public class HardTotalsService extends JposBase implements HardTotalsService116
 
     @Override
     public void find(String fileName, int[] hTotalsFile, int[] size) throws JposException {
-        logPreCall("Find", removeOuterArraySpecifier(new Object[]{fileName, "..."}, Device.MaxArrayStringElements));
+        logPreCall("Find", new Object[]{fileName, "..."});
         if (fileName == null)
             fileName = "";
         checkEnabledUnclaimed();
@@ -291,22 +291,22 @@ public class HardTotalsService extends JposBase implements HardTotalsService116
         check(hTotalsFile == null || hTotalsFile.length != 1, JPOS_E_ILLEGAL, "Bad file handle type, must be int[1]");
         check(size == null || size.length != 1, JPOS_E_ILLEGAL, "Bad size type, must be int[1]");
         HardTotals.find(fileName, hTotalsFile, size);
-        logCall("Find", removeOuterArraySpecifier(new Object[]{"...", hTotalsFile[0], size[0]}, Device.MaxArrayStringElements));
+        logCall("Find", new Object[]{"...", hTotalsFile[0], size[0]});
     }
 
     @Override
     public void findByIndex(int index, String[] fileName) throws JposException {
-        logPreCall("FindByIndex", removeOuterArraySpecifier(new Object[]{index, "..."}, Device.MaxArrayStringElements));
+        logPreCall("FindByIndex", new Object[]{index, "..."});
         checkEnabled();
         check(fileName == null || fileName.length != 1, JPOS_E_ILLEGAL, "Bad fileName type, must be String[1]");
         check(index < 0 || index >= Data.NumberOfFiles, JPOS_E_ILLEGAL, "Index out of range");
         HardTotals.findByIndex(index, fileName);
-        logCall("FindByIndex", removeOuterArraySpecifier(new Object[]{"...", fileName[0]}, Device.MaxArrayStringElements));
+        logCall("FindByIndex", new Object[]{"...", fileName[0]});
     }
 
     @Override
     public void read(int hTotalsFile, byte[] data, int offset, int count) throws JposException {
-        logPreCall("Read", removeOuterArraySpecifier(new Object[]{hTotalsFile, "...", offset, count}, Device.MaxArrayStringElements));
+        logPreCall("Read", new Object[]{hTotalsFile, "...", offset, count});
         if (data == null)
             data = new byte[0];
         checkEnabledUnclaimed();
@@ -328,12 +328,12 @@ public class HardTotalsService extends JposBase implements HardTotalsService116
         }
         HardTotals.read(hTotalsFile, data, offset, count, openChanges);
         openChanges.clear();
-        logCall("Read", removeOuterArraySpecifier(new Object[]{"...", data, "..."}, Device.MaxArrayStringElements));
+        logCall("Read", new Object[]{"...", data, "..."});
     }
 
     @Override
     public void recalculateValidationData(int hTotalsFile) throws JposException {
-        logPreCall("RecalculateValidationData", removeOuterArraySpecifier(new Object[]{hTotalsFile}, Device.MaxArrayStringElements));
+        logPreCall("RecalculateValidationData", new Object[]{hTotalsFile});
         checkEnabledUnclaimed();
         Boolean res = myHandle(hTotalsFile);
         check(res != null && !res, JPOS_E_CLAIMED, "Hard total file claimed");
@@ -344,7 +344,7 @@ public class HardTotalsService extends JposBase implements HardTotalsService116
 
     @Override
     public void releaseFile(int hTotalsFile) throws JposException {
-        logPreCall("ReleaseFile", removeOuterArraySpecifier(new Object[]{hTotalsFile}, Device.MaxArrayStringElements));
+        logPreCall("ReleaseFile", new Object[]{hTotalsFile});
         checkEnabledUnclaimed();
         Boolean res = myHandle(hTotalsFile);
         check(res == null, JPOS_E_NOTCLAIMED, "Hard total file not claimed");
@@ -356,7 +356,7 @@ public class HardTotalsService extends JposBase implements HardTotalsService116
 
     @Override
     public void rename(int hTotalsFile, String fileName) throws JposException {
-        logPreCall("Rename", removeOuterArraySpecifier(new Object[]{hTotalsFile, fileName}, Device.MaxArrayStringElements));
+        logPreCall("Rename", new Object[]{hTotalsFile, fileName});
         if (fileName == null)
             fileName = "";
         checkEnabledUnclaimed();
@@ -384,7 +384,7 @@ public class HardTotalsService extends JposBase implements HardTotalsService116
 
     @Override
     public void setAll(int hTotalsFile, byte value) throws JposException {
-        logPreCall("SetAll", removeOuterArraySpecifier(new Object[]{hTotalsFile, value}, Device.MaxArrayStringElements));
+        logPreCall("SetAll", new Object[]{hTotalsFile, value});
         checkEnabledUnclaimed();
         Boolean res = myHandle(hTotalsFile);
         check(res != null && !res, JPOS_E_CLAIMED, "Hard total file claimed");
@@ -402,7 +402,7 @@ public class HardTotalsService extends JposBase implements HardTotalsService116
 
     @Override
     public void validateData(int hTotalsFile) throws JposException {
-        logPreCall("ValidateData", removeOuterArraySpecifier(new Object[]{hTotalsFile}, Device.MaxArrayStringElements));
+        logPreCall("ValidateData", new Object[]{hTotalsFile});
         checkEnabledUnclaimed();
         Boolean res = myHandle(hTotalsFile);
         check(res != null && !res, JPOS_E_CLAIMED, "Hard total file claimed");
@@ -413,7 +413,7 @@ public class HardTotalsService extends JposBase implements HardTotalsService116
 
     @Override
     public void write(int hTotalsFile, byte[] data, int offset, int count) throws JposException {
-        logPreCall("Write", removeOuterArraySpecifier(new Object[]{hTotalsFile, data, offset, count}, Device.MaxArrayStringElements));
+        logPreCall("Write", new Object[]{hTotalsFile, data, offset, count});
         checkEnabledUnclaimed();
         check(data == null, JPOS_E_ILLEGAL, "Bad data type, must be byte[]");
         check(offset < 0, JPOS_E_ILLEGAL, "Invalid offset: " + count);
@@ -431,6 +431,6 @@ public class HardTotalsService extends JposBase implements HardTotalsService116
         else {
             request.invoke();
         }
-        logCall("Write", removeOuterArraySpecifier(new Object[]{"...", data, "..."}, Device.MaxArrayStringElements));
+        logCall("Write", new Object[]{"...", data, "..."});
     }
 }
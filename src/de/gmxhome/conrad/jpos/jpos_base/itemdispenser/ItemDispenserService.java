@@ -91,7 +91,7 @@ public class ItemDispenserService extends JposBase implements ItemDispenserServi
 
     @Override
     public void adjustItemCount(int itemCount, int slotNumber) throws JposException {
-        logPreCall("AdjustItemCount", removeOuterArraySpecifier(new Object[]{itemCount, slotNumber}, Device.MaxArrayStringElements));
+        logPreCall("AdjustItemCount", new Object[]{itemCount, slotNumber});
         checkEnabled();
         check(itemCount < 0, JPOS_E_ILLEGAL, "Item count negative: " + itemCount);
         check(slotNumber < 1 || slotNumber > Data.MaxSlots, JPOS_E_ILLEGAL, "slotNumber invalid: " + slotNumber);
@@ -101,22 +101,22 @@ public class ItemDispenserService extends JposBase implements ItemDispenserServi
 
     @Override
     public void dispenseItem(int[] numItem, int slotNumber) throws JposException {
-        logPreCall("DispenseItem", removeOuterArraySpecifier(new Object[]{numItem, slotNumber}, Device.MaxArrayStringElements));
+        logPreCall("DispenseItem", new Object[]{numItem, slotNumber});
         checkEnabled();
         check(numItem == null || numItem.length != 1, JPOS_E_ILLEGAL, "numItem invalid");
         check(numItem[0] <= 0, JPOS_E_ILLEGAL, "numItem <= 0");
         check(slotNumber < 1 || slotNumber > Data.MaxSlots, JPOS_E_ILLEGAL, "slotNumber invalid: " + slotNumber);
         ItemDispenserInterface.dispenseItem(numItem, slotNumber);
-        logCall("DispenseItem", removeOuterArraySpecifier(new Object[]{numItem[0], slotNumber}, Device.MaxArrayStringElements));
+        logCall("DispenseItem", new Object[]{numItem[0], slotNumber});
     }
 
     @Override
     public void readItemCount(int[] itemCount, int slotNumber) throws JposException {
-        logPreCall("ReadItemCount", removeOuterArraySpecifier(new Object[]{"...", slotNumber}, Device.MaxArrayStringElements));
+        logPreCall("ReadItemCount", new Object[]{"...", slotNumber});
         checkEnabled();
         check(itemCount == null || itemCount.length != 1, JPOS_E_ILLEGAL, "itemCount invalid");
         check(slotNumber < 1 || slotNumber > Data.MaxSlots, JPOS_E_ILLEGAL, "slotNumber invalid: " + slotNumber);
         ItemDispenserInterface.readItemCount(itemCount, slotNumber);
-        logCall("ReadItemCount", removeOuterArraySpecifier(new Object[]{itemCount[0], slotNumber}, Device.MaxArrayStringElements));
+        logCall("ReadItemCount", new Object[]{itemCount[0], slotNumber});
     }
 }
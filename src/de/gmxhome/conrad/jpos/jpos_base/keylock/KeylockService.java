@@ -79,7 +79,7 @@ public class KeylockService extends JposBase implements KeylockService116 {
 
     @Override
     public void waitForKeylockChange(int i, int i1) throws JposException {
-        logPreCall("WaitForKeylockChange", removeOuterArraySpecifier(new Object[]{i, i1}, Device.MaxArrayStringElements));
+        logPreCall("WaitForKeylockChange", new Object[]{i, i1});
         checkEnabled();
         check(i < LOCK_KP_ANY || i > Data.PositionCount, JPOS_E_ILLEGAL, "Key position out of range: "+ i);
         check(i1 < 0 && i1 != JPOS_FOREVER, JPOS_E_ILLEGAL, "Invalid timeout: " + i1);
@@ -91,7 +91,7 @@ public class LightsService extends JposBase implements LightsService116 {
 
     @Override
     public void switchOff(int lightNumber) throws JposException {
-        logPreCall("SwitchOff", removeOuterArraySpecifier(new Object[]{lightNumber}, Device.MaxArrayStringElements));
+        logPreCall("SwitchOff", new Object[]{lightNumber});
         checkEnabled();
         check(lightNumber < 1 || lightNumber > Data.MaxLights, JPOS_E_ILLEGAL, "Light number out of range: " + lightNumber);
         LightsInterface.switchOff(lightNumber);
@@ -109,7 +109,7 @@ public class LightsService extends JposBase implements LightsService116 {
 
     @Override
     public void switchOn(int lightNumber, int blinkOnCycle, int blinkOffCycle, int color, int alarm) throws JposException {
-        logPreCall("SwitchOn", removeOuterArraySpecifier(new Object[]{lightNumber, blinkOnCycle, blinkOffCycle, color, alarm}, Device.MaxArrayStringElements));
+        logPreCall("SwitchOn", new Object[]{lightNumber, blinkOnCycle, blinkOffCycle, color, alarm});
         checkEnabled();
         check(lightNumber < 1 || lightNumber > Data.MaxLights, JPOS_E_ILLEGAL, "Light number out of range: " + lightNumber);
         check(Data.CapColor != LGT_COLOR_PRIMARY && (!member(color, allowedcolors) ||
@@ -122,7 +122,7 @@ public class LightsService extends JposBase implements LightsService116 {
 
     @Override
     public void switchOnMultiple(String lightNumbers, int blinkOnCycle, int blinkOffCycle, int color, int alarm) throws JposException {
-        logPreCall("SwitchOnMultiple", removeOuterArraySpecifier(new Object[]{lightNumbers, blinkOnCycle, blinkOffCycle, color, alarm}, Device.MaxArrayStringElements));
+        logPreCall("SwitchOnMultiple", new Object[]{lightNumbers, blinkOnCycle, blinkOffCycle, color, alarm});
         if (lightNumbers == null)
             lightNumbers = "";
         checkEnabled();
@@ -157,7 +157,7 @@ public class LightsService extends JposBase implements LightsService116 {
                 LGT_PATTERN_CUSTOM25, LGT_PATTERN_CUSTOM26, LGT_PATTERN_CUSTOM27, LGT_PATTERN_CUSTOM28,
                 LGT_PATTERN_CUSTOM29, LGT_PATTERN_CUSTOM30, LGT_PATTERN_CUSTOM31, LGT_PATTERN_CUSTOM32
         };
-        logPreCall("SwitchOnPattern", removeOuterArraySpecifier(new Object[]{pattern, alarm}, Device.MaxArrayStringElements));
+        logPreCall("SwitchOnPattern", new Object[]{pattern, alarm});
         checkEnabled();
         checkMember(pattern, valid, JPOS_E_ILLEGAL, "Invalid pattern: " + Integer.toHexString(pattern));
         check((~Data.CapPattern & pattern) != 0, JPOS_E_ILLEGAL, "Unsupported pattern: " + Integer.toHexString(pattern));
@@ -39,6 +39,8 @@ public class LineDisplayService extends JposBase implements LineDisplayService11
 
     private final LineDisplayProperties Data;
 
+    private final CapabilitySnapshot.IntegerList CharacterSets = new CapabilitySnapshot.IntegerList();
+
     /**
      * Constructor. Stores given property set and device implementation object.
      *
@@ -198,7 +200,7 @@ public class LineDisplayService extends JposBase implements LineDisplayService11
         checkClaimed();
         check(Props.DeviceEnabled, JPOS_E_ILLEGAL, "Device enabled");
         check(!Data.CapScreenMode && i != 0, JPOS_E_ILLEGAL, "Screen mode out of range");
-        checkRange(i, 0, Data.ScreenModeList.split(",").length, JPOS_E_ILLEGAL, "Screen mode out of range");
+        checkRange(i, 0, CapabilitySnapshot.countItems(Data.ScreenModeList), JPOS_E_ILLEGAL, "Screen mode out of range");
         LineDisplayInterface.screenMode(i);
         logSet("ScreenMode");
     }
@@ -299,7 +301,7 @@ public class LineDisplayService extends JposBase implements LineDisplayService11
     public void setCharacterSet(int i) throws JposException {
         logPreSet("CharacterSet");
         checkOpened();
-        checkMember(i, stringArrayToLongArray(Data.CharacterSetList.split(",")), JPOS_E_ILLEGAL, "Invalid Character set: " + i);
+        checkMember(i, CharacterSets.get(Data.CharacterSetList), JPOS_E_ILLEGAL, "Invalid Character set: " + i);
         checkNoChangedOrClaimed(Data.CharacterSet, i);
         LineDisplayInterface.characterSet(i);
         logSet("CharacterSet");
@@ -532,7 +534,7 @@ public class LineDisplayService extends JposBase implements LineDisplayService11
 
     @Override
     public void displayBitmap(String fileName, int width, int alignmentX, int alignmentY) throws JposException {
-        logPreCall("DisplayBitmap", removeOuterArraySpecifier(new Object[]{fileName, width, alignmentX, alignmentY}, Device.MaxArrayStringElements));
+        logPreCall("DisplayBitmap", new Object[]{fileName, width, alignmentX, alignmentY});
         checkEnabled();
         check(!Data.CapBitmap, JPOS_E_ILLEGAL, "Bitmaps not supported");
         check(fileName == null || fileName.length() == 0, JPOS_E_ILLEGAL, "Empty filename");
@@ -545,7 +547,7 @@ public class LineDisplayService extends JposBase implements LineDisplayService11
 
     @Override
     public void setBitmap(int bitmapNumber, String fileName, int width, int alignmentX, int alignmentY) throws JposException {
-        logPreCall("SetBitmap", removeOuterArraySpecifier(new Object[]{bitmapNumber, fileName, width, alignmentX, alignmentY}, Device.MaxArrayStringElements));
+        logPreCall("SetBitmap", new Object[]{bitmapNumber, fileName, width, alignmentX, alignmentY});
         checkEnabled();
         check(!Data.CapBitmap, JPOS_E_ILLEGAL, "Bitmaps not supported");
         checkRange(bitmapNumber, 1, 100, JPOS_E_ILLEGAL, "Invalid bitmap number: " + bitmapNumber);
@@ -559,7 +561,7 @@ public class LineDisplayService extends JposBase implements LineDisplayService11
 
     @Override
     public void defineGlyph(int glyphCode, byte[] glyph) throws JposException {
-        logPreCall("DefineGlyph", removeOuterArraySpecifier(new Object[]{glyphCode, glyph}, Device.MaxArrayStringElements));
+        logPreCall("DefineGlyph", new Object[]{glyphCode, glyph});
         checkEnabled();
         check(!Data.CapCustomGlyph, JPOS_E_ILLEGAL, "Glyphs not supported");
         check(glyph == null || glyph.length < Data.GlyphHeight * (Data.GlyphWidth + 7) / 8, JPOS_E_ILLEGAL, "Too few glyphs data");
@@ -588,7 +590,7 @@ public class LineDisplayService extends JposBase implements LineDisplayService11
         check(Data.CapReadBack == DISP_CRB_NONE, JPOS_E_ILLEGAL, "Read back not supported");
         check(cursorData == null || cursorData.length != 1, JPOS_E_ILLEGAL, "CursorData must be of type int[1]");
         LineDisplayInterface.readCharacterAtCursor(cursorData);
-        logCall("ReadCharacterAtCursor", removeOuterArraySpecifier(new Object[]{cursorData[0]}, Device.MaxArrayStringElements));
+        logCall("ReadCharacterAtCursor", new Object[]{cursorData[0]});
     }
 
     @Override
@@ -615,7 +617,7 @@ public class LineDisplayService extends JposBase implements LineDisplayService11
 
     @Override
     public void createWindow(int viewportRow, int viewportColumn, int viewportHeight, int viewportWidth, int windowHeight, int windowWidth) throws JposException {
-        logPreCall("CreateWindow", removeOuterArraySpecifier(new Object[]{viewportRow, viewportColumn, viewportHeight, viewportWidth, windowHeight, windowWidth}, Device.MaxArrayStringElements));
+        logPreCall("CreateWindow", new Object[]{viewportRow, viewportColumn, viewportHeight, viewportWidth, windowHeight, windowWidth});
         checkEnabled();
         check(Data.DeviceWindows == 0, JPOS_E_ILLEGAL, "Create window not supported");
         check(viewportColumn < 0 || viewportRow < 0 || viewportColumn >= Data.DeviceColumns || viewportRow >= Data.DeviceRows || viewportHeight <= 0 || viewportWidth <= 0 || windowHeight <= 0 || windowWidth <= 0, JPOS_E_ILLEGAL, "Illegal parameter");
@@ -636,7 +638,7 @@ public class LineDisplayService extends JposBase implements LineDisplayService11
 
     @Override
     public void displayText(String data, int attribute) throws JposException {
-        logPreCall("DisplayText", removeOuterArraySpecifier(new Object[]{data, attribute}, Device.MaxArrayStringElements));
+        logPreCall("DisplayText", new Object[]{data, attribute});
         checkEnabled();
         if (data == null)
             data = "";
@@ -658,7 +660,7 @@ public class LineDisplayService extends JposBase implements LineDisplayService11
 
     @Override
     public void displayTextAt(int row, int column, String data, int attribute) throws JposException {
-        logPreCall("DisplayTextAt", removeOuterArraySpecifier(new Object[]{row, column, data, attribute}, Device.MaxArrayStringElements));
+        logPreCall("DisplayTextAt", new Object[]{row, column, data, attribute});
         checkEnabled();
         if (data == null)
             data = "";
@@ -684,7 +686,7 @@ public class LineDisplayService extends JposBase implements LineDisplayService11
 
     @Override
     public void refreshWindow(int window) throws JposException {
-        logPreCall("RefreshWindow", removeOuterArraySpecifier(new Object[]{window}, Device.MaxArrayStringElements));
+        logPreCall("RefreshWindow", new Object[]{window});
         checkEnabled();
         check(Data.DeviceWindows < window || window < 0, JPOS_E_ILLEGAL, "Invalid window: " + window);
         checkMember(Data.MarqueeType, new long[]{DISP_MT_NONE, DISP_MT_INIT}, JPOS_E_ILLEGAL, "Not supported in marquee mode");
@@ -694,7 +696,7 @@ public class LineDisplayService extends JposBase implements LineDisplayService11
 
     @Override
     public void scrollText(int direction, int units) throws JposException {
-        logPreCall("ScrollText", removeOuterArraySpecifier(new Object[]{direction, units}, Device.MaxArrayStringElements));
+        logPreCall("ScrollText", new Object[]{direction, units});
         checkEnabled();
         check(Data.InterCharacterWait != 0 || Data.MarqueeType != DISP_MT_NONE, JPOS_E_ILLEGAL, "Scroll text not supported in marquee or teletype mode");
         checkMember(direction, new long[]{DISP_ST_UP, DISP_ST_DOWN, DISP_ST_LEFT, DISP_ST_RIGHT}, JPOS_E_ILLEGAL, "Illegal direction: "+ direction);
@@ -705,7 +707,7 @@ public class LineDisplayService extends JposBase implements LineDisplayService11
 
     @Override
     public void setDescriptor(int descriptor, int attribute) throws JposException {
-        logPreCall("SetDescriptor", removeOuterArraySpecifier(new Object[]{descriptor, attribute}, Device.MaxArrayStringElements));
+        logPreCall("SetDescriptor", new Object[]{descriptor, attribute});
         checkEnabled();
         check(!Data.CapDescriptors, JPOS_E_ILLEGAL, "Descriptors not supported");
         check(descriptor < 0 || descriptor >= Data.DeviceDescriptors, JPOS_E_ILLEGAL, "Invalid descriptor: " + descriptor);
@@ -739,26 +741,14 @@ public class LineDisplayService extends JposBase implements LineDisplayService11
      */
     DisplayDataPart[] outputDataParts(String data, int attribute) {
         List<DisplayDataPart> out = new ArrayList<>();
-        int index;
+        EscSequenceTokenizer esc = new EscSequenceTokenizer(data, false, "");
         try {
-            while ((index = data.indexOf("\33|")) >= 0) {
-                outputDisplayableParts(data.substring(0, index), out);
-                data = data.substring(index + 2);
-                int temp;
-                int value = -1;
-                for (index = 0; (temp = data.charAt(index) - '0') >= 0 && temp <= 9; ++index) {
-                    value = value < 0 ? temp : value * 10 + temp;
-                }
-                data = data.substring(index);
-                int subtype = 0;
-                for (index = 0; (temp = data.charAt(index)) >= 'a' && temp <= 'z'; index++) {
-                    subtype = subtype * 1000 + temp;
-                }
-                data = data.substring(index + 1);
-                out.add(getEscObj(temp, subtype, value));
+            while (esc.next()) {
+                outputDisplayableParts(data, esc.TextStart, esc.TextEnd, out);
+                esc.parse();
+                out.add(getEscObj(esc.Type, esc.Subtype, esc.ValueIsPresent ? esc.Value : -1));
             }
-            if (data.length() > 0)
-                outputDisplayableParts(data, out);
+            outputDisplayableParts(data, esc.TextStart, esc.TextEnd, out);
         } catch (IndexOutOfBoundsException e) {
             out.add(new EscUnknown(0, 0, 0));
         }
@@ -766,27 +756,34 @@ public class LineDisplayService extends JposBase implements LineDisplayService11
         return out.toArray(new DisplayDataPart[0]);
     }
 
-    private void outputDisplayableParts(String data, List<DisplayDataPart> out) {
-        for (int i = 0; i < data.length(); i++) {
+    private void outputDisplayableParts(String data, int start, int end, List<DisplayDataPart> out) {
+        for (int i = start; i < end; i++) {
             int actchar = data.charAt(i);
             if (actchar == '\12' || actchar == '\15') {
-                if (i > 0)
-                    out.add(new DisplayData(data.substring(0, i), Data.MapCharacterSet, Data.CharacterSet));
-                data = data.substring(i + 1);
+                if (i > start)
+                    out.add(new DisplayData(data.substring(start, i), Data.MapCharacterSet, Data.CharacterSet));
                 out.add(new ControlChar((char) actchar));
-                i = -1;
+                start = i + 1;
             }
         }
-        if (data.length() > 0)
-            out.add(new DisplayData(data, Data.MapCharacterSet, Data.CharacterSet));
+        if (end > start)
+            out.add(new DisplayData(data.substring(start, end), Data.MapCharacterSet, Data.CharacterSet));
     }
 
     private DisplayDataPart getEscObj(int temp, int subtype, int value) {
-        DisplayDataPart ret;
-        boolean notnull = ((ret = EscNormalize.getEscNormalize(null, temp, subtype, value)) != null ||
-                (ret = EscBitmap.getEscBitmap(null, temp, subtype, value)) != null ||
-                (ret = EscSimple.getEscSimple(null, temp, subtype, value)) != null);
-        return notnull ? ret : new EscUnknown(temp, subtype, value);
+        DisplayDataPart ret = null;
+        switch (temp) {     // Only factories that support the escape type
+        case 'B':
+            ret = EscBitmap.getEscBitmap(null, temp, subtype, value);
+            break;
+        case 'C':
+            ret = EscSimple.getEscSimple(null, temp, subtype, value);
+            break;
+        case 'N':
+            ret = EscNormalize.getEscNormalize(null, temp, subtype, value);
+            break;
+        }
+        return ret != null ? ret : new EscUnknown(temp, subtype, value);
     }
 
     /**
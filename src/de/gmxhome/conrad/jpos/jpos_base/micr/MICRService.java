@@ -120,7 +120,7 @@ public class MICRService extends JposBase implements MICRService116 {
 
     @Override
     public void beginInsertion(int timeout) throws JposException {
-        logPreCall("BeginInsertion", removeOuterArraySpecifier(new Object[]{timeout}, Device.MaxArrayStringElements));
+        logPreCall("BeginInsertion", new Object[]{timeout});
         checkEnabled();
         MICRInterface.checkBusy();
         check(timeout < 0 && timeout != JPOS_FOREVER, JPOS_E_ILLEGAL, "Invalid timeout value: " + timeout);
@@ -131,7 +131,7 @@ public class MICRService extends JposBase implements MICRService116 {
 
     @Override
     public void beginRemoval(int timeout) throws JposException {
-        logPreCall("BeginRemoval", removeOuterArraySpecifier(new Object[]{timeout}, Device.MaxArrayStringElements));
+        logPreCall("BeginRemoval", new Object[]{timeout});
         checkEnabled();
         MICRInterface.checkBusy();
         check(timeout < 0 && timeout != JPOS_FOREVER, JPOS_E_ILLEGAL, "Invalid timeout value: " + timeout);
@@ -71,7 +71,7 @@ public class MotionSensorService extends JposBase implements MotionSensorService
 
     @Override
     public void waitForMotion(int timeout) throws JposException {
-        logPreCall("waitForMotion", removeOuterArraySpecifier(new Object[]{timeout}, Device.MaxArrayStringElements));
+        logPreCall("waitForMotion", new Object[]{timeout});
         checkEnabled();
         check(timeout < 0 && timeout != JPOS_FOREVER, JPOS_E_CLOSED, "Negative timeout");
         MotionSensorInterface.waitForMotion(timeout);
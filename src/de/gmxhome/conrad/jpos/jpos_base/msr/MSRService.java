@@ -472,7 +472,7 @@ public class MSRService extends JposBase implements MSRService116 {
 
     @Override
     public void authenticateDevice(byte[] response) throws JposException {
-        logPreCall("AuthenticateDevice", removeOuterArraySpecifier(new Object[]{response}, Device.MaxArrayStringElements));
+        logPreCall("AuthenticateDevice", new Object[]{response});
         checkEnabled();
         check(Data.CapDeviceAuthentication == MSR_DA_NOT_SUPPORTED, JPOS_E_ILLEGAL, "Authentication not supported");
         MSRInterface.authenticateDevice(response);
@@ -481,7 +481,7 @@ public class MSRService extends JposBase implements MSRService116 {
 
     @Override
     public void deauthenticateDevice(byte[] response) throws JposException {
-        logPreCall("DeauthenticateDevice", removeOuterArraySpecifier(new Object[]{response}, Device.MaxArrayStringElements));
+        logPreCall("DeauthenticateDevice", new Object[]{response});
         checkEnabled();
         check(Data.CapDeviceAuthentication == MSR_DA_NOT_SUPPORTED, JPOS_E_ILLEGAL, "Authentication not supported");
         MSRInterface.deauthenticateDevice(response);
@@ -490,23 +490,23 @@ public class MSRService extends JposBase implements MSRService116 {
 
     @Override
     public void retrieveCardProperty(String name, String[] value) throws JposException {
-        logPreCall("RetrieveCardProperty", name + ", ...");
+        logPreCall("RetrieveCardProperty", new Object[]{name, "..."});
         checkEnabled();
         check(!member(name, Data.CardPropertyList.split(",")), JPOS_E_ILLEGAL, "Invalid card property: " + name);
         check(Data.CapDeviceAuthentication == MSR_DA_NOT_SUPPORTED, JPOS_E_ILLEGAL, "Authentication not supported");
         check(value == null || value.length != 1, JPOS_E_ILLEGAL, "Invalid value array");
         MSRInterface.retrieveCardProperty(name, value);
-        logCall("RetrieveCardProperty", name + ", " + value[0]);
+        logCall("RetrieveCardProperty", new Object[]{name, value[0]});
     }
 
     @Override
     public void retrieveDeviceAuthenticationData(byte[][] challenge) throws JposException {
-        logPreCall("RetrieveDeviceAuthenticationData", removeOuterArraySpecifier(new Object[]{challenge}, Device.MaxArrayStringElements));
+        logPreCall("RetrieveDeviceAuthenticationData", new Object[]{challenge});
         checkEnabled();
         check(Data.CapDeviceAuthentication == MSR_DA_NOT_SUPPORTED, JPOS_E_ILLEGAL, "Authentication not supported");
         check(challenge == null || challenge.length != 1, JPOS_E_ILLEGAL, "Invalid challenge array");
         MSRInterface.retrieveDeviceAuthenticationData(challenge);
-        logCall("RetrieveDeviceAuthenticationData", removeOuterArraySpecifier(new Object[]{challenge[0]}, Device.MaxArrayStringElements));
+        logCall("RetrieveDeviceAuthenticationData", new Object[]{challenge[0]});
     }
 
     @Override
@@ -516,7 +516,7 @@ public class MSRService extends JposBase implements MSRService116 {
 
     @Override
     public void updateKey(String key, String keyName) throws JposException {
-        logPreCall("UpdateKey", key + ", " + keyName);
+        logPreCall("UpdateKey", new Object[]{key, keyName});
         checkEnabled();
         check(Data.CapDeviceAuthentication == MSR_DA_NOT_SUPPORTED, JPOS_E_ILLEGAL, "Authentication not supported");
         MSRInterface.updateKey(key, keyName);
@@ -525,7 +525,7 @@ public class MSRService extends JposBase implements MSRService116 {
 
     @Override
     public void writeTracks(byte[][] data, int timeout) throws JposException {
-        logPreCall("WriteTracks", removeOuterArraySpecifier(new Object[]{data, timeout}, Device.MaxArrayStringElements));
+        logPreCall("WriteTracks", new Object[]{data, timeout});
         checkEnabled();
         check(Data.CapWritableTracks == MSR_TR_NONE, JPOS_E_ILLEGAL, "Write tracks not supported");
         check(Data.TracksToWrite == MSR_TR_NONE, JPOS_E_FAILURE, "Selected tracks cannot be written: " + Data.TracksToWrite);
@@ -410,7 +410,7 @@ public class PINPadService extends JposBase implements PINPadService116 {
 
     @Override
     public void beginEFTTransaction(String pinPadSystem, int transactionHost) throws JposException {
-        logPreCall("BeginEFTTransaction", removeOuterArraySpecifier(new Object[]{pinPadSystem, transactionHost}, Device.MaxArrayStringElements));
+        logPreCall("BeginEFTTransaction", new Object[]{pinPadSystem, transactionHost});
         if (pinPadSystem == null)
             pinPadSystem = "";
         checkEnabled();
@@ -424,7 +424,7 @@ public class PINPadService extends JposBase implements PINPadService116 {
 
     @Override
     public void computeMAC(String inMsg, String[] outMsg) throws JposException {
-        logPreCall("ComputeMAC", removeOuterArraySpecifier(new Object[]{inMsg, outMsg}, Device.MaxArrayStringElements));
+        logPreCall("ComputeMAC", new Object[]{inMsg, outMsg});
         if (inMsg == null)
             inMsg = "";
         if (outMsg == null)
@@ -435,7 +435,7 @@ public class PINPadService extends JposBase implements PINPadService116 {
         check(Data.PINEntryEnabled, JPOS_E_BUSY, "PIN entry active");
         check(outMsg.length != 1, JPOS_E_ILLEGAL, "Type of outMsg must be String[1]");
         PINPad.computeMAC(inMsg, outMsg);
-        logCall("ComputeMAC", removeOuterArraySpecifier(new Object[]{outMsg[0]}, Device.MaxArrayStringElements));
+        logCall("ComputeMAC", new Object[]{outMsg[0]});
     }
 
     @Override
@@ -451,7 +451,7 @@ public class PINPadService extends JposBase implements PINPadService116 {
 
     @Override
     public void endEFTTransaction(int completionCode) throws JposException {
-        logPreCall("EndEFTTransaction", removeOuterArraySpecifier(new Object[]{completionCode}, Device.MaxArrayStringElements));
+        logPreCall("EndEFTTransaction", new Object[]{completionCode});
         long[] valid = { PPAD_EFT_NORMAL, PPAD_EFT_ABNORMAL };
         checkEnabled();
         check(!EFTTransactionStarted, JPOS_E_DISABLED, "EFT Transaction not started");
@@ -463,7 +463,7 @@ public class PINPadService extends JposBase implements PINPadService116 {
 
     @Override
     public void updateKey(int keyNum, String key) throws JposException {
-        logPreCall("UpdateKey", removeOuterArraySpecifier(new Object[]{keyNum, key}, Device.MaxArrayStringElements));
+        logPreCall("UpdateKey", new Object[]{keyNum, key});
         if (key == null)
             key = "";
         checkEnabled();
@@ -478,7 +478,7 @@ public class PINPadService extends JposBase implements PINPadService116 {
 
     @Override
     public void verifyMAC(String message) throws JposException {
-        logPreCall("VerifyMAC", removeOuterArraySpecifier(new Object[]{message}, Device.MaxArrayStringElements));
+        logPreCall("VerifyMAC", new Object[]{message});
         if (message == null)
             message = "";
         checkEnabled();
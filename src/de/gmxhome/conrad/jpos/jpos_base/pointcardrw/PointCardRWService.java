@@ -41,6 +41,11 @@ public class PointCardRWService extends JposBase implements PointCardRWService11
     public PointCardRWInterface PointCardRW;
 
     private final PointCardRWProperties Data;
+
+    private final CapabilitySnapshot.IntegerList CharacterSets = new CapabilitySnapshot.IntegerList();
+
+    private final CapabilitySnapshot.IntegerList LineCharsValues = new CapabilitySnapshot.IntegerList();
+
     /**
      * Constructor. Stores given property set and device implementation object.
      *
@@ -424,7 +429,7 @@ public class PointCardRWService extends JposBase implements PointCardRWService11
         check(!Data.CapPrint, JPOS_E_ILLEGAL, "Printing not supported");
         long[] allowed;
         try {
-            allowed = stringArrayToLongArray(Data.CharacterSetList.split(","));
+            allowed = CharacterSets.get(Data.CharacterSetList);
         } catch (Exception e) {
             throw new JposException(JPOS_E_ILLEGAL, "CharacterSetList invalid");
         }
@@ -440,7 +445,7 @@ public class PointCardRWService extends JposBase implements PointCardRWService11
         check(!Data.CapPrint, JPOS_E_ILLEGAL, "Printing not supported");
         long[] allowed;
         try {
-            allowed = stringArrayToLongArray(Data.LineCharsList.split(","));
+            allowed = LineCharsValues.get(Data.LineCharsList);
         } catch (Exception e) {
             throw new JposException(JPOS_E_ILLEGAL, "LineCharsList invalid");
         }
@@ -570,7 +575,7 @@ public class PointCardRWService extends JposBase implements PointCardRWService11
 
     @Override
     public void beginInsertion(int timeout) throws JposException {
-        logPreCall("BeginInsertion", removeOuterArraySpecifier(new Object[]{timeout}, Device.MaxArrayStringElements));
+        logPreCall("BeginInsertion", new Object[]{timeout});
         checkEnabled();
         check(Props.State == JPOS_S_BUSY, JPOS_E_BUSY, "Asynchronous output in progress");
         check(timeout < 1 && timeout != JPOS_FOREVER, JPOS_E_ILLEGAL, "Invalid timeout: " + timeout);
@@ -580,7 +585,7 @@ public class PointCardRWService extends JposBase implements PointCardRWService11
 
     @Override
     public void beginRemoval(int timeout) throws JposException {
-        logPreCall("BeginRemoval", removeOuterArraySpecifier(new Object[]{timeout}, Device.MaxArrayStringElements));
+        logPreCall("BeginRemoval", new Object[]{timeout});
         checkEnabled();
         check(Props.State == JPOS_S_BUSY, JPOS_E_BUSY, "Asynchronous output in progress");
         check(timeout < 1 && timeout != JPOS_FOREVER, JPOS_E_ILLEGAL, "Invalid timeout: " + timeout);
@@ -599,7 +604,7 @@ public class PointCardRWService extends JposBase implements PointCardRWService11
 
     @Override
     public void clearPrintWrite(int kind, int hposition, int vposition, int width, int height) throws JposException {
-        logPreCall("ClearPrintWrite", removeOuterArraySpecifier(new Object[]{kind, hposition, vposition, width, height}, Device.MaxArrayStringElements));
+        logPreCall("ClearPrintWrite", new Object[]{kind, hposition, vposition, width, height});
         checkEnabled();
         check(Props.State == JPOS_S_BUSY, JPOS_E_BUSY, "Asynchronous output in progress");
         check(kind < 1 || kind > 3, JPOS_E_ILLEGAL, "Invalid kind: " + kind);
@@ -632,7 +637,7 @@ public class PointCardRWService extends JposBase implements PointCardRWService11
 
     @Override
     public void rotatePrint(int rotation) throws JposException {
-        logPreCall("RotatePrint", removeOuterArraySpecifier(new Object[]{rotation}, Device.MaxArrayStringElements));
+        logPreCall("RotatePrint", new Object[]{rotation});
         long[] allowed = { PCRW_RP_NORMAL, PCRW_RP_RIGHT90, PCRW_RP_LEFT90, PCRW_RP_ROTATE180 };
         boolean[] correspondingCapability = { true, Data.CapRight90, Data.CapLeft90, Data.CapRotate180 };
         checkEnabled();
@@ -647,7 +652,7 @@ public class PointCardRWService extends JposBase implements PointCardRWService11
 
     @Override
     public void validateData(String data) throws JposException {
-        logPreCall("ValidateData", removeOuterArraySpecifier(new Object[]{data}, Device.MaxArrayStringElements));
+        logPreCall("ValidateData", new Object[]{data});
         if (data == null)
             data = "";
         checkEnabled();
@@ -665,7 +670,7 @@ public class PointCardRWService extends JposBase implements PointCardRWService11
 
     @Override
     public void printWrite(int kind, int hposition, int vposition, String data) throws JposException {
-        logPreCall("PrintWrite", removeOuterArraySpecifier(new Object[]{kind, hposition, vposition, data}, Device.MaxArrayStringElements));
+        logPreCall("PrintWrite", new Object[]{kind, hposition, vposition, data});
         checkEnabled();
         check(kind < 1 || kind > 3, JPOS_E_ILLEGAL, "Invalid kind: " + kind);
         if ((kind & 1) != 0) {
@@ -935,7 +940,7 @@ public class PointCardRWService extends JposBase implements PointCardRWService11
 
         @Override
         void validate(PointCardRWService srv) throws JposException {
-            int fontcount = srv.Data.FontTypeFaceList.split(",").length;
+            int fontcount = CapabilitySnapshot.countItems(srv.Data.FontTypeFaceList);
             check (TypefaceIndex > fontcount, JPOS_E_FAILURE, "Invalid font type face: " + TypefaceIndex);
             validateData(srv);
         }
@@ -1329,61 +1334,47 @@ public class PointCardRWService extends JposBase implements PointCardRWService11
      */
     public List<PrintDataPart> outputDataParts(String data) {
         List<PrintDataPart> out = new ArrayList<>();
-        int index;
+        EscSequenceTokenizer esc = new EscSequenceTokenizer(data, false, "E");
         try {
-            while ((index = data.indexOf("\33|")) >= 0) {
-                outputPrintableParts(data.substring(0, index), out);
-                data = data.substring(index + 2);
-                int value = 0;
-                int temp;
-                boolean valueispresent = false;
-                for (index = 0; (temp = data.charAt(index) - '0') >= 0 && temp <= 9; index++) {
-                    value = value * 10 + temp;
-                    valueispresent = true;
-                }
-                data = data.substring(index);
-                int subtype = 0;
-                for (index = 0; (temp = data.charAt(index)) >= 'a' && temp <= 'z'; index++) {
-                    subtype = subtype * 1000 + temp;
-                }
-                String escdata = getEscData(data, index, value, temp);
-                data = data.substring(index + escdata.length() + 1);
-                out.add(getEscObj(temp, subtype, value, escdata, valueispresent));
+            while (esc.next()) {
+                outputPrintableParts(data, esc.TextStart, esc.TextEnd, out);
+                esc.parse();
+                out.add(getEscObj(esc.Type, esc.Subtype, esc.Value, esc.EscData, esc.ValueIsPresent));
             }
-            if (data.length() > 0)
-                outputPrintableParts(data, out);
+            outputPrintableParts(data, esc.TextStart, esc.TextEnd, out);
         } catch (IndexOutOfBoundsException e) {
             out.add(new EscUnknown(0, 0, 0, false));
         }
         return out;
     }
 
-    private void outputPrintableParts(String data, List<PrintDataPart> out) {
-        if (data.length() > 0)
-            out.add(new PrintData(data, Data.MapCharacterSet, Data.CharacterSet));
-    }
-
-    private String getEscData(String data, int index, int value, int temp) {
-        String escdata;
-        if ("E".indexOf(temp) == 0) {
-            escdata = data.substring(index + 1, value + index + 1);
-        }
-        else {
-            escdata = null;
-        }
-        return escdata;
+    private void outputPrintableParts(String data, int start, int end, List<PrintDataPart> out) {
+        if (end > start)
+            out.add(new PrintData(data.substring(start, end), Data.MapCharacterSet, Data.CharacterSet));
     }
 
     private PrintDataPart getEscObj(int temp, int subtype, int value, String escdata, boolean valueispresent) {
-        PrintDataPart ret;
-        boolean notnull = ((ret = EscNormalize.getEscNormalize(null, temp, subtype, valueispresent)) != null ||
-                (ret = EscEmbedded.getEscEmbedded(null, temp, subtype, escdata)) != null ||
-                (ret = EscFontTypeface.getEscFontTypeface(null, temp, subtype, value, valueispresent)) != null ||
-                (ret = EscAlignment.getEscAlignment(null, temp, subtype, valueispresent)) != null ||
-                (ret = EscScale.getEscScale(null, temp, subtype, value, valueispresent)) != null ||
-                (ret = EscSimple.getEscSimple(null, temp, subtype, valueispresent)) != null ||
-                (ret = EscUnderline.getEscUnderline(null, temp, subtype, value, valueispresent)) != null);
-        return notnull ? ret : new EscUnknown(temp, subtype, value, valueispresent);
+        PrintDataPart ret = null;
+        switch (temp) {     // Only factories that support the escape type, in the same order as before
+        case 'A':
+            ret = EscAlignment.getEscAlignment(null, temp, subtype, valueispresent);
+            break;
+        case 'C':
+            if ((ret = EscScale.getEscScale(null, temp, subtype, value, valueispresent)) == null &&
+                    (ret = EscSimple.getEscSimple(null, temp, subtype, valueispresent)) == null)
+                ret = EscUnderline.getEscUnderline(null, temp, subtype, value, valueispresent);
+            break;
+        case 'E':
+            ret = EscEmbedded.getEscEmbedded(null, temp, subtype, escdata);
+            break;
+        case 'N':
+            ret = EscNormalize.getEscNormalize(null, temp, subtype, valueispresent);
+            break;
+        case 'T':
+            ret = EscFontTypeface.getEscFontTypeface(null, temp, subtype, value, valueispresent);
+            break;
+        }
+        return ret != null ? ret : new EscUnknown(temp, subtype, value, valueispresent);
     }
 
     /*
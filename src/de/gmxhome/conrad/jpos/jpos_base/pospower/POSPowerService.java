@@ -238,7 +238,7 @@ public class POSPowerService extends JposBase implements POSPowerService116 {
 
     @Override
     public void standbyPOS(int reason) throws JposException {
-        logPreCall("StandbyPOS", removeOuterArraySpecifier(new Object[]{reason}, Device.MaxArrayStringElements));
+        logPreCall("StandbyPOS", new Object[]{reason});
         long[] allowed = { PWR_REASON_REQUEST, PWR_REASON_ALLOW, PWR_REASON_DENY };
         checkEnabled();
         checkMember(reason, allowed, JPOS_E_ILLEGAL, "Unsupported reason: " + reason);
@@ -249,7 +249,7 @@ public class POSPowerService extends JposBase implements POSPowerService116 {
 
     @Override
     public void suspendPOS(int reason) throws JposException {
-        logPreCall("SuspendPOS", removeOuterArraySpecifier(new Object[]{reason}, Device.MaxArrayStringElements));
+        logPreCall("SuspendPOS", new Object[]{reason});
         long[] allowed = { PWR_REASON_REQUEST, PWR_REASON_ALLOW, PWR_REASON_DENY };
         checkEnabled();
         checkMember(reason, allowed, JPOS_E_ILLEGAL, "Unsupported reason: " + reason);
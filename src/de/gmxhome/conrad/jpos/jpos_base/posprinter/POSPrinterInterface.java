@@ -1236,6 +1236,23 @@ public interface POSPrinterInterface extends JposBaseInterface {
      */
     public void transactionPrint(TransactionPrint request) throws JposException;
 
+    /**
+     * Batch processing part of TransactionPrint method. Will be called after the final part of a TransactionPrint
+     * method with control TP_TRANSACTION, when the buffered commands of the transaction shall be printed. Devices that
+     * can send the whole transaction in one buffer can overwrite this method and process the normalized command stream
+     * returned by request.getBatchCommands(). Commands that shall not be processed by the implementation can be
+     * processed via their invoke method.
+     * <br>The implementation should check request.Abort between commands and throw a JposException with error code
+     * E_FAILURE if request.Abort is not null, as done by TransactionPrint if the commands will be processed one by one.
+     *
+     * @param request   Output request object returned by validation method of TransactionPrint with control
+     *                  TP_TRANSACTION. Contains the buffered commands.
+     * @return  true if all commands have been processed, false if the commands shall be processed one by one. The
+     *          default implementation returns false.
+     * @throws JposException    For details, see UPOS method TransactionPrint.
+     */
+    public boolean transactionPrintBatch(TransactionPrint request) throws JposException;
+
     /**
      * Validation part of RotatePrint method. For details, see UPOS specification. Can be overwritten within derived
      * classes, if necessary.
@@ -18,6 +18,7 @@ package de.gmxhome.conrad.jpos.jpos_base.posprinter;
 
 import de.gmxhome.conrad.jpos.jpos_base.*;
 import jpos.*;
+import jpos.config.JposEntry;
 
 import static de.gmxhome.conrad.jpos.jpos_base.JposDevice.*;
 import static jpos.JposConst.*;
@@ -860,6 +861,24 @@ public class POSPrinterProperties extends JposCommonProperties implements POSPri
      */
     public int SlpSidewaysMaxLines;
 
+    /**
+     * Maximum number of parsed print strings cached by the service, 0 to disable the cache. Default: 0. Can be
+     * changed via jpos.xml property PrintDataCacheSize.
+     */
+    public int PrintDataCacheSize = 0;
+
+    /**
+     * Maximum number of bitmaps in raster format cached by the service, 0 to disable the cache. Default: 0. Can be
+     * changed via jpos.xml property BitmapCacheSize.
+     */
+    public int BitmapCacheSize = 0;
+
+    /**
+     * Number of stripes of a bitmap that will be converted to raster format in parallel. Default: 1. Can be changed via
+     * jpos.xml property BitmapStripes.
+     */
+    public int BitmapStripes = 1;
+
     /**
      * Constructor.
      *
@@ -870,6 +889,30 @@ public class POSPrinterProperties extends JposCommonProperties implements POSPri
         FlagWhenIdleStatusValue = PTR_SUE_IDLE;
     }
 
+    @Override
+    public void checkProperties(JposEntry entry) throws JposException {
+        super.checkProperties(entry);
+        PrintDataCacheSize = getIntProperty(entry, "PrintDataCacheSize", PrintDataCacheSize, 0);
+        BitmapCacheSize = getIntProperty(entry, "BitmapCacheSize", BitmapCacheSize, 0);
+        BitmapStripes = getIntProperty(entry, "BitmapStripes", BitmapStripes, 1);
+    }
+
+    // Returns the value of an integer property from jpos.xml or the given value if not present. Throws JposException
+    // with JPOS_E_NOSERVICE if the property is not an integer value or less than min.
+    private static int getIntProperty(JposEntry entry, String name, int value, int min) throws JposException {
+        Object o = entry.getPropertyValue(name);
+        if (o != null) {
+            try {
+                value = Integer.parseInt(o.toString());
+            } catch (NumberFormatException e) {
+                throw new JposException(JPOS_E_NOSERVICE, name + " not an integer value: " + o, e);
+            }
+            if (value < min)
+                throw new JposException(JPOS_E_NOSERVICE, name + " less than " + min + ": " + value);
+        }
+        return value;
+    }
+
     @Override
     public void initOnOpen() {
         super.initOnOpen();
@@ -1300,6 +1343,11 @@ public class POSPrinterProperties extends JposCommonProperties implements POSPri
     public void transactionPrint(TransactionPrint request) throws JposException {
     }
 
+    @Override
+    public boolean transactionPrintBatch(TransactionPrint request) throws JposException {
+        return false;
+    }
+
     @Override
     public RotatePrint rotatePrint(int station, int rotation) throws JposException {
         return new RotatePrint(this, station, rotation);
@@ -45,6 +45,19 @@ public class POSPrinterService extends JposBase implements POSPrinterService116
 
     private TransactionPrint[] TransactionCommand = new TransactionPrint[3];
 
+    private final Map<CompiledPrintData, CompiledPrintData> PrintDataCache = new LinkedHashMap<CompiledPrintData, CompiledPrintData>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<CompiledPrintData, CompiledPrintData> eldest) {
+            return size() > Data.PrintDataCacheSize;
+        }
+    };
+
+    private long PrintDataCacheHits = 0;
+
+    private long PrintDataCacheMisses = 0;
+
+    private final RasterBitmap.Cache BitmapCache = new RasterBitmap.Cache();
+
     static private final long[] Cartridges = {
             PTR_COLOR_PRIMARY, PTR_COLOR_CUSTOM1, PTR_COLOR_CUSTOM2, PTR_COLOR_CUSTOM3, PTR_COLOR_CUSTOM4,
             PTR_COLOR_CUSTOM5, PTR_COLOR_CUSTOM6, PTR_COLOR_CYAN, PTR_COLOR_MAGENTA, PTR_COLOR_YELLOW
@@ -1245,7 +1258,7 @@ public class POSPrinterService extends JposBase implements POSPrinterService116
 
     @Override
     public void beginInsertion(int timeout) throws JposException {
-        logPreCall("BeginInsertion", removeOuterArraySpecifier(new Object[]{timeout}, Device.MaxArrayStringElements));
+        logPreCall("BeginInsertion", new Object[]{timeout});
         checkEnabled();
         check(!Data.CapSlpPresent, JPOS_E_ILLEGAL, "No Slip station support");
         check(Props.State != JPOS_S_IDLE, JPOS_E_BUSY, "Output in progress or error detected");
@@ -1257,7 +1270,7 @@ public class POSPrinterService extends JposBase implements POSPrinterService116
 
     @Override
     public void beginRemoval(int timeout) throws JposException {
-        logPreCall("BeginRemoval", removeOuterArraySpecifier(new Object[]{timeout}, Device.MaxArrayStringElements));
+        logPreCall("BeginRemoval", new Object[]{timeout});
         checkEnabled();
         check(!Data.CapSlpPresent, JPOS_E_ILLEGAL, "No Slip station support");
         check(Props.State != JPOS_S_IDLE, JPOS_E_BUSY, "Output in progress or error detected");
@@ -1269,7 +1282,7 @@ public class POSPrinterService extends JposBase implements POSPrinterService116
 
     @Override
     public void changePrintSide(int side) throws JposException {
-        logPreCall("ChangePrintSide", removeOuterArraySpecifier(new Object[]{side}, Device.MaxArrayStringElements));
+        logPreCall("ChangePrintSide", new Object[]{side});
         checkEnabled();
         check(!Data.CapSlpPresent || !Data.CapSlpBothSidesPrint, JPOS_E_ILLEGAL, "No support for both side slip printing");
         check(Props.State != JPOS_S_IDLE, JPOS_E_BUSY, "Output in progress or error detected");
@@ -1312,7 +1325,7 @@ public class POSPrinterService extends JposBase implements POSPrinterService116
 
     @Override
     public void printImmediate(int station, String data) throws JposException {
-        logPreCall("PrintImmediate", removeOuterArraySpecifier(new Object[]{station, data}, Device.MaxArrayStringElements));
+        logPreCall("PrintImmediate", new Object[]{station, data});
         checkEnabled();
         checkStationPresent(station);
         extendedErrorCheck(station);
@@ -1326,7 +1339,7 @@ public class POSPrinterService extends JposBase implements POSPrinterService116
 
     @Override
     public void setBitmap(int bitmapNumber, int station, String fileName, int width, int alignment) throws JposException {
-        logPreCall("SetBitmap", removeOuterArraySpecifier(new Object[]{bitmapNumber, station, fileName, width, alignment}, Device.MaxArrayStringElements));
+        logPreCall("SetBitmap", new Object[]{bitmapNumber, station, fileName, width, alignment});
         checkEnabled();
         check(bitmapNumber < 1 || bitmapNumber > 20, JPOS_E_ILLEGAL, "BitmapNumber out of range: " + bitmapNumber);
         checkMember(station, new long[]{PTR_S_RECEIPT, PTR_S_SLIP}, JPOS_E_ILLEGAL, "Invalid station: " + station);
@@ -1340,16 +1353,17 @@ public class POSPrinterService extends JposBase implements POSPrinterService116
 
     @Override
     public void setLogo(int location, String data) throws JposException {
-        logPreCall("SetLogo", removeOuterArraySpecifier(new Object[]{location, data}, Device.MaxArrayStringElements));
+        logPreCall("SetLogo", new Object[]{location, data});
         checkEnabled();
         checkMember(location, new long[]{PTR_L_TOP, PTR_L_BOTTOM}, JPOS_E_ILLEGAL, "Invalid location: " + location);
         POSPrinterInterface.setLogo(location, data == null ? "" : data);
+        clearPrintDataCache();
         logCall("SetLogo");
     }
 
     @Override
     public void validateData(int station, String text) throws JposException {
-        logPreCall("ValidateData", removeOuterArraySpecifier(new Object[]{station, text}, Device.MaxArrayStringElements));
+        logPreCall("ValidateData", new Object[]{station, text});
         checkEnabled();
         try {
             POSPrinterInterface.validateData(station, text);
@@ -1358,26 +1372,37 @@ public class POSPrinterService extends JposBase implements POSPrinterService116
                 throw e;
             return;
         }
-        List<PrintDataPart> data = text == null ? new ArrayList<>() : outputDataParts(text);
-        switch (station) {
-        case PTR_S_JOURNAL:
-            plausibilityCheckJournalData(data);
-            break;
-        case PTR_S_RECEIPT:
-            plausibilityCheckReceiptData(data);
-            break;
-        case PTR_S_SLIP:
-            plausibilityCheckSlipData(data);
-            break;
-        default:
-            throw new JposException(JPOS_E_NOEXIST, "Invalid station: " + station);
+        CompiledPrintData compiled = text == null ? null : compile(text);
+        List<PrintDataPart> data = compiled == null ? new ArrayList<>() : compiled.Parts;
+        int[] allowed = getAllowed(station);
+        if (compiled == null || !isValidated(compiled, station, allowed)) {
+            switch (station) {
+            case PTR_S_JOURNAL:
+                plausibilityCheckJournalData(data);
+                break;
+            case PTR_S_RECEIPT:
+                plausibilityCheckReceiptData(data);
+                break;
+            case PTR_S_SLIP:
+                plausibilityCheckSlipData(data);
+                break;
+            default:
+                throw new JposException(JPOS_E_NOEXIST, "Invalid station: " + station);
+            }
+            if (compiled != null)
+                setValidated(compiled, station, allowed);
+        }
+        else {
+            // Capability checks passed before, but the device specific checks may depend on the device state.
+            for (PrintDataPart part : data)
+                part.validateData(this, station);
         }
         logCall("ValidateData");
     }
 
     @Override
     public void cutPaper(int percentage) throws JposException {
-        logPreCall("CutPaper", removeOuterArraySpecifier(new Object[]{percentage}, Device.MaxArrayStringElements));
+        logPreCall("CutPaper", new Object[]{percentage});
         int stationIndex = getStationIndex(PTR_S_RECEIPT);
         checkEnabled();
         check(!Data.CapRecPresent || !Data.CapRecPapercut, JPOS_E_ILLEGAL, "Cut paper not supported");
@@ -1388,10 +1413,10 @@ public class POSPrinterService extends JposBase implements POSPrinterService116
 
     @Override
     public void drawRuledLine(int station, String positionList, int lineDirection, int lineWidth, int lineStyle, int lineColor) throws JposException {
-        logPreCall("DrawRuledLine", removeOuterArraySpecifier(new Object[]{station, positionList, lineDirection, lineWidth, lineStyle, lineColor}, Device.MaxArrayStringElements));
+        logPreCall("DrawRuledLine", new Object[]{station, positionList, lineDirection, lineWidth, lineStyle, lineColor});
         String esc = "p" + (positionList == null ? "" : positionList) + "d" + lineDirection + "w" + lineWidth + "s" + lineStyle + "c" + lineColor;
         try {
-            plausibilityCheckData(station, outputDataParts("\33|*" + esc.length() + "dL" + esc));
+            plausibilityCheckData(station, parseDataParts("\33|*" + esc.length() + "dL" + esc));
         } catch (JposException e) {
             check(e.getErrorCode() == JPOS_E_FAILURE, JPOS_E_ILLEGAL, e.getMessage());
             if (e.getErrorCode() != JPOS_E_ILLEGAL)
@@ -1407,7 +1432,7 @@ public class POSPrinterService extends JposBase implements POSPrinterService116
 
     @Override
     public void markFeed(int type) throws JposException {
-        logPreCall("MarkFeed", removeOuterArraySpecifier(new Object[]{type}, Device.MaxArrayStringElements));
+        logPreCall("MarkFeed", new Object[]{type});
         int stationIndex = getStationIndex(PTR_S_RECEIPT);
         checkEnabled();
         check(!Data.CapRecPresent || Data.CapRecMarkFeed == 0, JPOS_E_ILLEGAL, "Mark feed not supported");
@@ -1419,10 +1444,10 @@ public class POSPrinterService extends JposBase implements POSPrinterService116
 
     @Override
     public void printBarCode(int station, String data, int symbology, int height, int width, int alignment, int textPosition) throws JposException {
-        logPreCall("PrintBarCode", removeOuterArraySpecifier(new Object[]{station, data, symbology, height, width, alignment, textPosition}, Device.MaxArrayStringElements));
+        logPreCall("PrintBarCode", new Object[]{station, data, symbology, height, width, alignment, textPosition});
         String esc = "s" + symbology + "h" + height + "w" + width + "a" + alignment + "t" + textPosition + "d" + (data == null ? "" : data) + "e";
         try {
-            plausibilityCheckData(station, outputDataParts("\33|*" + esc.length() + "R" + esc));
+            plausibilityCheckData(station, parseDataParts("\33|*" + esc.length() + "R" + esc));
         } catch (JposException e) {
             check(e.getErrorCode() == JPOS_E_FAILURE, JPOS_E_ILLEGAL, e.getMessage());
             if (e.getErrorCode() != JPOS_E_ILLEGAL)
@@ -1435,7 +1460,7 @@ public class POSPrinterService extends JposBase implements POSPrinterService116
 
     @Override
     public void printBitmap(int station, String fileName, int width, int alignment) throws JposException {
-        logPreCall("PrintBitmap", removeOuterArraySpecifier(new Object[]{station, fileName, width, alignment}, Device.MaxArrayStringElements));
+        logPreCall("PrintBitmap", new Object[]{station, fileName, width, alignment});
         checkEnabled();
         check(station != PTR_S_RECEIPT && station != PTR_S_SLIP, JPOS_E_ILLEGAL, "Invalid print station: " + station);
         check(station == PTR_S_RECEIPT && (!Data.CapRecPresent || !Data.CapRecBitmap), JPOS_E_ILLEGAL, "No bitmap printing support on receipt");
@@ -1449,7 +1474,7 @@ public class POSPrinterService extends JposBase implements POSPrinterService116
 
     @Override
     public void printMemoryBitmap(int station, byte[] data, int type, int width, int alignment) throws JposException {
-        logPreCall("PrintMemoryBitmap", removeOuterArraySpecifier(new Object[]{station, data, type, width, alignment}, Device.MaxArrayStringElements));
+        logPreCall("PrintMemoryBitmap", new Object[]{station, data, type, width, alignment});
         checkEnabled();
         check(station != PTR_S_RECEIPT && station != PTR_S_SLIP, JPOS_E_ILLEGAL, "Invalid print station: " + station);
         check(station == PTR_S_RECEIPT && (!Data.CapRecPresent || !Data.CapRecBitmap), JPOS_E_ILLEGAL, "No bitmap printing support on receipt");
@@ -1464,7 +1489,7 @@ public class POSPrinterService extends JposBase implements POSPrinterService116
 
     @Override
     public void printNormal(int station, String data) throws JposException {
-        logPreCall("PrintNormal", removeOuterArraySpecifier(new Object[]{station, data}, Device.MaxArrayStringElements));
+        logPreCall("PrintNormal", new Object[]{station, data});
         checkEnabled();
         checkStationPresent(station);
         int stationIndex = getStationIndex(station);
@@ -1474,7 +1499,7 @@ public class POSPrinterService extends JposBase implements POSPrinterService116
 
     @Override
     public void printTwoNormal(int stations, String data1, String data2) throws JposException {
-        logPreCall("PrintTwoNormal", removeOuterArraySpecifier(new Object[]{stations, data1, data2}, Device.MaxArrayStringElements));
+        logPreCall("PrintTwoNormal", new Object[]{stations, data1, data2});
         checkEnabled();
         int[] stationIndex = new int[2];
         int[] station = new int[2];
@@ -1486,7 +1511,7 @@ public class POSPrinterService extends JposBase implements POSPrinterService116
 
     @Override
     public void pageModePrint(int control) throws JposException {
-        logPreCall("PageModePrint", removeOuterArraySpecifier(new Object[]{control}, Device.MaxArrayStringElements));
+        logPreCall("PageModePrint", new Object[]{control});
         checkEnabled();
         int station = Data.PageModeStation;
         checkStationPresent(station);
@@ -1518,7 +1543,7 @@ public class POSPrinterService extends JposBase implements POSPrinterService116
 
     @Override
     public void rotatePrint(int station, int rotation) throws JposException {
-        logPreCall("RotatePrint", removeOuterArraySpecifier(new Object[]{station, rotation}, Device.MaxArrayStringElements));
+        logPreCall("RotatePrint", new Object[]{station, rotation});
         checkEnabled();
         checkStationPresent(station);
         int stationIndex = getStationIndex(station);
@@ -1550,7 +1575,7 @@ public class POSPrinterService extends JposBase implements POSPrinterService116
 
     @Override
     public void transactionPrint(int station, int control) throws JposException {
-        logPreCall("TransactionPrint", removeOuterArraySpecifier(new Object[]{station, control}, Device.MaxArrayStringElements));
+        logPreCall("TransactionPrint", new Object[]{station, control});
         TransactionPrint request;
         checkEnabled();
         checkStationPresent(station);
@@ -2970,36 +2995,27 @@ public class POSPrinterService extends JposBase implements POSPrinterService116
      *     <li>EscUnknown      -   Class containing information about details of an unknown escape sequence.</li>
      * </ul>
      *
+     * If the device has been configured with PrintDataCacheSize &gt; 0, the result will be taken from the print data
+     * cache whenever the same data have been parsed before with the same values of MapCharacterSet, CharacterSet and
+     * MapMode. In that case, the returned list is unmodifiable and shared between all requests with the same data.
+     *
      * @param data Character string to be printed. May contain CR, LF and ESC sequences as described in the UPOS specification.
      * @return List of objects that describe all parts of data.
      */
     public List<PrintDataPart> outputDataParts(String data) {
+        return compile(data).Parts;
+    }
+
+    private List<PrintDataPart> parseDataParts(String data) {
         List<PrintDataPart> out = new ArrayList<>();
-        int index;
+        EscSequenceTokenizer esc = new EscSequenceTokenizer(data, true, "ER");
         try {
-            while ((index = data.indexOf("\33|")) >= 0) {
-                outputPrintableParts(data.substring(0, index), out);
-                data = data.substring(index + 2);
-                int value = 0;
-                int temp;
-                boolean negated = data.charAt(0) == '!';
-                boolean valueisdatalength = data.charAt(0) == '*';
-                boolean valueispresent = false;
-                for (index = (negated || valueisdatalength) ? 1 : 0; (temp = data.charAt(index) - '0') >= 0 && temp <= 9; index++) {
-                    value = value * 10 + temp;
-                    valueispresent = true;
-                }
-                data = data.substring(index);
-                int subtype = 0;
-                for (index = 0; (temp = data.charAt(index)) >= 'a' && temp <= 'z'; index++) {
-                    subtype = subtype * 1000 + temp;
-                }
-                String escdata = getEscData(data, index, value, temp, valueisdatalength);
-                data = data.substring(index + escdata.length() + 1);
-                out.add(getEscObj(temp, subtype, value, valueisdatalength ? escdata : (String) null, negated, valueispresent));
+            while (esc.next()) {
+                outputPrintableParts(data, esc.TextStart, esc.TextEnd, out);
+                esc.parse();
+                out.add(getEscObj(esc.Type, esc.Subtype, esc.Value, esc.ValueIsDataLength ? esc.EscData : null, esc.Negated, esc.ValueIsPresent));
             }
-            if (data.length() > 0)
-                outputPrintableParts(data, out);
+            outputPrintableParts(data, esc.TextStart, esc.TextEnd, out);
             PrintDataPart o = out.get(out.size() - 1);
             if (o instanceof ControlChar && '\15' == ((ControlChar) o).getControlCharacter()) {
                 out.add(new PrintData("", Data.MapCharacterSet, Data.CharacterSet));
@@ -3010,58 +3026,319 @@ public class POSPrinterService extends JposBase implements POSPrinterService116
         return out;
     }
 
-    private void outputPrintableParts(String data, List<PrintDataPart> out) {
-        for (int i = 0; i < data.length(); i++) {
+    private void outputPrintableParts(String data, int start, int end, List<PrintDataPart> out) {
+        for (int i = start; i < end; i++) {
             int actchar = data.charAt(i);
             if (actchar == '\12' || actchar == '\15') {
-                if (i > 0)
-                    out.add(new PrintData(data.substring(0, i), Data.MapCharacterSet, Data.CharacterSet));
-                data = data.substring(i + 1);
+                if (i > start)
+                    out.add(new PrintData(data.substring(start, i), Data.MapCharacterSet, Data.CharacterSet));
                 if (actchar == '\15') {
-                    while(data.length() > 0 && data.charAt(0) == '\15')
-                        data = data.substring(1);
-                    if (data.length() > 0 && data.charAt(0) != '\12')
-                        out.add(new ControlChar((char)actchar));
+                    while (i + 1 < end && data.charAt(i + 1) == '\15')
+                        i++;
+                    if (i + 1 < end && data.charAt(i + 1) != '\12')
+                        out.add(new ControlChar((char) actchar));
                 }
                 else
                     out.add(new ControlChar((char) actchar));
-                i = -1;
+                start = i + 1;
             }
         }
-        if (data.length() > 0)
-            out.add(new PrintData(data, Data.MapCharacterSet, Data.CharacterSet));
+        if (end > start)
+            out.add(new PrintData(data.substring(start, end), Data.MapCharacterSet, Data.CharacterSet));
     }
 
-    private String getEscData(String data, int index, int value, int temp, boolean valueisdatalength) {
-        String escdata;
-        if (valueisdatalength || "ER".indexOf(temp) >= 0) {
-            escdata = data.substring(index + 1, value + index + 1);
+    private PrintDataPart getEscObj(int temp, int subtype, int value, String escdata, boolean negated, boolean valueispresent) {
+        PrintDataPart ret = null;
+        switch (temp) {     // Only factories that support the escape type, in the same order as before
+        case 'A':
+            ret = EscAlignment.getEscAlignment(null, temp, subtype, value, escdata, negated, valueispresent);
+            break;
+        case 'B':
+            ret = EscBitmap.getEscBitmap(null, temp, subtype, value, escdata, negated, valueispresent);
+            break;
+        case 'C':
+            if ((ret = EscScale.getEscScale(null, temp, subtype, value, escdata, negated, valueispresent)) == null &&
+                    (ret = EscSimple.getEscSimple(null, temp, subtype, value, escdata, negated, valueispresent)) == null &&
+                    (ret = EscLine.getEscLine(null, temp, subtype, value, escdata, negated, valueispresent)) == null &&
+                    (ret = EscColor.getEscColor(null, temp, subtype, value, escdata, negated, valueispresent)) == null)
+                ret = EscShade.getEscShade(null, temp, subtype, value, escdata, negated, valueispresent);
+            break;
+        case 'E':
+            ret = EscEmbedded.getEscEmbedded(null, temp, subtype, value, escdata, negated, valueispresent);
+            break;
+        case 'F':
+            ret = EscFeed.getEscFeed(null, temp, subtype, value, escdata, negated, valueispresent, Data.MapMode);
+            break;
+        case 'L':
+            if ((ret = EscRuledLine.getEscRuledLine(null, temp, subtype, value, escdata, negated, valueispresent)) == null &&
+                    (ret = EscLogo.getEscLogo(null, temp, subtype, value, escdata, negated, valueispresent, this)) == null)
+                ret = EscStamp.getEscStamp(null, temp, subtype, value, escdata, negated, valueispresent);
+            break;
+        case 'N':
+            ret = EscNormalize.getEscNormalize(null, temp, subtype, value, escdata, negated, valueispresent);
+            break;
+        case 'P':
+            ret = EscCut.getEscCut(null, temp, subtype, value, escdata, negated, valueispresent);
+            break;
+        case 'R':
+            ret = EscBarcode.getEscBarcode(null, temp, subtype, value, escdata, negated, valueispresent, Data.MapMode);
+            break;
+        case 'T':
+            ret = EscFontTypeface.getEscFontTypeface(null, temp, subtype, value, escdata, negated, valueispresent);
+            break;
         }
-        else {
-            escdata = "";
+        return ret != null ? ret : new EscUnknown(temp, subtype, value, escdata, negated, valueispresent);
+    }
+
+    /*
+     * Print data cache.
+     */
+
+    /**
+     * Parsed print data together with the values of the properties that influence parsing. Used as key and value of
+     * the print data cache.
+     */
+    private static class CompiledPrintData {
+        private final String Text;
+        private final boolean MapCharacterSet;
+        private final int CharacterSet;
+        private final int MapMode;
+        private List<PrintDataPart> Parts;
+        private final int[][] Validated = new int[3][];     // Allowed features of last successful capability check per station
+
+        private CompiledPrintData(String text, boolean mapCharacterSet, int characterSet, int mapMode) {
+            Text = text;
+            MapCharacterSet = mapCharacterSet;
+            CharacterSet = characterSet;
+            MapMode = mapMode;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof CompiledPrintData))
+                return false;
+            CompiledPrintData other = (CompiledPrintData) o;
+            return MapCharacterSet == other.MapCharacterSet && CharacterSet == other.CharacterSet &&
+                    MapMode == other.MapMode && Text.equals(other.Text);
+        }
+
+        @Override
+        public int hashCode() {
+            return ((Text.hashCode() * 31 + CharacterSet) * 31 + MapMode) * 2 + (MapCharacterSet ? 1 : 0);
         }
-        return escdata;
     }
 
-    private PrintDataPart getEscObj(int temp, int subtype, int value, String escdata, boolean negated, boolean valueispresent) {
-        PrintDataPart ret;
-        boolean notnull = ((ret = EscCut.getEscCut(null, temp, subtype, value, escdata, negated, valueispresent)) != null ||
-                (ret = EscRuledLine.getEscRuledLine(null, temp, subtype, value, escdata, negated, valueispresent)) != null ||
-                (ret = EscNormalize.getEscNormalize(null, temp, subtype, value, escdata, negated, valueispresent)) != null ||
-                (ret = EscLogo.getEscLogo(null, temp, subtype, value, escdata, negated, valueispresent, this)) != null ||
-                (ret = EscStamp.getEscStamp(null, temp, subtype, value, escdata, negated, valueispresent)) != null ||
-                (ret = EscBitmap.getEscBitmap(null, temp, subtype, value, escdata, negated, valueispresent)) != null ||
-                (ret = EscFeed.getEscFeed(null, temp, subtype, value, escdata, negated, valueispresent, Data.MapMode)) != null ||
-                (ret = EscEmbedded.getEscEmbedded(null, temp, subtype, value, escdata, negated, valueispresent)) != null ||
-                (ret = EscBarcode.getEscBarcode(null, temp, subtype, value, escdata, negated, valueispresent, Data.MapMode)) != null ||
-                (ret = EscFontTypeface.getEscFontTypeface(null, temp, subtype, value, escdata, negated, valueispresent)) != null ||
-                (ret = EscAlignment.getEscAlignment(null, temp, subtype, value, escdata, negated, valueispresent)) != null ||
-                (ret = EscScale.getEscScale(null, temp, subtype, value, escdata, negated, valueispresent)) != null ||
-                (ret = EscSimple.getEscSimple(null, temp, subtype, value, escdata, negated, valueispresent)) != null ||
-                (ret = EscLine.getEscLine(null, temp, subtype, value, escdata, negated, valueispresent)) != null ||
-                (ret = EscColor.getEscColor(null, temp, subtype, value, escdata, negated, valueispresent)) != null ||
-                (ret = EscShade.getEscShade(null, temp, subtype, value, escdata, negated, valueispresent)) != null);
-        return notnull ? ret : new EscUnknown(temp, subtype, value, escdata, negated, valueispresent);
+    private CompiledPrintData compile(String data) {
+        CompiledPrintData compiled = new CompiledPrintData(data, Data.MapCharacterSet, Data.CharacterSet, Data.MapMode);
+        if (Data.PrintDataCacheSize <= 0) {
+            compiled.Parts = parseDataParts(data);
+            return compiled;
+        }
+        synchronized (PrintDataCache) {
+            CompiledPrintData cached = PrintDataCache.get(compiled);
+            if (cached != null) {
+                PrintDataCacheHits++;
+                return cached;
+            }
+            PrintDataCacheMisses++;
+        }
+        compiled.Parts = Collections.unmodifiableList(parseDataParts(data));
+        synchronized (PrintDataCache) {
+            PrintDataCache.put(compiled, compiled);
+        }
+        return compiled;
+    }
+
+    private boolean isValidated(CompiledPrintData compiled, int station, int[] allowed) {
+        synchronized (PrintDataCache) {
+            return allowed != null && Arrays.equals(compiled.Validated[getStationIndex(station)], allowed);
+        }
+    }
+
+    private void setValidated(CompiledPrintData compiled, int station, int[] allowed) {
+        synchronized (PrintDataCache) {
+            compiled.Validated[getStationIndex(station)] = allowed;
+        }
+    }
+
+    /**
+     * Removes all entries from the print data cache. Will be called whenever logo data change. Device implementations
+     * must call this method whenever other data that influence parsing or validation of print data change.
+     */
+    public void clearPrintDataCache() {
+        synchronized (PrintDataCache) {
+            PrintDataCache.clear();
+        }
+    }
+
+    /**
+     * Retrieves the number of print data cache hits, the number of times method outputDataParts or validateData
+     * could use the result of a previous call. Will be reported as manufacturer specific statistic PrintDataCacheHits,
+     * see retrieveStatistics.
+     * @return Number of cache hits since the service has been created or the statistic has been reset.
+     */
+    public long getPrintDataCacheHits() {
+        synchronized (PrintDataCache) {
+            return PrintDataCacheHits;
+        }
+    }
+
+    /**
+     * Retrieves the number of print data cache misses, the number of times print data had to be parsed while the
+     * cache was enabled. Will be reported as manufacturer specific statistic PrintDataCacheMisses, see
+     * retrieveStatistics.
+     * @return Number of cache misses since the service has been created or the statistic has been reset.
+     */
+    public long getPrintDataCacheMisses() {
+        synchronized (PrintDataCache) {
+            return PrintDataCacheMisses;
+        }
+    }
+
+    // Names of the manufacturer specific statistics maintained by the service itself.
+    private static final String[] CacheStatistics = {
+            "PrintDataCacheHits", "PrintDataCacheMisses", "BitmapCacheHits", "BitmapCacheMisses"
+    };
+
+    // Returns the values of the statistics named in CacheStatistics, in the same order.
+    private long[] getCacheStatistics() {
+        synchronized (PrintDataCache) {
+            return new long[]{ PrintDataCacheHits, PrintDataCacheMisses, BitmapCache.getHits(), BitmapCache.getMisses() };
+        }
+    }
+
+    // Resets the statistic with the given index in CacheStatistics.
+    private void resetCacheStatistic(int index) {
+        synchronized (PrintDataCache) {
+            if (index == 0)
+                PrintDataCacheHits = 0;
+            else if (index == 1)
+                PrintDataCacheMisses = 0;
+            else if (index == 2)
+                BitmapCache.resetHits();
+            else
+                BitmapCache.resetMisses();
+        }
+    }
+
+    // Returns whether the statistic has been selected by a statistics buffer of retrieveStatistics or resetStatistics.
+    // An empty buffer and category M_ select all manufacturer specific statistics.
+    private static boolean isSelected(String statistic, String statisticsBuffer) {
+        if (statisticsBuffer.length() == 0)
+            return true;
+        for (String name : statisticsBuffer.split(",")) {
+            if (name.trim().equals("M_") || name.trim().equals(statistic))
+                return true;
+        }
+        return false;
+    }
+
+    /**
+     * Adds the cache statistics PrintDataCacheHits, PrintDataCacheMisses, BitmapCacheHits and BitmapCacheMisses as
+     * manufacturer specific statistics to the UPOSStat document returned by the device, if selected by statisticsBuffer. Statistics the
+     * device reports itself will not be added again.
+     * @param statisticsBuffer See UPOS specification, method retrieveStatistics
+     * @throws JposException See UPOS specification, method retrieveStatistics
+     */
+    @Override
+    public void retrieveStatistics(String[] statisticsBuffer) throws JposException {
+        String selection = statisticsBuffer == null || statisticsBuffer[0] == null ? "" : statisticsBuffer[0];
+        super.retrieveStatistics(statisticsBuffer);
+        int end = statisticsBuffer[0].lastIndexOf("</UPOSStat>");
+        if (end >= 0) {
+            long[] values = getCacheStatistics();
+            StringBuilder added = new StringBuilder();
+            for (int i = 0; i < CacheStatistics.length; i++) {
+                String name = "<Name>" + CacheStatistics[i] + "</Name>";
+                if (isSelected(CacheStatistics[i], selection) && !statisticsBuffer[0].contains(name))
+                    added.append("<Parameter>").append(name).append("<Value>").append(values[i])
+                            .append("</Value></Parameter>");
+            }
+            statisticsBuffer[0] = statisticsBuffer[0].substring(0, end) + added + statisticsBuffer[0].substring(end);
+        }
+    }
+
+    /**
+     * Resets the cache statistics as well if selected by statisticsBuffer.
+     * @param statisticsBuffer See UPOS specification, method resetStatistics
+     * @throws JposException See UPOS specification, method resetStatistics
+     */
+    @Override
+    public void resetStatistics(String statisticsBuffer) throws JposException {
+        super.resetStatistics(statisticsBuffer);
+        for (int i = 0; i < CacheStatistics.length; i++) {
+            if (isSelected(CacheStatistics[i], statisticsBuffer == null ? "" : statisticsBuffer))
+                resetCacheStatistic(i);
+        }
+    }
+
+    /**
+     * Retrieves a bitmap file converted to raster format, see RasterBitmap. Device implementations can use this method
+     * in printBitmap and in setBitmap or when printing a bitmap set via setBitmap. If the device has been configured
+     * with BitmapCacheSize &gt; 0, the bitmap will be converted only once for each combination of width, alignment and
+     * line width, as long as the file will not be modified. Width and alignment must be converted from the unit given
+     * by MapMode to dots by the device implementation.
+     * @param fileName  File name or URL of the bitmap file.
+     * @param width     Width in dots or BM_ASIS.
+     * @param alignment BM_LEFT, BM_CENTER, BM_RIGHT or distance from left margin in dots.
+     * @param lineWidth Line width of the print station in dots.
+     * @return Bitmap in raster format. The bitmap can be shared between requests, its data must not be modified.
+     * @throws JposException If the file cannot be read or converted, see RasterBitmap methods read and convert.
+     */
+    public RasterBitmap getRasterBitmap(String fileName, int width, int alignment, int lineWidth) throws JposException {
+        RasterBitmap bitmap = BitmapCache.get(fileName, null, width, alignment, lineWidth, Data.BitmapCacheSize);
+        if (bitmap == null) {
+            bitmap = RasterBitmap.convert(RasterBitmap.read(fileName), width, alignment, lineWidth, Data.BitmapStripes);
+            BitmapCache.put(fileName, null, width, alignment, lineWidth, bitmap);
+        }
+        return bitmap;
+    }
+
+    /**
+     * Retrieves a bitmap stored in memory converted to raster format, e.g. the data of a PrintMemoryBitmap request.
+     * Works like getRasterBitmap for bitmap files, the bitmap will be identified by its data.
+     * @param data      Bitmap data, e.g. in bmp, gif or jpeg format. The cache keeps its own copy.
+     * @param width     Width in dots or BM_ASIS.
+     * @param alignment BM_LEFT, BM_CENTER, BM_RIGHT or distance from left margin in dots.
+     * @param lineWidth Line width of the print station in dots.
+     * @return Bitmap in raster format. The bitmap can be shared between requests, its data must not be modified.
+     * @throws JposException If the data cannot be converted, see RasterBitmap methods read and convert.
+     */
+    public RasterBitmap getRasterBitmap(byte[] data, int width, int alignment, int lineWidth) throws JposException {
+        RasterBitmap bitmap = BitmapCache.get(null, data, width, alignment, lineWidth, Data.BitmapCacheSize);
+        if (bitmap == null) {
+            bitmap = RasterBitmap.convert(RasterBitmap.read(data), width, alignment, lineWidth, Data.BitmapStripes);
+            BitmapCache.put(null, data, width, alignment, lineWidth, bitmap);
+        }
+        return bitmap;
+    }
+
+    /**
+     * Removes all entries from the bitmap cache. Device implementations must call this method if a bitmap source
+     * changes in a way that will not be detected by the cache, e.g. if the bitmap has been loaded from a URL.
+     */
+    public void clearBitmapCache() {
+        BitmapCache.clear();
+    }
+
+    /**
+     * Retrieves the number of bitmap cache hits, the number of times method getRasterBitmap could use a bitmap
+     * converted before. Only counted while BitmapCacheSize &gt; 0. Will be reported as manufacturer specific statistic
+     * BitmapCacheHits, see retrieveStatistics.
+     * @return Number of cache hits since the service has been created or the statistic has been reset.
+     */
+    public long getBitmapCacheHits() {
+        return BitmapCache.getHits();
+    }
+
+    /**
+     * Retrieves the number of bitmap cache misses, the number of times method getRasterBitmap had to convert a bitmap.
+     * Only counted while BitmapCacheSize &gt; 0. Will be reported as manufacturer specific statistic BitmapCacheMisses,
+     * see retrieveStatistics.
+     * @return Number of cache misses since the service has been created or the statistic has been reset.
+     */
+    public long getBitmapCacheMisses() {
+        return BitmapCache.getMisses();
     }
 
     /*
@@ -3090,72 +3367,95 @@ public class POSPrinterService extends JposBase implements POSPrinterService116
     private static final int Station = 15;
     private static final int CanStation = 16;
 
+    private static final int AllowedSize = 17;
+
+    private final CapabilitySnapshot[] Allowed = {
+            new CapabilitySnapshot(AllowedSize, this::fillJournalAllowed),
+            new CapabilitySnapshot(AllowedSize, this::fillReceiptAllowed),
+            new CapabilitySnapshot(AllowedSize, this::fillSlipAllowed)
+    };
+
+    /**
+     * Retrieves the features that are allowed on the given station. The result will be taken from a capability snapshot
+     * that will be refreshed whenever one of the relevant capabilities or the line width changes.
+     * @param station Print station.
+     * @return Array with the values described by the index constants above, null for an invalid station. The array is
+     *         shared and must not be modified.
+     */
     private int[] getAllowed(int station) {
         switch (station) {
         case PTR_S_JOURNAL:
-            return new int[]{
-                    Data.CapJrn2Color ? 1 : 0,
-                    Data.CapJrnBold ? 1 : 0,
-                    Data.CapJrnDhigh ? 1 : 0,
-                    Data.CapJrnDwide ? 1 : 0,
-                    Data.CapJrnDwideDhigh ? 1 : 0,
-                    Data.CapJrnItalic ? 1 : 0,
-                    Data.CapJrnUnderline ? 1 : 0,
-                    0,
-                    0,
-                    0,
-                    0,
-                    0,
-                    Data.FontTypefaceList.length() > 0 ? Data.FontTypefaceList.split(",").length : 0,
-                    Data.CapJrnColor,
-                    Data.JrnLineWidth,
-                    PTR_S_JOURNAL,
-                    Data.CapJrnPresent ? 1 : 0
-            };
         case PTR_S_RECEIPT:
-            return new int[]{
-                    Data.CapRec2Color ? 1 : 0,
-                    Data.CapRecBold ? 1 : 0,
-                    Data.CapRecDhigh ? 1 : 0,
-                    Data.CapRecDwide ? 1 : 0,
-                    Data.CapRecDwideDhigh ? 1 : 0,
-                    Data.CapRecItalic ? 1 : 0,
-                    Data.CapRecUnderline ? 1 : 0,
-                    Data.CapRecBarCode ? 1 : 0,
-                    Data.CapRecBitmap ? 1 : 0,
-                    Data.CapRecPapercut ? 1 : 0,
-                    Data.CapRecRuledLine,
-                    Data.CapRecStamp ? 1 : 0,
-                    Data.FontTypefaceList.length() > 0 ? Data.FontTypefaceList.split(",").length : 0,
-                    Data.CapRecColor,
-                    Data.RecLineWidth,
-                    PTR_S_RECEIPT,
-                    Data.CapRecPresent ? 1 : 0
-            };
         case PTR_S_SLIP:
-            return new int[]{
-                    Data.CapSlp2Color ? 1 : 0,
-                    Data.CapSlpBold ? 1 : 0,
-                    Data.CapSlpDhigh ? 1 : 0,
-                    Data.CapSlpDwide ? 1 : 0,
-                    Data.CapSlpDwideDhigh ? 1 : 0,
-                    Data.CapSlpItalic ? 1 : 0,
-                    Data.CapSlpUnderline ? 1 : 0,
-                    Data.CapSlpBarCode ? 1 : 0,
-                    Data.CapSlpBitmap ? 1 : 0,
-                    0,
-                    Data.CapSlpRuledLine,
-                    0,
-                    Data.FontTypefaceList.length() > 0 ? Data.FontTypefaceList.split(",").length : 0,
-                    Data.CapSlpColor,
-                    Data.SlpLineWidth,
-                    PTR_S_SLIP,
-                    Data.CapSlpPresent ? 1 : 0
-            };
+            return Allowed[getStationIndex(station)].get();
         }
         return null;
     }
 
+    private int getFontCount() {
+        return Data.FontTypefaceList.length() > 0 ? CapabilitySnapshot.countItems(Data.FontTypefaceList) : 0;
+    }
+
+    private void fillJournalAllowed(int[] allowed) {
+        allowed[Can2Color] = Data.CapJrn2Color ? 1 : 0;
+        allowed[CanBold] = Data.CapJrnBold ? 1 : 0;
+        allowed[CanDHigh] = Data.CapJrnDhigh ? 1 : 0;
+        allowed[CanDWide] = Data.CapJrnDwide ? 1 : 0;
+        allowed[CanDWideHigh] = Data.CapJrnDwideDhigh ? 1 : 0;
+        allowed[CanItalic] = Data.CapJrnItalic ? 1 : 0;
+        allowed[CanUnderline] = Data.CapJrnUnderline ? 1 : 0;
+        allowed[CanBarcode] = 0;
+        allowed[CanBitmap] = 0;
+        allowed[CanCut] = 0;
+        allowed[CanLine] = 0;
+        allowed[CanStamp] = 0;
+        allowed[FontCount] = getFontCount();
+        allowed[CanColor] = Data.CapJrnColor;
+        allowed[LineWidth] = Data.JrnLineWidth;
+        allowed[Station] = PTR_S_JOURNAL;
+        allowed[CanStation] = Data.CapJrnPresent ? 1 : 0;
+    }
+
+    private void fillReceiptAllowed(int[] allowed) {
+        allowed[Can2Color] = Data.CapRec2Color ? 1 : 0;
+        allowed[CanBold] = Data.CapRecBold ? 1 : 0;
+        allowed[CanDHigh] = Data.CapRecDhigh ? 1 : 0;
+        allowed[CanDWide] = Data.CapRecDwide ? 1 : 0;
+        allowed[CanDWideHigh] = Data.CapRecDwideDhigh ? 1 : 0;
+        allowed[CanItalic] = Data.CapRecItalic ? 1 : 0;
+        allowed[CanUnderline] = Data.CapRecUnderline ? 1 : 0;
+        allowed[CanBarcode] = Data.CapRecBarCode ? 1 : 0;
+        allowed[CanBitmap] = Data.CapRecBitmap ? 1 : 0;
+        allowed[CanCut] = Data.CapRecPapercut ? 1 : 0;
+        allowed[CanLine] = Data.CapRecRuledLine;
+        allowed[CanStamp] = Data.CapRecStamp ? 1 : 0;
+        allowed[FontCount] = getFontCount();
+        allowed[CanColor] = Data.CapRecColor;
+        allowed[LineWidth] = Data.RecLineWidth;
+        allowed[Station] = PTR_S_RECEIPT;
+        allowed[CanStation] = Data.CapRecPresent ? 1 : 0;
+    }
+
+    private void fillSlipAllowed(int[] allowed) {
+        allowed[Can2Color] = Data.CapSlp2Color ? 1 : 0;
+        allowed[CanBold] = Data.CapSlpBold ? 1 : 0;
+        allowed[CanDHigh] = Data.CapSlpDhigh ? 1 : 0;
+        allowed[CanDWide] = Data.CapSlpDwide ? 1 : 0;
+        allowed[CanDWideHigh] = Data.CapSlpDwideDhigh ? 1 : 0;
+        allowed[CanItalic] = Data.CapSlpItalic ? 1 : 0;
+        allowed[CanUnderline] = Data.CapSlpUnderline ? 1 : 0;
+        allowed[CanBarcode] = Data.CapSlpBarCode ? 1 : 0;
+        allowed[CanBitmap] = Data.CapSlpBitmap ? 1 : 0;
+        allowed[CanCut] = 0;
+        allowed[CanLine] = Data.CapSlpRuledLine;
+        allowed[CanStamp] = 0;
+        allowed[FontCount] = getFontCount();
+        allowed[CanColor] = Data.CapSlpColor;
+        allowed[LineWidth] = Data.SlpLineWidth;
+        allowed[Station] = PTR_S_SLIP;
+        allowed[CanStation] = Data.CapSlpPresent ? 1 : 0;
+    }
+
     private void plausibilityCheckData(int station, List<PrintDataPart> data) throws JposException {
         String[] stationnames = {"Journal", "Receipt", "Slip"};
         int[] allowedFeatures = getAllowed(station);
@@ -41,12 +41,14 @@ public class PrintImmediate extends PrintNormal {
     @Override
     public void enqueue() throws JposException {
         int state;
-        synchronized (Device.AsyncProcessorRunning) {
-            state = Props.State;
-            if (state == JPOS_S_IDLE)
-                Props.State = JPOS_S_BUSY;
-            OutputID = -1;
-            Device.invokeRequestThread(this, PrintImmediate.class);
+        synchronized (Props.RequestSync) {
+            synchronized (Device.AsyncProcessorRunning) {
+                state = Props.State;
+                if (state == JPOS_S_IDLE)
+                    Props.State = JPOS_S_BUSY;
+                OutputID = -1;
+                Device.invokeRequestThread(this, PrintImmediate.class);
+            }
         }
         if (state != Props.State)
             Device.log(DEBUG, Props.LogicalName + ": State <- " + Props.State);
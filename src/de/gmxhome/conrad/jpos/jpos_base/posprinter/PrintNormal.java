@@ -60,6 +60,20 @@ public class PrintNormal extends OutputPrintRequest {
         Data = data == null ? new ArrayList<>() : ((POSPrinterService)props.EventSource).outputDataParts(data);
     }
 
+    /**
+     * Constructor for PrintNormal requests that contain the merged print data of several PrintNormal requests of a
+     * transaction, see TransactionPrint method getBatchCommands.
+     *
+     * @param first The first of the merged requests. Station and AdditionalData will be taken from this request.
+     * @param data  The merged print data.
+     */
+    PrintNormal(PrintNormal first, List<POSPrinterService.PrintDataPart> data) {
+        super(first.Props);
+        Station = first.Station;
+        Data = data;
+        AdditionalData = first.AdditionalData;
+    }
+
     @Override
     public void invoke() throws JposException {
         POSPrinterService svc = (POSPrinterService)Props.EventSource;
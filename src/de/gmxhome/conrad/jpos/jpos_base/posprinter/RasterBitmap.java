@@ -0,0 +1,291 @@
+/*
+ * Copyright 2026 Martin Conrad
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package de.gmxhome.conrad.jpos.jpos_base.posprinter;
+
+import jpos.*;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.*;
+import java.net.URL;
+import java.util.*;
+import java.util.stream.IntStream;
+
+import static de.gmxhome.conrad.jpos.jpos_base.JposDevice.*;
+import static jpos.JposConst.*;
+import static jpos.POSPrinterConst.*;
+
+/**
+ * Bitmap in the raster format used by most printers: One bit per dot, 1 for a black dot, 8 dots per byte with the
+ * left-most dot in the most significant bit. Each row starts at the left margin of the print station, the alignment
+ * has been applied via leading white dots. All rows have the same length, BytesPerRow.<br>
+ * Conversion will be performed as follows:
+ * <ul>
+ *     <li>The bitmap will be decoded via ImageIO. Transparent pixels become white.</li>
+ *     <li>The bitmap will be scaled to the requested width, keeping the aspect ratio. When reducing the size, each
+ *     dot gets the average brightness of the corresponding source pixels.</li>
+ *     <li>The result will be converted to black and white via Floyd-Steinberg dithering. If the conversion shall be
+ *     performed in more than one stripe, the stripes will be processed in parallel. The dithering error will not be
+ *     propagated from one stripe to the next.</li>
+ * </ul>
+ * All sizes are given in dots. Conversion of values given in the unit specified by MapMode must be done by the device
+ * implementation.
+ */
+public class RasterBitmap {
+    /**
+     * Width of the bitmap in dots.
+     */
+    public final int Width;
+
+    /**
+     * Height of the bitmap in dots, the number of rows.
+     */
+    public final int Height;
+
+    /**
+     * Number of white dots in front of the bitmap in each row.
+     */
+    public final int Offset;
+
+    /**
+     * Number of bytes per row, enough for Offset + Width dots.
+     */
+    public final int BytesPerRow;
+
+    private final byte[] Data;
+
+    private RasterBitmap(int width, int height, int offset) {
+        Width = width;
+        Height = height;
+        Offset = offset;
+        BytesPerRow = (offset + width + 7) / 8;
+        Data = new byte[BytesPerRow * height];
+    }
+
+    /**
+     * Returns the raster data, Height rows of BytesPerRow bytes each. Since raster bitmaps can be shared between
+     * requests, the returned array must not be modified.
+     * @return Raster data.
+     */
+    public byte[] getData() {
+        return Data;
+    }
+
+    /**
+     * Reads a bitmap file.
+     * @param fileName File name or URL of the bitmap file.
+     * @return The decoded bitmap.
+     * @throws JposException With error code E_NOEXIST if the file cannot be read, with error code E_EXTENDED and
+     *                       extended error code EPTR_BADFORMAT if the file format is not supported.
+     */
+    public static BufferedImage read(String fileName) throws JposException {
+        BufferedImage image;
+        try {
+            File file = new File(fileName);
+            image = file.isFile() ? ImageIO.read(file) : ImageIO.read(new URL(fileName));
+        } catch (IOException e) {
+            throw new JposException(JPOS_E_NOEXIST, "Cannot read bitmap " + fileName + ": " + e.getMessage(), e);
+        }
+        checkext(image == null, JPOS_EPTR_BADFORMAT, "Unsupported bitmap format: " + fileName);
+        return image;
+    }
+
+    /**
+     * Decodes a bitmap stored in memory, e.g. the data passed to PrintMemoryBitmap.
+     * @param data Bitmap data, e.g. in bmp, gif or jpeg format.
+     * @return The decoded bitmap.
+     * @throws JposException With error code E_EXTENDED and extended error code EPTR_BADFORMAT if the data format is not
+     *                       supported.
+     */
+    public static BufferedImage read(byte[] data) throws JposException {
+        BufferedImage image;
+        try {
+            image = ImageIO.read(new ByteArrayInputStream(data));
+        } catch (IOException e) {
+            image = null;
+        }
+        checkext(image == null, JPOS_EPTR_BADFORMAT, "Unsupported bitmap format");
+        return image;
+    }
+
+    /**
+     * Converts a bitmap to raster format.
+     * @param image     The bitmap.
+     * @param width     Width of the converted bitmap in dots, BM_ASIS to keep the width of the bitmap.
+     * @param alignment Alignment of the converted bitmap, one of BM_LEFT, BM_CENTER, BM_RIGHT or the distance from the
+     *                  left margin in dots.
+     * @param lineWidth Width of a print line in dots.
+     * @param stripes   Number of stripes to be converted in parallel, 1 for sequential conversion.
+     * @return The converted bitmap.
+     * @throws JposException With error code E_EXTENDED and extended error code EPTR_TOOBIG if the bitmap does not fit
+     *                       into the print line.
+     */
+    public static RasterBitmap convert(BufferedImage image, int width, int alignment, int lineWidth, int stripes) throws JposException {
+        int srcwidth = image.getWidth();
+        int srcheight = image.getHeight();
+        if (width == PTR_BM_ASIS)
+            width = srcwidth;
+        int height = Math.max(1, (int) ((long) srcheight * width / srcwidth));
+        int offset = alignment == PTR_BM_LEFT ? 0 : (alignment == PTR_BM_CENTER ? (lineWidth - width) / 2 : (alignment == PTR_BM_RIGHT ? lineWidth - width : alignment));
+        checkext(width <= 0 || offset < 0 || offset + width > lineWidth, JPOS_EPTR_TOOBIG, "Bitmap too big");
+        RasterBitmap bitmap = new RasterBitmap(width, height, offset);
+        int[] pixels = image.getRGB(0, 0, srcwidth, srcheight, null, 0, srcwidth);
+        int[] columns = new int[width + 1];
+        for (int x = 0; x <= width; x++)
+            columns[x] = (int) ((long) x * srcwidth / width);
+        int count = Math.max(1, Math.min(stripes, height));
+        int stripeheight = (height + count - 1) / count;
+        if (count == 1)
+            bitmap.convertStripe(pixels, srcwidth, srcheight, columns, 0, height);
+        else
+            IntStream.range(0, count).parallel().forEach(i -> bitmap.convertStripe(pixels, srcwidth, srcheight, columns, i * stripeheight, Math.min(height, (i + 1) * stripeheight)));
+        return bitmap;
+    }
+
+    private static int brightness(int argb) {
+        int alpha = argb >>> 24;
+        int luminance = (((argb >> 16) & 0xff) * 299 + ((argb >> 8) & 0xff) * 587 + (argb & 0xff) * 114) / 1000;
+        return (luminance * alpha + 0xff * (0xff - alpha)) / 0xff;
+    }
+
+    private void convertStripe(int[] pixels, int srcwidth, int srcheight, int[] columns, int from, int to) {
+        int[] current = new int[Width + 2];
+        int[] next = new int[Width + 2];
+        for (int y = from; y < to; y++) {
+            int y0 = (int) ((long) y * srcheight / Height);
+            int y1 = Math.max(y0 + 1, (int) ((long) (y + 1) * srcheight / Height));
+            int row = y * BytesPerRow;
+            for (int x = 0; x < Width; x++) {
+                int x0 = columns[x];
+                int x1 = Math.max(x0 + 1, columns[x + 1]);
+                int sum = 0;
+                for (int sy = y0; sy < y1; sy++) {
+                    for (int sx = x0, i = sy * srcwidth + x0; sx < x1; sx++, i++)
+                        sum += brightness(pixels[i]);
+                }
+                int value = sum / ((y1 - y0) * (x1 - x0)) + current[x + 1];
+                int error = value;
+                if (value >= 0x80)
+                    error -= 0xff;
+                else {
+                    int dot = Offset + x;
+                    Data[row + (dot >> 3)] |= (byte) (0x80 >> (dot & 7));
+                }
+                current[x + 2] += error * 7 / 16;
+                next[x] += error * 3 / 16;
+                next[x + 1] += error * 5 / 16;
+                next[x + 2] += error / 16;
+            }
+            int[] temp = current;
+            current = next;
+            next = temp;
+            Arrays.fill(next, 0);
+        }
+    }
+
+    /**
+     * Cache for converted bitmaps. Bitmaps will be identified by their source, width, alignment and line width. The
+     * source is either the file name, together with the time of the last modification for local files, or the
+     * bitmap data. Hits and misses will only be counted while the cache is enabled (maximum size &gt; 0).<br>
+     * Keys of cache entries hold a copy of the bitmap data, the caller may modify or reuse its buffer afterwards.
+     */
+    static class Cache {
+        private final Map<Key, RasterBitmap> Bitmaps = new LinkedHashMap<Key, RasterBitmap>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, RasterBitmap> eldest) {
+                return size() > MaxSize;
+            }
+        };
+
+        private int MaxSize;
+        private long Hits = 0;
+        private long Misses = 0;
+
+        synchronized RasterBitmap get(String fileName, byte[] data, int width, int alignment, int lineWidth, int maxSize) {
+            if ((MaxSize = maxSize) <= 0) {
+                Bitmaps.clear();
+                return null;
+            }
+            RasterBitmap bitmap = Bitmaps.get(new Key(fileName, data, width, alignment, lineWidth));
+            if (bitmap != null)
+                Hits++;
+            else
+                Misses++;
+            return bitmap;
+        }
+
+        synchronized void put(String fileName, byte[] data, int width, int alignment, int lineWidth, RasterBitmap bitmap) {
+            if (MaxSize > 0)
+                Bitmaps.put(new Key(fileName, data == null ? null : data.clone(), width, alignment, lineWidth), bitmap);
+        }
+
+        synchronized void clear() {
+            Bitmaps.clear();
+        }
+
+        synchronized long getHits() {
+            return Hits;
+        }
+
+        synchronized long getMisses() {
+            return Misses;
+        }
+
+        synchronized void resetHits() {
+            Hits = 0;
+        }
+
+        synchronized void resetMisses() {
+            Misses = 0;
+        }
+    }
+
+    private static class Key {
+        private final String FileName;
+        private final long LastModified;
+        private final byte[] Data;
+        private final int Width;
+        private final int Alignment;
+        private final int LineWidth;
+        private final int Hash;
+
+        private Key(String fileName, byte[] data, int width, int alignment, int lineWidth) {
+            FileName = fileName;
+            LastModified = fileName == null ? 0 : new File(fileName).lastModified();
+            Data = data;
+            Width = width;
+            Alignment = alignment;
+            LineWidth = lineWidth;
+            Hash = Objects.hash(FileName, LastModified, Arrays.hashCode(Data), Width, Alignment, LineWidth);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof Key))
+                return false;
+            Key key = (Key) obj;
+            return Hash == key.Hash && Width == key.Width && Alignment == key.Alignment && LineWidth == key.LineWidth &&
+                    LastModified == key.LastModified && Objects.equals(FileName, key.FileName) && Arrays.equals(Data, key.Data);
+        }
+
+        @Override
+        public int hashCode() {
+            return Hash;
+        }
+    }
+}
@@ -53,6 +53,8 @@ public class TransactionPrint extends OutputRequest {
      */
     final List<OutputRequest> TransactionCommands = new ArrayList<>();
 
+    private List<OutputRequest> BatchCommands = null;
+
     /**
      * Adds an output request to the request queue.
      * @param request Request to be enqueued.
@@ -83,9 +85,123 @@ public class TransactionPrint extends OutputRequest {
             svc.extendedErrorCheck(getStation());
         }
         svc.POSPrinterInterface.transactionPrint(this);
+        if (TransactionCommands.size() > 0 && svc.POSPrinterInterface.transactionPrintBatch(this))
+            return;
         for (OutputRequest request : TransactionCommands) {
             check (Abort != null, JPOS_E_FAILURE, "Transaction interrupted");
             request.invoke();
         }
     }
+
+    /**
+     * Returns the commands of the transaction as one normalized command stream, for use by devices that process a
+     * transaction as a whole, see POSPrinterInterface method transactionPrintBatch. The stream will be generated from
+     * the buffered commands as follows:
+     * <ul>
+     *     <li>Consecutive PrintNormal requests for the same station with equal AdditionalData will be merged into one
+     *     PrintNormal request.</li>
+     *     <li>Since print attributes set via escape sequences in one PrintNormal request shall not affect the following
+     *     request, an EscNormalize will be inserted at the beginning of each merged request, if necessary.</li>
+     *     <li>EscNormalize parts will be removed if the print attributes cannot have been changed since the previous
+     *     EscNormalize, that is if only PrintData and ControlChar parts have been printed in between.</li>
+     *     <li>Adjacent PrintData parts with the same character set and mapping will be merged into one PrintData part,
+     *     empty PrintData parts will be removed.</li>
+     *     <li>All other requests, including the final TransactionPrint request with control TP_NORMAL, remain
+     *     unchanged.</li>
+     * </ul>
+     * The stream will be generated once, on first call.
+     * @return List of output requests to be processed.
+     */
+    public synchronized List<OutputRequest> getBatchCommands() {
+        if (BatchCommands == null) {
+            List<OutputRequest> commands = new ArrayList<>();
+            BatchBuilder batch = null;
+            for (OutputRequest request : TransactionCommands) {
+                if (request instanceof PrintNormal) {
+                    PrintNormal print = (PrintNormal) request;
+                    if (batch == null || !batch.accepts(print)) {
+                        if (batch != null)
+                            commands.add(batch.finish());
+                        batch = new BatchBuilder(print);
+                    }
+                    batch.add(print);
+                } else {
+                    if (batch != null)
+                        commands.add(batch.finish());
+                    batch = null;
+                    commands.add(request);
+                }
+            }
+            if (batch != null)
+                commands.add(batch.finish());
+            BatchCommands = Collections.unmodifiableList(commands);
+        }
+        return BatchCommands;
+    }
+
+    private static class BatchBuilder {
+        private final PrintNormal First;
+        private final List<POSPrinterService.PrintDataPart> Parts = new ArrayList<>();
+        private POSPrinterService.PrintData Pending = null;
+        private final StringBuilder PendingText = new StringBuilder();
+        private boolean Normalized = false;
+
+        private BatchBuilder(PrintNormal first) {
+            First = first;
+        }
+
+        private boolean accepts(PrintNormal request) {
+            return request.getStation() == First.getStation() && Objects.equals(request.AdditionalData, First.AdditionalData);
+        }
+
+        private void add(PrintNormal request) {
+            addNormalize();
+            for (POSPrinterService.PrintDataPart part : request.getData()) {
+                if (part instanceof POSPrinterService.PrintData)
+                    addPrintData((POSPrinterService.PrintData) part);
+                else if (part instanceof POSPrinterService.EscNormalize)
+                    addNormalize();
+                else {
+                    flushPrintData();
+                    Parts.add(part);
+                    if (!(part instanceof POSPrinterService.ControlChar))
+                        Normalized = false;
+                }
+            }
+        }
+
+        private void addNormalize() {
+            if (!Normalized) {
+                flushPrintData();
+                Parts.add(POSPrinterService.EscNormalize.getEscNormalize(null, 'N', 0, 0, null, false, false));
+                Normalized = true;
+            }
+        }
+
+        private void addPrintData(POSPrinterService.PrintData data) {
+            if (data.getPrintData().length() > 0) {
+                if (Pending != null && (Pending.getServiceIsMapping() != data.getServiceIsMapping() || Pending.getCharacterSet() != data.getCharacterSet()))
+                    flushPrintData();
+                if (Pending == null)
+                    Pending = data;
+                PendingText.append(data.getPrintData());
+            }
+        }
+
+        private void flushPrintData() {
+            if (Pending != null) {
+                if (PendingText.length() == Pending.getPrintData().length())
+                    Parts.add(Pending);
+                else
+                    Parts.add(new POSPrinterService.PrintData(PendingText.toString(), Pending.getServiceIsMapping(), Pending.getCharacterSet()));
+                Pending = null;
+                PendingText.setLength(0);
+            }
+        }
+
+        private PrintNormal finish() {
+            flushPrintData();
+            return new PrintNormal(First, Parts);
+        }
+    }
 }
@@ -425,7 +425,7 @@ public class RemoteOrderDisplayService extends JposBase implements RemoteOrderDi
 
     @Override
     public void controlClock(int Units, int function, int clockid, int hour, int minute, int second, int row, int column, int attribute, int mode) throws JposException {
-        logPreCall("ControlClock", removeOuterArraySpecifier(new Object[]{Units, function, clockid, hour, minute, second, row, column, attribute, mode}, Device.MaxArrayStringElements));
+        logPreCall("ControlClock", new Object[]{Units, function, clockid, hour, minute, second, row, column, attribute, mode});
         checkOnline(Units);
         checkDeviceIdle(Units);
         try {
@@ -451,7 +451,7 @@ public class RemoteOrderDisplayService extends JposBase implements RemoteOrderDi
 
     @Override
     public void controlCursor(int units, int function) throws JposException {
-        logPreCall("ControlCursor", removeOuterArraySpecifier(new Object[]{units, function}, Device.MaxArrayStringElements));
+        logPreCall("ControlCursor", new Object[]{units, function});
         checkOnline(units);
         checkDeviceIdle(units);
         try {
@@ -482,7 +482,7 @@ public class RemoteOrderDisplayService extends JposBase implements RemoteOrderDi
 
     @Override
     public void freeVideoRegion(int units, int bufferId) throws JposException {
-        logPreCall("FreeVideoRegion", removeOuterArraySpecifier(new Object[]{units, bufferId}, Device.MaxArrayStringElements));
+        logPreCall("FreeVideoRegion", new Object[]{units, bufferId});
         checkOnline(units);
         int errunits = validateBufferID(units, bufferId);
         check(errunits != 0, errunits, JPOS_E_ILLEGAL, 0, "BufferID " + bufferId + " invalid for units " + units);
@@ -492,7 +492,7 @@ public class RemoteOrderDisplayService extends JposBase implements RemoteOrderDi
 
     @Override
     public void resetVideo(int units) throws JposException {
-        logPreCall("ResetVideo", removeOuterArraySpecifier(new Object[]{units}, Device.MaxArrayStringElements));
+        logPreCall("ResetVideo", new Object[]{units});
         checkOnline(units);
         checkDeviceIdle(units);
         try {
@@ -516,7 +516,7 @@ public class RemoteOrderDisplayService extends JposBase implements RemoteOrderDi
 
     @Override
     public void selectChararacterSet(int units, int characterSet) throws JposException {
-        logPreCall("SelectChararacterSet", removeOuterArraySpecifier(new Object[]{units, characterSet}, Device.MaxArrayStringElements));
+        logPreCall("SelectChararacterSet", new Object[]{units, characterSet});
         checkOnline(units);
         checkDeviceIdle(units);
         try {
@@ -531,7 +531,7 @@ public class RemoteOrderDisplayService extends JposBase implements RemoteOrderDi
 
     @Override
     public void setCursor(int units, int row, int column) throws JposException {
-        logPreCall("SetCursor", removeOuterArraySpecifier(new Object[]{units, row, column}, Device.MaxArrayStringElements));
+        logPreCall("SetCursor", new Object[]{units, row, column});
         checkOnline(units);
         checkDeviceIdle(units);
         try {
@@ -556,7 +556,7 @@ public class RemoteOrderDisplayService extends JposBase implements RemoteOrderDi
 
     @Override
     public void clearVideo(int units, int attribute) throws JposException {
-        logPreCall("ClearVideo", removeOuterArraySpecifier(new Object[]{units, attribute}, Device.MaxArrayStringElements));
+        logPreCall("ClearVideo", new Object[]{units, attribute});
         checkSyncOnline(units);
         check(attribute < 0 || attribute > 0xff, units, JPOS_E_ILLEGAL, 0, "Illegal attribute value: " + attribute);
         doItTrans(RemoteOrderDisplayInterface.clearVideo(units, attribute), "ClearVideo");
@@ -564,7 +564,7 @@ public class RemoteOrderDisplayService extends JposBase implements RemoteOrderDi
 
     @Override
     public void clearVideoRegion(int units, int row, int column, int height, int width, int attribute) throws JposException {
-        logPreCall("ClearVideoRegion", removeOuterArraySpecifier(new Object[]{units, row, column, height, width, attribute}, Device.MaxArrayStringElements));
+        logPreCall("ClearVideoRegion", new Object[]{units, row, column, height, width, attribute});
         checkSyncOnline(units);
         check(row < 0, units, JPOS_E_ILLEGAL, 0, "Row of region invalid: " + row);
         check(column < 0, units, JPOS_E_ILLEGAL, 0, "Column of region invalid: " + column);
@@ -579,7 +579,7 @@ public class RemoteOrderDisplayService extends JposBase implements RemoteOrderDi
 
     @Override
     public void copyVideoRegion(int units, int row, int column, int height, int width, int targetRow, int targetColumn) throws JposException {
-        logPreCall("CopyVideoRegion", removeOuterArraySpecifier(new Object[]{units, row, column, height, width, targetRow, targetColumn}, Device.MaxArrayStringElements));
+        logPreCall("CopyVideoRegion", new Object[]{units, row, column, height, width, targetRow, targetColumn});
         checkSyncOnline(units);
         check(row < 0, units, JPOS_E_ILLEGAL, 0, "Row of region invalid: " + row);
         check(column < 0, units, JPOS_E_ILLEGAL, 0, "Column of region invalid: " + column);
@@ -596,7 +596,7 @@ public class RemoteOrderDisplayService extends JposBase implements RemoteOrderDi
 
     @Override
     public void displayData(int units, int row, int column, int attribute, String data) throws JposException {
-        logPreCall("DisplayData", removeOuterArraySpecifier(new Object[]{units, row, column, attribute, data}, Device.MaxArrayStringElements));
+        logPreCall("DisplayData", new Object[]{units, row, column, attribute, data});
         checkSyncOnline(units);
         check(row < 0, units, JPOS_E_ILLEGAL, 0, "Row of region invalid: " + row);
         check(column < 0, units, JPOS_E_ILLEGAL, 0, "Column of region invalid: " + column);
@@ -610,7 +610,7 @@ public class RemoteOrderDisplayService extends JposBase implements RemoteOrderDi
 
     @Override
     public void drawBox(int units, int row, int column, int height, int width, int attribute, int borderType) throws JposException {
-        logPreCall("DrawBox", removeOuterArraySpecifier(new Object[]{units, row, column, height, width, attribute, borderType}, Device.MaxArrayStringElements));
+        logPreCall("DrawBox", new Object[]{units, row, column, height, width, attribute, borderType});
         checkSyncOnline(units);
         check(row < 0, units, JPOS_E_ILLEGAL, 0, "Row of region invalid: " + row);
         check(column < 0, units, JPOS_E_ILLEGAL, 0, "Column of region invalid: " + column);
@@ -626,7 +626,7 @@ public class RemoteOrderDisplayService extends JposBase implements RemoteOrderDi
 
     @Override
     public void restoreVideoRegion(int units, int targetRow, int targetColumn, int bufferId) throws JposException {
-        logPreCall("RestoreVideoRegion", removeOuterArraySpecifier(new Object[]{units, targetRow, targetColumn, bufferId}, Device.MaxArrayStringElements));
+        logPreCall("RestoreVideoRegion", new Object[]{units, targetRow, targetColumn, bufferId});
         checkSyncOnline(units);
         check(targetRow < 0, units, JPOS_E_ILLEGAL, 0, "Row of region invalid: " + targetRow);
         check(targetColumn < 0, units, JPOS_E_ILLEGAL, 0, "Column of region invalid: " + targetColumn);
@@ -640,7 +640,7 @@ public class RemoteOrderDisplayService extends JposBase implements RemoteOrderDi
 
     @Override
     public void saveVideoRegion(int units, int row, int column, int height, int width, int bufferId) throws JposException {
-        logPreCall("SaveVideoRegion", removeOuterArraySpecifier(new Object[]{units, row, column, height, width, bufferId}, Device.MaxArrayStringElements));
+        logPreCall("SaveVideoRegion", new Object[]{units, row, column, height, width, bufferId});
         checkSyncOnline(units);
         check(row < 0, units, JPOS_E_ILLEGAL, 0, "Row of region invalid: " + row);
         check(column < 0, units, JPOS_E_ILLEGAL, 0, "Column of region invalid: " + column);
@@ -659,7 +659,7 @@ public class RemoteOrderDisplayService extends JposBase implements RemoteOrderDi
 
     @Override
     public void transactionDisplay(int units, int function) throws JposException {
-        logPreCall("TransactionDisplay", removeOuterArraySpecifier(new Object[]{units, function}, Device.MaxArrayStringElements));
+        logPreCall("TransactionDisplay", new Object[]{units, function});
         TransactionDisplay request;
         checkEnabled();
         check(!member(function, validTransactionType), units, JPOS_E_ILLEGAL, 0, "Illegal transaction type: " + function);
@@ -689,7 +689,7 @@ public class RemoteOrderDisplayService extends JposBase implements RemoteOrderDi
 
     @Override
     public void updateVideoRegionAttribute(int units, int function, int row, int column, int height, int width, int attribute) throws JposException {
-        logPreCall("UpdateVideoRegionAttribute", removeOuterArraySpecifier(new Object[]{units, function, row, column, height, width, attribute}, Device.MaxArrayStringElements));
+        logPreCall("UpdateVideoRegionAttribute", new Object[]{units, function, row, column, height, width, attribute});
         checkSyncOnline(units);
         check(!member(function, validAttributeFunction), units, JPOS_E_ILLEGAL, 0, "Invalid attribute command: " + function);
         check(row < 0, units, JPOS_E_ILLEGAL, 0, "Row of region invalid: " + row);
@@ -721,7 +721,7 @@ public class RemoteOrderDisplayService extends JposBase implements RemoteOrderDi
 
     @Override
     public void videoSound(int units, int frequency, int duration, int NumberOfCycles, int interSountWait) throws JposException {
-        logPreCall("VideoSound", removeOuterArraySpecifier(new Object[]{units, frequency, duration, NumberOfCycles, interSountWait}, Device.MaxArrayStringElements));
+        logPreCall("VideoSound", new Object[]{units, frequency, duration, NumberOfCycles, interSountWait});
         checkSyncOnline(units);
         check(frequency < 0, units, JPOS_E_ILLEGAL, 0, "Frequency invalid: " + frequency);
         check(duration < 0, units, JPOS_E_ILLEGAL, 0, "Duration invalid: " + duration);
@@ -764,17 +764,21 @@ public class RemoteOrderDisplayService extends JposBase implements RemoteOrderDi
     }
 
     private void checkDeviceIdle(int units) throws JposException {
-        synchronized (Device.AsyncProcessorRunning) {
-            check(Data.State != JPOS_S_IDLE, units, JPOS_E_BUSY, 0, "Device is not idle: " + Data.State);
-            Data.State = JPOS_S_BUSY;
-            logSet("State");
+        synchronized (Data.RequestSync) {
+            synchronized (Device.AsyncProcessorRunning) {
+                check(Data.State != JPOS_S_IDLE, units, JPOS_E_BUSY, 0, "Device is not idle: " + Data.State);
+                Data.State = JPOS_S_BUSY;
+                logSet("State");
+            }
         }
     }
 
     private void setDeviceIdle() {
-        synchronized (Device.AsyncProcessorRunning) {
-            Data.State = JPOS_S_IDLE;
-            logSet("State");
+        synchronized (Data.RequestSync) {
+            synchronized (Device.AsyncProcessorRunning) {
+                Data.State = JPOS_S_IDLE;
+                logSet("State");
+            }
         }
     }
 }
@@ -249,7 +249,7 @@ public class RFIDScannerService extends JposBase implements RFIDScannerService11
 
     @Override
     public void startReadTags(int cmd, byte[] filterID, byte[] filtermask, int start, int length, byte[] password) throws JposException {
-        logPreCall("StartReadTags", removeOuterArraySpecifier(new Object[]{cmd, filterID, filtermask, start, length, password}, Device.MaxArrayStringElements));
+        logPreCall("StartReadTags", new Object[]{cmd, filterID, filtermask, start, length, password});
         if (password == null)
             password = new byte[0];
         if (filterID == null)
@@ -272,7 +272,7 @@ public class RFIDScannerService extends JposBase implements RFIDScannerService11
 
     @Override
     public void stopReadTags(byte[] password) throws JposException {
-        logPreCall("StopReadTags", removeOuterArraySpecifier(new Object[]{password}, Device.MaxArrayStringElements));
+        logPreCall("StopReadTags", new Object[]{password});
         if (password == null)
             password = new byte[0];
         checkEnabled();
@@ -283,7 +283,7 @@ public class RFIDScannerService extends JposBase implements RFIDScannerService11
 
     @Override
     public void readTags(int cmd, byte[] filterID, byte[] filtermask, int start, int length, int timeout, byte[] password) throws JposException {
-        logPreCall("ReadTags", removeOuterArraySpecifier(new Object[]{cmd, filterID, filtermask, start, length, timeout, password}, Device.MaxArrayStringElements));
+        logPreCall("ReadTags", new Object[]{cmd, filterID, filtermask, start, length, timeout, password});
         if (password == null)
             password = new byte[0];
         if (filterID == null)
@@ -304,7 +304,7 @@ public class RFIDScannerService extends JposBase implements RFIDScannerService11
 
     @Override
     public void disableTag(byte[] tagID, int timeout, byte[] password) throws JposException {
-        logPreCall("DisableTag", removeOuterArraySpecifier(new Object[]{tagID, timeout, password}, Device.MaxArrayStringElements));
+        logPreCall("DisableTag", new Object[]{tagID, timeout, password});
         if (tagID == null)
             tagID = new byte[0];
         if (password == null)
@@ -320,7 +320,7 @@ public class RFIDScannerService extends JposBase implements RFIDScannerService11
 
     @Override
     public void lockTag(byte[] tagID, int timeout, byte[] password) throws JposException {
-        logPreCall("LockTag", removeOuterArraySpecifier(new Object[]{tagID, timeout, password}, Device.MaxArrayStringElements));
+        logPreCall("LockTag", new Object[]{tagID, timeout, password});
         if (tagID == null)
             tagID = new byte[0];
         if (password == null)
@@ -336,7 +336,7 @@ public class RFIDScannerService extends JposBase implements RFIDScannerService11
 
     @Override
     public void writeTagData(byte[] tagID, byte[] userdata, int start, int timeout, byte[] password) throws JposException {
-        logPreCall("WriteTagData", removeOuterArraySpecifier(new Object[]{tagID, userdata, start, timeout, password}, Device.MaxArrayStringElements));
+        logPreCall("WriteTagData", new Object[]{tagID, userdata, start, timeout, password});
         long[] valid = {RFID_CWT_ALL, RFID_CWT_USERDATA};
         if (tagID == null)
             tagID = new byte[0];
@@ -356,7 +356,7 @@ public class RFIDScannerService extends JposBase implements RFIDScannerService11
 
     @Override
     public void writeTagID(byte[] sourceID, byte[] destID, int timeout, byte[] password) throws JposException {
-        logPreCall("WriteTagID", removeOuterArraySpecifier(new Object[]{sourceID, destID, timeout, password}, Device.MaxArrayStringElements));
+        logPreCall("WriteTagID", new Object[]{sourceID, destID, timeout, password});
         long[] valid = {RFID_CWT_ALL, RFID_CWT_ID};
         if (sourceID == null)
             sourceID = new byte[0];
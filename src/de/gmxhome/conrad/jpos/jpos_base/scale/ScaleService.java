@@ -243,7 +243,7 @@ public class ScaleService extends JposBase implements ScaleService116 {
 
     @Override
     public void displayText(String data) throws JposException {
-        logPreCall("DisplayText", removeOuterArraySpecifier(new Object[]{data}, Device.MaxArrayStringElements));
+        logPreCall("DisplayText", new Object[]{data});
         checkEnabled();
         check(!Data.CapDisplayText, JPOS_E_ILLEGAL, "Method DisplayText not supported");
         check(data != null && data.length() > Data.MaxDisplayTextChars, JPOS_E_ILLEGAL, "Text too long: " + data);
@@ -253,7 +253,7 @@ public class ScaleService extends JposBase implements ScaleService116 {
 
     @Override
     public void doPriceCalculating(int[] weightData, int[] tare, long[] unitPrice, long[] unitPriceX, int[] weightUnitX, int[] weightNumeratorX, int[] weightDenominatorX, long[] price, int timeout) throws JposException {
-        logPreCall("DoPriceCalculating", removeOuterArraySpecifier(new Object[]{"...", timeout}, Device.MaxArrayStringElements));
+        logPreCall("DoPriceCalculating", new Object[]{"...", timeout});
         checkEnabled();
         check(!Data.CapSetUnitPriceWithWeightUnit, JPOS_E_ILLEGAL, "Method DoPriceCalculating not supported");
         check(Device.PendingCommands.size() > 0 || Device.CurrentCommand != null, JPOS_E_BUSY, "Device busy");
@@ -279,14 +279,14 @@ public class ScaleService extends JposBase implements ScaleService116 {
             Data.SalesPrice = request.SalesPrice;
             logSet("SalesPrice");
             Data.UnitPrice = unitPrice[0] = request.UnitPrice;
-            logCall("DoPriceCalculating", removeOuterArraySpecifier(new Object[]{weightData[0], tare[0],
-                    unitPrice[0], unitPriceX[0], weightUnitX[0], weightNumeratorX[0], weightDenominatorX[0], price[0]}, Device.MaxArrayStringElements));
+            logCall("DoPriceCalculating", new Object[]{weightData[0], tare[0],
+                    unitPrice[0], unitPriceX[0], weightUnitX[0], weightNumeratorX[0], weightDenominatorX[0], price[0]});
         }
     }
 
     @Override
     public void freezeValue(int item, boolean freeze) throws JposException {
-        logPreCall("FreezeValue", removeOuterArraySpecifier(new Object[]{item, freeze}, Device.MaxArrayStringElements));
+        logPreCall("FreezeValue", new Object[]{item, freeze});
         checkEnabled();
         check(!Data.CapFreezeValue, JPOS_E_ILLEGAL, "Method FreezeValue not supported");
         check((item & ~(SCAL_SFR_MANUAL_TARE|SCAL_SFR_PERCENT_TARE|SCAL_SFR_WEIGHTED_TARE|SCAL_SFR_UNITPRICE)) != 0, JPOS_E_ILLEGAL, "Invalid item: " + item);
@@ -296,7 +296,7 @@ public class ScaleService extends JposBase implements ScaleService116 {
 
     @Override
     public void readLiveWeightWithTare(int[] weightData, int[] tare, int timeout) throws JposException {
-        logPreCall("ReadLiveWeightWithTare", removeOuterArraySpecifier(new Object[]{"...", timeout}, Device.MaxArrayStringElements));
+        logPreCall("ReadLiveWeightWithTare", new Object[]{"...", timeout});
         checkEnabled();
         check(!Data.CapReadLiveWeightWithTare, JPOS_E_ILLEGAL, "Method ReadLiveWeightWithTare not supported");
         check(Device.PendingCommands.size() > 0 || Device.CurrentCommand != null, JPOS_E_BUSY, "Device busy");
@@ -315,13 +315,13 @@ public class ScaleService extends JposBase implements ScaleService116 {
             logSet("TareWeight");
             Data.SalesPrice = request.SalesPrice;
             logSet("SalesPrice");
-            logCall("ReadLiveWeightWithTare", removeOuterArraySpecifier(new Object[]{weightData[0], tare[0]}, Device.MaxArrayStringElements));
+            logCall("ReadLiveWeightWithTare", new Object[]{weightData[0], tare[0]});
         }
     }
 
     @Override
     public void readWeight(int[] weightData, int timeout) throws JposException {
-        logPreCall("ReadWeight", removeOuterArraySpecifier(new Object[]{"...", timeout}, Device.MaxArrayStringElements));
+        logPreCall("ReadWeight", new Object[]{"...", timeout});
         checkEnabled();
         check(Device.PendingCommands.size() > 0 || Device.CurrentCommand != null, JPOS_E_BUSY, "Device busy");
         check(timeout < 0 && timeout != JPOS_FOREVER && !Props.AsyncMode, JPOS_E_ILLEGAL, "Invalid timeout: " + timeout);
@@ -334,13 +334,13 @@ public class ScaleService extends JposBase implements ScaleService116 {
             weightData[0] = request.WeightData;
             Data.SalesPrice = request.SalesPrice;
             logSet("SalesPrice");
-            logCall("ReadWeight", removeOuterArraySpecifier(new Object[]{weightData[0]}, Device.MaxArrayStringElements));
+            logCall("ReadWeight", new Object[]{weightData[0]});
         }
     }
 
     @Override
     public void setPriceCalculationMode(int mode) throws JposException {
-        logPreCall("SetPriceCalculationMode", removeOuterArraySpecifier(new Object[]{mode}, Device.MaxArrayStringElements));
+        logPreCall("SetPriceCalculationMode", new Object[]{mode});
         checkEnabled();
         check(!Data.CapSetPriceCalculationMode, JPOS_E_ILLEGAL, "Method SetPriceCalculationMode not supported");
         checkMember(mode, new long[]{SCAL_PCM_PRICE_LABELING, SCAL_PCM_SELF_SERVICE, SCAL_PCM_OPERATOR}, JPOS_E_ILLEGAL, "Invalid mode: " + mode);
@@ -350,7 +350,7 @@ public class ScaleService extends JposBase implements ScaleService116 {
 
     @Override
     public void setSpecialTare(int mode, int data) throws JposException {
-        logPreCall("SetSpecialTare", removeOuterArraySpecifier(new Object[]{mode, data}, Device.MaxArrayStringElements));
+        logPreCall("SetSpecialTare", new Object[]{mode, data});
         checkEnabled();
         check(!Data.CapSpecialTare, JPOS_E_ILLEGAL, "Method SetSpecialTare not supported");
         checkMember(mode, new long[]{SCAL_SST_DEFAULT, SCAL_SST_MANUAL, SCAL_SST_PERCENT, SCAL_SST_WEIGHTED}, JPOS_E_ILLEGAL, "Invalid mode: " + mode);
@@ -367,7 +367,7 @@ public class ScaleService extends JposBase implements ScaleService116 {
      * @throws JposException If an error occurs
      */
     public void setTarePriority(int priority) throws JposException {
-        logPreCall("SetTarePriority", removeOuterArraySpecifier(new Object[]{priority}, Device.MaxArrayStringElements));
+        logPreCall("SetTarePriority", new Object[]{priority});
         checkEnabled();
         check(!Data.CapTarePriority, JPOS_E_ILLEGAL, "Method SetTarePriority not supported");
         checkMember(priority, new long[]{SCAL_STP_FIRST, SCAL_STP_NONE}, JPOS_E_ILLEGAL, "Invalid priority: " + priority);
@@ -382,7 +382,7 @@ public class ScaleService extends JposBase implements ScaleService116 {
 
     @Override
     public void setUnitPriceWithWeightUnit(long unitPrice, int weightUnit, int weightNumerator, int weightDenominator) throws JposException {
-        logPreCall("SetUnitPriceWithWeightUnit", removeOuterArraySpecifier(new Object[]{unitPrice, weightUnit, weightNumerator, weightDenominator}, Device.MaxArrayStringElements));
+        logPreCall("SetUnitPriceWithWeightUnit", new Object[]{unitPrice, weightUnit, weightNumerator, weightDenominator});
         checkEnabled();
         check(!Data.CapSetUnitPriceWithWeightUnit, JPOS_E_ILLEGAL, "Method SetUnitPriceWithWeightUnit not supported");
         checkMember(weightUnit, new long[]{SCAL_WU_GRAM, SCAL_WU_KILOGRAM, SCAL_WU_OUNCE, SCAL_WU_POUND}, JPOS_E_ILLEGAL, "Invalid weight unit: " + weightUnit);
@@ -122,7 +122,7 @@ public class SignatureCaptureService extends JposBase implements SignatureCaptur
 
     @Override
     public void beginCapture(String formName) throws JposException {
-        logPreCall("BeginCapture", removeOuterArraySpecifier(new Object[]{formName}, Device.MaxArrayStringElements));
+        logPreCall("BeginCapture", new Object[]{formName});
         if (formName == null)
             formName = "";
         checkEnabled();
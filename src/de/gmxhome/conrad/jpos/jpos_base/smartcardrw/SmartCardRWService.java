@@ -185,7 +185,7 @@ public class SmartCardRWService extends JposBase implements SmartCardRWService11
 
     @Override
     public void beginInsertion(int timeout) throws JposException {
-        logPreCall("BeginInsertion", removeOuterArraySpecifier(new Object[]{timeout}, Device.MaxArrayStringElements));
+        logPreCall("BeginInsertion", new Object[]{timeout});
         checkEnabled();
         check(timeout != JPOS_FOREVER && timeout < 0, JPOS_E_ILLEGAL, "Invalid timeout value");
         SmartCardRW.beginInsertion(timeout);
@@ -194,7 +194,7 @@ public class SmartCardRWService extends JposBase implements SmartCardRWService11
 
     @Override
     public void beginRemoval(int timeout) throws JposException {
-        logPreCall("BeginRemoval", removeOuterArraySpecifier(new Object[]{timeout}, Device.MaxArrayStringElements));
+        logPreCall("BeginRemoval", new Object[]{timeout});
         checkEnabled();
         check(timeout != JPOS_FOREVER && timeout < 0, JPOS_E_ILLEGAL, "Invalid timeout value");
         SmartCardRW.beginRemoval(timeout);
@@ -219,19 +219,19 @@ public class SmartCardRWService extends JposBase implements SmartCardRWService11
 
     @Override
     public void readData(int action, int[] count, String[] data) throws JposException {
-        logPreCall("ReadData", removeOuterArraySpecifier(new Object[]{action, "..."}, Device.MaxArrayStringElements));
+        logPreCall("ReadData", new Object[]{action, "..."});
         long[] valid = { SC_READ_DATA, SC_READ_PROGRAM, SC_EXECUTE_AND_READ_DATA, SC_XML_READ_BLOCK_DATA };
         check(count == null || count.length != 1, JPOS_E_ILLEGAL, "Count is not array with length 1");
         check(data == null || data.length != 1, JPOS_E_ILLEGAL, "Data is not array with length 1");
         checkEnabled();
         checkMember(action, valid, JPOS_E_ILLEGAL, "Invalid read action: " + action);
         SmartCardRW.readData(action, count, data);
-        logCall("ReadData", removeOuterArraySpecifier(new Object[]{"...", count[0], data[0]}, Device.MaxArrayStringElements));
+        logCall("ReadData", new Object[]{"...", count[0], data[0]});
     }
 
     @Override
     public void writeData(int action, int count, String data) throws JposException {
-        logPreCall("WriteData", removeOuterArraySpecifier(new Object[]{action, count, data}, Device.MaxArrayStringElements));
+        logPreCall("WriteData", new Object[]{action, count, data});
         long[] valid = { SC_STORE_DATA, SC_STORE_PROGRAM, SC_EXECUTE_DATA, SC_XML_BLOCK_DATA, SC_SECURITY_FUSE, SC_RESET };
         if (data == null)
             data = "";
@@ -144,7 +144,7 @@ public class SoundPlayerService extends JposBase implements SoundPlayerService11
 
     @Override
     public void playSound(String fileName, boolean loop) throws JposException {
-        logPreCall("PlaySound", removeOuterArraySpecifier(new Object[]{fileName, loop}, Device.MaxArrayStringElements));
+        logPreCall("PlaySound", new Object[]{fileName, loop});
         String[] supported = Data.CapSoundTypeList.toLowerCase().split(",");
         checkEnabled();
         if (!member(fileName, Data.DeviceSoundList.split(","))) {
@@ -161,7 +161,7 @@ public class SoundPlayerService extends JposBase implements SoundPlayerService11
 
     @Override
     public void stopSound(int outputID) throws JposException {
-        logPreCall("StopSound", removeOuterArraySpecifier(new Object[]{outputID}, Device.MaxArrayStringElements));
+        logPreCall("StopSound", new Object[]{outputID});
         synchronized (Data.OutputIdListSync) {
             String[] supported = Data.OutputIDList.split(",");
             checkEnabled();
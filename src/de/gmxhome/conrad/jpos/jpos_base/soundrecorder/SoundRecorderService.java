@@ -219,7 +219,7 @@ public class SoundRecorderService extends JposBase implements SoundRecorderServi
 
     @Override
     public void startRecording(String fileName, boolean overWrite, int recordingTime) throws JposException {
-        logPreCall("StartRecording", removeOuterArraySpecifier(new Object[]{fileName, overWrite, recordingTime}, Device.MaxArrayStringElements));
+        logPreCall("StartRecording", new Object[]{fileName, overWrite, recordingTime});
         checkEnabled();
         check(Data.AsyncInputActive, JPOS_E_BUSY, "Just recording other sound");
         check(recordingTime <= 0 && recordingTime != JPOS_FOREVER,
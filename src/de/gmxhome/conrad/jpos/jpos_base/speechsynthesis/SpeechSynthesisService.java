@@ -194,7 +194,7 @@ public class SpeechSynthesisService extends JposBase implements SpeechSynthesisS
 
     @Override
     public void speak(String text) throws JposException {
-        logPreCall("Speak", removeOuterArraySpecifier(new Object[]{text}, Device.MaxArrayStringElements));
+        logPreCall("Speak", new Object[]{text});
         checkEnabled();
         List<SpeechSynthesisProperties.TextPart> parsedText = SpeechSynthesisProperties.TextPart.parse(text);
         JposOutputRequest request = SpeechSynthesis.speak(parsedText);
@@ -212,7 +212,7 @@ public class SpeechSynthesisService extends JposBase implements SpeechSynthesisS
 
     @Override
     public void speakImmediate(String text) throws JposException {
-        logPreCall("SpeakImmediate", removeOuterArraySpecifier(new Object[]{text}, Device.MaxArrayStringElements));
+        logPreCall("SpeakImmediate", new Object[]{text});
         checkEnabled();
         List<SpeechSynthesisProperties.TextPart> parsedText = SpeechSynthesisProperties.TextPart.parse(text);
         if (Data.State != JPOS_S_IDLE) {
@@ -237,7 +237,7 @@ public class SpeechSynthesisService extends JposBase implements SpeechSynthesisS
 
     @Override
     public void stopSpeaking(int outputID) throws JposException {
-        logPreCall("StopSpeaking", removeOuterArraySpecifier(new Object[]{outputID}, Device.MaxArrayStringElements));
+        logPreCall("StopSpeaking", new Object[]{outputID});
         synchronized (Data.OutputIdListSync) {
             String[] supported = Data.OutputIDList.split(",");
             checkEnabled();
@@ -222,7 +222,7 @@ public class ToneIndicatorService extends JposBase implements ToneIndicatorServi
 
     @Override
     public void sound(int numberOfCycles, int interSoundWait) throws JposException {
-        logPreCall("Sound", removeOuterArraySpecifier(new Object[]{numberOfCycles, interSoundWait}, Device.MaxArrayStringElements));
+        logPreCall("Sound", new Object[]{numberOfCycles, interSoundWait});
         checkEnabledUnclaimed();
         check(numberOfCycles <= 0 && numberOfCycles != JPOS_FOREVER, JPOS_E_ILLEGAL, "Invalid numberOfCycles");
         check(numberOfCycles == JPOS_FOREVER && !Props.AsyncMode, JPOS_E_ILLEGAL, "Invalid numberOfCycles");
@@ -669,7 +669,7 @@ public class VideoCaptureService extends JposBase implements VideoCaptureService
 
     @Override
     public void startVideo(String fileName, boolean overWrite, int recordingTime) throws JposException {
-        logPreCall("StartVideo", removeOuterArraySpecifier(new Object[]{fileName, overWrite, recordingTime}, Device.MaxArrayStringElements));
+        logPreCall("StartVideo", new Object[]{fileName, overWrite, recordingTime});
         checkEnabled();
         check(Data.VideoCaptureMode != VCAP_VCMODE_VIDEO, JPOS_E_ILLEGAL,
                 "Cannot capture video in photo mode");
@@ -695,7 +695,7 @@ public class VideoCaptureService extends JposBase implements VideoCaptureService
 
     @Override
     public void takePhoto(String fileName, boolean overWrite, int timeout) throws JposException {
-        logPreCall("TakePhoto", removeOuterArraySpecifier(new Object[]{fileName, overWrite, timeout}, Device.MaxArrayStringElements));
+        logPreCall("TakePhoto", new Object[]{fileName, overWrite, timeout});
         checkEnabled();
         check(Data.VideoCaptureMode != VCAP_VCMODE_PHOTO, JPOS_E_ILLEGAL,
                 "Cannot take photo in video mode");
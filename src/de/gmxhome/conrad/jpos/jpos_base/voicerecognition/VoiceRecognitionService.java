@@ -102,21 +102,23 @@ public class VoiceRecognitionService extends JposBase implements VoiceRecognitio
 
     @Override
     public void startHearingFree(String language) throws JposException {
-        logPreCall("StartHearingFree", removeOuterArraySpecifier(new Object[]{language}, Device.MaxArrayStringElements));
+        logPreCall("StartHearingFree", new Object[]{language});
         checkEnabled();
         check(!member(language, Data.LanguageList.split(",")), JPOS_E_ILLEGAL, "Invalid language: " + language);
-        synchronized (Device.AsyncProcessorRunning) {
-            check(Props.AsyncInputActive, JPOS_E_BUSY, "Hearing something is active");
-            StartHearingFree request = VoiceRecognition.startHearingFree(language);
-            if (request != null)
-                request.enqueue();
+        synchronized (Props.RequestSync) {
+            synchronized (Device.AsyncProcessorRunning) {
+                check(Props.AsyncInputActive, JPOS_E_BUSY, "Hearing something is active");
+                StartHearingFree request = VoiceRecognition.startHearingFree(language);
+                if (request != null)
+                    request.enqueue();
+            }
         }
         logCall("StartHearingFree");
     }
 
     @Override
     public void startHearingSentence(String language, String wordList, String patternList) throws JposException {
-        logPreCall("StartHearingSentence", removeOuterArraySpecifier(new Object[]{language, wordList, patternList}, Device.MaxArrayStringElements));
+        logPreCall("StartHearingSentence", new Object[]{language, wordList, patternList});
         checkEnabled();
         check(!member(language, Data.LanguageList.split(",")), JPOS_E_ILLEGAL, "Invalid language: " + language);
         String[] words = (wordList == null ? "" : wordList).split(",");
@@ -143,43 +145,49 @@ public class VoiceRecognitionService extends JposBase implements VoiceRecognitio
                 idSentence[1] = idSentence[1].substring(j + 1);
             }
         }
-        synchronized (Device.AsyncProcessorRunning) {
-            check(Props.AsyncInputActive, JPOS_E_BUSY, "Hearing something is active\"");
-            StartHearingSentence request = VoiceRecognition.startHearingSentence(language, wordList, patternList);
-            if (request != null)
-                request.enqueue();
+        synchronized (Props.RequestSync) {
+            synchronized (Device.AsyncProcessorRunning) {
+                check(Props.AsyncInputActive, JPOS_E_BUSY, "Hearing something is active\"");
+                StartHearingSentence request = VoiceRecognition.startHearingSentence(language, wordList, patternList);
+                if (request != null)
+                    request.enqueue();
+            }
         }
         logCall("StartHearingSentence");
     }
 
     @Override
     public void startHearingWord(String language, String wordList) throws JposException {
-        logPreCall("StartHearingWord", removeOuterArraySpecifier(new Object[]{language, wordList}, Device.MaxArrayStringElements));
+        logPreCall("StartHearingWord", new Object[]{language, wordList});
         checkEnabled();
         check(!member(language, Data.LanguageList.split(",")), JPOS_E_ILLEGAL, "Invalid language: " + language);
         String[] words = (wordList == null ? "" : wordList).split(",");
         for (String word : words) {
             check(word.length() == 0, JPOS_E_ILLEGAL, "Empty or duplicate word: " + wordList);
         }
-        synchronized (Device.AsyncProcessorRunning) {
-            check(Props.AsyncInputActive, JPOS_E_BUSY, "Hearing something is active\"");
-            StartHearingWord request = VoiceRecognition.startHearingWord(language, wordList);
-            if (request != null)
-                request.enqueue();
+        synchronized (Props.RequestSync) {
+            synchronized (Device.AsyncProcessorRunning) {
+                check(Props.AsyncInputActive, JPOS_E_BUSY, "Hearing something is active\"");
+                StartHearingWord request = VoiceRecognition.startHearingWord(language, wordList);
+                if (request != null)
+                    request.enqueue();
+            }
         }
         logCall("StartHearingWord");
     }
 
     @Override
     public void startHearingYesNo(String language) throws JposException {
-        logPreCall("StartHearingYesNo", removeOuterArraySpecifier(new Object[]{language}, Device.MaxArrayStringElements));
+        logPreCall("StartHearingYesNo", new Object[]{language});
         checkEnabled();
         check(!member(language, Data.LanguageList.split(",")), JPOS_E_ILLEGAL, "Invalid language: " + language);
-        synchronized (Device.AsyncProcessorRunning) {
-            check(Props.AsyncInputActive, JPOS_E_BUSY, "Hearing something is active\"");
-            StartHearingYesNo request = VoiceRecognition.startHearingYesNo(language);
-            if (request != null)
-                request.enqueue();
+        synchronized (Props.RequestSync) {
+            synchronized (Device.AsyncProcessorRunning) {
+                check(Props.AsyncInputActive, JPOS_E_BUSY, "Hearing something is active\"");
+                StartHearingYesNo request = VoiceRecognition.startHearingYesNo(language);
+                if (request != null)
+                    request.enqueue();
+            }
         }
         logCall("StartHearingYesNo");
     }
@@ -188,9 +196,11 @@ public class VoiceRecognitionService extends JposBase implements VoiceRecognitio
     public void stopHearing() throws JposException {
         logPreCall("StopHearing");
         checkEnabled();
-        synchronized (Device.AsyncProcessorRunning) {
-            check(!Props.AsyncInputActive, JPOS_E_ILLEGAL, "Hearing something has not been started");
-            VoiceRecognition.stopHearing();
+        synchronized (Props.RequestSync) {
+            synchronized (Device.AsyncProcessorRunning) {
+                check(!Props.AsyncInputActive, JPOS_E_ILLEGAL, "Hearing something has not been started");
+                VoiceRecognition.stopHearing();
+            }
         }
         logCall("StartHearingYesNo");
     }
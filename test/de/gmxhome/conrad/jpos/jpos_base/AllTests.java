@@ -0,0 +1,43 @@
+/*
+ * Copyright 2026 Martin Conrad
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package de.gmxhome.conrad.jpos.jpos_base;
+
+import de.gmxhome.conrad.jpos.jpos_base.posprinter.*;
+
+/**
+ * Runs all framework tests in one JVM, see Checker.
+ */
+public class AllTests {
+    /**
+     * Runs all tests and exits.
+     * @param args Not used.
+     * @throws Exception If a test cannot be performed.
+     */
+    public static void main(String[] args) throws Exception {
+        JposEventListTest.run();
+        FrameReaderTest.run();
+        PendingRequestListTest.run();
+        RequestPipelineTest.run();
+        IOReactorTest.run();
+        WriteCombiningTest.run();
+        OutputDataPartsTest.run();
+        RasterBitmapTest.run();
+        TransactionPrintTest.run();
+        Checker.exit();
+    }
+}
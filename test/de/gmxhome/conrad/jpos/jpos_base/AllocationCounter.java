@@ -0,0 +1,54 @@
+/*
+ * Copyright 2026 Martin Conrad
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package de.gmxhome.conrad.jpos.jpos_base;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * Allocation measurement for benchmarks. Uses the thread allocation counter of the HotSpot JVM. Counts all objects
+ * allocated by the current thread, including objects allocated by the JVM on behalf of the thread.
+ */
+public final class AllocationCounter {
+    private static final com.sun.management.ThreadMXBean Bean =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private AllocationCounter() {}
+
+    /**
+     * Retrieves the number of bytes allocated by the current thread so far.
+     * @return Allocated bytes, -1 if allocation measurement is not supported.
+     */
+    public static long allocatedBytes() {
+        return Bean.isThreadAllocatedMemorySupported() ? Bean.getThreadAllocatedBytes(Thread.currentThread().getId()) : -1;
+    }
+
+    /**
+     * Retrieves the number of bytes allocated by all live threads so far. Use it for operations that allocate in
+     * helper threads, e.g. reader threads of IO processors. Threads that terminate between two calls falsify the
+     * difference.
+     * @return Allocated bytes, -1 if allocation measurement is not supported.
+     */
+    public static long allocatedBytesOfAllThreads() {
+        if (!Bean.isThreadAllocatedMemorySupported())
+            return -1;
+        long sum = 0;
+        for (long bytes : Bean.getThreadAllocatedBytes(Bean.getAllThreadIds()))
+            sum += Math.max(bytes, 0);
+        return sum;
+    }
+}
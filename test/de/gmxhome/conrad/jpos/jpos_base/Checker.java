@@ -0,0 +1,49 @@
+/*
+ * Copyright 2026 Martin Conrad
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package de.gmxhome.conrad.jpos.jpos_base;
+
+/**
+ * Result handling of the framework tests. The tests need no test framework: Each test class has a static method run
+ * that performs its checks via method check and a main method that calls run and exit. The tests can be started via
+ * the main method of a test class or of AllTests, with the framework classes, the test classes and the JavaPOS jars in
+ * the class path. The exit code is 1 if a check failed, otherwise 0.
+ */
+public final class Checker {
+    private static int Failures = 0;
+
+    private Checker() {}
+
+    /**
+     * Prints the result of a check and counts failed checks.
+     * @param ok   Result of the check.
+     * @param what Description of the check.
+     */
+    public static synchronized void check(boolean ok, String what) {
+        System.out.println((ok ? "OK:     " : "FAILED: ") + what);
+        if (!ok)
+            Failures++;
+    }
+
+    /**
+     * Prints the number of failed checks and terminates the JVM.
+     */
+    public static synchronized void exit() {
+        System.out.println(Failures == 0 ? "All tests passed" : Failures + " test(s) failed");
+        System.exit(Failures == 0 ? 0 : 1);
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2026 Martin Conrad
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package de.gmxhome.conrad.jpos.jpos_base;
+
+import jpos.JposException;
+
+import java.util.Arrays;
+
+/**
+ * Stand-in for an IO processor that delivers data in chunks, as a serial port or a socket delivers data received in
+ * separate transfers. Method read returns data of the current chunk only and proceeds to the next chunk when the
+ * current chunk has been consumed. Method available returns the number of remaining bytes of the current chunk. When
+ * all chunks have been consumed, read returns 0 as after a timeout. Nothing will be logged.
+ */
+class ChunkedIOProcessor extends UniqueIOProcessor {
+    private static final byte[] Empty = new byte[0];
+    private byte[][] Chunks = new byte[0][];
+    private int Next = 0;
+    private byte[] Current = Empty;
+    private int Offset = 0;
+
+    ChunkedIOProcessor() throws JposException {
+        super(null, "Chunked");
+    }
+
+    /**
+     * Replaces all data not yet read by the given chunks.
+     * @param chunks Chunks to be delivered, none of them must be empty.
+     */
+    void feed(byte[]... chunks) {
+        Chunks = chunks;
+        Next = Offset = 0;
+        Current = Empty;
+    }
+
+    /**
+     * Splits data into chunks.
+     * @param data Data to be split.
+     * @param size Chunk size. The last chunk may be shorter.
+     * @return The chunks.
+     */
+    static byte[][] split(byte[] data, int size) {
+        byte[][] chunks = new byte[(data.length + size - 1) / size][];
+        for (int i = 0; i < chunks.length; i++)
+            chunks[i] = Arrays.copyOfRange(data, i * size, Math.min(data.length, (i + 1) * size));
+        return chunks;
+    }
+
+    @Override
+    public int available() {
+        return Current.length - Offset;
+    }
+
+    @Override
+    public int read(byte[] buffer, int offset, int count) {
+        if (Offset == Current.length) {
+            if (Next == Chunks.length)
+                return 0;
+            Current = Chunks[Next++];
+            Offset = 0;
+        }
+        int len = Math.min(count, Current.length - Offset);
+        System.arraycopy(Current, Offset, buffer, offset, len);
+        Offset += len;
+        return len;
+    }
+}
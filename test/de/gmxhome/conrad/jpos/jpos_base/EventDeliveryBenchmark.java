@@ -0,0 +1,143 @@
+/*
+ * Copyright 2026 Martin Conrad
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package de.gmxhome.conrad.jpos.jpos_base;
+
+import de.gmxhome.conrad.jpos.jpos_base.posprinter.*;
+import jpos.BaseControl;
+import jpos.events.*;
+import jpos.services.EventCallbacks;
+
+import java.util.Arrays;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import static de.gmxhome.conrad.jpos.jpos_base.Checker.check;
+import static jpos.JposConst.*;
+
+/**
+ * Benchmark for event delivery in all values of EventDeliveryMode. Passes output complete events to handleEvent of
+ * the device and measures the time until the application callback has been invoked. In burst mode, 20000 events will
+ * be passed as fast as possible, the event processor delivers them in one run while the list is not empty. In single
+ * mode, 2000 events will be passed one by one, each after the previous one has been delivered, thus each event
+ * starts a new event processor. The benchmark prints events per second and the median and 99th percentile of the
+ * delivery latency for each mode. Each measurement will be preceded by a warm-up run.<br>
+ * Can be started via its main method, see Checker.
+ */
+public class EventDeliveryBenchmark {
+    private static final int BurstEvents = 20000;
+    private static final int SingleEvents = 2000;
+    private static final String[] Modes = {"Thread", "DevicePool", "SharedPool", "Virtual"};
+
+    /**
+     * Application callbacks that store the delivery latency of each event. The OutputID of an event is the index of
+     * its start time.
+     */
+    private static class Callbacks implements EventCallbacks {
+        final Semaphore Delivered = new Semaphore(0);
+        long[] Started;
+        long[] Latencies;
+
+        void reset(int count) {
+            Started = new long[count];
+            Latencies = new long[count];
+        }
+
+        @Override
+        public void fireOutputCompleteEvent(OutputCompleteEvent event) {
+            int id = event.getOutputID();
+            Latencies[id] = System.nanoTime() - Started[id];
+            Delivered.release();
+        }
+
+        @Override
+        public void fireDataEvent(DataEvent event) {}
+
+        @Override
+        public void fireDirectIOEvent(DirectIOEvent event) {}
+
+        @Override
+        public void fireErrorEvent(ErrorEvent event) {}
+
+        @Override
+        public void fireStatusUpdateEvent(StatusUpdateEvent event) {}
+
+        @Override
+        public BaseControl getEventSource() {
+            return null;
+        }
+    }
+
+    // Passes count events to the device. If single is true, waits for the delivery of each event before the next
+    // event will be passed, otherwise waits for the delivery of all events at the end. Returns events per second.
+    private static double deliver(POSPrinterProperties props, Callbacks callbacks, int count, boolean single)
+            throws Exception {
+        callbacks.reset(count);
+        long start = System.nanoTime();
+        for (int i = 0; i < count; i++) {
+            callbacks.Started[i] = System.nanoTime();
+            props.Device.handleEvent(new JposOutputCompleteEvent(props.EventSource, i));
+            if (single && !callbacks.Delivered.tryAcquire(1000, TimeUnit.MILLISECONDS))
+                return 0;
+        }
+        if (!single && !callbacks.Delivered.tryAcquire(count, 10000, TimeUnit.MILLISECONDS))
+            return 0;
+        return count * 1e9 / (System.nanoTime() - start);
+    }
+
+    private static void benchmark(int mode) throws Exception {
+        JposDevice device = new JposDevice("EventDeliveryBenchmark" + Modes[mode]) {};
+        device.EventDeliveryMode = mode;
+        POSPrinterProperties props = new POSPrinterProperties(0);
+        props.Device = device;
+        props.LogicalName = "Printer";
+        props.EventSource = new POSPrinterService(props, device);
+        props.State = JPOS_S_IDLE;
+        props.DeviceEnabled = true;
+        Callbacks callbacks = new Callbacks();
+        props.EventCB = callbacks;
+        for (boolean single : new boolean[]{false, true}) {
+            int count = single ? SingleEvents : BurstEvents;
+            deliver(props, callbacks, count, single);
+            double rate = deliver(props, callbacks, count, single);
+            check(rate > 0, Modes[mode] + (single ? ", single" : ", burst") + ": All events delivered");
+            long[] latencies = callbacks.Latencies.clone();
+            Arrays.sort(latencies);
+            System.out.printf("%s, %s: %.0f events/s, latency median %.1f us, p99 %.1f us%n", Modes[mode],
+                    single ? "single" : "burst", rate, latencies[count / 2] / 1e3, latencies[count * 99 / 100] / 1e3);
+        }
+    }
+
+    /**
+     * Runs the benchmark.
+     * @throws Exception If the benchmark cannot be performed.
+     */
+    public static void run() throws Exception {
+        for (int mode = 0; mode < Modes.length; mode++)
+            benchmark(mode);
+    }
+
+    /**
+     * Runs the benchmark and exits, see Checker.
+     * @param args Not used.
+     * @throws Exception If the benchmark cannot be performed.
+     */
+    public static void main(String[] args) throws Exception {
+        run();
+        Checker.exit();
+    }
+}
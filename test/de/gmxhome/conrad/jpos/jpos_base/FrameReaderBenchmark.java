@@ -0,0 +1,106 @@
+/*
+ * Copyright 2026 Martin Conrad
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package de.gmxhome.conrad.jpos.jpos_base;
+
+import java.util.Arrays;
+
+import static de.gmxhome.conrad.jpos.jpos_base.Checker.check;
+
+/**
+ * Throughput benchmark for FrameReader. Feeds 1000 frames with 64 bytes payload through a ChunkedIOProcessor in chunks
+ * of 14 bytes, the receive trigger level of a 16550 UART, and reads them with a Delimited reader with block check
+ * character and a LengthPrefixed reader with sum. Each format will be warmed up, then measured in five rounds of 200
+ * milliseconds. The benchmark prints the median throughput, as multiple of the 11520 bytes per second of a serial
+ * line with 115200 baud, 8 data bits and 1 stop bit, and the bytes allocated per frame.<br>
+ * Can be started via its main method, see Checker.
+ */
+public class FrameReaderBenchmark {
+    private static final int Frames = 1000;
+    private static final int ChunkSize = 14;
+    private static final double BytesPerSecond = 115200 / 10.0;
+    private static final int Rounds = 5;
+    private static final long RoundTime = 200000000L;
+
+    // Reads all frames of data in rounds of RoundTime nanoseconds and returns the median number of bytes per second.
+    private static double measure(ChunkedIOProcessor io, FrameReader reader, byte[][] chunks, int length)
+            throws Exception {
+        for (long end = System.nanoTime() + RoundTime; System.nanoTime() < end; )
+            readAll(io, reader, chunks);
+        double[] rates = new double[Rounds];
+        for (int i = 0; i < Rounds; i++) {
+            int count = 0;
+            long start = System.nanoTime();
+            long now;
+            do {
+                readAll(io, reader, chunks);
+                count++;
+            } while ((now = System.nanoTime()) - start < RoundTime);
+            rates[i] = (double) count * length * 1e9 / (now - start);
+        }
+        Arrays.sort(rates);
+        return rates[Rounds / 2];
+    }
+
+    private static int readAll(ChunkedIOProcessor io, FrameReader reader, byte[][] chunks) throws Exception {
+        io.feed(chunks);
+        int frames = 0;
+        while (reader.readFrame(100, 10) != null)
+            frames++;
+        return frames;
+    }
+
+    private static void benchmark(String format, FrameReader reader, ChunkedIOProcessor io, byte[] frame)
+            throws Exception {
+        byte[] data = new byte[frame.length * Frames];
+        for (int i = 0; i < Frames; i++)
+            System.arraycopy(frame, 0, data, i * frame.length, frame.length);
+        byte[][] chunks = ChunkedIOProcessor.split(data, ChunkSize);
+        check(readAll(io, reader, chunks) == Frames, format + ": All frames read");
+        double rate = measure(io, reader, chunks, data.length);
+        long before = AllocationCounter.allocatedBytes();
+        readAll(io, reader, chunks);
+        long allocated = AllocationCounter.allocatedBytes() - before;
+        System.out.printf("%s: %.1f MB/s, %.0f times 115200 baud, %d bytes allocated per %d byte frame%n", format,
+                rate / 1e6, rate / BytesPerSecond, allocated / Frames, frame.length);
+    }
+
+    /**
+     * Runs the benchmark.
+     * @throws Exception If the benchmark cannot be performed.
+     */
+    public static void run() throws Exception {
+        char[] payload = new char[64];
+        for (int i = 0; i < payload.length; i++)
+            payload[i] = (char) ('0' + i % 64);
+        ChunkedIOProcessor io = new ChunkedIOProcessor();
+        benchmark("Delimited", new FrameReader.Delimited(io, 2, (byte) 3, 1, new FrameReader.Xor()), io,
+                FrameReaderTest.delimitedFrame(new String(payload)));
+        benchmark("LengthPrefixed", new FrameReader.LengthPrefixed(io, 1, 2, true, 4, 1, new FrameReader.Sum()), io,
+                FrameReaderTest.lengthPrefixedFrame(new String(payload)));
+    }
+
+    /**
+     * Runs the benchmark and exits, see Checker.
+     * @param args Not used.
+     * @throws Exception If the benchmark cannot be performed.
+     */
+    public static void main(String[] args) throws Exception {
+        run();
+        Checker.exit();
+    }
+}
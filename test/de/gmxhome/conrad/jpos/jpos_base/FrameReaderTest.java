@@ -0,0 +1,195 @@
+/*
+ * Copyright 2026 Martin Conrad
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package de.gmxhome.conrad.jpos.jpos_base;
+
+import jpos.JposException;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static de.gmxhome.conrad.jpos.jpos_base.Checker.check;
+
+/**
+ * Test for FrameReader. Feeds frames in chunks of all sizes through a ChunkedIOProcessor and checks for both frame
+ * formats that frames split across chunks will be reassembled, bytes following a frame will be kept for the next
+ * frame and the checksum calculated incrementally over the chunks matches the checksum of the whole frame. In
+ * addition, it checks start byte resynchronization, the handling of invalid and too long frames and method split.
+ */
+public class FrameReaderTest {
+    private static final byte STX = 2;
+    private static final byte ETX = 3;
+
+    private static byte[] concat(byte[]... parts) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (byte[] part : parts)
+            out.write(part, 0, part.length);
+        return out.toByteArray();
+    }
+
+    private static byte[] bytes(String text) {
+        return text.getBytes(StandardCharsets.ISO_8859_1);
+    }
+
+    // STX payload ETX BCC, with BCC the exclusive or of STX and payload.
+    static byte[] delimitedFrame(String payload) {
+        byte[] frame = bytes("\2" + payload + "\3 ");
+        int bcc = 0;
+        for (int i = 0; i < frame.length - 2; i++)
+            bcc ^= frame[i];
+        frame[frame.length - 1] = (byte) bcc;
+        return frame;
+    }
+
+    // 'L', payload length in two bytes, big endian, payload and the lower byte of the sum of all preceding bytes.
+    static byte[] lengthPrefixedFrame(String payload) {
+        byte[] frame = bytes("L  " + payload + " ");
+        frame[1] = (byte) (payload.length() >> 8);
+        frame[2] = (byte) payload.length();
+        int sum = 0;
+        for (int i = 0; i < frame.length - 1; i++)
+            sum += frame[i] & 0xff;
+        frame[frame.length - 1] = (byte) sum;
+        return frame;
+    }
+
+    // Checksum expected for frame: Exclusive or or sum of the first length bytes.
+    private static long expected(byte[] frame, int length, boolean xor) {
+        long value = 0;
+        for (int i = 0; i < length; i++)
+            value = xor ? value ^ (frame[i] & 0xff) : value + (frame[i] & 0xff);
+        return value;
+    }
+
+    // Feeds both frames in chunks of all sizes and checks frames and checksums. checked is the number of bytes at the
+    // end of a frame not covered by the checksum.
+    private static boolean chunked(ChunkedIOProcessor io, FrameReader reader, byte[] frame1, byte[] frame2,
+                                   int checked, boolean xor) throws JposException {
+        byte[] data = concat(frame1, frame2);
+        for (int size = 1; size <= data.length; size++) {
+            io.feed(ChunkedIOProcessor.split(data, size));
+            for (byte[] frame : new byte[][]{frame1, frame2}) {
+                if (!Arrays.equals(reader.readFrame(100, 10), frame) ||
+                        reader.getChecksum().getValue() != expected(frame, frame.length - checked, xor))
+                    return false;
+            }
+            if (reader.readFrame(100, 10) != null)
+                return false;
+        }
+        return true;
+    }
+
+    private static void delimited() throws Exception {
+        ChunkedIOProcessor io = new ChunkedIOProcessor();
+        FrameReader reader = new FrameReader.Delimited(io, STX, ETX, 1, new FrameReader.Xor());
+        byte[] frame1 = delimitedFrame("Hello"), frame2 = delimitedFrame("World");
+        check(chunked(io, reader, frame1, frame2, 2, true), "Delimited: Frames and checksums from chunks of any size");
+        io.feed(concat(frame1, Arrays.copyOf(frame2, 3)));
+        check(Arrays.equals(reader.readFrame(100, 10), frame1) && reader.readFrame(100, 10) == null,
+                "Delimited: Incomplete frame after complete frame discarded on timeout");
+        io.feed(Arrays.copyOfRange(frame2, 3, frame2.length), bytes("xyz"), frame1);
+        check(Arrays.equals(reader.readFrame(100, 10), frame1) &&
+                reader.getChecksum().getValue() == expected(frame1, frame1.length - 2, true),
+                "Delimited: Bytes before start byte discarded");
+        io.feed(concat(bytes("\3 garbage"), frame2, bytes("\2Next")));
+        check(Arrays.equals(reader.readFrame(100, 10), frame2), "Delimited: End byte before start byte ignored");
+        io.feed(bytes(" Frame\3X"));
+        check(Arrays.equals(reader.readFrame(100, 10), bytes("\2Next Frame\3X")),
+                "Delimited: Bytes after frame used as start of next frame");
+        reader.MaxFrameLength = 8;
+        io.feed(bytes("\2Much too long"));
+        try {
+            reader.readFrame(100, 10);
+            check(false, "Delimited: Too long frame rejected");
+        } catch (JposException e) {
+            check(true, "Delimited: Too long frame rejected");
+        }
+        reader.MaxFrameLength = 0x10000;
+        io.feed(frame1);
+        check(Arrays.equals(reader.readFrame(100, 10), frame1), "Delimited: Buffer cleared after too long frame");
+        FrameReader lines = new FrameReader.Delimited(io, -1, (byte) '\n', 0, null);
+        io.feed(bytes("ab"), bytes("c\nde"), bytes("f\n"));
+        check(Arrays.equals(lines.readFrame(100, 10), bytes("abc\n")) &&
+                Arrays.equals(lines.readFrame(100, 10), bytes("def\n")) && lines.getChecksum() == null,
+                "Delimited: Frames without start byte and checksum");
+    }
+
+    private static void lengthPrefixed() throws Exception {
+        ChunkedIOProcessor io = new ChunkedIOProcessor();
+        FrameReader reader = new FrameReader.LengthPrefixed(io, 1, 2, true, 4, 1, new FrameReader.Sum());
+        byte[] frame1 = lengthPrefixedFrame("Hello"), frame2 = lengthPrefixedFrame("");
+        check(chunked(io, reader, frame1, frame2, 1, false),
+                "LengthPrefixed: Frames and checksums from chunks of any size");
+        char[] payload = new char[300];
+        Arrays.fill(payload, '\377');
+        byte[] frame3 = lengthPrefixedFrame(new String(payload));
+        check(chunked(io, reader, frame3, frame1, 1, false), "LengthPrefixed: Frame longer than 256 bytes");
+        io.feed(concat(frame1, Arrays.copyOf(frame1, 4)));
+        check(Arrays.equals(reader.readFrame(100, 10), frame1) && reader.readFrame(100, 10) == null,
+                "LengthPrefixed: Incomplete frame after complete frame discarded on timeout");
+        io.feed(bytes("L\377\377payload"));
+        try {
+            reader.readFrame(100, 10);
+            check(false, "LengthPrefixed: Frame length above MaxFrameLength rejected");
+        } catch (JposException e) {
+            check(true, "LengthPrefixed: Frame length above MaxFrameLength rejected");
+        }
+        FrameReader noadjust = new FrameReader.LengthPrefixed(io, 1, 2, true, 0, 1, null);
+        io.feed(bytes("L\0\2xyz"));
+        try {
+            noadjust.readFrame(100, 10);
+            check(false, "LengthPrefixed: Frame length shorter than header rejected");
+        } catch (JposException e) {
+            check(true, "LengthPrefixed: Frame length shorter than header rejected");
+        }
+        io.feed(frame2, frame1);
+        check(Arrays.equals(reader.readFrame(100, 10), frame2) && Arrays.equals(reader.readFrame(100, 10), frame1),
+                "LengthPrefixed: Buffer cleared after invalid frame length");
+        FrameReader little = new FrameReader.LengthPrefixed(io, 0, 2, false, 2, 0, new FrameReader.Sum());
+        io.feed(bytes("\3"), bytes("\0ab"), bytes("c\1\0d"));
+        check(Arrays.equals(little.readFrame(100, 10), bytes("\3\0abc")) &&
+                Arrays.equals(little.readFrame(100, 10), bytes("\1\0d")) && little.getChecksum().getValue() == 1 + 'd',
+                "LengthPrefixed: Little endian length field");
+    }
+
+    private static void split() {
+        byte[] frame = bytes("a\27bc\27\27\3X");
+        String[] fields = FrameReader.split(frame, frame.length - 2, (byte) 027, StandardCharsets.US_ASCII);
+        check(Arrays.equals(fields, new String[]{"a", "bc", "", ""}), "split keeps empty fields");
+    }
+
+    /**
+     * Runs all tests of this class.
+     * @throws Exception If a test cannot be performed.
+     */
+    public static void run() throws Exception {
+        delimited();
+        lengthPrefixed();
+        split();
+    }
+
+    /**
+     * Runs all tests of this class and exits, see Checker.
+     * @param args Not used.
+     * @throws Exception If a test cannot be performed.
+     */
+    public static void main(String[] args) throws Exception {
+        run();
+        Checker.exit();
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2026 Martin Conrad
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package de.gmxhome.conrad.jpos.jpos_base;
+
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.DatagramChannel;
+
+import static de.gmxhome.conrad.jpos.jpos_base.Checker.check;
+
+/**
+ * Scale test for the shared IOReactor with 200 UDP devices on loopback, each with its own UdpIOProcessor. One sender
+ * sends 50 datagrams to each device, interleaved across all devices. The test checks that all processors use the
+ * shared reactor thread instead of reader threads of their own, that each processor receives its own datagrams in
+ * order without drops, and that the remaining processors keep receiving after half of them have been closed. It prints
+ * the number of datagrams per second the reactor delivered to all devices.<br>
+ * Can be started via its main method, see Checker.
+ */
+public class IOReactorTest {
+    private static final int Devices = 200;
+    private static final int Datagrams = 50;
+
+    private static int threads(String suffix) {
+        int count = 0;
+        for (Thread thread : Thread.getAllStackTraces().keySet()) {
+            if (thread.isAlive() && thread.getName().endsWith(suffix))
+                count++;
+        }
+        return count;
+    }
+
+    // Sends Datagrams datagrams to every step-th processor, starting at processor first, interleaved across processors.
+    private static void send(DatagramChannel sender, UdpIOProcessor[] processors, int first, int step)
+            throws Exception {
+        for (int j = 0; j < Datagrams; j++) {
+            for (int i = first; i < processors.length; i += step) {
+                int port = processors[i].Socket.socket().getLocalPort();
+                sender.send(ByteBuffer.wrap((i + ":" + j).getBytes()), new InetSocketAddress("127.0.0.1", port));
+            }
+        }
+    }
+
+    // Reads the datagrams sent via send and checks their contents.
+    private static boolean receive(UdpIOProcessor[] processors, int first, int step) throws Exception {
+        for (int i = first; i < processors.length; i += step) {
+            for (int j = 0; j < Datagrams; j++) {
+                if (!new String(processors[i].read(100)).equals(i + ":" + j))
+                    return false;
+            }
+            if (processors[i].getDroppedFrames() != 0)
+                return false;
+        }
+        return true;
+    }
+
+    /**
+     * Runs all tests of this class.
+     * @throws Exception If a test cannot be performed.
+     */
+    public static void run() throws Exception {
+        UdpIOProcessor[] processors = new UdpIOProcessor[Devices];
+        for (int i = 0; i < Devices; i++) {
+            JposDevice device = new JposDevice("IOReactorTest" + i) {};
+            device.SharedIOReactor = true;
+            processors[i] = new UdpIOProcessor(device, 0);
+            processors[i].setTimeout(1000);
+            processors[i].open(false);
+        }
+        check(threads(" Reader") == 0 && threads("SharedIOReactor") == 1,
+                Devices + " processors served by one reactor thread");
+        try (DatagramChannel sender = DatagramChannel.open()) {
+            long start = System.nanoTime();
+            send(sender, processors, 0, 1);
+            boolean ok = receive(processors, 0, 1);
+            double rate = (double) Devices * Datagrams * 1e9 / (System.nanoTime() - start);
+            check(ok, "All datagrams received in order by the addressed processor");
+            System.out.printf("%d devices: %.0f datagrams/s%n", Devices, rate);
+            for (int i = 0; i < Devices; i += 2)
+                processors[i].close();
+            send(sender, processors, 1, 2);
+            check(receive(processors, 1, 2),
+                    "Remaining processors keep receiving after half of the processors have been closed");
+        }
+        for (int i = 1; i < Devices; i += 2)
+            processors[i].close();
+    }
+
+    /**
+     * Runs all tests of this class and exits, see Checker.
+     * @param args Not used.
+     * @throws Exception If a test cannot be performed.
+     */
+    public static void main(String[] args) throws Exception {
+        run();
+        Checker.exit();
+    }
+}
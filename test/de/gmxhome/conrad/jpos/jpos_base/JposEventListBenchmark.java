@@ -0,0 +1,102 @@
+/*
+ * Copyright 2026 Martin Conrad
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package de.gmxhome.conrad.jpos.jpos_base;
+
+import jpos.events.JposEvent;
+import jpos.events.StatusUpdateEvent;
+
+import java.util.Arrays;
+
+import static de.gmxhome.conrad.jpos.jpos_base.Checker.check;
+
+/**
+ * Benchmark for JposEventList with 50000 buffered data events behind 10000 status events, as after a long time with
+ * DataEventEnabled false and frozen events. Measures indexOfDataEvent, the insertion of an event in front of the first
+ * data event and its removal, as performed by JposDevice method handleEvent for input error events and by the event
+ * delivery, and appending and removing a data event at the end. Each operation will be warmed up, then measured in
+ * five rounds of 200 milliseconds. The benchmark prints the median rate and checks that the list contents did not
+ * change.<br>
+ * Can be started via its main method, see Checker.
+ */
+public class JposEventListBenchmark {
+    private static final int StatusEvents = 10000;
+    private static final int DataEvents = 50000;
+    private static final int Rounds = 5;
+    private static final long RoundTime = 200000000L;
+    private static final JposBase Source = new JposBase(null, null);
+
+    private interface Operation {
+        void run();
+    }
+
+    // Performs the operation in rounds of RoundTime nanoseconds and returns the median rate per second.
+    private static double measure(Operation operation) {
+        for (long end = System.nanoTime() + RoundTime; System.nanoTime() < end; )
+            operation.run();
+        double[] rates = new double[Rounds];
+        for (int i = 0; i < Rounds; i++) {
+            int count = 0;
+            long start = System.nanoTime();
+            long now;
+            do {
+                operation.run();
+                count++;
+            } while ((now = System.nanoTime()) - start < RoundTime);
+            rates[i] = count * 1e9 / (now - start);
+        }
+        Arrays.sort(rates);
+        return rates[Rounds / 2];
+    }
+
+    /**
+     * Runs the benchmark.
+     */
+    public static void run() {
+        JposEventList list = new JposEventList();
+        for (int i = 0; i < StatusEvents; i++)
+            list.add(new StatusUpdateEvent(Source, i));
+        for (int i = 0; i < DataEvents; i++)
+            list.add(new JposDataEvent(Source, i));
+        JposEvent event = new StatusUpdateEvent(Source, 0);
+        JposEvent data = new JposDataEvent(Source, 0);
+        int[] found = {0};
+        double index = measure(() -> found[0] += list.indexOfDataEvent());
+        double insert = measure(() -> {
+            int i = list.indexOfDataEvent();
+            list.add(i, event);
+            list.remove(i);
+        });
+        double append = measure(() -> {
+            list.add(data);
+            list.remove(list.size() - 1);
+        });
+        System.out.printf("indexOfDataEvent: %.0f/s, insert before first data event: %.0f/s, " +
+                "append data event: %.0f/s%n", index, insert, append);
+        check(list.size() == StatusEvents + DataEvents && list.indexOfDataEvent() == StatusEvents &&
+                list.dataEventCount() == DataEvents, "Data event index unchanged after benchmark");
+    }
+
+    /**
+     * Runs the benchmark and exits, see Checker.
+     * @param args Not used.
+     */
+    public static void main(String[] args) {
+        run();
+        Checker.exit();
+    }
+}
@@ -0,0 +1,211 @@
+/*
+ * Copyright 2026 Martin Conrad
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package de.gmxhome.conrad.jpos.jpos_base;
+
+import jpos.events.JposEvent;
+import jpos.events.StatusUpdateEvent;
+
+import java.util.*;
+
+import static de.gmxhome.conrad.jpos.jpos_base.Checker.check;
+
+/**
+ * Test for JposEventList. Compares the list with an ArrayList holding the same events, with special attention to
+ * operations that move the head of the circular array across the end of the array, and checks the data event
+ * counting used by indexOfDataEvent and dataEventCount.
+ */
+public class JposEventListTest {
+    private static final JposBase Source = new JposBase(null, null);
+    private static int Number = 0;
+
+    private static JposEvent dataEvent() {
+        return new JposDataEvent(Source, ++Number);
+    }
+
+    private static JposEvent statusEvent() {
+        return new StatusUpdateEvent(Source, ++Number);
+    }
+
+    // Checks contents and data event counting of list against the expected contents.
+    private static boolean same(JposEventList list, List<JposEvent> expected) {
+        int first = -1, count = 0;
+        for (int i = 0; i < expected.size(); i++) {
+            if (expected.get(i) instanceof JposDataEvent) {
+                if (count++ == 0)
+                    first = i;
+            }
+        }
+        if (list.size() != expected.size() || list.indexOfDataEvent() != first || list.dataEventCount() != count)
+            return false;
+        for (int i = 0; i < expected.size(); i++) {
+            if (list.get(i) != expected.get(i))
+                return false;
+        }
+        return list.equals(expected);
+    }
+
+    private static void bothEnds() {
+        JposEventList list = new JposEventList();
+        List<JposEvent> expected = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            JposEvent event = i % 3 == 0 ? dataEvent() : statusEvent();
+            list.add(event);
+            expected.add(event);
+        }
+        check(same(list, expected), "Append at the end");
+        boolean ok = true;
+        for (int i = 0; i < 40; i++) {
+            JposEvent event = i % 4 == 0 ? dataEvent() : statusEvent();
+            list.add(0, event);
+            expected.add(0, event);
+            ok &= list.remove(list.size() - 1) == expected.remove(expected.size() - 1) && same(list, expected);
+        }
+        check(ok, "Insert at the front and remove at the end, head moves backwards across the array start");
+        ok = true;
+        for (int i = 0; i < 40; i++) {
+            JposEvent event = i % 5 == 0 ? dataEvent() : statusEvent();
+            list.add(event);
+            expected.add(event);
+            ok &= list.remove(0) == expected.remove(0) && same(list, expected);
+        }
+        check(ok, "Append at the end and remove at the front, head moves forward across the array end");
+        for (int i = 0; i < 13; i++) {
+            list.add(list.remove(0));
+            expected.add(expected.remove(0));
+        }
+        for (int i = 0; i < 30; i++) {
+            JposEvent event = i % 2 == 0 ? dataEvent() : statusEvent();
+            list.add(i % 3 == 0 ? 0 : list.size(), event);
+            expected.add(i % 3 == 0 ? 0 : expected.size(), event);
+        }
+        check(same(list, expected), "Array grows while the head is wrapped");
+        while (!expected.isEmpty()) {
+            ok &= list.remove(0) == expected.remove(0) && same(list, expected);
+            if (!expected.isEmpty())
+                ok &= list.remove(list.size() - 1) == expected.remove(expected.size() - 1) && same(list, expected);
+        }
+        check(ok && list.isEmpty() && list.indexOfDataEvent() == -1 && list.dataEventCount() == 0, "Remove at both ends until empty");
+    }
+
+    private static void middle() {
+        JposEventList list = new JposEventList();
+        List<JposEvent> expected = new ArrayList<>();
+        for (int i = 0; i < 12; i++) {
+            list.add(statusEvent());
+            list.remove(0);
+        }
+        boolean ok = true;
+        for (int i = 0; i < 20; i++) {
+            JposEvent event = i % 3 == 0 ? dataEvent() : statusEvent();
+            int index = expected.size() * (i % 4) / 3;
+            list.add(index, event);
+            expected.add(index, event);
+            ok &= same(list, expected);
+        }
+        check(ok, "Insert in the front and in the back half across the wrap-around point");
+        ok = true;
+        for (int i = 0; expected.size() > 2; i++) {
+            int index = i % 2 == 0 ? 1 : expected.size() - 2;
+            ok &= list.remove(index) == expected.remove(index) && same(list, expected);
+        }
+        check(ok, "Remove in the front and in the back half across the wrap-around point");
+        JposEvent data = dataEvent(), status = statusEvent();
+        JposEvent old = list.set(0, data);
+        expected.set(0, data);
+        ok = same(list, expected);
+        list.set(0, status);
+        expected.set(0, status);
+        check(ok && same(list, expected) && old != null, "Set updates data event count");
+        try {
+            list.get(list.size());
+            check(false, "Index out of range rejected");
+        } catch (IndexOutOfBoundsException e) {
+            check(true, "Index out of range rejected");
+        }
+    }
+
+    private static void removeIf() {
+        JposEventList list = new JposEventList();
+        List<JposEvent> expected = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            list.add(statusEvent());
+            list.remove(0);
+        }
+        for (int i = 0; i < 14; i++) {
+            JposEvent event = i % 2 == 0 ? dataEvent() : statusEvent();
+            list.add(event);
+            expected.add(event);
+        }
+        check(!list.removeIf(e -> false) && same(list, expected), "removeIf without match");
+        check(list.removeIf(e -> e instanceof JposDataEvent) && expected.removeIf(e -> e instanceof JposDataEvent) && same(list, expected), "removeIf removes data events across the wrap-around point");
+        for (int i = 0; i < 20; i++) {
+            JposEvent event = i % 3 == 0 ? dataEvent() : statusEvent();
+            list.add(event);
+            expected.add(event);
+        }
+        check(list.removeIf(e -> !(e instanceof JposDataEvent)) && expected.removeIf(e -> !(e instanceof JposDataEvent)) && same(list, expected), "removeIf keeps data events only");
+        check(list.removeIf(e -> true) && list.isEmpty() && list.dataEventCount() == 0 && list.indexOfDataEvent() == -1, "removeIf removes all events");
+        list.add(dataEvent());
+        list.clear();
+        check(list.isEmpty() && list.dataEventCount() == 0 && list.indexOfDataEvent() == -1, "clear resets data event count");
+    }
+
+    private static void random() {
+        Random random = new Random(4711);
+        JposEventList list = new JposEventList();
+        List<JposEvent> expected = new ArrayList<>();
+        boolean ok = true;
+        for (int i = 0; i < 20000 && ok; i++) {
+            int op = random.nextInt(10);
+            if (op < 5 || expected.isEmpty()) {
+                JposEvent event = random.nextInt(3) == 0 ? dataEvent() : statusEvent();
+                int index = op % 2 == 0 ? expected.size() : (op == 1 ? 0 : random.nextInt(expected.size() + 1));
+                list.add(index, event);
+                expected.add(index, event);
+            } else if (op < 9) {
+                int index = op == 5 ? 0 : (op == 6 ? expected.size() - 1 : random.nextInt(expected.size()));
+                ok = list.remove(index) == expected.remove(index);
+            } else {
+                int modulus = 2 + random.nextInt(5);
+                list.removeIf(e -> e.getSequenceNumber() % modulus == 0);
+                expected.removeIf(e -> e.getSequenceNumber() % modulus == 0);
+            }
+            ok &= same(list, expected);
+        }
+        check(ok, "Random operations give the same result as ArrayList");
+    }
+
+    /**
+     * Runs all tests of this class.
+     */
+    public static void run() {
+        bothEnds();
+        middle();
+        removeIf();
+        random();
+    }
+
+    /**
+     * Runs all tests of this class and exits, see Checker.
+     * @param args Not used.
+     */
+    public static void main(String[] args) {
+        run();
+        Checker.exit();
+    }
+}
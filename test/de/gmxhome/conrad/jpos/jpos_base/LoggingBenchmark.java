@@ -0,0 +1,121 @@
+/*
+ * Copyright 2026 Martin Conrad
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package de.gmxhome.conrad.jpos.jpos_base;
+
+import de.gmxhome.conrad.jpos.jpos_base.posprinter.*;
+import net.bplaced.conrad.log4jpos.Level;
+
+import java.io.File;
+import java.util.Arrays;
+
+import static de.gmxhome.conrad.jpos.jpos_base.Checker.check;
+import static jpos.JposConst.*;
+import static net.bplaced.conrad.log4jpos.Level.*;
+
+/**
+ * Benchmark for logging of property getters and method calls at the logging levels OFF, INFO and TRACE. For each
+ * level, a POSPrinterService writes its log to a temporary file. The benchmark measures the rate of property reads via
+ * getCapRecBold and getCharacterSetList, which log at DEBUG level, and the rate of method call logging via logPreCall
+ * and logCall with a parameter list that contains a data buffer, as printNormal or directIO do. Each operation will be
+ * warmed up, then measured in five rounds of 200 milliseconds. The benchmark prints the median rate per level and
+ * checks that nothing has been logged at OFF and no getter has been logged at INFO.<br>
+ * Can be started via its main method, see Checker.
+ */
+public class LoggingBenchmark {
+    private static final int Rounds = 5;
+    private static final long RoundTime = 200000000L;
+
+    private interface Operation {
+        void run() throws Exception;
+    }
+
+    // Performs the operation in rounds of RoundTime nanoseconds and returns the median rate per second.
+    private static double measure(Operation operation) throws Exception {
+        for (long end = System.nanoTime() + RoundTime; System.nanoTime() < end; )
+            operation.run();
+        double[] rates = new double[Rounds];
+        for (int i = 0; i < Rounds; i++) {
+            int count = 0;
+            long start = System.nanoTime();
+            long now;
+            do {
+                operation.run();
+                count++;
+            } while ((now = System.nanoTime()) - start < RoundTime);
+            rates[i] = count * 1e9 / (now - start);
+        }
+        Arrays.sort(rates);
+        return rates[Rounds / 2];
+    }
+
+    private static void compare(Level level) throws Exception {
+        File log = File.createTempFile("LoggingBenchmark", ".log");
+        log.deleteOnExit();
+        JposDevice device = new JposDevice("LoggingBenchmark" + level) {};
+        device.LoggerName = "LoggingBenchmark" + level;
+        device.LogFilePath = log.getPath();
+        device.LogLevel = level;
+        POSPrinterProperties props = new POSPrinterProperties(0);
+        props.Device = device;
+        props.LogicalName = "Printer";
+        POSPrinterService srv = new POSPrinterService(props, device);
+        props.EventSource = srv;
+        props.State = JPOS_S_IDLE;
+        props.CharacterSetList = "437,850,858,997,998,999";
+        byte[] data = new byte[64];
+        Object[] result = {0};
+        double getters = measure(() -> {
+            srv.getCapRecBold();
+            srv.getCharacterSetList();
+        });
+        long getterLength = log.length();
+        double calls = measure(() -> {
+            srv.logPreCall("DirectIO", new Object[]{1, result, data});
+            srv.logCall("DirectIO", new Object[]{1, result, data});
+        });
+        if (device.Log != null)
+            device.Log.removeAllAppenders();
+        System.out.printf("Level %s: %.0f getter pairs/s, %.0f logged calls/s%n", level, getters, calls);
+        if (level == OFF)
+            check(log.length() == 0, "Level OFF: Nothing logged");
+        else if (level == INFO)
+            check(getterLength == 0 && log.length() > 0, "Level INFO: Calls logged, getters not logged");
+        else
+            check(getterLength > 0, "Level " + level + ": Getters logged");
+    }
+
+    /**
+     * Runs the benchmark.
+     * @throws Exception If the benchmark cannot be performed.
+     */
+    public static void run() throws Exception {
+        compare(OFF);
+        compare(INFO);
+        compare(TRACE);
+    }
+
+    /**
+     * Runs the benchmark and exits, see Checker.
+     * @param args Not used.
+     * @throws Exception If the benchmark cannot be performed.
+     */
+    public static void main(String[] args) throws Exception {
+        run();
+        Checker.exit();
+    }
+}
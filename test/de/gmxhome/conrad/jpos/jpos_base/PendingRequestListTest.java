@@ -0,0 +1,241 @@
+/*
+ * Copyright 2026 Martin Conrad
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package de.gmxhome.conrad.jpos.jpos_base;
+
+import de.gmxhome.conrad.jpos.jpos_base.posprinter.*;
+
+import java.util.*;
+
+import static de.gmxhome.conrad.jpos.jpos_base.Checker.check;
+
+/**
+ * Test for PendingRequestList. Compares the list with an ArrayList holding the same requests of three property sets
+ * and checks that the chain of each property set holds the requests of that property set in list order. Covers the
+ * list iterator, in particular insertion between requests of other property sets as performed by invokeRequestThread
+ * for immediate requests, and the per property set operations count, contains and remove.
+ */
+public class PendingRequestListTest {
+    private static final JposCommonProperties[] Props = {
+            new POSPrinterProperties(0), new POSPrinterProperties(1), new POSPrinterProperties(2)
+    };
+
+    private static JposOutputRequest request(int props) {
+        return new JposOutputRequest(Props[props]);
+    }
+
+    // Requests of props in the order of their property set chain.
+    private static List<JposOutputRequest> chain(PendingRequestList list, JposCommonProperties props) {
+        List<JposOutputRequest> requests = new ArrayList<>();
+        list.contains(props, request -> !requests.add(request));
+        return requests;
+    }
+
+    // Checks contents, order and property set chains of list against the expected contents. Access via index will
+    // be checked for some requests only to keep the check linear.
+    private static boolean same(PendingRequestList list, List<JposOutputRequest> expected) {
+        if (list.size() != expected.size() || !list.equals(expected))
+            return false;
+        for (int i = 0; i < expected.size(); i += 1 + expected.size() / 16) {
+            if (list.get(i) != expected.get(i) || !list.contains(expected.get(i)))
+                return false;
+        }
+        for (JposCommonProperties props : Props) {
+            List<JposOutputRequest> requests = new ArrayList<>();
+            for (JposOutputRequest request : expected) {
+                if (request.Props == props)
+                    requests.add(request);
+            }
+            if (list.count(props) != requests.size() || !chain(list, props).equals(requests))
+                return false;
+        }
+        return true;
+    }
+
+    private static void addAndRemove() {
+        PendingRequestList list = new PendingRequestList();
+        List<JposOutputRequest> expected = new ArrayList<>();
+        for (int i = 0; i < 12; i++) {
+            JposOutputRequest request = request(i % 3);
+            list.add(request);
+            expected.add(request);
+        }
+        check(same(list, expected), "Requests appended");
+        JposOutputRequest[] inserted = {request(0), request(2), request(1)};
+        list.add(4, inserted[0]);
+        expected.add(4, inserted[0]);
+        list.add(0, inserted[1]);
+        expected.add(0, inserted[1]);
+        list.add(list.size(), inserted[2]);
+        expected.add(inserted[2]);
+        check(same(list, expected), "Requests inserted via index");
+        check(list.remove(0) == expected.remove(0) && list.remove(5) == expected.remove(5) &&
+                list.remove(list.size() - 1) == expected.remove(expected.size() - 1), "Requests removed via index");
+        JposOutputRequest request = expected.remove(3);
+        check(list.remove(request) && !list.remove(request) && !list.contains(request) && same(list, expected),
+                "Request removed via reference");
+        try {
+            list.add(expected.get(2));
+            check(false, "Request added twice rejected");
+        } catch (IllegalArgumentException e) {
+            check(same(list, expected), "Request added twice rejected");
+        }
+        List<JposOutputRequest> removed = list.remove(Props[1], null);
+        List<JposOutputRequest> chain1 = new ArrayList<>();
+        for (Iterator<JposOutputRequest> it = expected.iterator(); it.hasNext(); ) {
+            JposOutputRequest req = it.next();
+            if (req.Props == Props[1]) {
+                chain1.add(req);
+                it.remove();
+            }
+        }
+        check(removed.equals(chain1) && same(list, expected) && list.count(Props[1]) == 0,
+                "All requests of one property set removed in list order");
+        JposOutputRequest second = chain(list, Props[0]).get(1);
+        removed = list.remove(Props[0], req -> req == second);
+        expected.remove(second);
+        check(removed.equals(Collections.singletonList(second)) && same(list, expected),
+                "Filtered request of one property set removed");
+        check(list.contains(Props[2], null) && !list.contains(Props[1], null) &&
+                !list.contains(Props[0], req -> req == second), "Requests of property set found via filter");
+        list.clear();
+        expected.clear();
+        check(same(list, expected) && list.remove(Props[0], null).isEmpty(), "List cleared");
+    }
+
+    private static void listIterator() {
+        PendingRequestList list = new PendingRequestList();
+        List<JposOutputRequest> expected = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            JposOutputRequest request = request(i % 2);
+            list.add(request);
+            expected.add(request);
+        }
+        ListIterator<JposOutputRequest> it = list.listIterator();
+        boolean ok = !it.hasPrevious() && it.nextIndex() == 0;
+        for (int i = 0; i < expected.size(); i++)
+            ok &= it.next() == expected.get(i) && it.nextIndex() == i + 1 && it.previousIndex() == i;
+        ok &= !it.hasNext();
+        for (int i = expected.size() - 1; i >= 0; --i)
+            ok &= it.previous() == expected.get(i) && it.nextIndex() == i;
+        check(ok && !it.hasPrevious(), "Iteration forward and backward");
+        it = list.listIterator(list.size());
+        check(it.previous() == expected.get(5) && list.listIterator(3).next() == expected.get(3),
+                "Iteration from given index");
+        // Insertion of a request of the third property set between requests of the others, as for immediate requests
+        it = list.listIterator();
+        it.next();
+        it.next();
+        JposOutputRequest immediate = request(2);
+        it.add(immediate);
+        expected.add(2, immediate);
+        check(it.nextIndex() == 3 && it.next() == expected.get(3) && same(list, expected),
+                "Request of other property set inserted via iterator");
+        it = list.listIterator(1);
+        JposOutputRequest sameProps = request(1);
+        it.add(sameProps);
+        expected.add(1, sameProps);
+        check(it.previous() == sameProps && same(list, expected), "Request inserted in front of own property set");
+        it = list.listIterator(list.size());
+        JposOutputRequest last = request(2);
+        it.add(last);
+        expected.add(last);
+        check(!it.hasNext() && same(list, expected), "Request appended via iterator");
+        it = list.listIterator();
+        it.next();
+        it.next();
+        it.remove();
+        expected.remove(1);
+        check(it.nextIndex() == 1 && it.next() == expected.get(1) && same(list, expected),
+                "Request removed after next");
+        it.previous();
+        it.remove();
+        expected.remove(1);
+        check(it.nextIndex() == 1 && it.next() == expected.get(1) && same(list, expected),
+                "Request removed after previous");
+        try {
+            it.remove();
+            it.remove();
+            check(false, "Second remove rejected");
+        } catch (IllegalStateException e) {
+            expected.remove(1);
+            check(same(list, expected), "Second remove rejected");
+        }
+        try {
+            it.set(request(0));
+            check(false, "set not supported");
+        } catch (UnsupportedOperationException e) {
+            check(true, "set not supported");
+        }
+        list.add(request(0));
+        try {
+            it.next();
+            check(false, "Concurrent modification detected");
+        } catch (ConcurrentModificationException e) {
+            check(true, "Concurrent modification detected");
+        }
+    }
+
+    private static void random() {
+        Random random = new Random(4711);
+        PendingRequestList list = new PendingRequestList();
+        List<JposOutputRequest> expected = new ArrayList<>();
+        boolean ok = true;
+        for (int i = 0; i < 20000 && ok; i++) {
+            int operation = random.nextInt(10);
+            if (operation < 4 || expected.isEmpty()) {
+                JposOutputRequest request = request(random.nextInt(Props.length));
+                list.add(request);
+                expected.add(request);
+            } else if (operation < 6) {
+                int index = random.nextInt(expected.size() + 1);
+                JposOutputRequest request = request(random.nextInt(Props.length));
+                list.listIterator(index).add(request);
+                expected.add(index, request);
+            } else if (operation < 8) {
+                int index = random.nextInt(expected.size());
+                ok = list.remove(index) == expected.remove(index);
+            } else if (operation == 8) {
+                ok = list.remove(0) == expected.remove(0);
+            } else {
+                JposCommonProperties props = Props[random.nextInt(Props.length)];
+                List<JposOutputRequest> removed = list.remove(props, req -> random.nextBoolean());
+                expected.removeAll(removed);
+            }
+            ok = ok && (i % 20 != 0 || same(list, expected));
+        }
+        check(ok && same(list, expected), "Random operations match ArrayList");
+    }
+
+    /**
+     * Runs all tests of this class.
+     */
+    public static void run() {
+        addAndRemove();
+        listIterator();
+        random();
+    }
+
+    /**
+     * Runs all tests of this class and exits, see Checker.
+     * @param args Not used.
+     */
+    public static void main(String[] args) {
+        run();
+        Checker.exit();
+    }
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright 2026 Martin Conrad
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package de.gmxhome.conrad.jpos.jpos_base;
+
+import de.gmxhome.conrad.jpos.jpos_base.fiscalprinter.*;
+import de.gmxhome.conrad.jpos.jpos_base.posprinter.*;
+import net.bplaced.conrad.log4jpos.Level;
+
+import java.io.File;
+import java.lang.reflect.Field;
+import java.util.Arrays;
+
+import static de.gmxhome.conrad.jpos.jpos_base.Checker.check;
+import static jpos.JposConst.*;
+import static net.bplaced.conrad.log4jpos.Level.*;
+
+/**
+ * Getter throughput benchmark for POSPrinterService and FiscalPrinterService. Measures pairs of property getters at
+ * logging levels OFF and TRACE; at TRACE, each getter logs the property value via getPropertyString. In addition, it
+ * compares getPropertyString with its cached field lookup against the former lookup via getField or getDeclaredField
+ * and setAccessible on each call, for a boolean and a String property of FiscalPrinterProperties. Each operation
+ * will be warmed up, then measured in five rounds of 200 milliseconds. The benchmark prints the median rates and checks
+ * that both lookups return the same value.<br>
+ * Can be started via its main method, see Checker.
+ */
+public class PropertyAccessorBenchmark {
+    private static final int Rounds = 5;
+    private static final long RoundTime = 200000000L;
+
+    private interface Operation {
+        void run() throws Exception;
+    }
+
+    // Performs the operation in rounds of RoundTime nanoseconds and returns the median rate per second.
+    private static double measure(Operation operation) throws Exception {
+        for (long end = System.nanoTime() + RoundTime; System.nanoTime() < end; )
+            operation.run();
+        double[] rates = new double[Rounds];
+        for (int i = 0; i < Rounds; i++) {
+            int count = 0;
+            long start = System.nanoTime();
+            long now;
+            do {
+                operation.run();
+                count++;
+            } while ((now = System.nanoTime()) - start < RoundTime);
+            rates[i] = count * 1e9 / (now - start);
+        }
+        Arrays.sort(rates);
+        return rates[Rounds / 2];
+    }
+
+    // Property value as string, with the field lookup getPropertyString performed before fields had been cached.
+    private static String uncachedPropertyString(JposBase srv, Object obj, String propertyName) throws Exception {
+        Field property;
+        try {
+            property = obj.getClass().getField(propertyName);
+        } catch (Exception e) {
+            (property = obj.getClass().getDeclaredField(propertyName)).setAccessible(true);
+        }
+        return srv.removeOuterArraySpecifier(property.get(obj), srv.Device.MaxArrayStringElements);
+    }
+
+    private static JposDevice device(String name, Level level) throws Exception {
+        File log = File.createTempFile(name, ".log");
+        log.deleteOnExit();
+        JposDevice device = new JposDevice(name) {};
+        device.LoggerName = name;
+        device.LogFilePath = log.getPath();
+        device.LogLevel = level;
+        return device;
+    }
+
+    private static void getters(Level level) throws Exception {
+        JposDevice device = device("PropertyAccessorBenchmark" + level, level);
+        POSPrinterProperties printer = new POSPrinterProperties(0);
+        printer.Device = device;
+        printer.LogicalName = "Printer";
+        POSPrinterService printerService = new POSPrinterService(printer, device);
+        printer.EventSource = printerService;
+        printer.State = JPOS_S_IDLE;
+        printer.CharacterSetList = "437,850,858,997,998,999";
+        FiscalPrinterProperties fiscal = new FiscalPrinterProperties(0);
+        fiscal.Device = device;
+        fiscal.LogicalName = "FiscalPrinter";
+        FiscalPrinterService fiscalService = new FiscalPrinterService(fiscal, device);
+        fiscal.EventSource = fiscalService;
+        fiscal.State = JPOS_S_IDLE;
+        double posPrinter = measure(() -> {
+            printerService.getCapRecBold();
+            printerService.getCharacterSetList();
+        });
+        double fiscalPrinter = measure(() -> {
+            fiscalService.getCapAdditionalLines();
+            fiscalService.getCapAmountAdjustment();
+        });
+        if (device.Log != null)
+            device.Log.removeAllAppenders();
+        System.out.printf("Level %s: POSPrinterService %.0f getter pairs/s, FiscalPrinterService %.0f getter " +
+                "pairs/s%n", level, posPrinter, fiscalPrinter);
+    }
+
+    private static void lookup(String propertyName) throws Exception {
+        JposDevice device = device("PropertyAccessorBenchmarkLookup", OFF);
+        FiscalPrinterProperties fiscal = new FiscalPrinterProperties(0);
+        fiscal.Device = device;
+        fiscal.LogicalName = "FiscalPrinter";
+        FiscalPrinterService srv = new FiscalPrinterService(fiscal, device);
+        fiscal.EventSource = srv;
+        String[] value = {null};
+        double cached = measure(() -> value[0] = srv.getPropertyString(fiscal, propertyName));
+        double uncached = measure(() -> value[0] = uncachedPropertyString(srv, fiscal, propertyName));
+        check(srv.getPropertyString(fiscal, propertyName).equals(uncachedPropertyString(srv, fiscal, propertyName)),
+                propertyName + ": Same value via cached and uncached lookup");
+        System.out.printf("getPropertyString(%s): cached %.0f/s, uncached %.0f/s%n", propertyName, cached, uncached);
+    }
+
+    /**
+     * Runs the benchmark.
+     * @throws Exception If the benchmark cannot be performed.
+     */
+    public static void run() throws Exception {
+        getters(OFF);
+        getters(TRACE);
+        lookup("CapAdditionalLines");
+        lookup("PredefinedPaymentLines");
+    }
+
+    /**
+     * Runs the benchmark and exits, see Checker.
+     * @param args Not used.
+     * @throws Exception If the benchmark cannot be performed.
+     */
+    public static void main(String[] args) throws Exception {
+        run();
+        Checker.exit();
+    }
+}
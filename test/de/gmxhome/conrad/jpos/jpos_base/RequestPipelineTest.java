@@ -0,0 +1,231 @@
+/*
+ * Copyright 2026 Martin Conrad
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package de.gmxhome.conrad.jpos.jpos_base;
+
+import jpos.JposException;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import static de.gmxhome.conrad.jpos.jpos_base.Checker.check;
+import static jpos.JposConst.*;
+
+/**
+ * Test for RequestPipeline. Uses an echo stub instead of a real device: Each frame written via the pipeline will be
+ * passed to the stub, the stub decides when and in which order the frames will be returned as responses. A frame
+ * consists of the tag byte followed by the command, a response is the frame itself.
+ */
+public class RequestPipelineTest {
+    /**
+     * IO processor that passes written frames to the echo stub and returns the responses released by the stub.
+     */
+    private static class EchoStub extends UniqueIOProcessor {
+        final BlockingQueue<byte[]> Written = new LinkedBlockingQueue<>();
+        final BlockingQueue<byte[]> Responses = new LinkedBlockingQueue<>();
+
+        EchoStub() throws JposException {
+            super(new JposDevice("RequestPipelineTest") {}, "EchoStub");
+        }
+
+        @Override
+        public int write(byte[] buffer) {
+            Written.add(buffer);
+            return buffer.length;
+        }
+
+        byte[] take() throws InterruptedException {
+            byte[] frame = Written.poll(1000, TimeUnit.MILLISECONDS);
+            if (frame == null)
+                throw new IllegalStateException("No frame written");
+            return frame;
+        }
+    }
+
+    private static class Pipeline extends RequestPipeline {
+        final EchoStub Stub;
+        final List<String> Unsolicited = Collections.synchronizedList(new ArrayList<>());
+
+        Pipeline(EchoStub stub, int maxInFlight, int tagCount) {
+            super(stub, maxInFlight, tagCount, "RequestPipelineTest");
+            Stub = stub;
+        }
+
+        @Override
+        protected byte[] frame(int tag, byte[] command) {
+            byte[] frame = new byte[command.length + 1];
+            frame[0] = (byte) tag;
+            System.arraycopy(command, 0, frame, 1, command.length);
+            return frame;
+        }
+
+        @Override
+        protected byte[] readResponse() {
+            try {
+                return Stub.Responses.poll(20, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                return null;
+            }
+        }
+
+        @Override
+        protected int tagOf(byte[] response) {
+            return response[0] & 0xff;
+        }
+
+        @Override
+        protected void unsolicited(byte[] response) {
+            Unsolicited.add(text(response));
+        }
+
+        @Override
+        protected boolean refreshesStatus(byte[] response) {
+            return response.length > 1 && response[1] == 'A';
+        }
+    }
+
+    private static String text(byte[] response) {
+        return new String(response, 1, response.length - 1);
+    }
+
+    private static Pipeline start(int maxInFlight, int tagCount) throws JposException {
+        Pipeline pipeline = new Pipeline(new EchoStub(), maxInFlight, tagCount);
+        pipeline.start();
+        return pipeline;
+    }
+
+    private static void outOfOrderResponses() throws Exception {
+        Pipeline pipeline = start(4, 256);
+        RequestPipeline.Request first = pipeline.send("A1".getBytes(), 100);
+        RequestPipeline.Request second = pipeline.send("B2".getBytes(), 100);
+        byte[] frame1 = pipeline.Stub.take();
+        byte[] frame2 = pipeline.Stub.take();
+        pipeline.Stub.Responses.add(frame2);
+        pipeline.Stub.Responses.add(frame1);
+        check("B2".equals(text(second.getResponse(500))) && "A1".equals(text(first.getResponse(500))), "Out of order responses matched via tag");
+        check(pipeline.pollStatus("S".getBytes(), 1000, 500) == null, "Status poll skipped after status refresh");
+        pipeline.close();
+    }
+
+    private static void concurrentCalls() throws Exception {
+        Pipeline pipeline = start(4, 256);
+        Thread stub = new Thread(() -> {
+            // Returns each pair of frames in reverse order
+            try {
+                while (true) {
+                    byte[] frame = pipeline.Stub.Written.take();
+                    byte[] next = pipeline.Stub.Written.poll(10, TimeUnit.MILLISECONDS);
+                    if (next != null)
+                        pipeline.Stub.Responses.add(next);
+                    pipeline.Stub.Responses.add(frame);
+                }
+            } catch (InterruptedException ignored) {}
+        });
+        stub.start();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<String>> results = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            String command = "X" + i;
+            results.add(executor.submit(() -> text(pipeline.call(command.getBytes(), 2000))));
+        }
+        boolean ok = true;
+        for (int i = 0; i < results.size(); i++)
+            ok &= ("X" + i).equals(results.get(i).get());
+        check(ok, "Concurrent calls get their own responses");
+        executor.shutdown();
+        stub.interrupt();
+        pipeline.close();
+    }
+
+    private static void lateResponseAfterTimeout() throws Exception {
+        Pipeline pipeline = start(2, 2);
+        int code = 0;
+        try {
+            pipeline.call("SLOW".getBytes(), 50);
+        } catch (JposException e) {
+            code = e.getErrorCode();
+        }
+        check(code == JPOS_E_TIMEOUT, "Request without response times out");
+        byte[] late = pipeline.Stub.take();
+        Set<Integer> tags = new HashSet<>();
+        for (int i = 0; i < 4; i++) {
+            RequestPipeline.Request request = pipeline.send(("N" + i).getBytes(), 500);
+            tags.add(request.Tag);
+            pipeline.Stub.Responses.add(pipeline.Stub.take());
+            request.getResponse(500);
+        }
+        check(!tags.contains((int) late[0]), "Tag of timed-out request not reused while reserved");
+        RequestPipeline.Request request = pipeline.send("N4".getBytes(), 500);
+        code = 0;
+        try {
+            pipeline.send("N5".getBytes(), 50);
+        } catch (JposException e) {
+            code = e.getErrorCode();
+        }
+        check(code == JPOS_E_TIMEOUT, "Reserved tag occupies a slot");
+        pipeline.Stub.Responses.add(late);
+        pipeline.Stub.Responses.add(pipeline.Stub.take());
+        check("N4".equals(text(request.getResponse(500))), "Response of new request matched");
+        RequestPipeline.Request next = pipeline.send("N5".getBytes(), 500);
+        check(pipeline.Unsolicited.equals(Collections.singletonList("SLOW")), "Late response passed to unsolicited");
+        check(next.Tag == late[0], "Tag and slot released after late response");
+        pipeline.close();
+    }
+
+    private static void quarantineExpires() throws Exception {
+        Pipeline pipeline = start(2, 2);
+        pipeline.TagQuarantine = 100;
+        try {
+            pipeline.call("LOST".getBytes(), 50);
+        } catch (JposException ignored) {}
+        pipeline.Stub.take();
+        Thread.sleep(200);
+        RequestPipeline.Request first = pipeline.send("Q1".getBytes(), 500);
+        RequestPipeline.Request second = pipeline.send("Q2".getBytes(), 500);
+        check(first.Tag != second.Tag, "Tag and slot released after quarantine");
+        pipeline.close();
+        check(first.isFinished() && second.isFinished(), "Pending requests finished on close");
+        int code = 0;
+        try {
+            pipeline.send("Z".getBytes(), 50);
+        } catch (JposException e) {
+            code = e.getErrorCode();
+        }
+        check(code == JPOS_E_CLOSED, "Send fails after close");
+    }
+
+    /**
+     * Runs all tests of this class.
+     * @throws Exception If a test cannot be performed.
+     */
+    public static void run() throws Exception {
+        outOfOrderResponses();
+        concurrentCalls();
+        lateResponseAfterTimeout();
+        quarantineExpires();
+    }
+
+    /**
+     * Runs all tests of this class and exits, see Checker.
+     * @param args Not used.
+     * @throws Exception If a test cannot be performed.
+     */
+    public static void main(String[] args) throws Exception {
+        run();
+        Checker.exit();
+    }
+}
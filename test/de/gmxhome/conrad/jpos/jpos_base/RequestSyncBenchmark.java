@@ -0,0 +1,116 @@
+/*
+ * Copyright 2026 Martin Conrad
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package de.gmxhome.conrad.jpos.jpos_base;
+
+import de.gmxhome.conrad.jpos.jpos_base.posprinter.*;
+
+import static de.gmxhome.conrad.jpos.jpos_base.Checker.check;
+import static jpos.JposConst.*;
+
+/**
+ * Contention benchmark for the RequestSync lock of property sets. Two property sets share one device. While a
+ * simulated slow error event handler of the first property set holds a lock, the second property set processes
+ * synchronous requests. The handler holds either RequestSync of the first property set, as error event handlers do
+ * now, or AsyncProcessorRunning of the device, as error event handlers did before RequestSync had been introduced.
+ * The benchmark prints the request rate of the second property set in both cases.<br>
+ * Can be started via its main method, see Checker.
+ */
+public class RequestSyncBenchmark {
+    private static final int Duration = 2000;
+
+    private static POSPrinterProperties propertySet(JposDevice device, int index) {
+        POSPrinterProperties props = new POSPrinterProperties(index);
+        props.Device = device;
+        props.LogicalName = "Printer" + index;
+        props.EventSource = new POSPrinterService(props, device);
+        props.State = JPOS_S_IDLE;
+        return props;
+    }
+
+    /**
+     * Simulated error event handler: Holds the given lock for 5 milliseconds, then releases it for 1 millisecond.
+     */
+    private static class Handler extends Thread {
+        private final Object Lock;
+        volatile boolean ToBeFinished = false;
+
+        Handler(Object lock) {
+            Lock = lock;
+            setDaemon(true);
+            start();
+        }
+
+        @Override
+        public void run() {
+            try {
+                while (!ToBeFinished) {
+                    synchronized (Lock) {
+                        Thread.sleep(5);
+                    }
+                    Thread.sleep(1);
+                }
+            } catch (InterruptedException ignored) {}
+        }
+    }
+
+    private static double requestRate(boolean deviceLock) throws Exception {
+        JposDevice device = new JposDevice("RequestSyncBenchmark") {};
+        POSPrinterProperties first = propertySet(device, 0);
+        POSPrinterProperties second = propertySet(device, 1);
+        Handler handler = new Handler(deviceLock ? device.AsyncProcessorRunning : first.RequestSync);
+        int[] invoked = {0};
+        int count = 0;
+        long start = System.nanoTime();
+        long end = start + Duration * 1000000L;
+        while (System.nanoTime() < end) {
+            new JposOutputRequest(second) {
+                @Override
+                public void invoke() {
+                    invoked[0]++;
+                }
+            }.enqueueSynchronous();
+            count++;
+        }
+        double rate = count * 1e9 / (System.nanoTime() - start);
+        handler.ToBeFinished = true;
+        handler.join();
+        check(invoked[0] == count, "All requests processed while handler holds " + (deviceLock ? "AsyncProcessorRunning" : "RequestSync"));
+        System.out.printf("Handler holds %s: %.0f requests/s%n", deviceLock ? "AsyncProcessorRunning" : "RequestSync", rate);
+        return rate;
+    }
+
+    /**
+     * Runs the benchmark.
+     * @throws Exception If the benchmark cannot be performed.
+     */
+    public static void run() throws Exception {
+        double device = requestRate(true);
+        double requestSync = requestRate(false);
+        check(requestSync > device, "Error handler of one property set does not block requests of another one");
+    }
+
+    /**
+     * Runs the benchmark and exits, see Checker.
+     * @param args Not used.
+     * @throws Exception If the benchmark cannot be performed.
+     */
+    public static void main(String[] args) throws Exception {
+        run();
+        Checker.exit();
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2026 Martin Conrad
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package de.gmxhome.conrad.jpos.jpos_base;
+
+import de.gmxhome.conrad.jpos.jpos_base.posprinter.*;
+
+import java.util.Arrays;
+
+import static de.gmxhome.conrad.jpos.jpos_base.Checker.check;
+import static jpos.JposConst.*;
+
+/**
+ * Latency benchmark for synchronous requests and SyncObject hand-over. Measures round trips of enqueueSynchronous with
+ * a request that does nothing, processed by the request thread of the device, and hand-overs between two threads that
+ * signal each other via fair and non-fair SyncObjects. Each measurement will be warmed up, then the benchmark prints
+ * median and 99th percentile of the round trip time and the bytes allocated by the caller per synchronous request.<br>
+ * Can be started via its main method, see Checker.
+ */
+public class SyncObjectBenchmark {
+    private static final int RoundTrips = 20000;
+
+    private static String percentiles(long[] times) {
+        Arrays.sort(times);
+        return String.format("median %.1f us, p99 %.1f us", times[times.length / 2] / 1000.0,
+                times[times.length * 99 / 100] / 1000.0);
+    }
+
+    private static void enqueueSynchronous() throws Exception {
+        JposDevice device = new JposDevice("SyncObjectBenchmark") {};
+        POSPrinterProperties props = new POSPrinterProperties(0);
+        props.Device = device;
+        props.LogicalName = "Printer";
+        props.EventSource = new POSPrinterService(props, device);
+        props.State = JPOS_S_IDLE;
+        int[] invoked = {0};
+        long[] times = new long[RoundTrips];
+        long allocated = 0;
+        for (int round = 0; round < 2; round++) {       // Round 0 for warm-up
+            long before = AllocationCounter.allocatedBytes();
+            for (int i = 0; i < RoundTrips; i++) {
+                long start = System.nanoTime();
+                new JposOutputRequest(props) {
+                    @Override
+                    public void invoke() {
+                        invoked[0]++;
+                    }
+                }.enqueueSynchronous();
+                times[i] = System.nanoTime() - start;
+            }
+            allocated = AllocationCounter.allocatedBytes() - before;
+        }
+        check(invoked[0] == 2 * RoundTrips && props.State == JPOS_S_IDLE, "All synchronous requests processed");
+        System.out.printf("enqueueSynchronous: %s, %d bytes allocated per request%n", percentiles(times),
+                allocated / RoundTrips);
+    }
+
+    private static void handOver(boolean fair) throws Exception {
+        SyncObject request = new SyncObject(fair);
+        SyncObject response = new SyncObject(fair);
+        Thread partner = new Thread(() -> {
+            for (int i = 0; i < 2 * RoundTrips; i++) {
+                request.suspend(SyncObject.INFINITE);
+                response.signal();
+            }
+        });
+        partner.start();
+        long[] times = new long[RoundTrips];
+        for (int round = 0; round < 2; round++) {
+            for (int i = 0; i < RoundTrips; i++) {
+                long start = System.nanoTime();
+                request.signal();
+                response.suspend(SyncObject.INFINITE);
+                times[i] = System.nanoTime() - start;
+            }
+        }
+        partner.join(1000);
+        check(!partner.isAlive(), (fair ? "Fair" : "Non-fair") + " SyncObject: All hand-overs performed");
+        System.out.printf("%s SyncObject hand-over: %s%n", fair ? "Fair" : "Non-fair", percentiles(times));
+    }
+
+    /**
+     * Runs the benchmark.
+     * @throws Exception If the benchmark cannot be performed.
+     */
+    public static void run() throws Exception {
+        enqueueSynchronous();
+        handOver(true);
+        handOver(false);
+    }
+
+    /**
+     * Runs the benchmark and exits, see Checker.
+     * @param args Not used.
+     * @throws Exception If the benchmark cannot be performed.
+     */
+    public static void main(String[] args) throws Exception {
+        run();
+        Checker.exit();
+    }
+}
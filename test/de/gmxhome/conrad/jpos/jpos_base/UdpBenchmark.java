@@ -0,0 +1,128 @@
+/*
+ * Copyright 2026 Martin Conrad
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package de.gmxhome.conrad.jpos.jpos_base;
+
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.DatagramChannel;
+import java.util.Arrays;
+
+import static de.gmxhome.conrad.jpos.jpos_base.Checker.check;
+
+/**
+ * Receive benchmark for UdpIOProcessor and UdpClientIOProcessor. A plain DatagramChannel sends datagrams with 64 bytes
+ * payload via loopback in batches of 32, the processor reads them via read. Each processor will be measured with its
+ * own reader thread and with the shared IOReactor. Each variant will be warmed up, then measured in five rounds of 200
+ * milliseconds. The benchmark prints the median number of datagrams per second and the bytes allocated per datagram by
+ * all threads, including the reader thread or the IOReactor thread. The sender uses a direct buffer and allocates
+ * nothing.<br>
+ * Can be started via its main method, see Checker.
+ */
+public class UdpBenchmark {
+    private static final int PayloadSize = 64;
+    private static final int Batch = 32;
+    private static final int Rounds = 5;
+    private static final long RoundTime = 200000000L;
+
+    // Sends one batch of datagrams and reads them via processor.
+    private static void transfer(UniqueIOProcessor processor, DatagramChannel sender, ByteBuffer payload)
+            throws Exception {
+        for (int i = 0; i < Batch; i++) {
+            payload.clear();
+            sender.write(payload);
+        }
+        for (int i = 0; i < Batch; i++) {
+            if (processor.read(PayloadSize).length != PayloadSize)
+                throw new IllegalStateException("Datagram lost");
+        }
+    }
+
+    private static void benchmark(String name, UdpBaseIOProcessor processor, DatagramChannel sender)
+            throws Exception {
+        ByteBuffer payload = ByteBuffer.allocateDirect(PayloadSize);
+        processor.setTimeout(1000);
+        for (long end = System.nanoTime() + RoundTime; System.nanoTime() < end; )
+            transfer(processor, sender, payload);
+        double[] rates = new double[Rounds];
+        long datagrams = 0;
+        long before = AllocationCounter.allocatedBytesOfAllThreads();
+        for (int i = 0; i < Rounds; i++) {
+            int count = 0;
+            long start = System.nanoTime();
+            long now;
+            do {
+                transfer(processor, sender, payload);
+                count++;
+            } while ((now = System.nanoTime()) - start < RoundTime);
+            rates[i] = (double) count * Batch * 1e9 / (now - start);
+            datagrams += (long) count * Batch;
+        }
+        long allocated = AllocationCounter.allocatedBytesOfAllThreads() - before;
+        Arrays.sort(rates);
+        check(processor.getDroppedFrames() == 0, name + ": No datagram dropped");
+        System.out.printf("%s: %.0f datagrams/s, %d bytes allocated per datagram%n", name, rates[Rounds / 2],
+                allocated / datagrams);
+    }
+
+    private static void server(boolean shared) throws Exception {
+        JposDevice device = new JposDevice("UdpBenchmark") {};
+        device.SharedIOReactor = shared;
+        UdpIOProcessor processor = new UdpIOProcessor(device, 0);
+        processor.open(false);
+        try (DatagramChannel sender = DatagramChannel.open()) {
+            sender.connect(new InetSocketAddress("127.0.0.1", processor.Socket.socket().getLocalPort()));
+            benchmark("UdpIOProcessor" + (shared ? ", IOReactor" : ", reader thread"), processor, sender);
+        }
+        processor.close();
+    }
+
+    private static void client(boolean shared) throws Exception {
+        JposDevice device = new JposDevice("UdpBenchmark") {};
+        device.SharedIOReactor = shared;
+        try (DatagramChannel sender = DatagramChannel.open()) {
+            sender.bind(new InetSocketAddress("127.0.0.1", 0));
+            UdpClientIOProcessor processor = new UdpClientIOProcessor(device,
+                    "127.0.0.1:" + sender.socket().getLocalPort());
+            processor.open(false);
+            sender.connect(new InetSocketAddress("127.0.0.1", processor.Socket.socket().getLocalPort()));
+            benchmark("UdpClientIOProcessor" + (shared ? ", IOReactor" : ", reader thread"), processor, sender);
+            processor.close();
+        }
+    }
+
+    /**
+     * Runs the benchmark.
+     * @throws Exception If the benchmark cannot be performed.
+     */
+    public static void run() throws Exception {
+        for (boolean shared : new boolean[]{false, true}) {
+            server(shared);
+            client(shared);
+        }
+    }
+
+    /**
+     * Runs the benchmark and exits, see Checker.
+     * @param args Not used.
+     * @throws Exception If the benchmark cannot be performed.
+     */
+    public static void main(String[] args) throws Exception {
+        run();
+        Checker.exit();
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2026 Martin Conrad
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package de.gmxhome.conrad.jpos.jpos_base;
+
+import de.gmxhome.conrad.jpos.jpos_base.WriteCombiningTest.*;
+
+import java.util.*;
+
+import static de.gmxhome.conrad.jpos.jpos_base.Checker.check;
+
+/**
+ * Benchmark for write combining of TcpClientIOProcessor. Sends receipts of 40 lines, 120 frames each, to a local TCP
+ * sink, without write combining, with write combining until flushOutput and with write combining and linger time.
+ * Each configuration will be measured in several rounds after a warm-up round. The benchmark prints the median wall
+ * time per receipt and the number of transmit operations per receipt.<br>
+ * Can be started via its main method, see Checker.
+ */
+public class WriteCombiningBenchmark {
+    private static final int Receipts = 500;
+    private static final int Rounds = 5;
+
+    private static class Result {
+        final double Micros;
+        final double Transmits;
+
+        Result(double micros, double transmits) {
+            Micros = micros;
+            Transmits = transmits;
+        }
+    }
+
+    // Sends all receipts once, returns the wall time per receipt in microseconds.
+    private static double round(Sink sink, Processor proc, List<List<byte[]>> receipts, int length) throws Exception {
+        long start = System.nanoTime();
+        for (List<byte[]> frames : receipts) {
+            for (byte[] frame : frames)
+                proc.write(frame);
+            proc.flushOutput();
+        }
+        long time = System.nanoTime() - start;
+        check(sink.take(length, 10000).length == length, "All receipts received");
+        return time / 1000.0 / receipts.size();
+    }
+
+    private static Result measure(Sink sink, int size, int linger) throws Exception {
+        List<List<byte[]>> receipts = new ArrayList<>();
+        int length = 0;
+        for (int i = 0; i < Receipts; i++) {
+            receipts.add(WriteCombiningTest.receipt(i));
+            length += WriteCombiningTest.concat(receipts.get(i)).length;
+        }
+        Processor proc = new Processor(sink);
+        proc.open(false);
+        if (size > 0)
+            proc.setWriteCombining(size, linger);
+        round(sink, proc, receipts, length);
+        proc.Transmits = 0;
+        double[] times = new double[Rounds];
+        for (int i = 0; i < Rounds; i++)
+            times[i] = round(sink, proc, receipts, length);
+        Arrays.sort(times);
+        Result result = new Result(times[Rounds / 2], (double) proc.Transmits / Rounds / Receipts);
+        proc.close();
+        System.out.printf("Write combining %s: %.1f transmissions, %.1f us per receipt%n",
+                size > 0 ? "buffer " + size + ", linger " + linger : "off", result.Transmits, result.Micros);
+        return result;
+    }
+
+    /**
+     * Runs the benchmark.
+     * @throws Exception If the benchmark cannot be performed.
+     */
+    public static void run() throws Exception {
+        Sink sink = new Sink();
+        Result off = measure(sink, 0, 0);
+        Result combined = measure(sink, 4096, 0);
+        Result linger = measure(sink, 4096, 5);
+        sink.Server.close();
+        check(off.Transmits == 120 && combined.Transmits == 1 && linger.Transmits <= 2, "Transmissions per receipt reduced by write combining");
+    }
+
+    /**
+     * Runs the benchmark and exits, see Checker.
+     * @param args Not used.
+     * @throws Exception If the benchmark cannot be performed.
+     */
+    public static void main(String[] args) throws Exception {
+        run();
+        Checker.exit();
+    }
+}
@@ -0,0 +1,268 @@
+/*
+ * Copyright 2026 Martin Conrad
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package de.gmxhome.conrad.jpos.jpos_base;
+
+import jpos.JposException;
+
+import java.io.*;
+import java.net.*;
+import java.util.*;
+
+import static de.gmxhome.conrad.jpos.jpos_base.Checker.check;
+import static jpos.JposConst.*;
+
+/**
+ * Test for write combining of TcpClientIOProcessor. Sends receipts to a local TCP sink with and without write
+ * combining, checks that the sink receives the same data in both cases and counts the transmit operations. A local
+ * echo server checks that buffered requests will be sent before a response will be read. The wall time per receipt
+ * will be measured by WriteCombiningBenchmark.
+ */
+public class WriteCombiningTest {
+    /**
+     * TCP server that accepts one connection after the other and collects all received data.
+     */
+    static class Sink extends Thread {
+        final ServerSocket Server;
+        private final ByteArrayOutputStream Received = new ByteArrayOutputStream();
+
+        Sink() throws IOException {
+            Server = new ServerSocket(0, 1, InetAddress.getLoopbackAddress());
+            setDaemon(true);
+            start();
+        }
+
+        @Override
+        public void run() {
+            byte[] buffer = new byte[0x10000];
+            try {
+                while (true) {
+                    try (Socket sock = Server.accept()) {
+                        InputStream in = sock.getInputStream();
+                        int count;
+                        while ((count = in.read(buffer)) > 0) {
+                            synchronized (Received) {
+                                Received.write(buffer, 0, count);
+                                Received.notifyAll();
+                            }
+                        }
+                    }
+                }
+            } catch (IOException ignored) {}
+        }
+
+        byte[] take(int count, long timeout) throws InterruptedException {
+            long end = System.currentTimeMillis() + timeout;
+            synchronized (Received) {
+                long wait;
+                while (Received.size() < count && (wait = end - System.currentTimeMillis()) > 0)
+                    Received.wait(wait);
+                byte[] data = Received.toByteArray();
+                Received.reset();
+                return data;
+            }
+        }
+    }
+
+    /**
+     * TCP server that sends all received data back to the sender.
+     */
+    private static class Echo extends Thread {
+        final ServerSocket Server;
+
+        Echo() throws IOException {
+            Server = new ServerSocket(0, 1, InetAddress.getLoopbackAddress());
+            setDaemon(true);
+            start();
+        }
+
+        @Override
+        public void run() {
+            byte[] buffer = new byte[0x10000];
+            try {
+                while (true) {
+                    try (Socket sock = Server.accept()) {
+                        InputStream in = sock.getInputStream();
+                        int count;
+                        while ((count = in.read(buffer)) > 0)
+                            sock.getOutputStream().write(buffer, 0, count);
+                    }
+                }
+            } catch (IOException ignored) {}
+        }
+    }
+
+    /**
+     * IO processor that counts transmit operations and can simulate transmission errors.
+     */
+    static class Processor extends TcpClientIOProcessor {
+        int Transmits = 0;
+        boolean Fail = false;
+
+        Processor(Sink sink) throws JposException {
+            this(sink.Server);
+        }
+
+        Processor(ServerSocket server) throws JposException {
+            super(new JposDevice("WriteCombiningTest") {}, "127.0.0.1:" + server.getLocalPort());
+        }
+
+        @Override
+        protected void transmit(byte[] buffer, int offset, int count) throws JposException {
+            if (Fail)
+                throw new JposException(JPOS_E_FAILURE, "Simulated transmission error");
+            Transmits++;
+            super.transmit(buffer, offset, count);
+        }
+    }
+
+    // Receipt of 40 lines, each written as style sequence, text and line feed as printer services do.
+    static List<byte[]> receipt(int number) {
+        List<byte[]> frames = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            frames.add(new byte[]{0x1b, '!', (byte) (i % 2 == 0 ? 0 : 8)});
+            frames.add(String.format("Receipt %5d line %2d  Article %3d     %6.2f", number, i, i * 7, i * 1.25).getBytes());
+            frames.add(new byte[]{'\n'});
+        }
+        return frames;
+    }
+
+    static byte[] concat(List<byte[]> frames) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (byte[] frame : frames)
+            out.write(frame, 0, frame.length);
+        return out.toByteArray();
+    }
+
+    private static void sameData(Sink sink) throws Exception {
+        Processor proc = new Processor(sink);
+        proc.open(false);
+        List<byte[]> frames = receipt(1);
+        byte[] expected = concat(frames);
+        for (byte[] frame : frames)
+            proc.write(frame);
+        check(Arrays.equals(sink.take(expected.length, 2000), expected) && proc.Transmits == frames.size(), "Without write combining one transmission per frame");
+        proc.setWriteCombining(4096, 0);
+        proc.Transmits = 0;
+        for (byte[] frame : frames)
+            proc.write(frame);
+        check(proc.Transmits == 0, "Frames buffered until flushOutput");
+        proc.flushOutput();
+        check(Arrays.equals(sink.take(expected.length, 2000), expected) && proc.Transmits == 1, "With write combining one transmission per receipt");
+        proc.setWriteCombining(1000, 0);
+        proc.Transmits = 0;
+        for (byte[] frame : frames)
+            proc.write(frame);
+        proc.flushOutput();
+        int transmits = 1;
+        for (int i = 0, count = 0; i < frames.size(); count += frames.get(i++).length) {
+            if (count + frames.get(i).length > 1000) {
+                transmits++;
+                count = 0;
+            }
+        }
+        check(Arrays.equals(sink.take(expected.length, 2000), expected) && proc.Transmits == transmits, "Buffer will be sent if the next frame does not fit");
+        proc.close();
+    }
+
+    private static void longFrames(Sink sink) throws Exception {
+        Processor proc = new Processor(sink);
+        proc.open(false);
+        proc.setWriteCombining(16, 0);
+        proc.write("short".getBytes());
+        proc.write("exactly 16 bytes".getBytes());
+        check(proc.Transmits == 2 && "shortexactly 16 bytes".equals(new String(sink.take(21, 2000))), "Frame as long as the buffer sent immediately after buffered data");
+        proc.write("more than 16 bytes".getBytes());
+        check(proc.Transmits == 3 && "more than 16 bytes".equals(new String(sink.take(18, 2000))), "Longer frame sent immediately");
+        proc.close();
+    }
+
+    private static void linger(Sink sink) throws Exception {
+        Processor proc = new Processor(sink);
+        proc.open(false);
+        proc.setWriteCombining(4096, 20);
+        proc.write("first".getBytes());
+        check("first".equals(new String(sink.take(5, 2000))), "Buffered data sent after linger time");
+        proc.write("second".getBytes());
+        proc.flushOutput();
+        Thread.sleep(100);
+        check("second".equals(new String(sink.take(6, 2000))) && proc.Transmits == 2, "Linger task does nothing after flushOutput");
+        proc.close();
+    }
+
+    private static void closeAfterError(Sink sink) throws Exception {
+        Processor proc = new Processor(sink);
+        proc.open(false);
+        proc.setWriteCombining(4096, 20);
+        proc.Fail = true;
+        proc.write("stale".getBytes());
+        Thread.sleep(100);
+        proc.Fail = false;
+        proc.close();
+        proc.open(false);
+        proc.write("fresh".getBytes());
+        proc.flushOutput();
+        check("fresh".equals(new String(sink.take(5, 2000))), "Pending data discarded on close after linger error");
+        proc.close();
+    }
+
+    private static void writeThenRead(Echo echo) throws Exception {
+        Processor proc = new Processor(echo.Server);
+        proc.open(false);
+        proc.setTimeout(2000);
+        proc.setWriteCombining(4096, 0);
+        proc.write("request".getBytes());
+        check("request".equals(new String(proc.read(7))) && proc.Transmits == 1, "Buffered request sent before read without linger time");
+        proc.setWriteCombining(4096, 1000);
+        proc.write("second".getBytes());
+        long start = System.currentTimeMillis();
+        String response = new String(proc.read(6));
+        check("second".equals(response) && System.currentTimeMillis() - start < 500, "Read does not wait for linger time");
+        proc.write("third".getBytes());
+        int available = 0;
+        for (long end = System.currentTimeMillis() + 2000; available < 5 && System.currentTimeMillis() < end; Thread.sleep(10))
+            available = proc.available();
+        check(available == 5 && "third".equals(new String(proc.read(5))), "Buffered request sent before available");
+        proc.close();
+    }
+
+    /**
+     * Runs all tests of this class.
+     * @throws Exception If a test cannot be performed.
+     */
+    public static void run() throws Exception {
+        Sink sink = new Sink();
+        sameData(sink);
+        longFrames(sink);
+        linger(sink);
+        closeAfterError(sink);
+        Echo echo = new Echo();
+        writeThenRead(echo);
+        echo.Server.close();
+        sink.Server.close();
+    }
+
+    /**
+     * Runs all tests of this class and exits, see Checker.
+     * @param args Not used.
+     * @throws Exception If a test cannot be performed.
+     */
+    public static void main(String[] args) throws Exception {
+        run();
+        Checker.exit();
+    }
+}
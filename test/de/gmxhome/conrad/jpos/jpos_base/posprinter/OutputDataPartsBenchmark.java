@@ -0,0 +1,104 @@
+/*
+ * Copyright 2026 Martin Conrad
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package de.gmxhome.conrad.jpos.jpos_base.posprinter;
+
+import de.gmxhome.conrad.jpos.jpos_base.*;
+
+import java.util.*;
+import java.util.function.Function;
+
+import static de.gmxhome.conrad.jpos.jpos_base.Checker.check;
+import static de.gmxhome.conrad.jpos.jpos_base.posprinter.POSPrinterService.*;
+
+/**
+ * Benchmark for the escape sequence parser used by POSPrinterService method outputDataParts. Parses receipts of about
+ * 4 KB and 40 KB with the current parser and with the former implementation kept in OutputDataPartsTest. Receipts
+ * consist of a header with alignment and character attributes, article lines, a total in double size, a barcode, line
+ * feeds and a paper cut. Each parser will be warmed up, then the receipt will be parsed repeatedly in five rounds of
+ * 200 milliseconds. The benchmark prints the median time per receipt. The print data cache is disabled.<br>
+ * Can be started via its main method, see Checker.
+ */
+public class OutputDataPartsBenchmark {
+    private static final POSPrinterProperties Data = new POSPrinterProperties(0);
+    private static final POSPrinterService Service = new POSPrinterService(Data, new JposDevice("OutputDataPartsBenchmark") {});
+    private static final int Rounds = 5;
+    private static final long RoundTime = 200000000L;
+
+    static {
+        Data.MapCharacterSet = true;    // Set during open, parsing needs it
+        Data.CharacterSet = 998;
+    }
+
+    private static String receipt(int size) {
+        StringBuilder data = new StringBuilder("\33|cA\33|bC\33|2CSample Store\n\33|cAMain Street 1\n\33|N\n");
+        for (int line = 1; data.length() < size - 200; line++) {
+            data.append(String.format("Article %4d               %3d x %6.2f\n", line, line % 5 + 1, line * 0.75));
+            if (line % 10 == 0)
+                data.append(String.format("\33|iC  Discount          \33|rA-%.2f\n\33|N", line * 0.1));
+        }
+        data.append("\33|uC\33|3lF\33|N\33|2CTotal              123.45 EUR\n\33|N\33|bCCash\33|N   150.00\n");
+        data.append("\33|12R123456789012\33|cA\nThank you\n\33|5lF\33|75P");
+        return data.toString();
+    }
+
+    // Parses the receipt in rounds of RoundTime nanoseconds and returns the median time per receipt in microseconds.
+    private static double measure(Function<String, List<PrintDataPart>> parser, String receipt) {
+        for (long end = System.nanoTime() + RoundTime; System.nanoTime() < end; )
+            parser.apply(receipt);
+        double[] times = new double[Rounds];
+        for (int i = 0; i < Rounds; i++) {
+            int count = 0;
+            long start = System.nanoTime();
+            long now;
+            do {
+                parser.apply(receipt);
+                count++;
+            } while ((now = System.nanoTime()) - start < RoundTime);
+            times[i] = (now - start) / 1000.0 / count;
+        }
+        Arrays.sort(times);
+        return times[Rounds / 2];
+    }
+
+    private static void compare(int size) {
+        String receipt = receipt(size);
+        check(OutputDataPartsTest.sameResult(receipt), "Receipt of " + receipt.length() + " characters: Same parts as former parser");
+        double former = measure(OutputDataPartsTest::formerOutputDataParts, receipt);
+        double current = measure(Service::outputDataParts, receipt);
+        System.out.printf("Receipt of %d characters, %d parts: former %.1f us, current %.1f us%n", receipt.length(),
+                Service.outputDataParts(receipt).size(), former, current);
+        check(current < former, "Receipt of " + receipt.length() + " characters: Current parser faster");
+    }
+
+    /**
+     * Runs the benchmark.
+     */
+    public static void run() {
+        compare(4096);
+        compare(40960);
+    }
+
+    /**
+     * Runs the benchmark and exits, see Checker.
+     * @param args Not used.
+     */
+    public static void main(String[] args) {
+        run();
+        Checker.exit();
+    }
+}
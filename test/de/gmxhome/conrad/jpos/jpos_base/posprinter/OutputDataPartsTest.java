@@ -0,0 +1,332 @@
+/*
+ * Copyright 2026 Martin Conrad
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package de.gmxhome.conrad.jpos.jpos_base.posprinter;
+
+import de.gmxhome.conrad.jpos.jpos_base.*;
+
+import java.lang.reflect.*;
+import java.util.*;
+
+import static de.gmxhome.conrad.jpos.jpos_base.Checker.check;
+import static de.gmxhome.conrad.jpos.jpos_base.posprinter.POSPrinterService.*;
+
+/**
+ * Differential test for the escape sequence parser used by POSPrinterService method outputDataParts. Compares the
+ * result of outputDataParts with the result of the former implementation, which cut the parsed prefix off the data
+ * after each escape sequence and line break. The former implementation is kept in this test as reference. Checks
+ * escape sequences of the types P, L, N, B, F, E, R, T, A and C, unknown sequences, line breaks, incomplete
+ * sequences and random mixtures of them. In addition, EscSequenceTokenizer without prefixes and data types, as
+ * used by LineDisplayService, will be compared with the former LineDisplay parser.
+ */
+public class OutputDataPartsTest {
+    private static final POSPrinterProperties Data = new POSPrinterProperties(0);
+    private static final POSPrinterService Service = new POSPrinterService(Data, new JposDevice("OutputDataPartsTest") {});
+
+    static {
+        Data.MapCharacterSet = true;    // Set during open, parsing needs it
+        Data.CharacterSet = 998;
+    }
+
+    /*
+     * Former implementation of outputDataParts, the reference for the comparison.
+     */
+
+    static List<PrintDataPart> formerOutputDataParts(String data) {
+        List<PrintDataPart> out = new ArrayList<>();
+        int index;
+        try {
+            while ((index = data.indexOf("\33|")) >= 0) {
+                formerOutputPrintableParts(data.substring(0, index), out);
+                data = data.substring(index + 2);
+                int value = 0;
+                int temp;
+                boolean negated = data.charAt(0) == '!';
+                boolean valueisdatalength = data.charAt(0) == '*';
+                boolean valueispresent = false;
+                for (index = (negated || valueisdatalength) ? 1 : 0; (temp = data.charAt(index) - '0') >= 0 && temp <= 9; index++) {
+                    value = value * 10 + temp;
+                    valueispresent = true;
+                }
+                data = data.substring(index);
+                int subtype = 0;
+                for (index = 0; (temp = data.charAt(index)) >= 'a' && temp <= 'z'; index++) {
+                    subtype = subtype * 1000 + temp;
+                }
+                String escdata = valueisdatalength || "ER".indexOf(temp) >= 0 ? data.substring(index + 1, value + index + 1) : "";
+                data = data.substring(index + escdata.length() + 1);
+                out.add(formerEscObj(temp, subtype, value, valueisdatalength ? escdata : null, negated, valueispresent));
+            }
+            if (data.length() > 0)
+                formerOutputPrintableParts(data, out);
+            PrintDataPart o = out.get(out.size() - 1);
+            if (o instanceof ControlChar && '\15' == ((ControlChar) o).getControlCharacter()) {
+                out.add(new PrintData("", Data.MapCharacterSet, Data.CharacterSet));
+            }
+        } catch (IndexOutOfBoundsException e) {
+            out.add(new EscUnknown(0, 0, 0, null, false, false));
+        }
+        return out;
+    }
+
+    private static void formerOutputPrintableParts(String data, List<PrintDataPart> out) {
+        for (int i = 0; i < data.length(); i++) {
+            int actchar = data.charAt(i);
+            if (actchar == '\12' || actchar == '\15') {
+                if (i > 0)
+                    out.add(new PrintData(data.substring(0, i), Data.MapCharacterSet, Data.CharacterSet));
+                data = data.substring(i + 1);
+                if (actchar == '\15') {
+                    while (data.length() > 0 && data.charAt(0) == '\15')
+                        data = data.substring(1);
+                    if (data.length() > 0 && data.charAt(0) != '\12')
+                        out.add(new ControlChar((char) actchar));
+                }
+                else
+                    out.add(new ControlChar((char) actchar));
+                i = -1;
+            }
+        }
+        if (data.length() > 0)
+            out.add(new PrintData(data, Data.MapCharacterSet, Data.CharacterSet));
+    }
+
+    private static PrintDataPart formerEscObj(int temp, int subtype, int value, String escdata, boolean negated, boolean valueispresent) {
+        PrintDataPart ret;
+        boolean notnull = ((ret = EscCut.getEscCut(null, temp, subtype, value, escdata, negated, valueispresent)) != null ||
+                (ret = EscRuledLine.getEscRuledLine(null, temp, subtype, value, escdata, negated, valueispresent)) != null ||
+                (ret = EscNormalize.getEscNormalize(null, temp, subtype, value, escdata, negated, valueispresent)) != null ||
+                (ret = EscLogo.getEscLogo(null, temp, subtype, value, escdata, negated, valueispresent, Service)) != null ||
+                (ret = EscStamp.getEscStamp(null, temp, subtype, value, escdata, negated, valueispresent)) != null ||
+                (ret = EscBitmap.getEscBitmap(null, temp, subtype, value, escdata, negated, valueispresent)) != null ||
+                (ret = EscFeed.getEscFeed(null, temp, subtype, value, escdata, negated, valueispresent, Data.MapMode)) != null ||
+                (ret = EscEmbedded.getEscEmbedded(null, temp, subtype, value, escdata, negated, valueispresent)) != null ||
+                (ret = EscBarcode.getEscBarcode(null, temp, subtype, value, escdata, negated, valueispresent, Data.MapMode)) != null ||
+                (ret = EscFontTypeface.getEscFontTypeface(null, temp, subtype, value, escdata, negated, valueispresent)) != null ||
+                (ret = EscAlignment.getEscAlignment(null, temp, subtype, value, escdata, negated, valueispresent)) != null ||
+                (ret = EscScale.getEscScale(null, temp, subtype, value, escdata, negated, valueispresent)) != null ||
+                (ret = EscSimple.getEscSimple(null, temp, subtype, value, escdata, negated, valueispresent)) != null ||
+                (ret = EscLine.getEscLine(null, temp, subtype, value, escdata, negated, valueispresent)) != null ||
+                (ret = EscColor.getEscColor(null, temp, subtype, value, escdata, negated, valueispresent)) != null ||
+                (ret = EscShade.getEscShade(null, temp, subtype, value, escdata, negated, valueispresent)) != null);
+        return notnull ? ret : new EscUnknown(temp, subtype, value, escdata, negated, valueispresent);
+    }
+
+    /*
+     * Comparison of parts via their fields, print data parts do not implement equals.
+     */
+
+    private static boolean equalParts(Object part1, Object part2) {
+        if (part1 == part2)
+            return true;
+        if (part1 == null || part2 == null || part1.getClass() != part2.getClass())
+            return false;
+        for (Class<?> c = part1.getClass(); c != Object.class; c = c.getSuperclass()) {
+            for (Field field : c.getDeclaredFields()) {
+                if (Modifier.isStatic(field.getModifiers()))
+                    continue;
+                field.setAccessible(true);
+                try {
+                    if (!Objects.deepEquals(field.get(part1), field.get(part2)))
+                        return false;
+                } catch (IllegalAccessException e) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    // Describes the result of a parser for the comparison: The parts or the class of the exception thrown.
+    private static Object parse(boolean former, String data) {
+        try {
+            return former ? formerOutputDataParts(data) : Service.outputDataParts(data);
+        } catch (RuntimeException e) {
+            return e.getClass();
+        }
+    }
+
+    static boolean sameResult(String data) {
+        Object former = parse(true, data), current = parse(false, data);
+        if (former instanceof List && current instanceof List) {
+            List<?> formerParts = (List<?>) former, currentParts = (List<?>) current;
+            if (formerParts.size() != currentParts.size())
+                return false;
+            for (int i = 0; i < formerParts.size(); i++) {
+                if (!equalParts(formerParts.get(i), currentParts.get(i)))
+                    return false;
+            }
+            return true;
+        }
+        return former == current;
+    }
+
+    private static final String[] Sequences = {
+            // P: Paper cut
+            "\33|P", "\33|75P", "\33|fP", "\33|100fP", "\33|sP", "\33|50sP", "\33|!P",
+            // L: Logo, stamp, ruled line
+            "\33|tL", "\33|bL", "\33|sL", "\33|*5rL1,2,3", "\33|*0rL", "\33|xL",
+            // N: Normal
+            "\33|N", "\33|3N",
+            // B: Bitmap
+            "\33|1B", "\33|20B", "\33|B", "\33|!1B",
+            // F: Feed
+            "\33|lF", "\33|3lF", "\33|rF", "\33|4rF", "\33|uF", "\33|100uF", "\33|F", "\33|5F", "\33|mF",
+            // E: Embedded data
+            "\33|5Eabcde", "\33|0E", "\33|*3E\33|N", "\33|E",
+            // R: Barcode
+            "\33|10Rs101h80w2a-2t-13", "\33|5Rabcde", "\33|0R",
+            // T: Typeface
+            "\33|1T", "\33|0T", "\33|T", "\33|12T",
+            // A: Alignment
+            "\33|cA", "\33|rA", "\33|lA", "\33|A", "\33|xA",
+            // C: Character attributes
+            "\33|bC", "\33|!bC", "\33|iC", "\33|!iC", "\33|uC", "\33|2uC", "\33|!uC", "\33|rvC", "\33|!rvC", "\33|1C",
+            "\33|2C", "\33|3C", "\33|4C", "\33|2hC", "\33|3vC", "\33|sC", "\33|!sC", "\33|2stC", "\33|tbC", "\33|tpC",
+            "\33|rC", "\33|3rC", "\33|50fC", "\33|!fC", "\33|scC", "\33|50sC", "\33|C",
+            // Unknown sequences
+            "\33|X", "\33|12abQ", "\33|*2Zxy", "\33|!", "\33||", "\33|\33|N",
+    };
+
+    private static final String[] Fragments = {
+            "Text", "x", " 12.50 EUR", "\n", "\r", "\r\n", "\r\r", "\n\n", "\33", "\33|", "!", "*", "1", "20", "b", "u",
+            "C", "E", "R", "|",
+    };
+
+    private static void sequences() {
+        List<String> failed = new ArrayList<>();
+        for (String sequence : Sequences) {
+            for (String data : new String[]{sequence, "Text" + sequence + "Text\n", sequence + sequence + "\r", "\r" + sequence + "\n"}) {
+                if (!sameResult(data))
+                    failed.add(data);
+            }
+        }
+        check(failed.isEmpty(), "Known escape sequences of types P, L, N, B, F, E, R, T, A, C" + (failed.isEmpty() ? "" : ", differences: " + failed.size()));
+        failed.clear();
+        for (String sequence : Sequences) {
+            for (int i = 1; i < sequence.length(); i++) {
+                if (!sameResult("Text" + sequence.substring(0, i)))
+                    failed.add(sequence.substring(0, i));
+            }
+        }
+        check(failed.isEmpty(), "Incomplete escape sequences" + (failed.isEmpty() ? "" : ", differences: " + failed.size()));
+        String[] lines = {"", "\n", "\r", "\r\n", "\n\r", "\r\r\n", "Text", "Text\r", "Text\r\r", "\r\rText", "A\nB\rC\r\nD\r", "\r\n\r\n"};
+        boolean ok = true;
+        for (String data : lines)
+            ok &= sameResult(data);
+        check(ok, "Text and line breaks without escape sequences");
+    }
+
+    private static void random() {
+        Random random = new Random(2026);
+        int differences = 0;
+        String first = null;
+        for (int i = 0; i < 100000; i++) {
+            StringBuilder data = new StringBuilder();
+            for (int count = random.nextInt(12); count >= 0; count--) {
+                if (random.nextInt(3) == 0)
+                    data.append(Sequences[random.nextInt(Sequences.length)]);
+                else
+                    data.append(Fragments[random.nextInt(Fragments.length)]);
+            }
+            if (!sameResult(data.toString())) {
+                if (differences++ == 0)
+                    first = data.toString();
+            }
+        }
+        check(differences == 0, "Random mixtures of escape sequences and text" + (differences == 0 ? "" : ", differences: " + differences + ", first: " + first.replace("\33", "ESC").replace("\r", "CR").replace("\n", "LF")));
+    }
+
+    /*
+     * Former escape sequence parser of LineDisplayService, reduced to the parsed values.
+     */
+
+    private static List<String> formerDisplayTokens(String data) {
+        List<String> out = new ArrayList<>();
+        int index;
+        try {
+            while ((index = data.indexOf("\33|")) >= 0) {
+                out.add("Text: " + data.substring(0, index));
+                data = data.substring(index + 2);
+                int temp;
+                int value = -1;
+                for (index = 0; (temp = data.charAt(index) - '0') >= 0 && temp <= 9; ++index) {
+                    value = value < 0 ? temp : value * 10 + temp;
+                }
+                data = data.substring(index);
+                int subtype = 0;
+                for (index = 0; (temp = data.charAt(index)) >= 'a' && temp <= 'z'; index++) {
+                    subtype = subtype * 1000 + temp;
+                }
+                data = data.substring(index + 1);
+                out.add("Esc: " + temp + "," + subtype + "," + value);
+            }
+            out.add("Text: " + data);
+        } catch (IndexOutOfBoundsException e) {
+            out.add("Incomplete");
+        }
+        return out;
+    }
+
+    private static List<String> displayTokens(String data) {
+        List<String> out = new ArrayList<>();
+        EscSequenceTokenizer esc = new EscSequenceTokenizer(data, false, "");
+        try {
+            while (esc.next()) {
+                out.add("Text: " + data.substring(esc.TextStart, esc.TextEnd));
+                esc.parse();
+                out.add("Esc: " + esc.Type + "," + esc.Subtype + "," + (esc.ValueIsPresent ? esc.Value : -1));
+            }
+            out.add("Text: " + data.substring(esc.TextStart, esc.TextEnd));
+        } catch (IndexOutOfBoundsException e) {
+            out.add("Incomplete");
+        }
+        return out;
+    }
+
+    private static void displayTokenizer() {
+        Random random = new Random(4711);
+        boolean ok = true;
+        for (String sequence : new String[]{"\33|N", "\33|bC", "\33|!bC", "\33|*3E", "\33|12sbC", "\33|", "\33|1", "\33|rv"})
+            ok &= formerDisplayTokens("Text" + sequence + "Text").equals(displayTokens("Text" + sequence + "Text"));
+        for (int i = 0; i < 20000 && ok; i++) {
+            StringBuilder data = new StringBuilder();
+            for (int count = random.nextInt(12); count >= 0; count--)
+                data.append(random.nextInt(3) == 0 ? Sequences[random.nextInt(Sequences.length)] : Fragments[random.nextInt(Fragments.length)]);
+            ok = formerDisplayTokens(data.toString()).equals(displayTokens(data.toString()));
+        }
+        check(ok, "Tokenizer without prefixes and data types gives the same values as the former LineDisplay parser");
+    }
+
+    /**
+     * Runs all tests of this class.
+     */
+    public static void run() {
+        sequences();
+        random();
+        displayTokenizer();
+    }
+
+    /**
+     * Runs all tests of this class and exits, see Checker.
+     * @param args Not used.
+     */
+    public static void main(String[] args) {
+        run();
+        Checker.exit();
+    }
+}
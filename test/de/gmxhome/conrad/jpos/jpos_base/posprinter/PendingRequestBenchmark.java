@@ -0,0 +1,186 @@
+/*
+ * Copyright 2026 Martin Conrad
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package de.gmxhome.conrad.jpos.jpos_base.posprinter;
+
+import de.gmxhome.conrad.jpos.jpos_base.*;
+
+import java.util.*;
+
+import static de.gmxhome.conrad.jpos.jpos_base.Checker.check;
+import static jpos.JposConst.*;
+import static jpos.POSPrinterConst.*;
+
+/**
+ * Stress benchmark for the queue of pending requests with 10000 queued asynchronous PrintNormal requests of four
+ * property sets sharing one device. Measures the operations the framework performs on Device.PendingCommands: The
+ * request thread takes the first request while a new request will be appended, lastRequest counts the requests of a
+ * property set, invokeRequestThread inserts an immediate request via list iterator and clearOutput removes all
+ * requests of one property set from a freshly filled queue (only the removal will be timed). Each operation will be
+ * performed on a PendingRequestList and, for comparison, on an ArrayList as used before. Each operation will be warmed
+ * up, then measured in five rounds of 200 milliseconds. The benchmark prints the median rate and checks that the queue
+ * still holds the same requests.<br>
+ * Can be started via its main method, see Checker.
+ */
+public class PendingRequestBenchmark {
+    private static final int Requests = 10000;
+    private static final int PropertySets = 4;
+    private static final int Rounds = 5;
+    private static final long RoundTime = 200000000L;
+
+    private interface Operation {
+        void run();
+    }
+
+    // Performs the operation in rounds of RoundTime nanoseconds and returns the median rate per second.
+    private static double measure(Operation operation) {
+        for (long end = System.nanoTime() + RoundTime; System.nanoTime() < end; )
+            operation.run();
+        double[] rates = new double[Rounds];
+        for (int i = 0; i < Rounds; i++) {
+            int count = 0;
+            long start = System.nanoTime();
+            long now;
+            do {
+                operation.run();
+                count++;
+            } while ((now = System.nanoTime()) - start < RoundTime);
+            rates[i] = count * 1e9 / (now - start);
+        }
+        Arrays.sort(rates);
+        return rates[Rounds / 2];
+    }
+
+    // Fills list with requests and removes all requests of props in rounds of RoundTime nanoseconds. Only the removal
+    // will be timed because re-adding the requests at the end would move them behind the requests of other property
+    // sets. Returns the median rate per second.
+    private static double measureClear(List<JposOutputRequest> list, JposCommonProperties props,
+                                       List<JposOutputRequest> requests) {
+        double[] rates = new double[Rounds + 1];
+        for (int i = 0; i <= Rounds; i++) {
+            int count = 0;
+            long time = 0;
+            while (time < RoundTime) {
+                list.clear();
+                list.addAll(requests);
+                long start = System.nanoTime();
+                remove(list, props);
+                time += System.nanoTime() - start;
+                count++;
+            }
+            rates[i] = count * 1e9 / time;
+        }
+        list.clear();
+        list.addAll(requests);
+        Arrays.sort(rates, 1, rates.length);    // First round for warm-up
+        return rates[1 + Rounds / 2];
+    }
+
+    private static POSPrinterProperties propertySet(JposDevice device, int index) {
+        POSPrinterProperties props = new POSPrinterProperties(index);
+        props.Device = device;
+        props.LogicalName = "Printer" + index;
+        props.EventSource = new POSPrinterService(props, device);
+        props.State = JPOS_S_IDLE;
+        props.MapCharacterSet = true;
+        props.CharacterSet = 998;
+        return props;
+    }
+
+    // Counts the requests of props as lastRequest did before PendingRequestList.
+    private static int count(List<JposOutputRequest> list, JposCommonProperties props) {
+        if (list instanceof PendingRequestList)
+            return ((PendingRequestList) list).count(props);
+        int count = 0;
+        for (JposOutputRequest request : list) {
+            if (request.Props == props)
+                count++;
+        }
+        return count;
+    }
+
+    // Removes all requests of props as clearOutput did before PendingRequestList.
+    private static List<JposOutputRequest> remove(List<JposOutputRequest> list, JposCommonProperties props) {
+        if (list instanceof PendingRequestList)
+            return ((PendingRequestList) list).remove(props, null);
+        List<JposOutputRequest> removed = new ArrayList<>();
+        for (Iterator<JposOutputRequest> it = list.iterator(); it.hasNext(); ) {
+            JposOutputRequest request = it.next();
+            if (request.Props == props) {
+                removed.add(request);
+                it.remove();
+            }
+        }
+        return removed;
+    }
+
+    // Inserts request before the first request that is not an instance of immediate, as invokeRequestThread does.
+    private static void insertImmediate(List<JposOutputRequest> list, JposOutputRequest request, Class<?> immediate) {
+        ListIterator<JposOutputRequest> it = list.listIterator();
+        while (it.hasNext()) {
+            if (!immediate.isInstance(it.next())) {
+                it.previous();
+                break;
+            }
+        }
+        it.add(request);
+    }
+
+    private static void benchmark(String name, List<JposOutputRequest> list, POSPrinterProperties[] props,
+                                  List<JposOutputRequest> requests) {
+        list.addAll(requests);
+        JposOutputRequest immediate = new PrintImmediate(props[0], PTR_S_RECEIPT, "Immediate\n");
+        int[] counted = {0};
+        double dequeue = measure(() -> list.add(list.remove(0)));
+        double lastRequest = measure(() -> counted[0] += count(list, props[1]));
+        double insert = measure(() -> {
+            insertImmediate(list, immediate, PrintImmediate.class);
+            list.remove(0);
+        });
+        double clear = measureClear(list, props[2], requests);
+        System.out.printf("%s: dequeue and append: %.0f/s, count per property set: %.0f/s, " +
+                "insert immediate: %.0f/s, clear property set: %.0f/s%n", name, dequeue, lastRequest, insert, clear);
+        boolean ok = list.size() == Requests;
+        for (POSPrinterProperties set : props)
+            ok &= count(list, set) == Requests / PropertySets;
+        check(ok && new HashSet<>(list).equals(new HashSet<>(requests)), name + ": Queue contents unchanged");
+    }
+
+    /**
+     * Runs the benchmark.
+     */
+    public static void run() {
+        JposDevice device = new JposDevice("PendingRequestBenchmark") {};
+        POSPrinterProperties[] props = new POSPrinterProperties[PropertySets];
+        for (int i = 0; i < props.length; i++)
+            props[i] = propertySet(device, i);
+        List<JposOutputRequest> requests = new ArrayList<>();
+        for (int i = 0; i < Requests; i++)
+            requests.add(new PrintNormal(props[i % PropertySets], PTR_S_RECEIPT, "Article " + i + "\n"));
+        benchmark("ArrayList", new ArrayList<>(), props, requests);
+        benchmark("PendingRequestList", new PendingRequestList(), props, requests);
+    }
+
+    /**
+     * Runs the benchmark and exits, see Checker.
+     * @param args Not used.
+     */
+    public static void main(String[] args) {
+        run();
+        Checker.exit();
+    }
+}
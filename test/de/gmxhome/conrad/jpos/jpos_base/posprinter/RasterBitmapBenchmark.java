@@ -0,0 +1,132 @@
+/*
+ * Copyright 2026 Martin Conrad
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package de.gmxhome.conrad.jpos.jpos_base.posprinter;
+
+import de.gmxhome.conrad.jpos.jpos_base.*;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.util.Arrays;
+
+import static de.gmxhome.conrad.jpos.jpos_base.Checker.check;
+import static jpos.POSPrinterConst.*;
+
+/**
+ * Throughput benchmark for the conversion of bitmaps to raster format for a receipt station with 576 dots per line,
+ * the line width of 80 mm printers with 203 dpi. Converts a grey scale image of 576 x 400 pixels, a typical logo or
+ * coupon, sequentially and in parallel stripes, and retrieves it via POSPrinterService method getRasterBitmap with and
+ * without bitmap cache. Each operation will be warmed up, then measured in five rounds of 200 milliseconds. The
+ * benchmark prints the median rate in bitmaps and megapixels per second.<br>
+ * Can be started via its main method, see Checker.
+ */
+public class RasterBitmapBenchmark {
+    private static final int LineWidth = 576;
+    private static final int Height = 400;
+    private static final int Rounds = 5;
+    private static final long RoundTime = 200000000L;
+
+    private interface Operation {
+        void run() throws Exception;
+    }
+
+    // Performs the operation in rounds of RoundTime nanoseconds and returns the median rate per second.
+    private static double measure(Operation operation) throws Exception {
+        for (long end = System.nanoTime() + RoundTime; System.nanoTime() < end; )
+            operation.run();
+        double[] rates = new double[Rounds];
+        for (int i = 0; i < Rounds; i++) {
+            int count = 0;
+            long start = System.nanoTime();
+            long now;
+            do {
+                operation.run();
+                count++;
+            } while ((now = System.nanoTime()) - start < RoundTime);
+            rates[i] = count * 1e9 / (now - start);
+        }
+        Arrays.sort(rates);
+        return rates[Rounds / 2];
+    }
+
+    private static void print(String what, double rate) {
+        System.out.printf("%s: %.1f bitmaps/s, %.1f Mpixel/s%n", what, rate, rate * LineWidth * Height / 1e6);
+    }
+
+    // Grey scale gradient with a diagonal pattern, to make dithering work on every pixel.
+    private static BufferedImage image() {
+        BufferedImage image = new BufferedImage(LineWidth, Height, BufferedImage.TYPE_INT_RGB);
+        for (int y = 0; y < Height; y++) {
+            for (int x = 0; x < LineWidth; x++) {
+                int grey = (x * 255 / LineWidth + ((x + y) % 16) * 4) & 0xff;
+                image.setRGB(x, y, grey * 0x010101);
+            }
+        }
+        return image;
+    }
+
+    private static void convert(BufferedImage image) throws Exception {
+        int processors = Runtime.getRuntime().availableProcessors();
+        RasterBitmap sequential = RasterBitmap.convert(image, PTR_BM_ASIS, PTR_BM_LEFT, LineWidth, 1);
+        check(sequential.Width == LineWidth && sequential.Height == Height && sequential.BytesPerRow == LineWidth / 8,
+                "Converted bitmap fills the line");
+        print("Sequential conversion", measure(() ->
+                RasterBitmap.convert(image, PTR_BM_ASIS, PTR_BM_LEFT, LineWidth, 1)));
+        if (processors > 1)
+            print(processors + " stripes", measure(() ->
+                    RasterBitmap.convert(image, PTR_BM_ASIS, PTR_BM_LEFT, LineWidth, processors)));
+    }
+
+    private static void retrieve(BufferedImage image) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", out);
+        byte[] data = out.toByteArray();
+        JposDevice device = new JposDevice("RasterBitmapBenchmark") {};
+        POSPrinterProperties props = new POSPrinterProperties(0);
+        POSPrinterService srv = new POSPrinterService(props, device);
+        props.Device = device;
+        props.EventSource = srv;
+        props.BitmapCacheSize = 0;
+        print("getRasterBitmap without cache", measure(() ->
+                srv.getRasterBitmap(data, PTR_BM_ASIS, PTR_BM_LEFT, LineWidth)));
+        props.BitmapCacheSize = 10;
+        print("getRasterBitmap with cache", measure(() ->
+                srv.getRasterBitmap(data, PTR_BM_ASIS, PTR_BM_LEFT, LineWidth)));
+        check(srv.getBitmapCacheMisses() == 1 && srv.getBitmapCacheHits() > 0, "Cached bitmap converted only once");
+    }
+
+    /**
+     * Runs the benchmark.
+     * @throws Exception If the benchmark cannot be performed.
+     */
+    public static void run() throws Exception {
+        BufferedImage image = image();
+        convert(image);
+        retrieve(image);
+    }
+
+    /**
+     * Runs the benchmark and exits, see Checker.
+     * @param args Not used.
+     * @throws Exception If the benchmark cannot be performed.
+     */
+    public static void main(String[] args) throws Exception {
+        run();
+        Checker.exit();
+    }
+}
@@ -0,0 +1,183 @@
+/*
+ * Copyright 2026 Martin Conrad
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package de.gmxhome.conrad.jpos.jpos_base.posprinter;
+
+import de.gmxhome.conrad.jpos.jpos_base.Checker;
+import jpos.JposException;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.*;
+import java.util.Arrays;
+
+import static de.gmxhome.conrad.jpos.jpos_base.Checker.check;
+import static jpos.JposConst.*;
+import static jpos.POSPrinterConst.*;
+
+/**
+ * Test for RasterBitmap. Converts generated images and checks size, alignment and dithering of the raster data, and
+ * checks the bitmap cache used by POSPrinterService method getRasterBitmap, including hit and miss counting.
+ */
+public class RasterBitmapTest {
+    private static BufferedImage image(int width, int height, int argb) {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++)
+                image.setRGB(x, y, argb);
+        }
+        return image;
+    }
+
+    private static boolean dot(RasterBitmap bitmap, int x, int y) {
+        return (bitmap.getData()[y * bitmap.BytesPerRow + (x >> 3)] & (0x80 >> (x & 7))) != 0;
+    }
+
+    // Number of black dots within the bitmap area, without the leading white dots.
+    private static int blackDots(RasterBitmap bitmap) {
+        int count = 0;
+        for (int y = 0; y < bitmap.Height; y++) {
+            for (int x = bitmap.Offset; x < bitmap.Offset + bitmap.Width; x++)
+                count += dot(bitmap, x, y) ? 1 : 0;
+        }
+        return count;
+    }
+
+    private static int errorCodeExtended(BufferedImage image, int width, int alignment, int lineWidth) {
+        try {
+            RasterBitmap.convert(image, width, alignment, lineWidth, 1);
+            return 0;
+        } catch (JposException e) {
+            return e.getErrorCode() == JPOS_E_EXTENDED ? e.getErrorCodeExtended() : -1;
+        }
+    }
+
+    private static void resize() throws Exception {
+        BufferedImage image = image(100, 50, 0xff000000);
+        RasterBitmap bitmap = RasterBitmap.convert(image, PTR_BM_ASIS, PTR_BM_LEFT, 576, 1);
+        check(bitmap.Width == 100 && bitmap.Height == 50 && bitmap.Offset == 0 && bitmap.BytesPerRow == 13, "BM_ASIS keeps the size");
+        bitmap = RasterBitmap.convert(image, 40, PTR_BM_LEFT, 576, 1);
+        check(bitmap.Width == 40 && bitmap.Height == 20 && bitmap.getData().length == 5 * 20, "Reduced width keeps the aspect ratio");
+        bitmap = RasterBitmap.convert(image, 300, PTR_BM_LEFT, 576, 1);
+        check(bitmap.Width == 300 && bitmap.Height == 150, "Enlarged width keeps the aspect ratio");
+        bitmap = RasterBitmap.convert(image, 100, PTR_BM_CENTER, 576, 1);
+        check(bitmap.Offset == 238 && bitmap.BytesPerRow == 43, "BM_CENTER");
+        bitmap = RasterBitmap.convert(image, 100, PTR_BM_RIGHT, 576, 1);
+        check(bitmap.Offset == 476 && bitmap.BytesPerRow == 72, "BM_RIGHT");
+        bitmap = RasterBitmap.convert(image, 100, 13, 576, 1);
+        check(bitmap.Offset == 13 && !dot(bitmap, 12, 0) && dot(bitmap, 13, 0) && dot(bitmap, 112, 49) && !dot(bitmap, 113, 49), "Alignment in dots");
+        check(errorCodeExtended(image, 577, PTR_BM_LEFT, 576) == JPOS_EPTR_TOOBIG, "Bitmap wider than line");
+        check(errorCodeExtended(image, 100, 500, 576) == JPOS_EPTR_TOOBIG, "Bitmap beyond line end");
+        check(errorCodeExtended(image, 576, PTR_BM_LEFT, 576) == 0, "Bitmap as wide as the line");
+    }
+
+    private static void dither() throws Exception {
+        RasterBitmap bitmap = RasterBitmap.convert(image(64, 16, 0xff000000), PTR_BM_ASIS, 4, 80, 1);
+        check(blackDots(bitmap) == 64 * 16 && !dot(bitmap, 3, 0) && !dot(bitmap, 68, 15), "Black bitmap, white margins");
+        bitmap = RasterBitmap.convert(image(64, 16, 0xffffffff), PTR_BM_ASIS, PTR_BM_LEFT, 80, 1);
+        check(blackDots(bitmap) == 0, "White bitmap");
+        bitmap = RasterBitmap.convert(image(64, 16, 0x00000000), PTR_BM_ASIS, PTR_BM_LEFT, 80, 1);
+        check(blackDots(bitmap) == 0, "Transparent pixels become white");
+        bitmap = RasterBitmap.convert(image(100, 100, 0xff808080), PTR_BM_ASIS, PTR_BM_LEFT, 576, 1);
+        int black = blackDots(bitmap);
+        check(black > 4500 && black < 5500, "Grey bitmap dithered to about half black dots: " + black);
+        check(dot(bitmap, 0, 0) != dot(bitmap, 1, 0) || dot(bitmap, 0, 0) != dot(bitmap, 0, 1), "Grey bitmap dithered, not thresholded");
+        BufferedImage checkerboard = new BufferedImage(200, 200, BufferedImage.TYPE_INT_RGB);
+        for (int y = 0; y < 200; y++) {
+            for (int x = 0; x < 200; x++)
+                checkerboard.setRGB(x, y, (x + y) % 2 == 0 ? 0 : 0xffffff);
+        }
+        bitmap = RasterBitmap.convert(checkerboard, 100, PTR_BM_LEFT, 576, 1);
+        black = blackDots(bitmap);
+        check(black > 4500 && black < 5500, "Reduction averages source pixels: " + black);
+        RasterBitmap striped = RasterBitmap.convert(image(64, 64, 0xff000000), PTR_BM_ASIS, PTR_BM_LEFT, 64, 4);
+        RasterBitmap sequential = RasterBitmap.convert(image(64, 64, 0xff000000), PTR_BM_ASIS, PTR_BM_LEFT, 64, 1);
+        check(Arrays.equals(striped.getData(), sequential.getData()), "Parallel stripes give the same black bitmap");
+        striped = RasterBitmap.convert(image(100, 100, 0xff808080), PTR_BM_ASIS, PTR_BM_LEFT, 576, 4);
+        black = blackDots(striped);
+        check(black > 4500 && black < 5500, "Parallel stripes dither grey bitmap: " + black);
+    }
+
+    private static byte[] png(BufferedImage image) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", out);
+        return out.toByteArray();
+    }
+
+    private static void cache() throws Exception {
+        RasterBitmap.Cache cache = new RasterBitmap.Cache();
+        byte[] data = png(image(32, 32, 0xff000000));
+        RasterBitmap bitmap = RasterBitmap.convert(RasterBitmap.read(data), 16, PTR_BM_LEFT, 576, 1);
+        check(cache.get(null, data, 16, PTR_BM_LEFT, 576, 0) == null, "Disabled cache: Miss");
+        cache.put(null, data, 16, PTR_BM_LEFT, 576, bitmap);
+        check(cache.get(null, data, 16, PTR_BM_LEFT, 576, 0) == null, "Disabled cache: Bitmap not stored");
+        check(cache.getHits() == 0 && cache.getMisses() == 0, "Disabled cache: Hits and misses not counted");
+        check(cache.get(null, data, 16, PTR_BM_LEFT, 576, 2) == null, "Enabled cache: First access misses");
+        cache.put(null, data, 16, PTR_BM_LEFT, 576, bitmap);
+        check(cache.get(null, data.clone(), 16, PTR_BM_LEFT, 576, 2) == bitmap, "Enabled cache: Hit for equal data");
+        check(cache.get(null, data, 16, PTR_BM_CENTER, 576, 2) == null, "Enabled cache: Miss for other alignment");
+        check(cache.get(null, data, 24, PTR_BM_LEFT, 576, 2) == null, "Enabled cache: Miss for other width");
+        check(cache.getHits() == 1 && cache.getMisses() == 3, "Enabled cache: Hits and misses counted");
+        RasterBitmap center = RasterBitmap.convert(RasterBitmap.read(data), 16, PTR_BM_CENTER, 576, 1);
+        RasterBitmap right = RasterBitmap.convert(RasterBitmap.read(data), 16, PTR_BM_RIGHT, 576, 1);
+        cache.put(null, data, 16, PTR_BM_CENTER, 576, center);
+        check(cache.get(null, data, 16, PTR_BM_LEFT, 576, 2) == bitmap, "Enabled cache: Least recently used bitmap accessed");
+        cache.put(null, data, 16, PTR_BM_RIGHT, 576, right);
+        check(cache.get(null, data, 16, PTR_BM_CENTER, 576, 2) == null && cache.get(null, data, 16, PTR_BM_LEFT, 576, 2) == bitmap, "Enabled cache: Least recently used bitmap removed");
+        check(cache.get(null, data, 16, PTR_BM_LEFT, 576, 0) == null && cache.get(null, data, 16, PTR_BM_LEFT, 576, 2) == null, "Disabling the cache removes all bitmaps");
+        byte[] buffer = data.clone();
+        cache.put(null, buffer, 16, PTR_BM_LEFT, 576, bitmap);
+        Arrays.fill(buffer, (byte) 0);
+        check(cache.get(null, data, 16, PTR_BM_LEFT, 576, 2) == bitmap, "Enabled cache: Entry unchanged after caller modified its data");
+        File file = File.createTempFile("RasterBitmapTest", ".png");
+        try {
+            ImageIO.write(image(32, 32, 0xff000000), "png", file);
+            RasterBitmap fromfile = RasterBitmap.convert(RasterBitmap.read(file.getPath()), 16, PTR_BM_LEFT, 576, 1);
+            cache.put(file.getPath(), null, 16, PTR_BM_LEFT, 576, fromfile);
+            check(cache.get(file.getPath(), null, 16, PTR_BM_LEFT, 576, 2) == fromfile, "Bitmap file: Hit");
+            check(file.setLastModified(file.lastModified() - 10000) && cache.get(file.getPath(), null, 16, PTR_BM_LEFT, 576, 2) == null, "Bitmap file: Miss after modification");
+        } finally {
+            file.delete();
+        }
+        try {
+            RasterBitmap.read(new byte[]{1, 2, 3, 4});
+            check(false, "Invalid bitmap data rejected");
+        } catch (JposException e) {
+            check(e.getErrorCode() == JPOS_E_EXTENDED && e.getErrorCodeExtended() == JPOS_EPTR_BADFORMAT, "Invalid bitmap data rejected");
+        }
+    }
+
+    /**
+     * Runs all tests of this class.
+     * @throws Exception If a test cannot be performed.
+     */
+    public static void run() throws Exception {
+        resize();
+        dither();
+        cache();
+    }
+
+    /**
+     * Runs all tests of this class and exits, see Checker.
+     * @param args Not used.
+     * @throws Exception If a test cannot be performed.
+     */
+    public static void main(String[] args) throws Exception {
+        run();
+        Checker.exit();
+    }
+}
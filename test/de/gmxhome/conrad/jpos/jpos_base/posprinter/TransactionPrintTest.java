@@ -0,0 +1,176 @@
+/*
+ * Copyright 2026 Martin Conrad
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package de.gmxhome.conrad.jpos.jpos_base.posprinter;
+
+import de.gmxhome.conrad.jpos.jpos_base.*;
+import jpos.JposException;
+
+import java.util.*;
+
+import static de.gmxhome.conrad.jpos.jpos_base.Checker.check;
+import static de.gmxhome.conrad.jpos.jpos_base.posprinter.POSPrinterService.*;
+import static jpos.POSPrinterConst.*;
+
+/**
+ * Test for TransactionPrint method getBatchCommands. Builds transactions from PrintNormal and other requests and
+ * checks how consecutive PrintNormal requests will be merged. The print data cache is enabled, therefore the parts of
+ * the PrintNormal requests are shared with the cache. The test checks that merging does not modify them.
+ */
+public class TransactionPrintTest {
+    private static final JposDevice Device = new JposDevice("TransactionPrintTest") {};
+    private static final POSPrinterProperties Data = new POSPrinterProperties(0);
+    private static final POSPrinterService Service = new POSPrinterService(Data, Device);
+
+    static {
+        Data.PrintDataCacheSize = 20;
+        Data.EventSource = Service;
+        Data.MapCharacterSet = true;    // Set during open, parsing needs it
+        Data.CharacterSet = 998;
+    }
+
+    private static TransactionPrint transaction(OutputRequest... requests) throws JposException {
+        TransactionPrint transaction = new TransactionPrint(Data, PTR_S_RECEIPT, PTR_TP_NORMAL);
+        for (OutputRequest request : requests)
+            transaction.addMethod(request);
+        return transaction;
+    }
+
+    private static PrintNormal print(int station, String data) {
+        return new PrintNormal(Data, station, data);
+    }
+
+    // Describes parts for comparison: N for EscNormalize, text in quotes for PrintData, CR / LF for ControlChar and
+    // the simple class name otherwise.
+    private static String describe(List<PrintDataPart> parts) {
+        StringBuilder result = new StringBuilder();
+        for (PrintDataPart part : parts) {
+            if (result.length() > 0)
+                result.append(' ');
+            if (part instanceof EscNormalize)
+                result.append('N');
+            else if (part instanceof PrintData)
+                result.append('"').append(((PrintData) part).getPrintData()).append('"');
+            else if (part instanceof ControlChar)
+                result.append(((ControlChar) part).getControlCharacter() == '\n' ? "LF" : "CR");
+            else
+                result.append(part.getClass().getSimpleName());
+        }
+        return result.toString();
+    }
+
+    private static boolean isMerged(OutputRequest request, int station, String expected) {
+        return request instanceof PrintNormal && ((PrintNormal) request).getStation() == station &&
+                describe(((PrintNormal) request).getData()).equals(expected);
+    }
+
+    private static void merging() throws JposException {
+        List<OutputRequest> batch = transaction(print(PTR_S_RECEIPT, "Line 1\n"), print(PTR_S_RECEIPT, "Line 2\n")).getBatchCommands();
+        check(batch.size() == 1 && isMerged(batch.get(0), PTR_S_RECEIPT, "N \"Line 1\" LF \"Line 2\" LF"), "Text only: Merged, one EscNormalize");
+        batch = transaction(print(PTR_S_RECEIPT, "\33|bCBold\n"), print(PTR_S_RECEIPT, "Normal\n")).getBatchCommands();
+        check(batch.size() == 1 && isMerged(batch.get(0), PTR_S_RECEIPT, "N EscSimple \"Bold\" LF N \"Normal\" LF"), "Attribute changed: EscNormalize between merged requests");
+        batch = transaction(print(PTR_S_RECEIPT, "\33|NA\33|N"), print(PTR_S_RECEIPT, "B\r"), print(PTR_S_RECEIPT, "C\n")).getBatchCommands();
+        check(batch.size() == 1 && isMerged(batch.get(0), PTR_S_RECEIPT, "N \"ABC\" LF"), "Adjacent text merged, redundant EscNormalize removed");
+        Data.CharacterSet = 437;
+        PrintNormal other = print(PTR_S_RECEIPT, "D");
+        Data.CharacterSet = 998;
+        batch = transaction(print(PTR_S_RECEIPT, "C"), other).getBatchCommands();
+        check(batch.size() == 1 && isMerged(batch.get(0), PTR_S_RECEIPT, "N \"C\" \"D\""), "Text with different character sets not merged");
+        PrintNormal slip = print(PTR_S_SLIP, "Slip\n");
+        batch = transaction(print(PTR_S_RECEIPT, "R1\n"), slip, print(PTR_S_RECEIPT, "R2\n")).getBatchCommands();
+        check(batch.size() == 3 && isMerged(batch.get(0), PTR_S_RECEIPT, "N \"R1\" LF") && isMerged(batch.get(1), PTR_S_SLIP, "N \"Slip\" LF") &&
+                isMerged(batch.get(2), PTR_S_RECEIPT, "N \"R2\" LF"), "Requests for other stations not merged");
+        PrintNormal tagged = print(PTR_S_RECEIPT, "T\n");
+        tagged.AdditionalData = "Tag";
+        batch = transaction(print(PTR_S_RECEIPT, "A\n"), tagged, print(PTR_S_RECEIPT, "B\n")).getBatchCommands();
+        check(batch.size() == 3 && batch.get(1).AdditionalData.equals("Tag") && batch.get(2).AdditionalData == null, "Requests with other AdditionalData not merged");
+        CutPaper cut = new CutPaper(Data, 90);
+        batch = transaction(print(PTR_S_RECEIPT, "A\n"), cut, print(PTR_S_RECEIPT, "B\n")).getBatchCommands();
+        check(batch.size() == 3 && batch.get(1) == cut && isMerged(batch.get(2), PTR_S_RECEIPT, "N \"B\" LF"), "Other requests unchanged, not merged");
+        TransactionPrint transaction = transaction(print(PTR_S_RECEIPT, "A"));
+        batch = transaction.getBatchCommands();
+        boolean unmodifiable;
+        try {
+            batch.clear();
+            unmodifiable = false;
+        } catch (UnsupportedOperationException e) {
+            unmodifiable = true;
+        }
+        check(unmodifiable && transaction.getBatchCommands() == batch, "Batch generated once, unmodifiable");
+    }
+
+    private static void cachedParts() throws JposException {
+        String[] data = {"\33|bCHeader\n", "Article 1", "   1.00\n", "Article 2   2.00\n", "\33|2CTotal   3.00\n"};
+        List<List<PrintDataPart>> cached = new ArrayList<>();
+        List<String> before = new ArrayList<>();
+        for (String text : data) {
+            cached.add(Service.outputDataParts(text));
+            before.add(describe(cached.get(cached.size() - 1)));
+        }
+        List<PrintDataPart> copies = new ArrayList<>();
+        for (List<PrintDataPart> parts : cached)
+            copies.addAll(parts);
+        PrintNormal[] prints = new PrintNormal[data.length];
+        for (int i = 0; i < data.length; i++)
+            prints[i] = print(PTR_S_RECEIPT, data[i]);
+        boolean shared = true;
+        for (int i = 0; i < data.length; i++)
+            shared &= prints[i].getData() == cached.get(i);
+        check(shared, "PrintNormal requests use the cached parts");
+        List<OutputRequest> batch = transaction(prints).getBatchCommands();
+        check(batch.size() == 1 && isMerged(batch.get(0), PTR_S_RECEIPT,
+                "N EscSimple \"Header\" LF N \"Article 1   1.00\" LF \"Article 2   2.00\" LF EscScale \"Total   3.00\" LF"), "Receipt merged");
+        boolean unchanged = true;
+        int index = 0;
+        for (int i = 0; i < data.length; i++) {
+            List<PrintDataPart> parts = Service.outputDataParts(data[i]);
+            unchanged &= parts == cached.get(i) && describe(parts).equals(before.get(i));
+            for (PrintDataPart part : parts)
+                unchanged &= part == copies.get(index++);
+        }
+        check(unchanged, "Cached parts not modified");
+        List<PrintDataPart> merged = ((PrintNormal) batch.get(0)).getData();
+        boolean reused = false;
+        for (PrintDataPart part : merged) {
+            if (part instanceof PrintData && ((PrintData) part).getPrintData().startsWith("Article 1"))
+                reused = copies.contains(part);
+        }
+        check(!reused, "Merged text is a new PrintData object");
+        batch = transaction(print(PTR_S_RECEIPT, data[1]), print(PTR_S_RECEIPT, data[1])).getBatchCommands();
+        check(batch.size() == 1 && isMerged(batch.get(0), PTR_S_RECEIPT, "N \"Article 1Article 1\"") &&
+                describe(Service.outputDataParts(data[1])).equals(before.get(1)), "Same cached parts merged twice");
+    }
+
+    /**
+     * Runs all tests of this class.
+     * @throws Exception If a test cannot be performed.
+     */
+    public static void run() throws Exception {
+        merging();
+        cachedParts();
+    }
+
+    /**
+     * Runs all tests of this class and exits, see Checker.
+     * @param args Not used.
+     * @throws Exception If a test cannot be performed.
+     */
+    public static void main(String[] args) throws Exception {
+        run();
+        Checker.exit();
+    }
+}